@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.context;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.DefaultBeanContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks bean lookups against a running {@link DefaultBeanContext}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanContextBenchmark {
+
+    ApplicationContext applicationContext;
+
+    /**
+     * Starts the application context.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+    }
+
+    /**
+     * Stops the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return An existing singleton
+     */
+    @Benchmark
+    public EnglishGreetingService getSingleton() {
+        return applicationContext.getBean(EnglishGreetingService.class);
+    }
+
+    /**
+     * @return A new prototype instance
+     */
+    @Benchmark
+    public GreetingPrototype getPrototype() {
+        return applicationContext.getBean(GreetingPrototype.class);
+    }
+
+    /**
+     * @return All implementations of an interface
+     */
+    @Benchmark
+    public Collection<GreetingService> getBeansOfType() {
+        return applicationContext.getBeansOfType(GreetingService.class);
+    }
+
+    /**
+     * @return Whether a bean exists for a type that has no beans
+     */
+    @Benchmark
+    public boolean containsMissingBean() {
+        return applicationContext.containsBean(Runnable.class);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.context;
+
+import io.micronaut.context.annotation.Prototype;
+
+/**
+ * A prototype bean with a constructor dependency, used by {@link BeanContextBenchmark}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Prototype
+public class GreetingPrototype {
+
+    private final EnglishGreetingService greetingService;
+
+    /**
+     * @param greetingService The greeting service
+     */
+    public GreetingPrototype(EnglishGreetingService greetingService) {
+        this.greetingService = greetingService;
+    }
+
+    /**
+     * @return The greeting
+     */
+    public String greet() {
+        return greetingService.greet();
+    }
+}
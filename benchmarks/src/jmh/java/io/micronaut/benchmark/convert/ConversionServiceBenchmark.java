@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.convert;
+
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.DefaultConversionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.DayOfWeek;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultConversionService#convert(Object, Class)} for the conversions performed when binding
+ * request arguments and configuration properties.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionServiceBenchmark {
+
+    ConversionService<?> conversionService = new DefaultConversionService();
+
+    /**
+     * @return The converted integer
+     */
+    @Benchmark
+    public Optional<Integer> stringToInteger() {
+        return conversionService.convert("10", Integer.class);
+    }
+
+    /**
+     * @return The converted enum
+     */
+    @Benchmark
+    public Optional<DayOfWeek> stringToEnum() {
+        return conversionService.convert("MONDAY", DayOfWeek.class);
+    }
+
+    /**
+     * @return The converted array
+     */
+    @Benchmark
+    public Optional<Integer[]> stringToArray() {
+        return conversionService.convert("1,2,3", Integer[].class);
+    }
+
+    /**
+     * @return The converted string
+     */
+    @Benchmark
+    public Optional<String> integerToString() {
+        return conversionService.convert(10, String.class);
+    }
+
+    /**
+     * @return The result of a conversion that is not supported
+     */
+    @Benchmark
+    public Optional<Thread> unsupported() {
+        return conversionService.convert("10", Thread.class);
+    }
+}
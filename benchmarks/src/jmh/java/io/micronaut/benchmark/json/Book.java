@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A simple POJO encoded and decoded by {@link JsonMediaTypeCodecBenchmark}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class Book {
+
+    private String title;
+    private int pages;
+    private List<String> authors = new ArrayList<>();
+
+    /**
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * @return The number of pages
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * @param pages The number of pages
+     */
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * @return The authors
+     */
+    public List<String> getAuthors() {
+        return authors;
+    }
+
+    /**
+     * @param authors The authors
+     */
+    public void setAuthors(List<String> authors) {
+        this.authors = authors;
+    }
+}
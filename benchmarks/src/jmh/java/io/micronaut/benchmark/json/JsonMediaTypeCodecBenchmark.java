@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.json;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.netty.buffer.NettyByteBufferFactory;
+import io.micronaut.jackson.codec.JsonMediaTypeCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding and decoding with the {@link JsonMediaTypeCodec} configured by the application context.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonMediaTypeCodecBenchmark {
+
+    private static final Argument<Book> BOOK = Argument.of(Book.class);
+
+    ApplicationContext applicationContext;
+    JsonMediaTypeCodec codec;
+    Book book;
+    byte[] json;
+
+    /**
+     * Starts the application context and prepares the payloads.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        codec = applicationContext.getBean(JsonMediaTypeCodec.class);
+        book = new Book();
+        book.setTitle("The Stand");
+        book.setPages(1152);
+        book.setAuthors(Arrays.asList("Stephen King"));
+        json = codec.encode(book);
+    }
+
+    /**
+     * Stops the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return The encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeBytes() {
+        return codec.encode(book);
+    }
+
+    /**
+     * @return The number of bytes written to a Netty buffer, which is then released
+     */
+    @Benchmark
+    public int encodeBuffer() {
+        ByteBuffer buffer = codec.encode(book, NettyByteBufferFactory.DEFAULT);
+        int length = buffer.readableBytes();
+        ((ByteBuf) buffer.asNativeBuffer()).release();
+        return length;
+    }
+
+    /**
+     * @return The decoded book
+     */
+    @Benchmark
+    public Book decodeBuffer() {
+        return codec.decode(BOOK, NettyByteBufferFactory.DEFAULT.wrap(Unpooled.wrappedBuffer(json)));
+    }
+
+    /**
+     * @return The decoded book
+     */
+    @Benchmark
+    public Book decodeString() {
+        return codec.decode(BOOK, new String(json, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.router;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+/**
+ * The controller targeted by the routes built in {@link RouterBenchmark}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Controller("/benchmark")
+public class BenchmarkController {
+
+    /**
+     * @return The index
+     */
+    @Get("/")
+    public String index() {
+        return "index";
+    }
+
+    /**
+     * @param id The id
+     * @return The id
+     */
+    @Get("/{id}")
+    public String show(String id) {
+        return id;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.router;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.web.router.DefaultRouteBuilder;
+import io.micronaut.web.router.DefaultRouter;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks {@link DefaultRouter#find(HttpMethod, CharSequence)} and
+ * {@link DefaultRouter#route(HttpMethod, CharSequence)} for routers with a varying number of routes.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "600"})
+    int routeCount;
+
+    ApplicationContext applicationContext;
+    Router router;
+    String staticUri;
+    String variableUri;
+
+    /**
+     * Builds a router with {@link #routeCount} resources, each with an index and a show route.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        DefaultRouteBuilder builder = new DefaultRouteBuilder(applicationContext) { };
+        for (int i = 0; i < routeCount; i++) {
+            builder.GET("/resource" + i, BenchmarkController.class, "index");
+            builder.GET("/resource" + i + "/{id}", BenchmarkController.class, "show", String.class);
+        }
+        router = new DefaultRouter(builder);
+        staticUri = "/resource" + (routeCount - 1);
+        variableUri = "/resource" + (routeCount - 1) + "/10";
+    }
+
+    /**
+     * Stops the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.stop();
+    }
+
+    /**
+     * @return The matches for a static URI
+     */
+    @Benchmark
+    public List<UriRouteMatch<Object>> findStatic() {
+        return router.<Object>find(HttpMethod.GET, staticUri).collect(Collectors.toList());
+    }
+
+    /**
+     * @return The matches for a URI with a variable
+     */
+    @Benchmark
+    public List<UriRouteMatch<Object>> findVariable() {
+        return router.<Object>find(HttpMethod.GET, variableUri).collect(Collectors.toList());
+    }
+
+    /**
+     * @return The first match for a URI with a variable
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> routeVariable() {
+        return router.route(HttpMethod.GET, variableUri);
+    }
+
+    /**
+     * @return The result of looking up a URI that no route matches
+     */
+    @Benchmark
+    public Optional<UriRouteMatch<Object>> routeMissing() {
+        return router.route(HttpMethod.GET, "/missing/10");
+    }
+}
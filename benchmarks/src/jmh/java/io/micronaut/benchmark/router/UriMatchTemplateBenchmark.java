@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.benchmark.router;
+
+import io.micronaut.http.uri.UriMatchInfo;
+import io.micronaut.http.uri.UriMatchTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link UriMatchTemplate#match(String)} for common template shapes.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UriMatchTemplateBenchmark {
+
+    UriMatchTemplate staticTemplate = UriMatchTemplate.of("/books/list");
+    UriMatchTemplate variableTemplate = UriMatchTemplate.of("/books/{id}/authors/{name}");
+    UriMatchTemplate optionalTemplate = UriMatchTemplate.of("/books{/id}{.ext:?}");
+
+    /**
+     * @return The match for a template without variables
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchStatic() {
+        return staticTemplate.match("/books/list");
+    }
+
+    /**
+     * @return The match for a template with two variables
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchVariables() {
+        return variableTemplate.match("/books/10/authors/fred");
+    }
+
+    /**
+     * @return The match for a template with optional variables
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchOptional() {
+        return optionalTemplate.match("/books/10.xml");
+    }
+
+    /**
+     * @return The result of matching a URI that does not match
+     */
+    @Benchmark
+    public Optional<UriMatchInfo> matchMissing() {
+        return variableTemplate.match("/authors/10");
+    }
+}
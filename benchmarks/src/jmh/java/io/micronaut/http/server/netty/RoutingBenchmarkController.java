@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.reactivex.Single;
+
+/**
+ * The controller invoked by {@link RoutingInBoundHandlerBenchmark}. It returns a {@link Single} so that the route
+ * is executed on the event loop of the embedded channel.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Controller("/routing")
+public class RoutingBenchmarkController {
+
+    /**
+     * @param name The name
+     * @return The greeting
+     */
+    @Get(uri = "/hello/{name}", produces = MediaType.TEXT_PLAIN)
+    public Single<String> hello(String name) {
+        return Single.just("Hello " + name);
+    }
+}
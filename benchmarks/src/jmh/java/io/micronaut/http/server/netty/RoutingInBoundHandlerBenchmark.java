@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.http.netty.stream.HttpStreamsServerHandler;
+import io.micronaut.http.server.binding.RequestBinderRegistry;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.micronaut.http.server.netty.decoders.HttpRequestDecoder;
+import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.executor.ExecutorSelector;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.resource.StaticResourceResolver;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a request through the request handlers that {@link NettyHttpServer} installs, from the decoded Netty
+ * request to the response written by {@link RoutingInBoundHandler}. An {@link EmbeddedChannel} is used so that no
+ * sockets are involved.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoutingInBoundHandlerBenchmark {
+
+    ApplicationContext applicationContext;
+    EmbeddedChannel channel;
+
+    /**
+     * Starts the application context and builds the channel pipeline.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        NettyHttpServerConfiguration serverConfiguration = applicationContext.getBean(NettyHttpServerConfiguration.class);
+        channel = new EmbeddedChannel(
+            new HttpStreamsServerHandler(),
+            new HttpRequestDecoder(
+                applicationContext.getBean(NettyHttpServer.class),
+                applicationContext.getEnvironment(),
+                serverConfiguration
+            ),
+            new RoutingInBoundHandler(
+                applicationContext,
+                applicationContext.getBean(Router.class),
+                applicationContext.getBean(MediaTypeCodecRegistry.class),
+                applicationContext.getBean(NettyCustomizableResponseTypeHandlerRegistry.class),
+                applicationContext.getBean(StaticResourceResolver.class),
+                serverConfiguration,
+                applicationContext.getBean(RequestBinderRegistry.class),
+                applicationContext.getBean(ExecutorSelector.class),
+                applicationContext.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.IO))
+            )
+        );
+    }
+
+    /**
+     * Closes the channel and stops the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        applicationContext.stop();
+    }
+
+    /**
+     * @return The response status code
+     */
+    @Benchmark
+    public int request() {
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/routing/hello/fred"));
+        channel.runPendingTasks();
+        Object response = channel.readOutbound();
+        if (response == null) {
+            throw new IllegalStateException("No response was written");
+        }
+        try {
+            return ((HttpResponse) response).status().code();
+        } finally {
+            ReferenceCountUtil.release(response);
+        }
+    }
+}
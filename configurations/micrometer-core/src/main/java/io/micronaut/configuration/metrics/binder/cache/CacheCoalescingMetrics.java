@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.configuration.metrics.binder.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.cache.annotation.Cacheable;
+import io.micronaut.cache.interceptor.CacheInterceptor;
+
+/**
+ * Binds the number of coalesced and in-flight loads of {@link Cacheable#coalesce()} methods.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class CacheCoalescingMetrics implements MeterBinder {
+
+    /**
+     * The name of the counter of invocations that waited for a load in progress.
+     */
+    public static final String COALESCED_LOADS = "micronaut.cache.loads.coalesced";
+
+    /**
+     * The name of the gauge for the number of loads in progress.
+     */
+    public static final String IN_FLIGHT_LOADS = "micronaut.cache.loads.in.flight";
+
+    private final CacheInterceptor cacheInterceptor;
+
+    /**
+     * @param cacheInterceptor The cache interceptor to monitor
+     */
+    public CacheCoalescingMetrics(CacheInterceptor cacheInterceptor) {
+        this.cacheInterceptor = cacheInterceptor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(COALESCED_LOADS, cacheInterceptor, CacheInterceptor::getCoalescedLoads)
+            .description("The number of cache misses that waited for a load in progress instead of invoking the method")
+            .register(registry);
+        Gauge.builder(IN_FLIGHT_LOADS, cacheInterceptor, CacheInterceptor::getInFlightLoads)
+            .description("The number of cache loads in progress")
+            .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.configuration.metrics.binder.cache;
+
+import io.micronaut.cache.interceptor.CacheInterceptor;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+
+import javax.inject.Singleton;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS;
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED;
+
+/**
+ * Binder factory that will create the cache metrics beans.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Factory
+@Requires(property = MICRONAUT_METRICS_ENABLED, value = "true", defaultValue = "true")
+@Requires(property = MICRONAUT_METRICS + "binders.cache.enabled", value = "true", defaultValue = "true")
+@Requires(classes = CacheInterceptor.class)
+public class CacheMeterRegistryBinder {
+
+    /**
+     * Cache load coalescing metrics bean.
+     *
+     * @param cacheInterceptor The cache interceptor
+     * @return cacheCoalescingMetrics
+     */
+    @Bean
+    @Primary
+    @Singleton
+    public CacheCoalescingMetrics cacheCoalescingMetrics(CacheInterceptor cacheInterceptor) {
+        return new CacheCoalescingMetrics(cacheInterceptor);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.metrics.binder.context;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.DefaultBeanContext;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+
+import javax.inject.Singleton;
+import java.util.Collections;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS;
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED;
+
+/**
+ * Binder factory that will create the bean context metrics beans.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Factory
+@Requires(property = MICRONAUT_METRICS_ENABLED, value = "true", defaultValue = "true")
+@Requires(property = MICRONAUT_METRICS + "binders.context.enabled", value = "true", defaultValue = "true")
+public class BeanContextMeterRegistryBinder {
+
+    /**
+     * Bean lookup index metrics bean.
+     *
+     * @param beanContext The bean context
+     * @return beanLookupIndexMetrics
+     */
+    @Bean
+    @Primary
+    @Singleton
+    public BeanLookupIndexMetrics beanLookupIndexMetrics(BeanContext beanContext) {
+        if (beanContext instanceof DefaultBeanContext) {
+            return new BeanLookupIndexMetrics(((DefaultBeanContext) beanContext).getBeanLookupIndexes());
+        }
+        return new BeanLookupIndexMetrics(Collections.emptyList());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.metrics.binder.context;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.BeanLookupIndex;
+
+import java.util.Collection;
+
+/**
+ * Binds the hit and miss counts and the size of the {@link BeanLookupIndex} instances of the bean context.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class BeanLookupIndexMetrics implements MeterBinder {
+
+    /**
+     * The name of the counter of bean lookups, tagged by index and result.
+     */
+    public static final String LOOKUPS = "micronaut.context.bean.lookups";
+
+    /**
+     * The name of the gauge for the number of entries in an index.
+     */
+    public static final String INDEX_SIZE = "micronaut.context.bean.lookup.index.size";
+
+    private final Collection<BeanLookupIndex<?, ?>> indexes;
+
+    /**
+     * @param indexes The indexes to monitor
+     */
+    public BeanLookupIndexMetrics(Collection<BeanLookupIndex<?, ?>> indexes) {
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (BeanLookupIndex<?, ?> index : indexes) {
+            FunctionCounter.builder(LOOKUPS, index, BeanLookupIndex::getHits)
+                .tags("index", index.getName(), "result", "hit")
+                .description("The number of bean lookups answered by the index")
+                .register(registry);
+            FunctionCounter.builder(LOOKUPS, index, BeanLookupIndex::getMisses)
+                .tags("index", index.getName(), "result", "miss")
+                .description("The number of bean lookups that had to be computed")
+                .register(registry);
+            Gauge.builder(INDEX_SIZE, index, BeanLookupIndex::size)
+                .tags("index", index.getName())
+                .description("The number of entries in the index")
+                .register(registry);
+        }
+    }
+}
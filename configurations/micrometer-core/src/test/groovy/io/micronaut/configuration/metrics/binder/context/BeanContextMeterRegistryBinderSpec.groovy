@@ -0,0 +1,68 @@
+package io.micronaut.configuration.metrics.binder.context
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.DefaultBeanContext
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_ENABLED
+
+class BeanContextMeterRegistryBinderSpec extends Specification {
+
+    def "test getting the beans"() {
+        when:
+        ApplicationContext context = ApplicationContext.run()
+
+        then:
+        context.containsBean(BeanContextMeterRegistryBinder)
+        context.containsBean(BeanLookupIndexMetrics)
+
+        cleanup:
+        context.close()
+    }
+
+    @Unroll
+    def "test getting the beans #cfg #setting"() {
+        when:
+        ApplicationContext context = ApplicationContext.run([(cfg): setting])
+
+        then:
+        context.findBean(BeanContextMeterRegistryBinder).isPresent() == setting
+        context.findBean(BeanLookupIndexMetrics).isPresent() == setting
+
+        cleanup:
+        context.close()
+
+        where:
+        cfg                                           | setting
+        MICRONAUT_METRICS_ENABLED                     | true
+        MICRONAUT_METRICS_ENABLED                     | false
+        MICRONAUT_METRICS + "binders.context.enabled" | true
+        MICRONAUT_METRICS + "binders.context.enabled" | false
+    }
+
+    def "test bean lookups are counted"() {
+        given:
+        DefaultBeanContext context = (DefaultBeanContext) ApplicationContext.run()
+        MeterRegistry registry = new SimpleMeterRegistry()
+        new BeanLookupIndexMetrics(context.getBeanLookupIndexes()).bindTo(registry)
+
+        when:
+        double misses = registry.get(BeanLookupIndexMetrics.LOOKUPS).tags("index", "beanCandidates", "result", "miss").functionCounter().count()
+        double hits = registry.get(BeanLookupIndexMetrics.LOOKUPS).tags("index", "beanCandidates", "result", "hit").functionCounter().count()
+        context.getBeanDefinitions(BeanContextMeterRegistryBinderSpec)
+        context.getBeanDefinitions(BeanContextMeterRegistryBinderSpec)
+        context.getBeanDefinitions(BeanContextMeterRegistryBinderSpec)
+
+        then:"The first lookup misses and the following ones are served from the index"
+        registry.get(BeanLookupIndexMetrics.LOOKUPS).tags("index", "beanCandidates", "result", "miss").functionCounter().count() == misses + 1
+        registry.get(BeanLookupIndexMetrics.LOOKUPS).tags("index", "beanCandidates", "result", "hit").functionCounter().count() == hits + 2
+        registry.get(BeanLookupIndexMetrics.INDEX_SIZE).tags("index", "beanCandidates").gauge().value() > 0
+
+        cleanup:
+        context.close()
+    }
+}
@@ -95,4 +95,14 @@ public interface AsyncCacheCommands extends Commands {
      * @return Long integer-reply The number of keys that were removed.
      */
     RedisFuture<Long> del(byte[]... keys);
+
+    /**
+     * See https://redis.io/commands/publish.
+     *
+     * @param channel The channel
+     * @param message The message
+     * @return The number of clients that received the message
+     */
+    @Command("PUBLISH :channel :message")
+    RedisFuture<Long> publish(@Param("channel") byte[] channel, @Param("message") byte[] message);
 }
@@ -16,35 +16,63 @@
 
 package io.micronaut.configuration.lettuce.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.dynamic.RedisCommandFactory;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.SyncCache;
 import io.micronaut.cache.serialize.DefaultStringKeySerializer;
 import io.micronaut.configuration.lettuce.RedisConnectionUtil;
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.serialize.JdkSerializer;
 import io.micronaut.core.serialize.ObjectSerializer;
 import io.micronaut.core.type.Argument;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 /**
  * An implementation of {@link SyncCache} for Lettuce / Redis.
  *
+ * <p>If {@link RedisCacheConfiguration#isNearCache()} is enabled, the serialized values read from Redis are
+ * additionally kept in a bounded, in-memory near cache and deserialized on every read, so callers never share an
+ * instance. Each write or invalidation evicts the local entry and is broadcast on
+ * {@link RedisCacheConfiguration#getInvalidationTopic()} so that other nodes evict theirs. A value read from Redis is
+ * only placed in the near cache if no eviction of its key happened while it was read. Delivery of invalidations
+ * is best effort, hence the near cache expiry bounds how long a stale value can be served. The near cache expiry is
+ * capped by the expiry of the values in Redis, and reads served by the near cache refresh the expiry in Redis if
+ * values expire after access.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
 @EachBean(RedisCacheConfiguration.class)
-public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
+public class RedisCache implements SyncCache<StatefulConnection<?, ?>>, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisCache.class);
+    private static final String INVALIDATE_ALL = "*";
+    private static final char MESSAGE_SEPARATOR = ':';
+    private static final int NEAR_CACHE_STRIPES = 64;
+
     private final RedisCacheConfiguration redisCacheConfiguration;
     private final ObjectSerializer keySerializer;
     private final ObjectSerializer valueSerializer;
@@ -53,6 +81,13 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
     private final RedisAsyncCache asyncCache;
     private final SyncCacheCommands commands;
     private final StatefulConnection<String, String> connection;
+    private final Cache<ByteBuffer, byte[]> nearCache;
+    // eviction sequences, striped by key, used to detect evictions that happen while a value is read from Redis
+    private final AtomicLongArray nearCacheSequences = new AtomicLongArray(NEAR_CACHE_STRIPES);
+    private final String instanceId = UUID.randomUUID().toString();
+    private final byte[] invalidationTopic;
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+    private final RedisPubSubAdapter<String, String> invalidationListener;
 
     /**
      * Creates a new redis cache for the given arguments.
@@ -86,6 +121,49 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         this.connection = RedisConnectionUtil.findRedisConnection(beanLocator, server, "No Redis server configured to allow caching");
         this.commands = syncCommands(this.connection);
         this.asyncCache = new RedisAsyncCache();
+        this.invalidationTopic = redisCacheConfiguration.getInvalidationTopic().getBytes(redisCacheConfiguration.getCharset());
+        if (redisCacheConfiguration.isNearCache()) {
+            this.nearCache = Caffeine.newBuilder()
+                .maximumSize(redisCacheConfiguration.getNearCacheMaximumSize())
+                .expireAfterWrite(nearCacheExpiry(redisCacheConfiguration.getNearCacheExpireAfterWrite()))
+                .build();
+            String topic = redisCacheConfiguration.getInvalidationTopic();
+            this.invalidationListener = new RedisPubSubAdapter<String, String>() {
+                @Override
+                public void message(String channel, String message) {
+                    if (topic.equals(channel)) {
+                        onInvalidation(message);
+                    }
+                }
+            };
+            this.pubSubConnection = findRedisPubSubConnection(beanLocator, server);
+            subscribeToInvalidations(topic);
+        } else {
+            this.nearCache = null;
+            this.pubSubConnection = null;
+            this.invalidationListener = null;
+        }
+    }
+
+    /**
+     * Stops listening for near cache invalidations.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (pubSubConnection != null) {
+            pubSubConnection.removeListener(invalidationListener);
+            if (pubSubConnection.isOpen()) {
+                String topic = redisCacheConfiguration.getInvalidationTopic();
+                try {
+                    pubSubConnection.sync().unsubscribe(topic);
+                } catch (Exception e) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Error unsubscribing from cache invalidation topic [" + topic + "]: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -107,10 +185,16 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
     @Override
     public <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
         byte[] serializedKey = serializeKey(key);
+        Optional<T> near = getNearValue(serializedKey, requiredType);
+        if (near.isPresent()) {
+            return near.get();
+        }
+        long sequence = getNearSequence(serializedKey);
         byte[] data = commands.get(serializedKey);
         if (data != null) {
             Optional<T> deserialized = valueSerializer.deserialize(data, requiredType.getType());
             if (deserialized.isPresent()) {
+                putNearValue(serializedKey, data, sequence);
                 return deserialized.get();
             }
         }
@@ -147,12 +231,14 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
     public void invalidate(Object key) {
         byte[] serializedKey = serializeKey(key);
         commands.remove(serializedKey);
+        invalidateNearValue(serializedKey);
     }
 
     @Override
     public void invalidateAll() {
         List<byte[]> keys = commands.keys(getKeysPattern().getBytes(redisCacheConfiguration.getCharset()));
         commands.del(keys.toArray(new byte[keys.size()][]));
+        invalidateAllNearValues();
     }
 
     @Override
@@ -169,12 +255,21 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
      * @return value
      */
     protected <T> Optional<T> getValue(Argument<T> requiredType, SyncCacheCommands commands, byte[] serializedKey) {
+        Optional<T> near = getNearValue(serializedKey, requiredType);
+        if (near.isPresent()) {
+            return near;
+        }
+        long sequence = getNearSequence(serializedKey);
         byte[] data = commands.get(serializedKey);
         if (expireAfterAccess != null) {
             commands.expire(serializedKey, expireAfterAccess);
         }
         if (data != null) {
-            return valueSerializer.deserialize(data, requiredType.getType());
+            Optional<T> deserialized = valueSerializer.deserialize(data, requiredType.getType());
+            if (deserialized.isPresent()) {
+                putNearValue(serializedKey, data, sequence);
+            }
+            return deserialized;
         } else {
 
             return Optional.empty();
@@ -207,6 +302,90 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         } else {
             commands.remove(serializedKey);
         }
+        invalidateNearValue(serializedKey);
+    }
+
+    /**
+     * Looks up a value in the near cache, if enabled.
+     *
+     * @param serializedKey The serialized key
+     * @param requiredType  The required type
+     * @param <T>           The type of the value
+     * @return The value or empty if the near cache is disabled or holds no value
+     */
+    protected <T> Optional<T> getNearValue(byte[] serializedKey, Argument<T> requiredType) {
+        if (nearCache != null) {
+            byte[] data = nearCache.getIfPresent(ByteBuffer.wrap(serializedKey));
+            if (data != null) {
+                Optional<T> value = valueSerializer.deserialize(data, requiredType.getType());
+                if (value.isPresent() && expireAfterAccess != null) {
+                    // the read never reaches Redis, so the value would otherwise expire there while it is in use
+                    asyncCache.async.expire(serializedKey, expireAfterAccess).whenComplete((result, throwable) -> {
+                        if (throwable != null && LOG.isWarnEnabled()) {
+                            LOG.warn("Error refreshing the expiry of a near cached value for cache [" + getName() + "]: " + throwable.getMessage(), throwable);
+                        }
+                    });
+                }
+                return value;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the eviction sequence of the given key, which must be captured before the value is read from Redis and
+     * passed to {@link #putNearValue(byte[], byte[], long)}.
+     *
+     * @param serializedKey The serialized key
+     * @return The sequence
+     */
+    protected long getNearSequence(byte[] serializedKey) {
+        return nearCacheSequences.get(nearCacheStripe(serializedKey));
+    }
+
+    /**
+     * Places a value read from Redis in the near cache, if enabled. The value is discarded if the key was evicted
+     * since the given sequence was captured, since the value may predate a write.
+     *
+     * @param serializedKey The serialized key
+     * @param data          The serialized value
+     * @param sequence      The sequence returned by {@link #getNearSequence(byte[])} before the value was read
+     */
+    protected void putNearValue(byte[] serializedKey, byte[] data, long sequence) {
+        if (nearCache != null && data != null) {
+            int stripe = nearCacheStripe(serializedKey);
+            if (nearCacheSequences.get(stripe) != sequence) {
+                return;
+            }
+            ByteBuffer key = ByteBuffer.wrap(serializedKey);
+            nearCache.put(key, data);
+            if (nearCacheSequences.get(stripe) != sequence) {
+                nearCache.asMap().remove(key, data);
+            }
+        }
+    }
+
+    /**
+     * Evicts the near cache entry for the given key and notifies the other nodes. The value is deliberately not
+     * cached on write so that the next read observes whatever Redis holds after any concurrent writes.
+     *
+     * @param serializedKey The serialized key
+     */
+    protected void invalidateNearValue(byte[] serializedKey) {
+        if (nearCache != null) {
+            evictNearValue(serializedKey);
+            publishInvalidation(Base64.getEncoder().encodeToString(serializedKey));
+        }
+    }
+
+    /**
+     * Evicts all near cache entries and notifies the other nodes.
+     */
+    protected void invalidateAllNearValues() {
+        if (nearCache != null) {
+            evictAllNearValues();
+            publishInvalidation(INVALIDATE_ALL);
+        }
     }
 
     /**
@@ -238,6 +417,86 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         return redisCommandFactory.getCommands(AsyncCacheCommands.class);
     }
 
+    /**
+     * @param configured The configured near cache expiry
+     * @return The expiry capped by the expiry of the values in Redis, so that the near cache never outlives Redis
+     */
+    private Duration nearCacheExpiry(Duration configured) {
+        Duration expiry = configured;
+        if (expireAfterWrite != null && expireAfterWrite < expiry.toMillis()) {
+            expiry = Duration.ofMillis(expireAfterWrite);
+        }
+        if (expireAfterAccess != null && expireAfterAccess < expiry.toMillis()) {
+            expiry = Duration.ofMillis(expireAfterAccess);
+        }
+        return expiry;
+    }
+
+    private int nearCacheStripe(byte[] serializedKey) {
+        return Arrays.hashCode(serializedKey) & (NEAR_CACHE_STRIPES - 1);
+    }
+
+    private void evictNearValue(byte[] serializedKey) {
+        // the sequence is advanced first so that a concurrent read cannot repopulate the entry with an older value
+        nearCacheSequences.incrementAndGet(nearCacheStripe(serializedKey));
+        nearCache.invalidate(ByteBuffer.wrap(serializedKey));
+    }
+
+    private void evictAllNearValues() {
+        for (int i = 0; i < NEAR_CACHE_STRIPES; i++) {
+            nearCacheSequences.incrementAndGet(i);
+        }
+        nearCache.invalidateAll();
+    }
+
+    private void publishInvalidation(String payload) {
+        byte[] message = (instanceId + MESSAGE_SEPARATOR + payload).getBytes(redisCacheConfiguration.getCharset());
+        asyncCache.async.publish(invalidationTopic, message).whenComplete((receivers, throwable) -> {
+            if (throwable != null && LOG.isWarnEnabled()) {
+                LOG.warn("Error publishing near cache invalidation for cache [" + getName() + "]: " + throwable.getMessage(), throwable);
+            }
+        });
+    }
+
+    private void subscribeToInvalidations(String topic) {
+        pubSubConnection.addListener(invalidationListener);
+        try {
+            pubSubConnection.sync().subscribe(topic);
+        } catch (Exception e) {
+            throw new ConfigurationException("Unable to subscribe to cache invalidation topic [" + topic + "]: " + e.getMessage(), e);
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int i = message.indexOf(MESSAGE_SEPARATOR);
+        if (i == -1 || (i == instanceId.length() && message.startsWith(instanceId))) {
+            // malformed or published by this node, which already evicted the entry
+            return;
+        }
+        String payload = message.substring(i + 1);
+        if (INVALIDATE_ALL.equals(payload)) {
+            evictAllNearValues();
+        } else {
+            try {
+                evictNearValue(Base64.getDecoder().decode(payload));
+            } catch (IllegalArgumentException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Ignoring malformed near cache invalidation for cache [" + getName() + "]: " + message);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisPubSubConnection<String, String> findRedisPubSubConnection(BeanLocator beanLocator, Optional<String> server) {
+        Optional<StatefulRedisPubSubConnection> pubSubConnection = server
+            .map(name -> beanLocator.findBean(StatefulRedisPubSubConnection.class, Qualifiers.byName(name)))
+            .orElseGet(() -> beanLocator.findBean(StatefulRedisPubSubConnection.class));
+        return pubSubConnection.orElseThrow(() ->
+            new ConfigurationException("No Redis server configured to allow near cache invalidation")
+        );
+    }
+
     private DefaultStringKeySerializer newDefaultKeySerializer(RedisCacheConfiguration redisCacheConfiguration, ConversionService<?> conversionService) {
         return new DefaultStringKeySerializer(redisCacheConfiguration.getCacheName(), redisCacheConfiguration.getCharset(), conversionService);
     }
@@ -253,12 +512,18 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         public <T> CompletableFuture<Optional<T>> get(Object key, Argument<T> requiredType) {
             CompletableFuture<Optional<T>> result = new CompletableFuture<>();
             byte[] serializedKey = serializeKey(key);
+            Optional<T> near = getNearValue(serializedKey, requiredType);
+            if (near.isPresent()) {
+                result.complete(near);
+                return result;
+            }
+            long sequence = getNearSequence(serializedKey);
             async.get(serializedKey).whenComplete((data, throwable) -> {
                 if (throwable != null) {
                     result.completeExceptionally(throwable);
                 } else {
                     if (data != null) {
-                        completeGet(requiredType, result, async, serializedKey, data);
+                        completeGet(requiredType, result, async, serializedKey, data, sequence);
                     } else {
                         result.complete(Optional.empty());
                     }
@@ -271,6 +536,12 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         public <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
             CompletableFuture<T> result = new CompletableFuture<>();
             byte[] serializedKey = serializeKey(key);
+            Optional<T> near = getNearValue(serializedKey, requiredType);
+            if (near.isPresent()) {
+                result.complete(near.get());
+                return result;
+            }
+            long sequence = getNearSequence(serializedKey);
             async.get(serializedKey).whenComplete((data, throwable) -> {
                 if (throwable != null) {
                     result.completeExceptionally(throwable);
@@ -278,6 +549,9 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
                     if (data != null) {
                         Optional<T> deserialized = valueSerializer.deserialize(data, requiredType.getType());
                         boolean hasValue = deserialized.isPresent();
+                        if (hasValue) {
+                            putNearValue(serializedKey, data, sequence);
+                        }
                         if (expireAfterAccess != null && hasValue) {
                             async.expire(serializedKey, expireAfterAccess).whenComplete((s, throwable1) -> {
                                 if (throwable1 != null) {
@@ -305,12 +579,13 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
             CompletableFuture<Optional<T>> result = new CompletableFuture<>();
             byte[] serializedKey = serializeKey(key);
+            long sequence = getNearSequence(serializedKey);
             async.get(serializedKey).whenComplete((data, throwable) -> {
                 if (throwable != null) {
                     result.completeExceptionally(throwable);
                 } else {
                     if (data != null) {
-                        completeGet(Argument.of((Class<T>) value.getClass()), result, async, serializedKey, data);
+                        completeGet(Argument.of((Class<T>) value.getClass()), result, async, serializedKey, data, sequence);
                     } else {
                         Optional<byte[]> serialized = valueSerializer.serialize(value);
                         if (serialized.isPresent()) {
@@ -319,6 +594,7 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
                                 if (throwable12 != null) {
                                     result.completeExceptionally(throwable12);
                                 } else {
+                                    invalidateNearValue(serializedKey);
                                     result.complete(Optional.empty());
                                 }
                             });
@@ -332,14 +608,15 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         @Override
         public CompletableFuture<Boolean> put(Object key, Object value) {
             CompletableFuture<Boolean> result = new CompletableFuture<>();
+            byte[] serializedKey = serializeKey(key);
             BiConsumer<String, Throwable> booleanConsumer = (s, throwable) -> {
                 if (throwable == null) {
+                    invalidateNearValue(serializedKey);
                     result.complete(true);
                 } else {
                     result.completeExceptionally(throwable);
                 }
             };
-            byte[] serializedKey = serializeKey(key);
             Optional<byte[]> serialized = valueSerializer.serialize(value);
             if (serialized.isPresent()) {
                 RedisFuture<String> future = newPutOperation(async, serializedKey, serialized.get());
@@ -347,6 +624,7 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
             } else {
                 async.remove(serializedKey).whenComplete((aLong, throwable) -> {
                     if (throwable == null) {
+                        invalidateNearValue(serializedKey);
                         result.complete(true);
                     } else {
                         result.completeExceptionally(throwable);
@@ -359,10 +637,12 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         @Override
         public CompletableFuture<Boolean> invalidate(Object key) {
             CompletableFuture<Boolean> result = new CompletableFuture<>();
-            async.remove(serializeKey(key)).whenComplete((status, throwable) -> {
+            byte[] serializedKey = serializeKey(key);
+            async.remove(serializedKey).whenComplete((status, throwable) -> {
                 if (throwable != null) {
                     result.completeExceptionally(throwable);
                 } else {
+                    invalidateNearValue(serializedKey);
                     result.complete(true);
                 }
             });
@@ -380,6 +660,7 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
                         if (throwable1 != null) {
                             result.completeExceptionally(throwable1);
                         } else {
+                            invalidateAllNearValues();
                             result.complete(true);
                         }
                     });
@@ -398,8 +679,11 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
             return RedisCache.this.getNativeCache();
         }
 
-        private <T> void completeGet(Argument<T> requiredType, CompletableFuture<Optional<T>> result, AsyncCacheCommands async, byte[] serializedKey, byte[] data) {
+        private <T> void completeGet(Argument<T> requiredType, CompletableFuture<Optional<T>> result, AsyncCacheCommands async, byte[] serializedKey, byte[] data, long sequence) {
             Optional<T> deserialized = valueSerializer.deserialize(data, requiredType.getType());
+            if (deserialized.isPresent()) {
+                putNearValue(serializedKey, data, sequence);
+            }
             if (expireAfterAccess != null && deserialized.isPresent()) {
                 async.expire(serializedKey, expireAfterAccess).whenComplete((s, throwable1) -> {
                     if (throwable1 != null) {
@@ -432,6 +716,7 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
                         if (throwable12 != null) {
                             result.completeExceptionally(throwable12);
                         } else {
+                            invalidateNearValue(serializedKey);
                             result.complete(finalValue);
                         }
                     });
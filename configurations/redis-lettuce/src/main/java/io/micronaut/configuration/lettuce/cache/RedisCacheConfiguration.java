@@ -23,6 +23,7 @@ import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.serialize.ObjectSerializer;
 import io.micronaut.runtime.ApplicationConfiguration;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -34,9 +35,25 @@ import java.util.Optional;
 @EachProperty(RedisSetting.REDIS_CACHES)
 public class RedisCacheConfiguration extends CacheConfiguration {
 
+    /**
+     * The default maximum number of entries held by the near cache.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 10000;
+
+    /**
+     * The default time entries live in the near cache.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final Duration DEFAULT_NEAR_CACHE_EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
     protected String server;
     protected Class<ObjectSerializer> keySerializer;
     protected Class<ObjectSerializer> valueSerializer;
+    protected boolean nearCache = false;
+    protected long nearCacheMaximumSize = DEFAULT_NEAR_CACHE_MAXIMUM_SIZE;
+    protected Duration nearCacheExpireAfterWrite = DEFAULT_NEAR_CACHE_EXPIRE_AFTER_WRITE;
+    protected String invalidationTopic;
 
     /**
      * Constructor.
@@ -75,4 +92,43 @@ public class RedisCacheConfiguration extends CacheConfiguration {
         return Optional.ofNullable(keySerializer);
     }
 
+    /**
+     * Whether a local, in-memory near cache should be kept in front of Redis. When enabled, reads are first served
+     * from the local cache and writes and invalidations are published to the other nodes via
+     * {@link #getInvalidationTopic()}. Defaults to {@code false}.
+     *
+     * @return True if the near cache is enabled
+     */
+    public boolean isNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * @return The maximum number of entries held by the near cache
+     */
+    public long getNearCacheMaximumSize() {
+        return nearCacheMaximumSize;
+    }
+
+    /**
+     * The time an entry lives in the near cache. This also bounds how long a node may serve a stale value should an
+     * invalidation message be lost. Defaults to one minute.
+     *
+     * @return The near cache expiry
+     */
+    public Duration getNearCacheExpireAfterWrite() {
+        return nearCacheExpireAfterWrite;
+    }
+
+    /**
+     * The Redis channel used to broadcast near cache invalidations. Defaults to {@code micronaut:cache:[cacheName]:invalidate}.
+     *
+     * @return The invalidation topic
+     */
+    public String getInvalidationTopic() {
+        if (invalidationTopic != null) {
+            return invalidationTopic;
+        }
+        return "micronaut:cache:" + getCacheName() + ":invalidate";
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.lettuce.cache
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.socket.SocketUtils
+import io.micronaut.core.serialize.JdkSerializer
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
+
+class RedisNearCacheSpec extends Specification {
+
+    @Shared String uri = "redis://localhost:${SocketUtils.findAvailableTcpPort()}"
+
+    @Shared @AutoCleanup ApplicationContext nodeOne = ApplicationContext.run(
+            'redis.uri': uri,
+            'redis.caches.test.near-cache': true
+    )
+
+    @Shared @AutoCleanup ApplicationContext nodeTwo = ApplicationContext.run(
+            'redis.uri': uri,
+            'redis.caches.test.near-cache': true
+    )
+
+    void "test near cache serves local reads and is invalidated by writes on other nodes"() {
+        given:
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+        RedisCache cacheOne = nodeOne.getBean(RedisCache, Qualifiers.byName("test"))
+        RedisCache cacheTwo = nodeTwo.getBean(RedisCache, Qualifiers.byName("test"))
+
+        when:
+        cacheOne.put("foo", "one")
+
+        then:
+        cacheOne.get("foo", String).get() == "one"
+        cacheTwo.get("foo", String).get() == "one"
+        cacheTwo.getNearValue(cacheTwo.serializeKey("foo"), Argument.of(String)).get() == "one"
+
+        when:
+        cacheOne.put("foo", "two")
+
+        then:
+        conditions.eventually {
+            assert cacheTwo.get("foo", String).get() == "two"
+        }
+
+        when:
+        cacheOne.async().invalidate("foo").get()
+
+        then:
+        conditions.eventually {
+            assert !cacheTwo.get("foo", String).isPresent()
+        }
+
+        when:
+        cacheTwo.put("bar", "three")
+        cacheOne.get("bar", String)
+        cacheTwo.invalidateAll()
+
+        then:
+        conditions.eventually {
+            assert !cacheOne.async().get("bar", String).get().isPresent()
+        }
+    }
+
+    void "test near cache hands out a new instance on every read"() {
+        given:
+        RedisCache cache = nodeOne.getBean(RedisCache, Qualifiers.byName("test"))
+
+        when:
+        cache.put("list", new ArrayList<>(["a", "b"]))
+        List first = cache.get("list", List).get()
+        first.add("c")
+        List second = cache.get("list", List).get()
+
+        then:
+        !first.is(second)
+        second == ["a", "b"]
+    }
+
+    void "test a value read before an eviction is not placed in the near cache"() {
+        given:
+        RedisCache cache = nodeOne.getBean(RedisCache, Qualifiers.byName("test"))
+        byte[] key = cache.serializeKey("baz")
+        long sequence = cache.getNearSequence(key)
+
+        when: "the key is evicted while the old value is read"
+        cache.invalidate("baz")
+        cache.putNearValue(key, new JdkSerializer().serialize("stale").get(), sequence)
+
+        then:
+        !cache.getNearValue(key, Argument.of(String)).isPresent()
+
+        when:
+        cache.putNearValue(key, new JdkSerializer().serialize("fresh").get(), cache.getNearSequence(key))
+
+        then:
+        cache.getNearValue(key, Argument.of(String)).get() == "fresh"
+    }
+
+    void "test the near cache expiry is capped by the expiry in Redis"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'redis.uri': uri,
+                'redis.caches.write.near-cache': true,
+                'redis.caches.write.expire-after-write': '2s',
+                'redis.caches.access.near-cache': true,
+                'redis.caches.access.expire-after-access': '3s',
+                'redis.caches.access.near-cache-expire-after-write': '10s'
+        )
+
+        expect:
+        nearCacheExpiry(context.getBean(RedisCache, Qualifiers.byName("write"))) == 2000
+        nearCacheExpiry(context.getBean(RedisCache, Qualifiers.byName("access"))) == 3000
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a closed cache no longer listens for invalidations"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'redis.uri': uri,
+                'redis.caches.test.near-cache': true
+        )
+        RedisCache closed = context.getBean(RedisCache, Qualifiers.byName("test"))
+        RedisCache cacheOne = nodeOne.getBean(RedisCache, Qualifiers.byName("test"))
+        byte[] key = closed.serializeKey("closed")
+
+        when:
+        cacheOne.put("closed", "one")
+        // let the invalidation published by the write arrive before the value is read
+        Thread.sleep(500)
+        closed.get("closed", String)
+        closed.close()
+        cacheOne.invalidate("closed")
+        Thread.sleep(500)
+
+        then:"The invalidation is not received"
+        closed.getNearValue(key, Argument.of(String)).get() == "one"
+
+        cleanup:
+        context.close()
+    }
+
+    private static long nearCacheExpiry(RedisCache cache) {
+        cache.nearCache.policy().expireAfterWrite().get().getExpiresAfter(TimeUnit.MILLISECONDS)
+    }
+}
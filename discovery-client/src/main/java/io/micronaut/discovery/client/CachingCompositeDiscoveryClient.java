@@ -16,10 +16,12 @@
 
 package io.micronaut.discovery.client;
 
+import io.micronaut.cache.annotation.CacheInvalidate;
 import io.micronaut.cache.annotation.Cacheable;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.discovery.CompositeDiscoveryClient;
 import io.micronaut.discovery.DefaultCompositeDiscoveryClient;
 import io.micronaut.discovery.DiscoveryClient;
@@ -30,7 +32,7 @@ import java.util.List;
 
 /**
  * Replaces the default {@link io.micronaut.discovery.DefaultCompositeDiscoveryClient} with one that caches the return
- * values.
+ * values. The cache is invalidated whenever a watching client publishes a {@link ServiceInstancesChangedEvent}.
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -38,7 +40,7 @@ import java.util.List;
 @Primary
 @Requires(property = DiscoveryClientCacheConfiguration.SETTING_ENABLED, notEquals = "false")
 @Replaces(DefaultCompositeDiscoveryClient.class)
-public class CachingCompositeDiscoveryClient extends CompositeDiscoveryClient {
+public class CachingCompositeDiscoveryClient extends CompositeDiscoveryClient implements ApplicationEventListener<ServiceInstancesChangedEvent> {
 
     /**
      * @param discoveryClients The discovery clients
@@ -58,4 +60,17 @@ public class CachingCompositeDiscoveryClient extends CompositeDiscoveryClient {
     public Flowable<List<String>> getServiceIds() {
         return super.getServiceIds();
     }
+
+    @Override
+    public void onApplicationEvent(ServiceInstancesChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Invalidates the cached service instances and IDs.
+     */
+    @CacheInvalidate(value = DiscoveryClientCacheConfiguration.CACHE_NAME, all = true)
+    public void invalidate() {
+        // cache invalidated by advice
+    }
 }
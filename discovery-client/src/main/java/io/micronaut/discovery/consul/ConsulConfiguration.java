@@ -192,10 +192,60 @@ public class ConsulConfiguration extends DiscoveryClientConfiguration {
     @ConfigurationProperties(DiscoveryConfiguration.PREFIX)
     public static class ConsulDiscoveryConfiguration extends DiscoveryConfiguration {
 
+        /**
+         * The prefix to use for all Consul client discovery settings.
+         */
+        public static final String PREFIX = ConsulConfiguration.PREFIX + "." + DiscoveryConfiguration.PREFIX;
+
+        /**
+         * The setting that enables watching services with blocking queries.
+         */
+        public static final String WATCH = PREFIX + ".watch";
+
+        private static final Duration DEFAULT_WATCH_TIMEOUT = Duration.ofMinutes(5);
+
         private Map<String, String> tags = Collections.emptyMap();
         private Map<String, String> schemes = Collections.emptyMap();
         private Map<String, String> datacenters = Collections.emptyMap();
         private boolean passing = false;
+        private boolean watch = false;
+        private Duration watchTimeout = DEFAULT_WATCH_TIMEOUT;
+
+        /**
+         * Whether the instances of each service are watched with blocking queries and served from memory, rather
+         * than queried on every lookup.
+         *
+         * @return True if services are watched (defaults to false)
+         */
+        public boolean isWatch() {
+            return watch;
+        }
+
+        /**
+         * @param watch Whether the instances of each service are watched with blocking queries
+         */
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+
+        /**
+         * The maximum time a blocking query waits for a change. The wait is shortened if necessary to complete
+         * within the read timeout of the client.
+         *
+         * @return The watch timeout (defaults to 5 minutes)
+         */
+        public Duration getWatchTimeout() {
+            return watchTimeout;
+        }
+
+        /**
+         * @param watchTimeout The maximum time a blocking query waits for a change
+         */
+        public void setWatchTimeout(Duration watchTimeout) {
+            if (watchTimeout != null) {
+                this.watchTimeout = watchTimeout;
+            }
+        }
 
         /**
          * Whether services that are not passing health checks should be returned.
@@ -271,6 +321,8 @@ public class ConsulConfiguration extends DiscoveryClientConfiguration {
                 "tags=" + tags +
                 ", datacenters=" + datacenters +
                 ", passing=" + passing +
+                ", watch=" + watch +
+                ", watchTimeout=" + watchTimeout +
                 '}';
         }
     }
@@ -22,12 +22,16 @@ import io.micronaut.core.naming.NameUtils;
 import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.discovery.consul.ConsulConfiguration;
 import io.micronaut.discovery.consul.ConsulServiceInstance;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Get;
 import io.micronaut.http.client.Client;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +50,7 @@ public abstract class AbstractConsulClient implements ConsulClient {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractConsulClient.class);
 
     private ConsulConfiguration consulConfiguration = new ConsulConfiguration();
+    private ConsulServiceCatalog serviceCatalog;
 
     /**
      * @param consulConfiguration The Consul configuration
@@ -57,6 +62,14 @@ public abstract class AbstractConsulClient implements ConsulClient {
         }
     }
 
+    /**
+     * @param serviceCatalog The catalog that watches services when {@link ConsulConfiguration.ConsulDiscoveryConfiguration#isWatch()} is enabled
+     */
+    @Inject
+    public void setServiceCatalog(@Nullable ConsulServiceCatalog serviceCatalog) {
+        this.serviceCatalog = serviceCatalog;
+    }
+
     @Override
     public String getDescription() {
         return ConsulClient.SERVICE_ID;
@@ -69,6 +82,8 @@ public abstract class AbstractConsulClient implements ConsulClient {
             return Publishers.just(
                 Collections.singletonList(ServiceInstance.of(SERVICE_ID, consulConfiguration.getHost(), consulConfiguration.getPort()))
             );
+        } else if (serviceCatalog != null) {
+            return serviceCatalog.getInstances(serviceId);
         } else {
             ConsulConfiguration.ConsulDiscoveryConfiguration discovery = consulConfiguration.getDiscovery();
             boolean passing = discovery.isPassing();
@@ -86,4 +101,26 @@ public abstract class AbstractConsulClient implements ConsulClient {
             });
         }
     }
+
+    /**
+     * Performs a blocking query for the instances of a service. The response completes once the Consul index of the
+     * service is greater than the given index or the wait time elapses, and carries the current index in the
+     * {@link ConsulServiceCatalog#CONSUL_INDEX_HEADER} header.
+     *
+     * @param service    The service ID
+     * @param passing    Whether to return only passing instances
+     * @param tag        The tag to filter by
+     * @param dc         The data center
+     * @param index      The index of the previous response, or null to return immediately
+     * @param wait       The maximum time to wait for a change, for example "5m"
+     * @return A publisher that emits the response
+     */
+    @Get("/health/service/{service}{?passing,tag,dc,index,wait}")
+    public abstract Publisher<HttpResponse<List<HealthEntry>>> watchHealthyServices(
+        @NotNull String service,
+        Optional<Boolean> passing,
+        Optional<String> tag,
+        Optional<String> dc,
+        @Nullable Long index,
+        @Nullable String wait);
 }
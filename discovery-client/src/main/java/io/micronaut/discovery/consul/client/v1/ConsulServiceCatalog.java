@@ -0,0 +1,263 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.consul.client.v1;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.client.ServiceInstancesChangedEvent;
+import io.micronaut.discovery.consul.ConsulConfiguration;
+import io.micronaut.discovery.consul.ConsulServiceInstance;
+import io.micronaut.http.HttpResponse;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps an immutable snapshot of the instances of each service looked up through the {@link ConsulClient}, updated
+ * by Consul blocking queries so that lookups are served from memory without any I/O. Each service is watched from
+ * its first lookup.
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ * @see <a href="https://www.consul.io/api/index.html#blocking-queries">Blocking Queries</a>
+ */
+@Singleton
+@Requires(beans = ConsulConfiguration.class)
+@Requires(property = ConsulConfiguration.ConsulDiscoveryConfiguration.WATCH, value = "true")
+public class ConsulServiceCatalog implements AutoCloseable {
+
+    /**
+     * The header that contains the Consul index of a response.
+     */
+    public static final String CONSUL_INDEX_HEADER = "X-Consul-Index";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConsulServiceCatalog.class);
+    private static final long MIN_RETRY_DELAY_MILLIS = 1000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+    private final Provider<ConsulClient> consulClient;
+    private final ConsulConfiguration consulConfiguration;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long waitMillis;
+    private final String wait;
+    private final Map<String, ServiceWatch> watches = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param consulClient        A provider of the Consul client, which is used to perform the blocking queries
+     * @param consulConfiguration The Consul configuration
+     * @param eventPublisher      The event publisher used to publish a {@link ServiceInstancesChangedEvent} on change
+     */
+    public ConsulServiceCatalog(Provider<ConsulClient> consulClient,
+                                ConsulConfiguration consulConfiguration,
+                                ApplicationEventPublisher eventPublisher) {
+        this.consulClient = consulClient;
+        this.consulConfiguration = consulConfiguration;
+        this.eventPublisher = eventPublisher;
+        Duration watchTimeout = consulConfiguration.getDiscovery().getWatchTimeout();
+        Optional<Duration> readTimeout = consulConfiguration.getReadTimeout();
+        if (readTimeout.isPresent()) {
+            // Consul adds up to 1/16th of the wait time as jitter, so leave room for it within the read timeout
+            Duration maxWait = readTimeout.get().multipliedBy(3).dividedBy(4);
+            if (watchTimeout.compareTo(maxWait) > 0) {
+                watchTimeout = maxWait;
+            }
+        }
+        this.waitMillis = Math.max(watchTimeout.getSeconds(), 1) * 1000;
+        this.wait = (waitMillis / 1000) + "s";
+    }
+
+    /**
+     * Returns the current instances of the given service. The first lookup of a service completes once its
+     * instances have been read from Consul, and subsequent lookups complete immediately with the latest snapshot.
+     *
+     * @param serviceId The service ID
+     * @return A publisher that emits the instances of the service
+     */
+    public Publisher<List<ServiceInstance>> getInstances(String serviceId) {
+        ServiceWatch watch = watches.computeIfAbsent(serviceId, ServiceWatch::new);
+        List<ServiceInstance> instances = watch.instances;
+        if (instances != null) {
+            return Publishers.just(instances);
+        }
+        watch.start();
+        return Publishers.fromCompletableFuture(() -> watch.loaded);
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        closed = true;
+        for (ServiceWatch watch : watches.values()) {
+            watch.stop();
+        }
+        watches.clear();
+    }
+
+    /**
+     * The watch of a single service.
+     */
+    private final class ServiceWatch {
+
+        private final String serviceId;
+        private final CompletableFuture<List<ServiceInstance>> loaded = new CompletableFuture<>();
+        private volatile List<ServiceInstance> instances;
+        private volatile Disposable query;
+        private boolean started;
+        private long index;
+        private long retryDelay = MIN_RETRY_DELAY_MILLIS;
+
+        ServiceWatch(String serviceId) {
+            this.serviceId = serviceId;
+        }
+
+        synchronized void start() {
+            if (!started) {
+                started = true;
+                poll(0);
+            }
+        }
+
+        synchronized void stop() {
+            Disposable query = this.query;
+            if (query != null) {
+                query.dispose();
+            }
+        }
+
+        private void poll(long delayMillis) {
+            if (closed) {
+                return;
+            }
+            ConsulConfiguration.ConsulDiscoveryConfiguration discovery = consulConfiguration.getDiscovery();
+            Optional<Boolean> passing = Optional.of(discovery.isPassing());
+            Optional<String> tag = Optional.ofNullable(discovery.getTags().get(serviceId));
+            Optional<String> datacenter = Optional.ofNullable(discovery.getDatacenters().get(serviceId));
+            AbstractConsulClient client = (AbstractConsulClient) consulClient.get();
+            Flowable<HttpResponse<List<HealthEntry>>> response = Flowable.fromPublisher(client.watchHealthyServices(
+                serviceId,
+                passing,
+                tag,
+                datacenter,
+                index > 0 ? index : null,
+                index > 0 ? wait : null
+            ));
+            if (delayMillis > 0) {
+                response = response.delaySubscription(delayMillis, TimeUnit.MILLISECONDS);
+            }
+            query = response.firstOrError().subscribe(this::onResponse, this::onError);
+        }
+
+        private synchronized void onResponse(HttpResponse<List<HealthEntry>> response) {
+            retryDelay = MIN_RETRY_DELAY_MILLIS;
+            Optional<Long> newIndex = response.getHeaders().get(CONSUL_INDEX_HEADER, Long.class);
+            boolean changed = instances == null || !newIndex.isPresent() || newIndex.get() != index;
+            if (changed) {
+                String scheme = consulConfiguration.getDiscovery().getSchemes().getOrDefault(serviceId, "http");
+                List<ServiceInstance> serviceInstances = new ArrayList<>();
+                for (HealthEntry healthEntry : response.getBody().orElse(Collections.emptyList())) {
+                    serviceInstances.add(new ConsulServiceInstance(healthEntry, scheme));
+                }
+                boolean initial = instances == null;
+                // the index also changes for updates that are not visible to clients, such as check output
+                boolean published = !initial && !sameInstances(instances, serviceInstances);
+                if (initial || published) {
+                    instances = Collections.unmodifiableList(serviceInstances);
+                }
+                if (initial) {
+                    loaded.complete(instances);
+                } else if (published) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Instances of service [{}] changed: {}", serviceId, instances);
+                    }
+                    eventPublisher.publishEvent(new ServiceInstancesChangedEvent(serviceId, instances));
+                }
+            }
+            if (newIndex.isPresent()) {
+                // the index is reset if it goes backwards, for example after the Consul servers are restarted
+                index = newIndex.get() < index ? 0 : newIndex.get();
+                poll(0);
+            } else {
+                // without an index the query cannot block, so poll at the rate of the watch timeout
+                index = 0;
+                poll(waitMillis);
+            }
+        }
+
+        /**
+         * @param snapshot  The published instances of the service
+         * @param instances The instances of the service read from Consul
+         * @return True if both hold the same instances with the same properties visible to clients
+         */
+        private boolean sameInstances(List<ServiceInstance> snapshot, List<ServiceInstance> instances) {
+            if (snapshot.size() != instances.size()) {
+                return false;
+            }
+            Map<String, ConsulServiceInstance> published = new HashMap<>(snapshot.size());
+            for (ServiceInstance serviceInstance : snapshot) {
+                ConsulServiceInstance instance = (ConsulServiceInstance) serviceInstance;
+                published.put(instance.getInstanceId().orElse(instance.getURI().toString()), instance);
+            }
+            for (ServiceInstance serviceInstance : instances) {
+                ConsulServiceInstance current = (ConsulServiceInstance) serviceInstance;
+                ConsulServiceInstance previous = published.remove(current.getInstanceId().orElse(current.getURI().toString()));
+                // the URI holds the address and the port of the instance
+                if (previous == null ||
+                    !previous.getURI().equals(current.getURI()) ||
+                    !previous.getHealthStatus().equals(current.getHealthStatus()) ||
+                    !Objects.equals(previous.getHealthEntry().getService().getTags(), current.getHealthEntry().getService().getTags()) ||
+                    !Objects.equals(previous.getHealthEntry().getNode().getNodeMetadata(), current.getHealthEntry().getNode().getNodeMetadata())) {
+                    return false;
+                }
+            }
+            return published.isEmpty();
+        }
+
+        private synchronized void onError(Throwable throwable) {
+            if (instances == null) {
+                watches.remove(serviceId, this);
+                loaded.completeExceptionally(throwable);
+                return;
+            }
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error watching instances of service [" + serviceId + "], retrying in " + retryDelay + "ms: " + throwable.getMessage(), throwable);
+            }
+            long delay = retryDelay;
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+            poll(delay);
+        }
+    }
+}
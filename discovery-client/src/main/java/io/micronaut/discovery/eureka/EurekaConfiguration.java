@@ -34,6 +34,7 @@ import io.micronaut.runtime.server.EmbeddedServer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -125,6 +126,54 @@ public class EurekaConfiguration extends DiscoveryClientConfiguration {
      */
     @ConfigurationProperties(DiscoveryConfiguration.PREFIX)
     public static class EurekaDiscoveryConfiguration extends DiscoveryConfiguration {
+
+        /**
+         * The prefix to use for all Eureka client discovery settings.
+         */
+        public static final String PREFIX = EurekaConfiguration.PREFIX + "." + DiscoveryConfiguration.PREFIX;
+
+        /**
+         * The setting that enables watching the registry with delta queries.
+         */
+        public static final String WATCH = PREFIX + ".watch";
+
+        private static final Duration DEFAULT_WATCH_INTERVAL = Duration.ofSeconds(30);
+
+        private boolean watch = false;
+        private Duration watchInterval = DEFAULT_WATCH_INTERVAL;
+
+        /**
+         * Whether the registry is fetched once and kept up to date with delta queries so that service instances are
+         * served from memory, rather than queried on every lookup.
+         *
+         * @return True if the registry is watched (defaults to false)
+         */
+        public boolean isWatch() {
+            return watch;
+        }
+
+        /**
+         * @param watch Whether the registry is watched with delta queries
+         */
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+
+        /**
+         * @return The interval between delta queries (defaults to 30 seconds)
+         */
+        public Duration getWatchInterval() {
+            return watchInterval;
+        }
+
+        /**
+         * @param watchInterval The interval between delta queries
+         */
+        public void setWatchInterval(Duration watchInterval) {
+            if (watchInterval != null) {
+                this.watchInterval = watchInterval;
+            }
+        }
     }
 
     /**
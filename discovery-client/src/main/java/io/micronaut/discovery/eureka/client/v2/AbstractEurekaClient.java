@@ -41,6 +41,8 @@ import io.micronaut.validation.Validated;
 import io.reactivex.Flowable;
 import org.reactivestreams.Publisher;
 
+import javax.annotation.Nullable;
+import javax.inject.Inject;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,6 +63,17 @@ import java.util.stream.Collectors;
 @RequiresEureka
 abstract class AbstractEurekaClient implements EurekaClient {
 
+    private EurekaServiceCatalog serviceCatalog;
+
+    /**
+     * @param serviceCatalog The catalog that watches the registry when
+     *                       {@link EurekaConfiguration.EurekaDiscoveryConfiguration#isWatch()} is enabled
+     */
+    @Inject
+    public void setServiceCatalog(@Nullable EurekaServiceCatalog serviceCatalog) {
+        this.serviceCatalog = serviceCatalog;
+    }
+
     @Override
     public String getDescription() {
         return EurekaClient.SERVICE_ID;
@@ -69,6 +82,9 @@ abstract class AbstractEurekaClient implements EurekaClient {
     @Override
     public Publisher<List<ServiceInstance>> getInstances(String serviceId) {
         serviceId = NameUtils.hyphenate(serviceId);
+        if (serviceCatalog != null) {
+            return serviceCatalog.getInstances(serviceId);
+        }
         Flowable<List<ServiceInstance>> flowable = Flowable.fromPublisher(getApplicationInfo(serviceId)).map(applicationInfo -> {
             List<InstanceInfo> instances = applicationInfo.getInstances();
             return instances.stream()
@@ -121,6 +137,14 @@ abstract class AbstractEurekaClient implements EurekaClient {
     @Produces(single = true)
     public abstract Publisher<ApplicationInfos> getApplicationInfosInternal();
 
+    /**
+     * @return A {@link Publisher} with the changes to the registry during the last few minutes
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Get("/apps/delta")
+    @Produces(single = true)
+    public abstract Publisher<ApplicationInfos> getApplicationDeltaInternal();
+
     /**
      * @param vipAddress The vip address
      * @return A {@link Publisher} with applications info
@@ -136,13 +160,24 @@ abstract class AbstractEurekaClient implements EurekaClient {
     @JsonRootName("applications")
     static class ApplicationInfos {
         private List<ApplicationInfo> applications;
+        private String appsHashCode;
+
+        /**
+         * @param applications The list of applications info
+         */
+        public ApplicationInfos(List<ApplicationInfo> applications) {
+            this(applications, null);
+        }
 
         /**
          * @param applications The list of applications info
+         * @param appsHashCode The hash code of the whole registry, used to reconcile a registry updated from deltas
          */
         @JsonCreator
-        public ApplicationInfos(@JsonProperty("application") List<ApplicationInfo> applications) {
+        public ApplicationInfos(@JsonProperty("application") List<ApplicationInfo> applications,
+                                @JsonProperty("apps__hashcode") String appsHashCode) {
             this.applications = applications != null ? applications : Collections.emptyList();
+            this.appsHashCode = appsHashCode;
         }
 
         /**
@@ -152,5 +187,13 @@ abstract class AbstractEurekaClient implements EurekaClient {
         public List<ApplicationInfo> getApplications() {
             return applications;
         }
+
+        /**
+         * @return The hash code of the whole registry
+         */
+        @JsonProperty("apps__hashcode")
+        public String getAppsHashCode() {
+            return appsHashCode;
+        }
     }
 }
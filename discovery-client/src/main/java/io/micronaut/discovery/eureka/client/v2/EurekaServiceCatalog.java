@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.eureka.client.v2;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.client.ServiceInstancesChangedEvent;
+import io.micronaut.discovery.eureka.EurekaConfiguration;
+import io.micronaut.discovery.eureka.EurekaServiceInstance;
+import io.micronaut.discovery.eureka.condition.RequiresEureka;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps an immutable snapshot of the instances of each application registered with Eureka, so that lookups through
+ * the {@link EurekaClient} are served from memory without any I/O. The registry is fetched on the first lookup and
+ * then kept up to date with the delta endpoint, falling back to a full fetch whenever the hash code of the local
+ * registry no longer matches the one reported by Eureka.
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+@Singleton
+@RequiresEureka
+@Requires(property = EurekaConfiguration.EurekaDiscoveryConfiguration.WATCH, value = "true")
+public class EurekaServiceCatalog implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EurekaServiceCatalog.class);
+
+    private final Provider<EurekaClient> eurekaClient;
+    private final EurekaConfiguration eurekaConfiguration;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Map<String, InstanceInfo>> registry = new HashMap<>();
+    private volatile Map<String, List<ServiceInstance>> snapshots = Collections.emptyMap();
+    private CompletableFuture<Boolean> loaded;
+    private Disposable refresh;
+    private boolean closed;
+
+    /**
+     * @param eurekaClient        A provider of the Eureka client, which is used to fetch the registry
+     * @param eurekaConfiguration The Eureka configuration
+     * @param eventPublisher      The event publisher used to publish a {@link ServiceInstancesChangedEvent} on change
+     */
+    public EurekaServiceCatalog(Provider<EurekaClient> eurekaClient,
+                                EurekaConfiguration eurekaConfiguration,
+                                ApplicationEventPublisher eventPublisher) {
+        this.eurekaClient = eurekaClient;
+        this.eurekaConfiguration = eurekaConfiguration;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Returns the current instances of the given application. The first lookup completes once the registry has been
+     * fetched, and subsequent lookups complete immediately with the latest snapshot.
+     *
+     * @param serviceId The service ID
+     * @return A publisher that emits the instances of the service
+     */
+    public Publisher<List<ServiceInstance>> getInstances(String serviceId) {
+        String key = serviceId.toUpperCase(Locale.ENGLISH);
+        CompletableFuture<Boolean> loaded = start();
+        if (loaded.isDone() && !loaded.isCompletedExceptionally()) {
+            return Publishers.just(snapshots.getOrDefault(key, Collections.emptyList()));
+        }
+        return Publishers.fromCompletableFuture(() ->
+            loaded.thenApply(ignored -> snapshots.getOrDefault(key, Collections.emptyList()))
+        );
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (refresh != null) {
+            refresh.dispose();
+        }
+    }
+
+    private synchronized CompletableFuture<Boolean> start() {
+        if (loaded == null || loaded.isCompletedExceptionally()) {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            loaded = future;
+            Flowable.fromPublisher(client().getApplicationInfosInternal())
+                .firstOrError()
+                .subscribe(applicationInfos -> {
+                    replaceRegistry(applicationInfos);
+                    future.complete(true);
+                    scheduleRefresh();
+                }, future::completeExceptionally);
+        }
+        return loaded;
+    }
+
+    private synchronized void scheduleRefresh() {
+        if (closed || refresh != null) {
+            return;
+        }
+        long interval = eurekaConfiguration.getDiscovery().getWatchInterval().toMillis();
+        refresh = Flowable.interval(interval, interval, TimeUnit.MILLISECONDS)
+            .onBackpressureDrop()
+            .concatMap(tick -> fetchDelta(), 1)
+            .subscribe();
+    }
+
+    private Flowable<Boolean> fetchDelta() {
+        AbstractEurekaClient client = client();
+        return Flowable.fromPublisher(client.getApplicationDeltaInternal())
+            .flatMap(delta -> {
+                if (applyDelta(delta)) {
+                    return Flowable.just(true);
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Eureka registry hash code mismatch after applying delta. Fetching the full registry");
+                }
+                return Flowable.fromPublisher(client.getApplicationInfosInternal()).map(this::replaceRegistry);
+            })
+            .onErrorResumeNext(throwable -> {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error refreshing the Eureka registry: " + throwable.getMessage(), throwable);
+                }
+                return Flowable.empty();
+            });
+    }
+
+    /**
+     * Applies the given changes to the registry. The snapshots are only updated if the resulting registry matches
+     * the one reported by Eureka, otherwise the full registry is fetched.
+     *
+     * @param delta The changes to the registry
+     * @return True if the registry matches the hash code of the registry reported by Eureka
+     */
+    private synchronized boolean applyDelta(AbstractEurekaClient.ApplicationInfos delta) {
+        Set<String> candidates = new HashSet<>();
+        for (ApplicationInfo application : delta.getApplications()) {
+            String key = application.getName().toUpperCase(Locale.ENGLISH);
+            List<InstanceInfo> instances = application.getInstances();
+            if (instances == null) {
+                continue;
+            }
+            Map<String, InstanceInfo> current = registry.computeIfAbsent(key, k -> new LinkedHashMap<>());
+            for (InstanceInfo instance : instances) {
+                if (instance.getActionType() == InstanceInfo.ActionType.DELETED) {
+                    current.remove(instance.getId());
+                } else {
+                    current.put(instance.getId(), instance);
+                }
+            }
+            if (current.isEmpty()) {
+                registry.remove(key);
+            }
+            candidates.add(key);
+        }
+        String appsHashCode = delta.getAppsHashCode();
+        if (appsHashCode != null && !appsHashCode.equals(registryHashCode())) {
+            return false;
+        }
+        publishChanges(candidates);
+        return true;
+    }
+
+    private synchronized boolean replaceRegistry(AbstractEurekaClient.ApplicationInfos applicationInfos) {
+        // the registry may hold a delta that did not reconcile, so compare against the published snapshots
+        Set<String> candidates = new HashSet<>(snapshots.keySet());
+        registry.clear();
+        for (ApplicationInfo application : applicationInfos.getApplications()) {
+            String key = application.getName().toUpperCase(Locale.ENGLISH);
+            List<InstanceInfo> instances = application.getInstances();
+            if (instances != null && !instances.isEmpty()) {
+                Map<String, InstanceInfo> current = new LinkedHashMap<>();
+                for (InstanceInfo instance : instances) {
+                    current.put(instance.getId(), instance);
+                }
+                registry.put(key, current);
+                candidates.add(key);
+            }
+        }
+        publishChanges(candidates);
+        return true;
+    }
+
+    /**
+     * Updates the snapshots of the given applications whose instances differ from the registry and publishes a
+     * {@link ServiceInstancesChangedEvent} for each of them.
+     *
+     * @param candidates The applications that may have changed
+     */
+    private void publishChanges(Set<String> candidates) {
+        Map<String, List<ServiceInstance>> newSnapshots = new HashMap<>(snapshots);
+        List<String> changed = new ArrayList<>(candidates.size());
+        for (String key : candidates) {
+            Map<String, InstanceInfo> instances = registry.get(key);
+            List<ServiceInstance> snapshot = newSnapshots.get(key);
+            if (instances == null) {
+                if (snapshot != null) {
+                    newSnapshots.remove(key);
+                    changed.add(key);
+                }
+            } else if (snapshot == null || !sameInstances(snapshot, instances)) {
+                newSnapshots.put(key, toServiceInstances(instances.values()));
+                changed.add(key);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        boolean initial = loaded == null || !loaded.isDone();
+        snapshots = Collections.unmodifiableMap(newSnapshots);
+        if (!initial) {
+            for (String key : changed) {
+                eventPublisher.publishEvent(new ServiceInstancesChangedEvent(
+                    key.toLowerCase(Locale.ENGLISH),
+                    newSnapshots.getOrDefault(key, Collections.emptyList())
+                ));
+            }
+        }
+    }
+
+    /**
+     * @param snapshot  The published instances of an application
+     * @param instances The instances of the application in the registry
+     * @return True if both hold the same instances with the same properties visible to clients
+     */
+    private static boolean sameInstances(List<ServiceInstance> snapshot, Map<String, InstanceInfo> instances) {
+        if (snapshot.size() != instances.size()) {
+            return false;
+        }
+        for (ServiceInstance serviceInstance : snapshot) {
+            InstanceInfo published = ((EurekaServiceInstance) serviceInstance).getInstanceInfo();
+            InstanceInfo current = instances.get(published.getId());
+            // lease details change with every renewal and are not compared
+            if (current == null ||
+                published.getPort() != current.getPort() ||
+                published.getSecurePort() != current.getSecurePort() ||
+                published.getStatus() != current.getStatus() ||
+                !Objects.equals(published.getHostName(), current.getHostName()) ||
+                !Objects.equals(published.getIpAddr(), current.getIpAddr()) ||
+                !Objects.equals(published.getAsgName(), current.getAsgName()) ||
+                !Objects.equals(published.getMetadata(), current.getMetadata())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<ServiceInstance> toServiceInstances(Collection<InstanceInfo> instances) {
+        List<ServiceInstance> serviceInstances = new ArrayList<>(instances.size());
+        for (InstanceInfo instance : instances) {
+            serviceInstances.add(new EurekaServiceInstance(instance));
+        }
+        return Collections.unmodifiableList(serviceInstances);
+    }
+
+    /**
+     * Computes the hash code of the registry in the format used by Eureka: the number of instances for each status,
+     * ordered by status. For example {@code DOWN_1_UP_2_}.
+     *
+     * @return The hash code
+     */
+    private String registryHashCode() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Map<String, InstanceInfo> instances : registry.values()) {
+            for (InstanceInfo instance : instances.values()) {
+                counts.merge(instance.getStatus().name(), 1, Integer::sum);
+            }
+        }
+        StringBuilder hashCode = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            hashCode.append(entry.getKey()).append('_').append(entry.getValue()).append('_');
+        }
+        return hashCode.toString();
+    }
+
+    private AbstractEurekaClient client() {
+        return (AbstractEurekaClient) eurekaClient.get();
+    }
+}
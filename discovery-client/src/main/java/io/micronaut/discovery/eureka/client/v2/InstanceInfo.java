@@ -18,6 +18,7 @@ package io.micronaut.discovery.eureka.client.v2;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import io.micronaut.core.util.StringUtils;
@@ -77,6 +78,7 @@ public class InstanceInfo implements ConfigurableInstanceInfo {
     private DataCenterInfo dataCenterInfo = () -> DataCenterInfo.Name.MyOwn;
     private LeaseInfo leaseInfo;
     private Map<String, String> metadata = new ConcurrentHashMap<>();
+    private ActionType actionType;
 
     /**
      * Based on https://github.com/Netflix/eureka/blob/master/eureka-client/src/main/java/com/netflix/appinfo/InstanceInfo.java.
@@ -353,6 +355,24 @@ public class InstanceInfo implements ConfigurableInstanceInfo {
         return status;
     }
 
+    /**
+     * The change to the instance, only present in the response to a delta query.
+     *
+     * @return The action type or null
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    /**
+     * @param actionType The change to the instance
+     */
+    @JsonProperty("actionType")
+    void setActionType(ActionType actionType) {
+        this.actionType = actionType;
+    }
+
     /**
      * The {@link DataCenterInfo} instance.
      */
@@ -583,6 +603,13 @@ public class InstanceInfo implements ConfigurableInstanceInfo {
         UP, DOWN, STARTING, OUT_OF_SERVICE, UNKNOWN;
     }
 
+    /**
+     * The change to an instance reported by a delta query.
+     */
+    public enum ActionType {
+        ADDED, MODIFIED, DELETED
+    }
+
     /**
      * {@link InstanceInfo} JSON and XML format for port information does not follow the usual conventions, which
      * makes its mapping complicated. This class represents the wire format for port information.
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.discovery.consul
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.discovery.DiscoveryClient
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.client.ServiceInstancesChangedEvent
+import io.micronaut.discovery.consul.client.v1.CatalogEntry
+import io.micronaut.discovery.consul.client.v1.ConsulServiceCatalog
+import io.micronaut.discovery.consul.client.v1.HealthEntry
+import io.micronaut.discovery.consul.client.v1.MockCheckEntry
+import io.micronaut.discovery.consul.client.v1.MockHealthEntry
+import io.micronaut.discovery.consul.client.v1.NewServiceEntry
+import io.micronaut.discovery.consul.client.v1.ServiceEntry
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import io.reactivex.Single
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.annotation.Nullable
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class ConsulWatchSpec extends Specification {
+
+    void "test service instances are watched with blocking queries"() {
+        given:
+        EmbeddedServer consulServer = ApplicationContext.run(EmbeddedServer, [(StubConsulWatchServer.ENABLED): true])
+        StubConsulWatchServer stub = consulServer.applicationContext.getBean(StubConsulWatchServer)
+        stub.update([8081])
+
+        ApplicationContext context = ApplicationContext.run(
+                'consul.client.host': consulServer.host,
+                'consul.client.port': consulServer.port,
+                'consul.client.read-timeout': '5s',
+                'consul.client.discovery.watch': true
+        )
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        context.containsBean(ConsulServiceCatalog)
+
+        when:"The instances of a service are looked up"
+        List<ServiceInstance> instances = Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()
+
+        then:"They are read from Consul"
+        instances*.port == [8081]
+
+        and:"The service is watched with a blocking query"
+        conditions.eventually {
+            assert stub.waits.contains('3s')
+        }
+
+        when:"An instance is added"
+        stub.update([8081, 8082])
+
+        then:"The change is seen without waiting for the cache to expire"
+        conditions.eventually {
+            assert Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()*.port == [8081, 8082]
+        }
+
+        cleanup:
+        context?.close()
+        consulServer?.close()
+    }
+
+    void "test changes are only published when the instances differ"() {
+        given:
+        EmbeddedServer consulServer = ApplicationContext.run(EmbeddedServer, [(StubConsulWatchServer.ENABLED): true])
+        StubConsulWatchServer stub = consulServer.applicationContext.getBean(StubConsulWatchServer)
+        stub.update([8081])
+
+        ApplicationContext context = ApplicationContext.run(
+                'consul.client.host': consulServer.host,
+                'consul.client.port': consulServer.port,
+                'consul.client.read-timeout': '5s',
+                'consul.client.discovery.watch': true
+        )
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+        ChangeListener listener = context.getBean(ChangeListener)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+        Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()
+        conditions.eventually {
+            assert stub.waits.contains('3s')
+        }
+
+        when:"The index changes while the instances stay the same"
+        int waits = stub.waits.size()
+        stub.update([8081])
+
+        then:"No change is published"
+        conditions.eventually {
+            assert stub.waits.size() > waits
+        }
+        listener.events.isEmpty()
+
+        when:"An instance is added"
+        stub.update([8081, 8082])
+
+        then:"The change is published"
+        conditions.eventually {
+            assert listener.events.size() == 1
+        }
+        listener.events[0].source == 'foo'
+
+        cleanup:
+        context?.close()
+        consulServer?.close()
+    }
+
+    void "test watching is disabled by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'consul.client.host': 'localhost',
+                'consul.client.port': 8500
+        )
+
+        expect:
+        !context.containsBean(ConsulServiceCatalog)
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    static class ChangeListener implements ApplicationEventListener<ServiceInstancesChangedEvent> {
+        List<ServiceInstancesChangedEvent> events = Collections.synchronizedList([])
+
+        @Override
+        void onApplicationEvent(ServiceInstancesChangedEvent event) {
+            events.add(event)
+        }
+    }
+
+    @Controller('/v1')
+    @Requires(property = StubConsulWatchServer.ENABLED)
+    static class StubConsulWatchServer {
+        static final String ENABLED = 'enable.stub.consul.watch'
+
+        final CatalogEntry node = new CatalogEntry(UUID.randomUUID().toString(), InetAddress.localHost)
+        final List<String> waits = Collections.synchronizedList([])
+        volatile long index = 0
+        volatile List<Integer> ports = []
+        volatile CompletableFuture<Boolean> changed = new CompletableFuture<>()
+
+        synchronized void update(List<Integer> ports) {
+            this.ports = ports
+            index++
+            CompletableFuture<Boolean> previous = changed
+            changed = new CompletableFuture<>()
+            previous.complete(true)
+        }
+
+        @Get('/health/service/{service}{?index,wait}')
+        Single<HttpResponse<List<HealthEntry>>> health(String service, @Nullable Long index, @Nullable String wait) {
+            if (wait != null) {
+                waits.add(wait)
+            }
+            if (index != null && index >= this.index) {
+                CompletableFuture<Boolean> changed = this.changed
+                return Single.create({ emitter ->
+                    changed.thenAccept({ emitter.onSuccess(response(service)) })
+                }).timeout(Long.parseLong(wait - 's'), TimeUnit.SECONDS, Single.fromCallable({ response(service) }))
+            }
+            return Single.just(response(service))
+        }
+
+        private HttpResponse<List<HealthEntry>> response(String service) {
+            List<HealthEntry> entries = ports.collect { Integer port ->
+                MockHealthEntry entry = new MockHealthEntry()
+                entry.setNode(node)
+                entry.setService(new ServiceEntry(new NewServiceEntry(service).id("$service:$port").address('127.0.0.1').port(port)))
+                entry.setChecks([new MockCheckEntry(service)])
+                entry
+            }
+            return HttpResponse.ok(entries).header(ConsulServiceCatalog.CONSUL_INDEX_HEADER, String.valueOf(index))
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.discovery.eureka
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.discovery.DiscoveryClient
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.client.ServiceInstancesChangedEvent
+import io.micronaut.discovery.eureka.client.v2.EurekaServiceCatalog
+import io.micronaut.discovery.eureka.client.v2.InstanceInfo
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class EurekaWatchSpec extends Specification {
+
+    void "test the registry is watched with delta queries"() {
+        given:
+        MockEurekaServer.instances.clear()
+        MockEurekaServer.deleted.clear()
+        EmbeddedServer eurekaServer = ApplicationContext.run(EmbeddedServer, [(MockEurekaServer.ENABLED): true])
+        MockEurekaServer mockServer = eurekaServer.applicationContext.getBean(MockEurekaServer)
+        Flowable.fromPublisher(mockServer.register('foo', new InstanceInfo('localhost', 8081, 'foo', 'foo-1'))).blockingFirst()
+
+        ApplicationContext context = ApplicationContext.run(
+                'eureka.client.host': eurekaServer.host,
+                'eureka.client.port': eurekaServer.port,
+                'eureka.client.discovery.watch': true,
+                'eureka.client.discovery.watch-interval': '100ms'
+        )
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        context.containsBean(EurekaServiceCatalog)
+
+        when:"The instances of a service are looked up"
+        List<ServiceInstance> instances = Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()
+
+        then:"They are read from the registry"
+        instances*.port == [8081]
+
+        when:"An instance is added"
+        Flowable.fromPublisher(mockServer.register('foo', new InstanceInfo('localhost', 8082, 'foo', 'foo-2'))).blockingFirst()
+
+        then:"The change is seen from the delta"
+        conditions.eventually {
+            assert Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()*.port.sort() == [8081, 8082]
+        }
+
+        when:"An instance is removed"
+        Flowable.fromPublisher(mockServer.deregister('foo', 'foo-1')).blockingFirst()
+
+        then:"The change is seen from the delta"
+        conditions.eventually {
+            assert Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()*.port == [8082]
+        }
+
+        cleanup:
+        context?.close()
+        eurekaServer?.close()
+        MockEurekaServer.instances.clear()
+        MockEurekaServer.deleted.clear()
+    }
+
+    void "test changes are only published for applications whose instances differ"() {
+        given:
+        MockEurekaServer.instances.clear()
+        MockEurekaServer.deleted.clear()
+        EmbeddedServer eurekaServer = ApplicationContext.run(EmbeddedServer, [(MockEurekaServer.ENABLED): true])
+        MockEurekaServer mockServer = eurekaServer.applicationContext.getBean(MockEurekaServer)
+        Flowable.fromPublisher(mockServer.register('foo', new InstanceInfo('localhost', 8081, 'foo', 'foo-1'))).blockingFirst()
+
+        ApplicationContext context = ApplicationContext.run(
+                'eureka.client.host': eurekaServer.host,
+                'eureka.client.port': eurekaServer.port,
+                'eureka.client.discovery.watch': true,
+                'eureka.client.discovery.watch-interval': '100ms'
+        )
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+        ChangeListener listener = context.getBean(ChangeListener)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+        Flowable.fromPublisher(discoveryClient.getInstances('foo')).blockingFirst()
+
+        when:"Another application is registered while the delta keeps reporting the unchanged instance"
+        Flowable.fromPublisher(mockServer.register('bar', new InstanceInfo('localhost', 8082, 'bar', 'bar-1'))).blockingFirst()
+
+        then:"Only the new application is published"
+        conditions.eventually {
+            assert listener.events*.source.contains('bar')
+        }
+        Thread.sleep(300)
+        listener.events*.source == ['bar']
+
+        cleanup:
+        context?.close()
+        eurekaServer?.close()
+        MockEurekaServer.instances.clear()
+        MockEurekaServer.deleted.clear()
+    }
+
+    @Singleton
+    static class ChangeListener implements ApplicationEventListener<ServiceInstancesChangedEvent> {
+        List<ServiceInstancesChangedEvent> events = Collections.synchronizedList([])
+
+        @Override
+        void onApplicationEvent(ServiceInstancesChangedEvent event) {
+            events.add(event)
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.util.concurrent.ConcurrentHashMap
 class MockEurekaServer implements EurekaOperations{
     public static Map<String, Map<String, Boolean>> heartbeats = new ConcurrentHashMap<>()
     public static Map<String, Map<String, InstanceInfo>> instances = new ConcurrentHashMap<>()
+    public static List<InstanceInfo> deleted = Collections.synchronizedList([])
     public static final String ENABLED = 'enable.mock.eureka'
 
     @Override
@@ -51,7 +52,10 @@ class MockEurekaServer implements EurekaOperations{
     @Override
     Publisher<HttpStatus> deregister(@NotBlank String appId, @NotBlank String instanceId) {
         def instances = instances.computeIfAbsent(appId, { String id -> new ConcurrentHashMap<>() })
-        instances.remove(instanceId)
+        InstanceInfo removed = instances.remove(instanceId)
+        if(removed) {
+            deleted.add(removed)
+        }
         if(instances.isEmpty()) {
             instances.remove(appId)
         }
@@ -83,6 +87,26 @@ class MockEurekaServer implements EurekaOperations{
         } as List<ApplicationInfo>))
     }
 
+    @Get('/apps/delta')
+    @Produces(single = true)
+    Publisher<MockApplicationInfos> getApplicationDeltaInternal() {
+        // reports every registered instance as modified, which is enough to exercise the client
+        Map<String, List<InstanceInfo>> changes = [:]
+        instances.each { String appId, Map<String, InstanceInfo> infos ->
+            infos.values().each { InstanceInfo info ->
+                info.actionType = InstanceInfo.ActionType.MODIFIED
+                changes.computeIfAbsent(appId, { String id -> [] }).add(info)
+            }
+        }
+        deleted.each { InstanceInfo info ->
+            info.actionType = InstanceInfo.ActionType.DELETED
+            changes.computeIfAbsent(info.app, { String id -> [] }).add(info)
+        }
+        return Publishers.just(new MockApplicationInfos(changes.collect { it ->
+            new MockApplicationInfo(it.key, it.value)
+        } as List<ApplicationInfo>))
+    }
+
     @Override
     Publisher<List<ApplicationInfo>> getApplicationInfos() {
         // no-op... never called
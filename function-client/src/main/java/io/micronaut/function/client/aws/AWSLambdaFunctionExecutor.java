@@ -123,7 +123,8 @@ public class AWSLambdaFunctionExecutor<I, O> implements FunctionInvoker<I, O>, F
 
     private void encodeInput(I input, InvokeRequest invokeRequest) {
         if (input != null) {
-            ByteBuffer byteBuffer = jsonMediaTypeCodec.encode(input, byteBufferFactory).asNioBuffer();
+            // the payload outlives this call, so it must not be backed by a pooled buffer
+            ByteBuffer byteBuffer = ByteBuffer.wrap(jsonMediaTypeCodec.encode(input));
             invokeRequest.setPayload(byteBuffer);
         }
     }
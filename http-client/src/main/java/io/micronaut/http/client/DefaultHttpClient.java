@@ -34,6 +34,7 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.PathMatcher;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.Toggleable;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpRequest;
@@ -42,6 +43,7 @@ import io.micronaut.http.client.exceptions.ContentLengthExceededException;
 import io.micronaut.http.client.exceptions.HttpClientException;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import io.micronaut.http.client.loadbalance.LatencyAwareLoadBalancer;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.sse.RxSseClient;
 import io.micronaut.http.client.ssl.NettyClientSslBuilder;
@@ -52,8 +54,10 @@ import io.micronaut.http.filter.ClientFilterChain;
 import io.micronaut.http.filter.HttpClientFilter;
 import io.micronaut.http.multipart.MultipartException;
 import io.micronaut.http.netty.buffer.NettyByteBufferFactory;
+import io.micronaut.http.netty.channel.EventLoopGroupFactory;
 import io.micronaut.http.netty.channel.NettyThreadFactory;
 import io.micronaut.http.netty.content.HttpContentUtil;
+import io.micronaut.http.netty.http2.Http2StreamReadHandler;
 import io.micronaut.http.netty.stream.HttpStreamsClientHandler;
 import io.micronaut.http.netty.stream.StreamedHttpResponse;
 import io.micronaut.http.sse.Event;
@@ -66,16 +70,28 @@ import io.micronaut.runtime.ApplicationConfiguration;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.*;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.SimpleChannelPool;
 import io.netty.handler.codec.LineBasedFrameDecoder;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
 import io.netty.handler.codec.http.multipart.HttpDataFactory;
 import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+import io.netty.handler.codec.http2.Http2MultiplexCodec;
+import io.netty.handler.codec.http2.Http2MultiplexCodecBuilder;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.Socks5ProxyHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
@@ -83,8 +99,10 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import io.reactivex.*;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Cancellable;
@@ -101,6 +119,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.Closeable;
+import java.net.InetSocketAddress;
 import java.net.Proxy.Type;
 import java.net.SocketAddress;
 import java.net.URI;
@@ -129,22 +148,33 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     protected static final String HANDLER_CHUNK = "chunk-writer";
     protected static final String HANDLER_STREAM = "stream-handler";
     protected static final String HANDLER_DECODER = "http-decoder";
+    protected static final String HANDLER_CODEC = "http-client-codec";
+    protected static final String HANDLER_READ_TIMEOUT = "read-timeout";
+    protected static final String HANDLER_IDLE_STATE = "idle-state";
+    protected static final String HANDLER_POOL_IDLE = "pool-idle-handler";
+    protected static final String HANDLER_FULL_RESPONSE = "full-response-handler";
+    protected static final String HANDLER_HTTP2_CONNECTION = "http2-connection";
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpClient.class);
     private static final int DEFAULT_HTTP_PORT = 80;
     private static final int DEFAULT_HTTPS_PORT = 443;
+    private static final String HTTP1_RESPONSE_PREFIX = "HTTP/";
+    private static final String SELECTED_SERVER = "micronaut.http.client.selectedServer";
 
     protected final Bootstrap bootstrap;
     protected EventLoopGroup group;
     protected MediaTypeCodecRegistry mediaTypeCodecRegistry;
     protected ByteBufferFactory<ByteBufAllocator, ByteBuf> byteBufferFactory = new NettyByteBufferFactory();
+    protected final AbstractChannelPoolMap<RequestKey, ChannelPool> poolMap;
 
     private final Scheduler scheduler;
     private final LoadBalancer loadBalancer;
     private final HttpClientConfiguration configuration;
     private final SslContext sslContext;
+    private final SslContext http2SslContext;
     private final AnnotationMetadataResolver annotationMetadataResolver;
     private final ThreadFactory threadFactory;
+    private final EventLoopGroupFactory eventLoopGroupFactory;
 
     private final HttpClientFilter[] filters;
     private final Charset defaultCharset;
@@ -176,12 +206,15 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         this.bootstrap = new Bootstrap();
         this.configuration = configuration;
         this.sslContext = nettyClientSslBuilder.build().orElse(null);
+        this.http2SslContext = configuration.isHttp2() ? nettyClientSslBuilder.build(true).orElse(null) : null;
+        this.eventLoopGroupFactory = EventLoopGroupFactory.of(configuration.isUseNativeTransport());
         this.group = createEventLoopGroup(configuration, threadFactory);
         this.scheduler = Schedulers.from(group);
         this.threadFactory = threadFactory;
         this.bootstrap.group(group)
-            .channel(NioSocketChannel.class)
+            .channel(eventLoopGroupFactory.clientSocketChannelClass())
             .option(ChannelOption.SO_KEEPALIVE, true);
+        eventLoopGroupFactory.configureClientBootstrap(bootstrap, configuration.isTcpFastOpen());
 
         Optional<Duration> connectTimeout = configuration.getConnectTimeout();
         connectTimeout.ifPresent(duration -> this.bootstrap.option(
@@ -199,6 +232,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         this.mediaTypeCodecRegistry = codecRegistry;
         this.filters = filters;
         this.annotationMetadataResolver = annotationMetadataResolver != null ? annotationMetadataResolver : AnnotationMetadataResolver.DEFAULT;
+        this.poolMap = createPoolMap(configuration.getConnectionPoolConfiguration());
     }
 
     /**
@@ -274,6 +308,15 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     @PreDestroy
     public HttpClient stop() {
         if (isRunning()) {
+            if (poolMap != null) {
+                List<RequestKey> keys = new ArrayList<>();
+                for (Map.Entry<RequestKey, ChannelPool> entry : poolMap) {
+                    keys.add(entry.getKey());
+                }
+                for (RequestKey key : keys) {
+                    poolMap.remove(key);
+                }
+            }
             Duration shutdownTimeout = configuration.getShutdownTimeout().orElse(Duration.ofMillis(100));
             Future<?> future = this.group.shutdownGracefully(
                     1,
@@ -523,8 +566,20 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     @Override
     public <I, O> Flowable<io.micronaut.http.HttpResponse<O>> exchange(io.micronaut.http.HttpRequest<I> request, io.micronaut.core.type.Argument<O> bodyType) {
         Publisher<URI> uriPublisher = resolveRequestURI(request);
+        Function<URI, Flowable<io.micronaut.http.HttpResponse<O>>> exchangePublisher = buildExchangePublisher(request, bodyType);
+        if (loadBalancer instanceof LatencyAwareLoadBalancer) {
+            LatencyAwareLoadBalancer latencyAwareLoadBalancer = (LatencyAwareLoadBalancer) loadBalancer;
+            return Flowable.fromPublisher(uriPublisher).switchMap(requestURI -> {
+                Optional<ServiceInstance> server = request.getAttributes().get(SELECTED_SERVER, ServiceInstance.class);
+                request.getAttributes().remove(SELECTED_SERVER);
+                if (server.isPresent()) {
+                    return trackExchange(latencyAwareLoadBalancer, server.get(), exchangePublisher.apply(requestURI));
+                }
+                return exchangePublisher.apply(requestURI);
+            });
+        }
         return Flowable.fromPublisher(uriPublisher)
-            .switchMap(buildExchangePublisher(request, bodyType));
+            .switchMap(exchangePublisher);
     }
 
     /**
@@ -765,43 +820,44 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
             Flowable<io.micronaut.http.HttpResponse<O>> responsePublisher = Flowable.create(emitter -> {
                 SslContext sslContext = buildSslContext(requestURI);
 
-                ChannelFuture connectionFuture = doConnect(request, requestURI, sslContext, false);
-                connectionFuture.addListener(future -> {
-                    if (future.isSuccess()) {
-                        try {
-                            Channel channel = connectionFuture.channel();
-                            io.micronaut.http.HttpRequest<I> finalRequest = requestWrapper.get();
-                            MediaType requestContentType = finalRequest
-                                .getContentType()
-                                .orElse(MediaType.APPLICATION_JSON_TYPE);
-
-                            boolean permitsBody = io.micronaut.http.HttpMethod.permitsRequestBody(request.getMethod());
-
-                            NettyClientHttpRequest clientHttpRequest = (NettyClientHttpRequest) finalRequest;
-                            NettyRequestWriter requestWriter = buildNettyRequest(clientHttpRequest, requestContentType, permitsBody);
-                            io.netty.handler.codec.http.HttpRequest nettyRequest = requestWriter.getNettyRequest();
-
-                            prepareHttpHeaders(requestURI, finalRequest, nettyRequest, permitsBody);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Sending HTTP Request: {} {}", nettyRequest.method(), nettyRequest.uri());
-                                LOG.debug("Chosen Server: {}({})", requestURI.getHost(), requestURI.getPort());
+                if (poolMap != null) {
+                    ChannelPool channelPool = poolMap.get(new RequestKey(requestURI, sslContext != null));
+                    Future<Channel> channelFuture = channelPool.acquire();
+                    channelFuture.addListener(future -> {
+                        if (future.isSuccess()) {
+                            Channel channel = channelFuture.getNow();
+                            try {
+                                addReadTimeoutHandler(channel.pipeline());
+                                sendRequest(request, requestWrapper.get(), requestURI, channel, channelPool, emitter, bodyType);
+                            } catch (Exception e) {
+                                releaseChannel(channel, channelPool, false);
+                                emitter.onError(e);
                             }
-                            if (LOG.isTraceEnabled()) {
-                                traceRequest(finalRequest, nettyRequest);
+                        } else {
+                            Throwable cause = future.cause();
+                            emitter.onError(
+                                new HttpClientException("Connect Error: " + cause.getMessage(), cause)
+                            );
+                        }
+                    });
+                } else {
+                    ChannelFuture connectionFuture = doConnect(request, requestURI, sslContext, false);
+                    connectionFuture.addListener(future -> {
+                        if (future.isSuccess()) {
+                            try {
+                                Channel channel = connectionFuture.channel();
+                                sendRequest(request, requestWrapper.get(), requestURI, channel, null, emitter, bodyType);
+                            } catch (Exception e) {
+                                emitter.onError(e);
                             }
-
-                            addFullHttpResponseHandler(request, channel, emitter, bodyType);
-                            requestWriter.writeAndClose(channel, emitter);
-                        } catch (Exception e) {
-                            emitter.onError(e);
+                        } else {
+                            Throwable cause = future.cause();
+                            emitter.onError(
+                                new HttpClientException("Connect Error: " + cause.getMessage(), cause)
+                            );
                         }
-                    } else {
-                        Throwable cause = future.cause();
-                        emitter.onError(
-                            new HttpClientException("Connect Error: " + cause.getMessage(), cause)
-                        );
-                    }
-                });
+                    });
+                }
             }, BackpressureStrategy.ERROR);
             Publisher<io.micronaut.http.HttpResponse<O>> finalPublisher = applyFilterToResponsePublisher(request, requestWrapper, responsePublisher);
             Flowable<io.micronaut.http.HttpResponse<O>> finalFlowable;
@@ -830,6 +886,331 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         };
     }
 
+    /**
+     * Writes the given request to a connected channel, registering a handler for the full response.
+     *
+     * @param request      The original request
+     * @param finalRequest The request after any filters have been applied
+     * @param requestURI   The resolved request URI
+     * @param channel      The channel
+     * @param channelPool  The pool the channel was acquired from or null if the channel is not pooled
+     * @param emitter      The emitter
+     * @param bodyType     The body type
+     * @param <I>          The input type
+     * @param <O>          The output type
+     * @throws HttpPostRequestEncoder.ErrorDataEncoderException if the body cannot be encoded
+     */
+    private <I, O> void sendRequest(
+            io.micronaut.http.HttpRequest<I> request,
+            io.micronaut.http.HttpRequest<I> finalRequest,
+            URI requestURI,
+            Channel channel,
+            @Nullable ChannelPool channelPool,
+            FlowableEmitter<io.micronaut.http.HttpResponse<O>> emitter,
+            io.micronaut.core.type.Argument<O> bodyType) throws HttpPostRequestEncoder.ErrorDataEncoderException {
+        MediaType requestContentType = finalRequest
+            .getContentType()
+            .orElse(MediaType.APPLICATION_JSON_TYPE);
+
+        boolean permitsBody = io.micronaut.http.HttpMethod.permitsRequestBody(request.getMethod());
+
+        NettyClientHttpRequest clientHttpRequest = (NettyClientHttpRequest) finalRequest;
+        NettyRequestWriter requestWriter = buildNettyRequest(clientHttpRequest, requestContentType, permitsBody);
+        io.netty.handler.codec.http.HttpRequest nettyRequest = requestWriter.getNettyRequest();
+
+        prepareHttpHeaders(requestURI, finalRequest, nettyRequest, permitsBody, channelPool != null);
+        if (channel instanceof Http2StreamChannel) {
+            nettyRequest.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), requestURI.getScheme());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sending HTTP Request: {} {}", nettyRequest.method(), nettyRequest.uri());
+            LOG.debug("Chosen Server: {}({})", requestURI.getHost(), requestURI.getPort());
+        }
+        if (LOG.isTraceEnabled()) {
+            traceRequest(finalRequest, nettyRequest);
+        }
+
+        addFullHttpResponseHandler(request, channel, channelPool, emitter, bodyType);
+        requestWriter.writeAndClose(channel, channelPool, emitter);
+    }
+
+    /**
+     * Creates the pool map used to pool connections for the given configuration. When HTTP/2 is enabled the
+     * connections to each host are multiplexed with a fallback to pooled HTTP/1.1 connections.
+     *
+     * @param poolConfiguration The connection pool configuration
+     * @return The pool map or null if connection pooling and HTTP/2 are disabled
+     */
+    protected @Nullable AbstractChannelPoolMap<RequestKey, ChannelPool> createPoolMap(HttpClientConfiguration.ConnectionPoolConfiguration poolConfiguration) {
+        boolean http2 = configuration.isHttp2();
+        if (!http2 && (poolConfiguration == null || !poolConfiguration.isEnabled())) {
+            return null;
+        }
+        int maxConnections = poolConfiguration != null ? poolConfiguration.getMaxConnections() : -1;
+        return new AbstractChannelPoolMap<RequestKey, ChannelPool>() {
+            @Override
+            protected ChannelPool newPool(RequestKey key) {
+                Bootstrap poolBootstrap = bootstrap.clone(group);
+                poolBootstrap.remoteAddress(key.getRemoteAddress());
+                SslContext sslCtx = key.isSecure() ? sslContext : null;
+                AbstractChannelPoolHandler handler = new AbstractChannelPoolHandler() {
+                    @Override
+                    public void channelCreated(Channel ch) {
+                        initPooledChannel(ch, sslCtx, key.getHost(), key.getPort());
+                    }
+                };
+                ChannelPool pool;
+                if (maxConnections > 0) {
+                    long acquireTimeoutMillis = poolConfiguration.getAcquireTimeout().map(Duration::toMillis).orElse(-1L);
+                    pool = new FixedChannelPool(
+                            poolBootstrap,
+                            handler,
+                            ChannelHealthChecker.ACTIVE,
+                            acquireTimeoutMillis > -1 ? FixedChannelPool.AcquireTimeoutAction.FAIL : null,
+                            acquireTimeoutMillis,
+                            maxConnections,
+                            poolConfiguration.getMaxPendingAcquires()
+                    );
+                } else {
+                    pool = new SimpleChannelPool(poolBootstrap, handler, ChannelHealthChecker.ACTIVE);
+                }
+                if (http2) {
+                    SslContext http2SslCtx = key.isSecure() ? http2SslContext : null;
+                    return new Http2ChannelPool(
+                            poolBootstrap,
+                            (ch, ready) -> initHttp2Connection(ch, http2SslCtx, key.getHost(), key.getPort(), ready),
+                            new ChannelInitializer<Channel>() {
+                                @Override
+                                protected void initChannel(Channel ch) {
+                                    initHttp2StreamChannel(ch);
+                                }
+                            },
+                            pool,
+                            maxConnections
+                    );
+                }
+                return pool;
+            }
+        };
+    }
+
+    /**
+     * Initializes the pipeline of a newly created pooled channel. Unlike {@link HttpClientInitializer} the
+     * pipeline is request independent since the channel is reused across requests.
+     *
+     * @param ch     The channel
+     * @param sslCtx The SSL context or null if the connection is not secure
+     * @param host   The host
+     * @param port   The port
+     */
+    protected void initPooledChannel(Channel ch, @Nullable SslContext sslCtx, String host, int port) {
+        ChannelPipeline p = ch.pipeline();
+        if (sslCtx != null) {
+            p.addFirst("ssl-handler", sslCtx.newHandler(ch.alloc(), host, port));
+        }
+
+        Optional<SocketAddress> proxy = configuration.getProxyAddress();
+        if (proxy.isPresent()) {
+            configureProxy(p, configuration.getProxyType(), proxy.get());
+        }
+
+        Optional<Duration> idleTimeout = configuration.getConnectionPoolConfiguration().getIdleTimeout();
+        if (idleTimeout.isPresent()) {
+            Duration duration = idleTimeout.get();
+            if (!duration.isNegative()) {
+                p.addLast(HANDLER_IDLE_STATE, new IdleStateHandler(0, 0, duration.toMillis(), TimeUnit.MILLISECONDS));
+                p.addLast(HANDLER_POOL_IDLE, new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+                        if (evt instanceof IdleStateEvent) {
+                            // only evict connections that are sitting idle in the pool
+                            if (ctx.pipeline().get(HANDLER_FULL_RESPONSE) == null) {
+                                ctx.close();
+                            }
+                        } else {
+                            super.userEventTriggered(ctx, evt);
+                        }
+                    }
+                });
+            }
+        }
+        p.addLast(HANDLER_CODEC, new HttpClientCodec());
+        addPooledRequestHandlers(p);
+    }
+
+    /**
+     * Initializes the pipeline of a new HTTP/2 connection. For secure connections HTTP/2 is negotiated via ALPN,
+     * otherwise the server is assumed to support HTTP/2 (prior knowledge) until it answers the connection preface
+     * with an HTTP/1.x response. The promise is completed once the connection is ready to open streams or, if the
+     * server only speaks HTTP/1.1, without an HTTP/2 codec.
+     *
+     * @param ch     The channel
+     * @param sslCtx The SSL context or null if the connection is not secure
+     * @param host   The host
+     * @param port   The port
+     * @param ready  The promise to complete when the connection is ready
+     */
+    protected void initHttp2Connection(Channel ch, @Nullable SslContext sslCtx, String host, int port, Promise<Channel> ready) {
+        ChannelPipeline p = ch.pipeline();
+        if (sslCtx != null) {
+            p.addFirst("ssl-handler", sslCtx.newHandler(ch.alloc(), host, port));
+        }
+
+        Optional<SocketAddress> proxy = configuration.getProxyAddress();
+        if (proxy.isPresent()) {
+            configureProxy(p, configuration.getProxyType(), proxy.get());
+        }
+
+        if (sslCtx != null) {
+            p.addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                @Override
+                protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                    if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                        addHttp2ConnectionHandlers(ctx.pipeline());
+                    }
+                    ready.trySuccess(ctx.channel());
+                }
+
+                @Override
+                protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+                    ready.tryFailure(cause);
+                    super.handshakeFailure(ctx, cause);
+                }
+            });
+        } else {
+            addHttp2ConnectionHandlers(p);
+            p.addFirst(new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelActive(ChannelHandlerContext ctx) throws Exception {
+                    super.channelActive(ctx);
+                    configuration.getReadTimeout().ifPresent(timeout ->
+                        ctx.channel().eventLoop().schedule(() -> {
+                            if (ready.tryFailure(new HttpClientException("Server did not answer the HTTP/2 connection preface within " + timeout))) {
+                                ctx.close();
+                            }
+                        }, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    );
+                }
+
+                @Override
+                public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                    ctx.pipeline().remove(this);
+                    if (msg instanceof ByteBuf && isHttp1Response((ByteBuf) msg)) {
+                        // the server does not speak HTTP/2, without the codec the pool falls back to HTTP/1.1
+                        ReferenceCountUtil.release(msg);
+                        ctx.pipeline().remove(HANDLER_HTTP2_CONNECTION);
+                    } else {
+                        // the server settings are applied before streams are opened
+                        super.channelRead(ctx, msg);
+                    }
+                    ready.trySuccess(ctx.channel());
+                }
+
+                @Override
+                public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                    ready.tryFailure(new HttpClientException(
+                        "Connection closed before the server answered the HTTP/2 connection preface. Check that the server supports cleartext HTTP/2 with prior knowledge"
+                    ));
+                    super.channelInactive(ctx);
+                }
+            });
+        }
+    }
+
+    private static boolean isHttp1Response(ByteBuf buf) {
+        return buf.readableBytes() >= HTTP1_RESPONSE_PREFIX.length() &&
+            HTTP1_RESPONSE_PREFIX.equals(buf.toString(buf.readerIndex(), HTTP1_RESPONSE_PREFIX.length(), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Initializes the pipeline of an HTTP/2 stream channel. The stream frames are mapped to HTTP/1.x messages so
+     * that requests and responses are handled the same way as for pooled HTTP/1.1 connections.
+     *
+     * @param ch The stream channel
+     */
+    protected void initHttp2StreamChannel(Channel ch) {
+        ChannelPipeline p = ch.pipeline();
+        p.addLast(new Http2StreamReadHandler());
+        p.addLast(HANDLER_CODEC, new Http2StreamFrameToHttpObjectCodec(false));
+        addPooledRequestHandlers(p);
+    }
+
+    private void addHttp2ConnectionHandlers(ChannelPipeline p) {
+        Http2MultiplexCodec codec = Http2MultiplexCodecBuilder.forClient(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                // server push is disabled so no inbound streams are expected
+            }
+        }).initialSettings(Http2Settings.defaultSettings().pushEnabled(false)).build();
+        p.addLast(HANDLER_HTTP2_CONNECTION, codec);
+
+        Optional<Duration> idleTimeout = configuration.getConnectionPoolConfiguration().getIdleTimeout();
+        if (idleTimeout.isPresent() && !idleTimeout.get().isNegative()) {
+            p.addLast(HANDLER_IDLE_STATE, new IdleStateHandler(0, 0, idleTimeout.get().toMillis(), TimeUnit.MILLISECONDS));
+            p.addLast(HANDLER_POOL_IDLE, new ChannelInboundHandlerAdapter() {
+                @Override
+                public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+                    if (evt instanceof IdleStateEvent) {
+                        // only close connections without active streams
+                        if (codec.connection().numActiveStreams() == 0) {
+                            ctx.close();
+                        }
+                    } else {
+                        super.userEventTriggered(ctx, evt);
+                    }
+                }
+            });
+        }
+    }
+
+    private void addPooledRequestHandlers(ChannelPipeline p) {
+        p.addLast(HANDLER_DECODER, new HttpContentDecompressor());
+        p.addLast(HANDLER_AGGREGATOR, new HttpObjectAggregator(configuration.getMaxContentLength()) {
+            @Override
+            protected void finishAggregation(FullHttpMessage aggregated) throws Exception {
+                if (!HttpUtil.isContentLengthSet(aggregated)) {
+                    if (aggregated.content().readableBytes() > 0) {
+                        super.finishAggregation(aggregated);
+                    }
+                }
+            }
+        });
+        p.addLast(HANDLER_CHUNK, new ChunkedWriteHandler());
+        p.addLast(HANDLER_STREAM, new HttpStreamsClientHandler() {
+            @Override
+            public void close(ChannelHandlerContext ctx, ChannelPromise future) {
+                // pooled channels are only closed once the response has been received or has failed
+                ctx.close(future);
+            }
+        });
+    }
+
+    /**
+     * Releases a pooled channel back to its pool, closing the channel first if it cannot be reused.
+     *
+     * @param channel     The channel
+     * @param channelPool The pool
+     * @param keepAlive   Whether the connection can be reused
+     */
+    protected void releaseChannel(Channel channel, ChannelPool channelPool, boolean keepAlive) {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(HANDLER_READ_TIMEOUT) != null) {
+            pipeline.remove(HANDLER_READ_TIMEOUT);
+        }
+        if (pipeline.get(HANDLER_FULL_RESPONSE) != null) {
+            pipeline.remove(HANDLER_FULL_RESPONSE);
+        }
+        if (!keepAlive) {
+            channel.close();
+        }
+        channelPool.release(channel).addListener(f -> {
+            if (!f.isSuccess() && LOG.isDebugEnabled()) {
+                Throwable cause = f.cause();
+                LOG.debug("Error releasing pooled HTTP client connection: " + cause.getMessage(), cause);
+            }
+        });
+    }
+
     /**
      * @param channel The channel to close asynchronously
      */
@@ -861,15 +1242,46 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         } else {
 
             return Publishers.map(loadBalancer.select(getLoadBalancerDiscriminator()), server -> {
-                    Optional<String> authInfo = server.getMetadata().get(io.micronaut.http.HttpHeaders.AUTHORIZATION_INFO, String.class);
-                    if (authInfo.isPresent() && request instanceof MutableHttpRequest) {
-                        ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
-                    }
-                    return server.resolve(requestURI);
+                if (loadBalancer instanceof LatencyAwareLoadBalancer) {
+                    // remember the selected server so the exchange can report its latency back to the load balancer
+                    request.setAttribute(SELECTED_SERVER, server);
                 }
+                return resolveServerURI(request, server);
+            });
+        }
+    }
 
-            );
+    private URI resolveServerURI(io.micronaut.http.HttpRequest<?> request, ServiceInstance server) {
+        Optional<String> authInfo = server.getMetadata().get(io.micronaut.http.HttpHeaders.AUTHORIZATION_INFO, String.class);
+        if (authInfo.isPresent() && request instanceof MutableHttpRequest) {
+            ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
         }
+        return server.resolve(request.getUri());
+    }
+
+    private <T> Flowable<T> trackExchange(LatencyAwareLoadBalancer loadBalancer, ServiceInstance server, Flowable<T> exchange) {
+        return Flowable.defer(() -> {
+            AtomicBoolean completed = new AtomicBoolean(false);
+            long start = System.nanoTime();
+            loadBalancer.requestStarted(server);
+            return exchange
+                .doOnNext(response -> {
+                    if (completed.compareAndSet(false, true)) {
+                        loadBalancer.requestCompleted(server, System.nanoTime() - start, null);
+                    }
+                })
+                .doOnError(error -> {
+                    if (completed.compareAndSet(false, true)) {
+                        loadBalancer.requestCompleted(server, System.nanoTime() - start, error);
+                    }
+                })
+                .doFinally(() -> {
+                    // cancelled, or completed without emitting a response
+                    if (completed.compareAndSet(false, true)) {
+                        loadBalancer.requestCancelled(server);
+                    }
+                });
+        });
     }
 
     /**
@@ -929,32 +1341,27 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
 
 
     /**
-     * Creates the {@link NioEventLoopGroup} for this client.
+     * Creates the {@link EventLoopGroup} for this client.
      *
      * @param configuration The configuration
      * @param threadFactory The thread factory
      * @return The group
      */
-    protected NioEventLoopGroup createEventLoopGroup(HttpClientConfiguration configuration, ThreadFactory threadFactory) {
+    protected EventLoopGroup createEventLoopGroup(HttpClientConfiguration configuration, ThreadFactory threadFactory) {
         OptionalInt numOfThreads = configuration.getNumOfThreads();
         Optional<Class<? extends ThreadFactory>> threadFactoryType = configuration.getThreadFactory();
         boolean hasThreads = numOfThreads.isPresent();
         boolean hasFactory = threadFactoryType.isPresent();
-        NioEventLoopGroup group;
+        EventLoopGroup group;
         if (hasThreads && hasFactory) {
-            group = new NioEventLoopGroup(numOfThreads.getAsInt(), InstantiationUtils.instantiate(threadFactoryType.get()));
+            group = eventLoopGroupFactory.createEventLoopGroup(numOfThreads.getAsInt(), InstantiationUtils.instantiate(threadFactoryType.get()), null);
         } else if (hasThreads) {
-            if (threadFactory != null) {
-                group = new NioEventLoopGroup(numOfThreads.getAsInt(), threadFactory);
-            } else {
-                group = new NioEventLoopGroup(numOfThreads.getAsInt());
-            }
+            group = eventLoopGroupFactory.createEventLoopGroup(numOfThreads.getAsInt(), threadFactory, null);
         } else {
             if (threadFactory != null) {
-                group = new NioEventLoopGroup(NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
+                group = eventLoopGroupFactory.createEventLoopGroup(NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory, null);
             } else {
-
-                group = new NioEventLoopGroup();
+                group = eventLoopGroupFactory.createEventLoopGroup(0, (ThreadFactory) null, null);
             }
         }
         return group;
@@ -1221,10 +1628,23 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         ).asNativeBuffer();
     }
 
+    private void addReadTimeoutHandler(ChannelPipeline pipeline) {
+        Optional<Duration> readTimeout = configuration.getReadTimeout();
+        readTimeout.ifPresent(duration -> {
+            if (!duration.isNegative()) {
+                pipeline.addBefore(HANDLER_CODEC, HANDLER_READ_TIMEOUT, new ReadTimeoutHandler(duration.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        });
+    }
+
     private <I> void prepareHttpHeaders(URI requestURI, io.micronaut.http.HttpRequest<I> request, io.netty.handler.codec.http.HttpRequest nettyRequest, boolean permitsBody) {
+        prepareHttpHeaders(requestURI, request, nettyRequest, permitsBody, false);
+    }
+
+    private <I> void prepareHttpHeaders(URI requestURI, io.micronaut.http.HttpRequest<I> request, io.netty.handler.codec.http.HttpRequest nettyRequest, boolean permitsBody, boolean keepAlive) {
         HttpHeaders headers = nettyRequest.headers();
         headers.set(HttpHeaderNames.HOST, requestURI.getHost());
-        headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        headers.set(HttpHeaderNames.CONNECTION, keepAlive ? HttpHeaderValues.KEEP_ALIVE : HttpHeaderValues.CLOSE);
 
         if (permitsBody) {
             Optional<I> body = request.getBody();
@@ -1247,14 +1667,23 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
     private <O> void addFullHttpResponseHandler(
             io.micronaut.http.HttpRequest<?> request,
             Channel channel,
-            Emitter<io.micronaut.http.HttpResponse<O>> emitter,
+            @Nullable ChannelPool channelPool,
+            FlowableEmitter<io.micronaut.http.HttpResponse<O>> emitter,
             io.micronaut.core.type.Argument<O> bodyType) {
-        channel.pipeline().addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
-
-            AtomicBoolean complete = new AtomicBoolean(false);
+        AtomicBoolean complete = new AtomicBoolean(false);
+        if (channelPool != null) {
+            // a request that is disposed before the response arrives gives the connection back to the pool
+            emitter.setCancellable(() -> {
+                if (complete.compareAndSet(false, true)) {
+                    releaseChannel(channel, channelPool, false);
+                }
+            });
+        }
+        channel.pipeline().addLast(HANDLER_FULL_RESPONSE, new SimpleChannelInboundHandler<FullHttpResponse>() {
 
             @Override
             protected void channelRead0(ChannelHandlerContext channelHandlerContext, FullHttpResponse fullResponse) {
+                boolean keepAlive = HttpUtil.isKeepAlive(fullResponse);
 
                 HttpResponseStatus status = fullResponse.status();
                 HttpHeaders headers = fullResponse.headers();
@@ -1268,6 +1697,9 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                 // it is a redirect
                 if (statusCode > 300 && statusCode < 400 && configuration.isFollowRedirects() && headers.contains(HttpHeaderNames.LOCATION)) {
                     String location = headers.get(HttpHeaderNames.LOCATION);
+                    if (channelPool != null && complete.compareAndSet(false, true)) {
+                        releaseChannel(channel, channelPool, keepAlive);
+                    }
                     Flowable<io.micronaut.http.HttpResponse<O>> redirectedRequest = exchange(io.micronaut.http.HttpRequest.GET(location), bodyType);
                     redirectedRequest.subscribe(new Subscriber<io.micronaut.http.HttpResponse<O>>() {
                         Subscription sub;
@@ -1316,14 +1748,36 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                         }
                         emitter.onComplete();
                     } finally {
-                        closeChannelAsync(channel);
+                        if (channelPool != null) {
+                            releaseChannel(channel, channelPool, keepAlive);
+                        } else {
+                            closeChannelAsync(channel);
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                // the server closed the connection, for example an idle keep-alive connection, before responding
+                if (complete.compareAndSet(false, true)) {
+                    if (channelPool != null) {
+                        releaseChannel(channel, channelPool, false);
+                    }
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("HTTP Client connection closed before a response was received for request: {} {}", request.getMethod(), request.getUri());
                     }
+                    emitter.onError(new HttpClientException("Connection closed before a response was received"));
                 }
+                super.channelInactive(ctx);
             }
 
             @Override
             public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
                 if (complete.compareAndSet(false, true)) {
+                    if (channelPool != null) {
+                        releaseChannel(channel, channelPool, false);
+                    }
 
                     String message = cause.getMessage();
                     if (message == null) {
@@ -1561,7 +2015,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                     p.addLast(new IdleStateHandler(duration.toMillis(), duration.toMillis(), duration.toMillis(), TimeUnit.MILLISECONDS));
                 }
             }
-            p.addLast("http-client-codec", new HttpClientCodec());
+            p.addLast(HANDLER_CODEC, new HttpClientCodec());
 
             p.addLast(HANDLER_DECODER, new HttpContentDecompressor());
 
@@ -1657,22 +2111,42 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
          * @param emitter The emitter
          */
         protected void writeAndClose(Channel channel, FlowableEmitter<?> emitter) {
+            writeAndClose(channel, null, emitter);
+        }
+
+        /**
+         * @param channel     The channel
+         * @param channelPool The pool the channel was acquired from or null if the channel is not pooled
+         * @param emitter     The emitter
+         */
+        protected void writeAndClose(Channel channel, @Nullable ChannelPool channelPool, FlowableEmitter<?> emitter) {
             ChannelFuture channelFuture;
             if (encoder != null && encoder.isChunked()) {
-                channel.pipeline().replace(HANDLER_STREAM, HANDLER_CHUNK, new ChunkedWriteHandler());
-                channel.write(nettyRequest);
-                channelFuture = channel.writeAndFlush(encoder);
+                ChannelPipeline pipeline = channel.pipeline();
+                if (pipeline.get(HANDLER_CHUNK) == null) {
+                    pipeline.replace(HANDLER_STREAM, HANDLER_CHUNK, new ChunkedWriteHandler());
+                    channel.write(nettyRequest);
+                    channelFuture = channel.writeAndFlush(encoder);
+                } else {
+                    // pooled channels keep the stream handler, so write the chunks directly to the chunk writer
+                    ChannelHandlerContext streamContext = pipeline.context(HANDLER_STREAM);
+                    streamContext.write(nettyRequest);
+                    channelFuture = streamContext.writeAndFlush(encoder);
+                }
             } else {
                 channelFuture = channel.writeAndFlush(nettyRequest);
             }
 
-            closeChannel(channel, emitter, channelFuture);
+            closeChannel(channel, channelPool, emitter, channelFuture);
         }
 
-        private void closeChannel(Channel channel, FlowableEmitter<?> emitter, ChannelFuture channelFuture) {
+        private void closeChannel(Channel channel, @Nullable ChannelPool channelPool, FlowableEmitter<?> emitter, ChannelFuture channelFuture) {
             channelFuture.addListener(f -> {
                 try {
                     if (!f.isSuccess()) {
+                        if (channelPool != null) {
+                            releaseChannel(channel, channelPool, false);
+                        }
                         emitter.onError(f.cause());
                     } else {
                         channel.read();
@@ -1681,7 +2155,9 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
                     if (encoder != null) {
                         encoder.cleanFiles();
                     }
-                    closeChannelAsync(channel);
+                    if (channelPool == null) {
+                        closeChannelAsync(channel);
+                    }
                 }
             });
         }
@@ -1694,6 +2170,70 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, R
         }
     }
 
+    /**
+     * Key used to identify a connection pool for a remote host.
+     */
+    protected static final class RequestKey {
+        private final String host;
+        private final int port;
+        private final boolean secure;
+
+        /**
+         * @param requestURI The request URI
+         * @param secure     Whether the connection is secure
+         */
+        RequestKey(URI requestURI, boolean secure) {
+            this.secure = secure;
+            this.host = requestURI.getHost();
+            this.port = requestURI.getPort() > -1 ? requestURI.getPort() : secure ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
+        }
+
+        /**
+         * @return The remote address to connect to
+         */
+        public InetSocketAddress getRemoteAddress() {
+            return InetSocketAddress.createUnresolved(host, port);
+        }
+
+        /**
+         * @return Whether the connection is secure
+         */
+        public boolean isSecure() {
+            return secure;
+        }
+
+        /**
+         * @return The host
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * @return The port
+         */
+        public int getPort() {
+            return port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return port == that.port && secure == that.secure && Objects.equals(host, that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port, secure);
+        }
+    }
+
     /**
      * Used as a holder for the current SSE event.
      */
@@ -64,4 +64,24 @@ public class DefaultHttpClientConfiguration extends HttpClientConfiguration {
             super.setSslConfiguration(sslConfiguration);
         }
     }
+
+    /**
+     * Uses the default connection pool configuration.
+     *
+     * @param connectionPoolConfiguration The connection pool configuration
+     */
+    @Inject
+    public void setDefaultConnectionPoolConfiguration(@Nullable DefaultConnectionPoolConfiguration connectionPoolConfiguration) {
+        if (connectionPoolConfiguration != null) {
+            super.setConnectionPoolConfiguration(connectionPoolConfiguration);
+        }
+    }
+
+    /**
+     * The default connection pool configuration.
+     */
+    @ConfigurationProperties(ConnectionPoolConfiguration.PREFIX)
+    @Primary
+    public static class DefaultConnectionPoolConfiguration extends ConnectionPoolConfiguration {
+    }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http2.Http2MultiplexCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link ChannelPool} that multiplexes requests to a remote host over HTTP/2 connections. Each acquired channel is a
+ * new {@link Http2StreamChannel} which is closed when it is released. The streams of each connection are limited to
+ * the {@code SETTINGS_MAX_CONCURRENT_STREAMS} advertised by the server. Once every connection is at its limit a new
+ * connection is opened, or, if the maximum number of connections is reached, the acquisition waits until a stream is
+ * closed. If the server does not negotiate HTTP/2 all subsequent acquisitions are delegated to the given HTTP/1.1
+ * pool.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+final class Http2ChannelPool implements ChannelPool {
+
+    /**
+     * The number of concurrent streams assumed until the server advertises its limit, or if it advertises none. This
+     * is the minimum the HTTP/2 specification recommends servers to allow.
+     */
+    static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    private final Bootstrap bootstrap;
+    private final BiConsumer<Channel, Promise<Channel>> connectionInitializer;
+    private final ChannelHandler streamInitializer;
+    private final ChannelPool http1Pool;
+    private final int maxConnections;
+    private final List<Connection> connections = new ArrayList<>();
+    private final Deque<Promise<Channel>> pendingAcquires = new ArrayDeque<>();
+    private volatile boolean http1;
+    private boolean closed;
+
+    /**
+     * @param bootstrap             The bootstrap, configured with the remote address
+     * @param connectionInitializer Initializes the pipeline of a new connection and completes the promise once the
+     *                              connection is ready to open streams
+     * @param streamInitializer     The handler that initializes each stream channel
+     * @param http1Pool             The pool to use if the server does not support HTTP/2
+     * @param maxConnections        The maximum number of connections to the host or a value less than 1 for no limit
+     */
+    Http2ChannelPool(
+            Bootstrap bootstrap,
+            BiConsumer<Channel, Promise<Channel>> connectionInitializer,
+            ChannelHandler streamInitializer,
+            ChannelPool http1Pool,
+            int maxConnections) {
+        this.bootstrap = bootstrap;
+        this.connectionInitializer = connectionInitializer;
+        this.streamInitializer = streamInitializer;
+        this.http1Pool = http1Pool;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(bootstrap.config().group().next().newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        if (http1) {
+            return http1Pool.acquire(promise);
+        }
+        Connection connection;
+        synchronized (this) {
+            if (closed) {
+                promise.tryFailure(new IllegalStateException("HTTP/2 connection pool is closed"));
+                return promise;
+            }
+            connection = reserveStream();
+            if (connection == null) {
+                pendingAcquires.add(promise);
+                return promise;
+            }
+        }
+        openStream(connection, promise);
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, channel.eventLoop().newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (channel instanceof Http2StreamChannel) {
+            // streams cannot be reused, closing the stream channel does not close the connection. The stream is
+            // accounted for once the stream channel is closed
+            channel.close();
+            promise.trySuccess(null);
+            return promise;
+        }
+        return http1Pool.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        List<Promise<Channel>> pending;
+        synchronized (this) {
+            closed = true;
+            for (Connection connection : connections) {
+                connection.ready.addListener(future -> {
+                    if (future.isSuccess()) {
+                        ((Channel) future.getNow()).close();
+                    }
+                });
+            }
+            connections.clear();
+            pending = new ArrayList<>(pendingAcquires);
+            pendingAcquires.clear();
+        }
+        for (Promise<Channel> promise : pending) {
+            promise.tryFailure(new IllegalStateException("HTTP/2 connection pool is closed"));
+        }
+        http1Pool.close();
+    }
+
+    /**
+     * Reserves a stream on a connection that has not reached its limit, opening a new connection if necessary. Must
+     * be called while holding the lock on the pool.
+     *
+     * @return The connection or null if every connection is at its limit and no further connection can be opened
+     */
+    private Connection reserveStream() {
+        connections.removeIf(Connection::isClosed);
+        for (Connection connection : connections) {
+            if (connection.activeStreams < connection.maxStreams()) {
+                connection.activeStreams++;
+                return connection;
+            }
+        }
+        if (maxConnections < 1 || connections.size() < maxConnections) {
+            Connection connection = new Connection(connect());
+            connections.add(connection);
+            connection.activeStreams++;
+            return connection;
+        }
+        return null;
+    }
+
+    private void openStream(Connection connection, Promise<Channel> promise) {
+        connection.ready.addListener(future -> {
+            if (!future.isSuccess()) {
+                streamClosed(connection);
+                promise.tryFailure(future.cause());
+                return;
+            }
+            Channel parent = (Channel) future.getNow();
+            if (parent.pipeline().get(Http2MultiplexCodec.class) == null) {
+                // the server only speaks HTTP/1.1
+                http1 = true;
+                parent.close();
+                http1Pool.acquire(promise);
+                List<Promise<Channel>> pending;
+                synchronized (this) {
+                    pending = new ArrayList<>(pendingAcquires);
+                    pendingAcquires.clear();
+                }
+                pending.forEach(http1Pool::acquire);
+                return;
+            }
+            new Http2StreamChannelBootstrap(parent)
+                .handler(streamInitializer)
+                .open()
+                .addListener(streamFuture -> {
+                    if (streamFuture.isSuccess()) {
+                        Channel stream = (Channel) streamFuture.getNow();
+                        stream.closeFuture().addListener(f -> streamClosed(connection));
+                        if (!promise.trySuccess(stream)) {
+                            stream.close();
+                        }
+                    } else {
+                        streamClosed(connection);
+                        promise.tryFailure(streamFuture.cause());
+                    }
+                });
+        });
+    }
+
+    /**
+     * Gives back the stream reserved on the given connection and hands it to the next waiting acquisition, if any.
+     *
+     * @param connection The connection
+     */
+    private void streamClosed(Connection connection) {
+        Promise<Channel> next;
+        Connection target;
+        synchronized (this) {
+            connection.activeStreams--;
+            next = pendingAcquires.poll();
+            if (next == null) {
+                return;
+            }
+            target = reserveStream();
+            if (target == null) {
+                pendingAcquires.addFirst(next);
+                return;
+            }
+        }
+        openStream(target, next);
+    }
+
+    /**
+     * @return A future completed once a new connection is ready to open streams
+     */
+    private Future<Channel> connect() {
+        Promise<Channel> ready = bootstrap.config().group().next().newPromise();
+        Bootstrap connectionBootstrap = bootstrap.clone();
+        connectionBootstrap.handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                connectionInitializer.accept(ch, ready);
+            }
+        });
+        ChannelFuture connectFuture = connectionBootstrap.connect();
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                ready.tryFailure(future.cause());
+            }
+        });
+        return ready;
+    }
+
+    /**
+     * A connection and the number of streams reserved on it. The count is guarded by the lock on the pool.
+     */
+    private static final class Connection {
+        final Future<Channel> ready;
+        int activeStreams;
+
+        Connection(Future<Channel> ready) {
+            this.ready = ready;
+        }
+
+        /**
+         * @return Whether the connection failed or has been closed
+         */
+        boolean isClosed() {
+            return ready.isDone() && (!ready.isSuccess() || !ready.getNow().isActive());
+        }
+
+        /**
+         * @return The maximum number of concurrent streams the server accepts on this connection
+         */
+        int maxStreams() {
+            if (ready.isSuccess()) {
+                Http2MultiplexCodec codec = ready.getNow().pipeline().get(Http2MultiplexCodec.class);
+                if (codec != null) {
+                    // the limit advertised by the server applies to the streams created by this endpoint
+                    int max = codec.connection().local().maxActiveStreams();
+                    if (max != Integer.MAX_VALUE) {
+                        return max;
+                    }
+                }
+            }
+            return DEFAULT_MAX_CONCURRENT_STREAMS;
+        }
+    }
+}
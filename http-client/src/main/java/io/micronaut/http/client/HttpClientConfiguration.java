@@ -17,6 +17,7 @@
 package io.micronaut.http.client;
 
 import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.ssl.ClientSslConfiguration;
 import io.micronaut.http.ssl.SslConfiguration;
 import io.micronaut.runtime.ApplicationConfiguration;
@@ -74,8 +75,16 @@ public abstract class HttpClientConfiguration {
 
     private boolean followRedirects = true;
 
+    private boolean useNativeTransport = false;
+
+    private boolean tcpFastOpen = false;
+
+    private boolean http2 = false;
+
     private SslConfiguration sslConfiguration = new ClientSslConfiguration();
 
+    private ConnectionPoolConfiguration connectionPoolConfiguration = new ConnectionPoolConfiguration();
+
     /**
      * Default constructor.
      */
@@ -107,6 +116,24 @@ public abstract class HttpClientConfiguration {
         this.sslConfiguration = sslConfiguration;
     }
 
+    /**
+     * @return The {@link ConnectionPoolConfiguration} for the client
+     */
+    public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
+        return connectionPoolConfiguration;
+    }
+
+    /**
+     * Sets the connection pool configuration for the client.
+     *
+     * @param connectionPoolConfiguration The connection pool configuration
+     */
+    public void setConnectionPoolConfiguration(ConnectionPoolConfiguration connectionPoolConfiguration) {
+        if (connectionPoolConfiguration != null) {
+            this.connectionPoolConfiguration = connectionPoolConfiguration;
+        }
+    }
+
     /**
      * @return Whether redirects should be followed
      */
@@ -123,6 +150,58 @@ public abstract class HttpClientConfiguration {
         this.followRedirects = followRedirects;
     }
 
+    /**
+     * @return Whether the native epoll transport should be used when available
+     */
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    /**
+     * Sets whether to use the native epoll transport when it is available. Falls back to NIO if the platform is not
+     * Linux or the {@code netty-transport-native-epoll} dependency is not present. Defaults to false.
+     *
+     * @param useNativeTransport True if the native transport should be used
+     */
+    public void setUseNativeTransport(boolean useNativeTransport) {
+        this.useNativeTransport = useNativeTransport;
+    }
+
+    /**
+     * @return Whether {@code TCP_FASTOPEN_CONNECT} should be enabled
+     */
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    /**
+     * Sets whether to enable {@code TCP_FASTOPEN_CONNECT} for new connections. Only applies to the native transport.
+     * Defaults to false.
+     *
+     * @param tcpFastOpen True if TCP fast open should be used
+     */
+    public void setTcpFastOpen(boolean tcpFastOpen) {
+        this.tcpFastOpen = tcpFastOpen;
+    }
+
+    /**
+     * @return Whether HTTP/2 should be used
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Sets whether to use HTTP/2. Requests to the same host are multiplexed as streams over a single connection.
+     * HTTPS connections negotiate HTTP/2 via ALPN and fall back to HTTP/1.1, while plain HTTP connections assume
+     * the server supports HTTP/2 (prior knowledge). Streaming requests continue to use HTTP/1.1. Defaults to false.
+     *
+     * @param http2 True if HTTP/2 should be used
+     */
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
     /**
      * @return The default charset to use
      */
@@ -346,4 +425,129 @@ public abstract class HttpClientConfiguration {
     public void setProxyPassword(String proxyPassword) {
         this.proxyPassword = proxyPassword;
     }
+
+    /**
+     * Configuration for the HTTP client connection pool.
+     */
+    public static class ConnectionPoolConfiguration implements Toggleable {
+
+        /**
+         * The prefix to use for configuration.
+         */
+        public static final String PREFIX = "pool";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default max connections value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAXCONNECTIONS = -1;
+
+        private int maxPendingAcquires = Integer.MAX_VALUE;
+
+        private int maxConnections = DEFAULT_MAXCONNECTIONS;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Duration acquireTimeout;
+
+        private Duration idleTimeout;
+
+        /**
+         * Whether connection pooling is enabled. Defaults to {@value #DEFAULT_ENABLED}.
+         *
+         * @return True if connection pooling is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether connection pooling is enabled.
+         *
+         * @param enabled True if it is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * The maximum number of connections per host. Defaults to {@value #DEFAULT_MAXCONNECTIONS} (no limit).
+         *
+         * @return The max connections
+         */
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        /**
+         * Sets the maximum number of connections per host. A value of -1 indicates no limit.
+         *
+         * @param maxConnections The count
+         */
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        /**
+         * Maximum number of requests waiting for a connection once {@link #getMaxConnections()} is reached.
+         * Only applies when the maximum number of connections is bounded.
+         *
+         * @return The max pending requests
+         */
+        public int getMaxPendingAcquires() {
+            return maxPendingAcquires;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a connection.
+         *
+         * @param maxPendingAcquires The max pending requests
+         */
+        public void setMaxPendingAcquires(int maxPendingAcquires) {
+            this.maxPendingAcquires = maxPendingAcquires;
+        }
+
+        /**
+         * The time to wait to acquire a connection. Only applies when the maximum number of connections is bounded.
+         *
+         * @return The timeout as a duration.
+         */
+        public Optional<Duration> getAcquireTimeout() {
+            return Optional.ofNullable(acquireTimeout);
+        }
+
+        /**
+         * Sets the time to wait to acquire a connection.
+         *
+         * @param acquireTimeout The timeout
+         */
+        public void setAcquireTimeout(@Nullable Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        /**
+         * The amount of time a pooled connection may remain idle before it is closed and evicted from the pool.
+         *
+         * @return The idle timeout
+         */
+        public Optional<Duration> getIdleTimeout() {
+            return Optional.ofNullable(idleTimeout);
+        }
+
+        /**
+         * Sets the amount of time a pooled connection may remain idle before it is closed.
+         *
+         * @param idleTimeout The idle timeout
+         */
+        public void setIdleTimeout(@Nullable Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+    }
 }
@@ -74,11 +74,14 @@ import javax.inject.Singleton;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -103,6 +106,8 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private final int HEADERS_INITIAL_CAPACITY = 3;
     private final BeanContext beanContext;
     private final Map<Integer, ClientRegistration> clients = new ConcurrentHashMap<>();
+    // plans are kept per client type since several @Client interfaces may inherit the same method from a shared API
+    private final Map<Class<?>, Map<Method, ClientMethodPlan>> plans = new ConcurrentHashMap<>();
     private final ReactiveClientResultTransformer[] transformers;
     private final LoadBalancerResolver loadBalancerResolver;
 
@@ -131,112 +136,65 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
      */
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        Client clientAnnotation = context.getAnnotation(Client.class);
-        if (clientAnnotation == null) {
-            throw new IllegalStateException("Client advice called from type that is not annotated with @Client: " + context);
+        Map<Method, ClientMethodPlan> clientPlans = plans.computeIfAbsent(context.getTarget().getClass(), type -> new ConcurrentHashMap<>());
+        ClientMethodPlan plan = clientPlans.get(context.getTargetMethod());
+        if (plan == null) {
+            Client clientAnnotation = context.getAnnotation(Client.class);
+            if (clientAnnotation == null) {
+                throw new IllegalStateException("Client advice called from type that is not annotated with @Client: " + context);
+            }
+            plan = clientPlans.computeIfAbsent(context.getTargetMethod(), method ->
+                new ClientMethodPlan(context, clientAnnotation, getClient(context, clientAnnotation))
+            );
         }
 
-        for (MutableArgumentValue<?> argumentValue : context.getParameters().values()) {
-            if (argumentValue.getValue() == null && !argumentValue.isAnnotationPresent(Nullable.class)) {
+        Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
+        for (String argumentName : plan.nonNullArguments) {
+            if (parameters.get(argumentName).getValue() == null) {
                 throw new IllegalArgumentException(
                     String.format("Null values are not allowed to be passed to client methods (%s). Add @javax.validation.Nullable if that is the desired behavior", context.getTargetMethod().toString())
                 );
             }
         }
 
-        ClientRegistration reg = getClient(context, clientAnnotation);
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
-        if (httpMethodMapping.isPresent() && reg != null) {
-            String uri = context.getValue(HttpMethodMapping.class, String.class).orElse("");
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-
-            HttpMethod httpMethod = HttpMethod.valueOf(annotationType.getSimpleName().toUpperCase());
-
-            ReturnType returnType = context.getReturnType();
-            Class<?> javaReturnType = returnType.getType();
-
-            String contextPath = reg.contextPath;
-            UriMatchTemplate uriTemplate = UriMatchTemplate.of(contextPath != null ? contextPath : "/");
-            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-                uriTemplate = uriTemplate.nest(uri);
-            }
+        ClientRegistration reg = plan.registration;
+        if (plan.httpMethod != null && reg != null) {
+            HttpMethod httpMethod = plan.httpMethod;
+            UriMatchTemplate uriTemplate = plan.uriTemplate;
+            String uri;
 
             Map<String, Object> paramMap = context.getParameterValueMap();
-            List<String> uriVariables = uriTemplate.getVariables();
+            List<String> uriVariables = plan.uriVariables;
 
             boolean variableSatisfied = uriVariables.isEmpty() || uriVariables.containsAll(paramMap.keySet());
             MutableHttpRequest<Object> request;
-            Object body = null;
-            Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
-            Argument[] arguments = context.getArguments();
-
-
-            Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
+            Object body = plan.bodyArgument != null ? parameters.get(plan.bodyArgument).getValue() : null;
 
-            Headers headersAnnotation = context.getAnnotation(Headers.class);
-            if (headersAnnotation != null) {
-                Header[] headerArray = headersAnnotation.value();
-                for (Header header : headerArray) {
-                    String headerName = header.name();
-                    String headerValue = header.value();
-                    headers.put(headerName, headerValue);
-                }
+            Map<String, String> headers = new LinkedHashMap<>(plan.headers);
+            for (Map.Entry<String, String> entry : plan.headerArguments.entrySet()) {
+                String headerName = entry.getValue();
+                ConversionService.SHARED.convert(parameters.get(entry.getKey()).getValue(), String.class)
+                    .ifPresent(o -> headers.put(headerName, o));
             }
 
-            Header headerAnnotation = context.getAnnotation(Header.class);
-            if (headerAnnotation != null) {
-                headers.put(headerAnnotation.name(), headerAnnotation.value());
+            List<NettyCookie> cookies = new ArrayList<>(plan.cookieArguments.size());
+            for (Map.Entry<String, String> entry : plan.cookieArguments.entrySet()) {
+                String cookieName = entry.getValue();
+                ConversionService.SHARED.convert(parameters.get(entry.getKey()).getValue(), String.class)
+                    .ifPresent(o -> cookies.add(new NettyCookie(cookieName, o)));
             }
 
-            List<NettyCookie> cookies = new ArrayList<>();
-            List<Argument> bodyArguments = new ArrayList<>();
-            for (Argument argument : arguments) {
-                String argumentName = argument.getName();
-                if (argument.isAnnotationPresent(Body.class)) {
-                    body = parameters.get(argumentName).getValue();
-                    break;
-                } else if (argument.isAnnotationPresent(Header.class)) {
-
-                    String headerName = argument.getAnnotation(Header.class).value();
-                    if (StringUtils.isEmpty(headerName)) {
-                        headerName = NameUtils.hyphenate(argumentName);
-                    }
-                    MutableArgumentValue<?> value = parameters.get(argumentName);
-                    String finalHeaderName = headerName;
-                    ConversionService.SHARED.convert(value.getValue(), String.class)
-                        .ifPresent(o -> headers.put(finalHeaderName, o));
-                } else if (argument.isAnnotationPresent(CookieValue.class)) {
-                    Object cookieValue = parameters.get(argumentName).getValue();
-                    String cookieName = argument.getAnnotation(CookieValue.class).value();
-                    if (StringUtils.isEmpty(cookieName)) {
-                        cookieName = argumentName;
-                    }
-                    String finalCookieName = cookieName;
-
-                    ConversionService.SHARED.convert(cookieValue, String.class)
-                        .ifPresent(o -> cookies.add(new NettyCookie(finalCookieName, o)));
-
-                } else if (argument.isAnnotationPresent(Parameter.class)) {
-                    String parameterName = argument.getAnnotation(Parameter.class).value();
-                    if (!StringUtils.isEmpty(parameterName)) {
-                        MutableArgumentValue<?> value = parameters.get(argumentName);
-                        ConversionService.SHARED.convert(value.getValue(), String.class)
-                            .ifPresent(o -> paramMap.put(parameterName, o));
-                    }
-                } else if (!uriVariables.contains(argumentName)) {
-                    bodyArguments.add(argument);
-                }
+            for (Map.Entry<String, String> entry : plan.parameterArguments.entrySet()) {
+                String parameterName = entry.getValue();
+                ConversionService.SHARED.convert(parameters.get(entry.getKey()).getValue(), String.class)
+                    .ifPresent(o -> paramMap.put(parameterName, o));
             }
+
             if (HttpMethod.permitsRequestBody(httpMethod)) {
-                if (body == null && !bodyArguments.isEmpty()) {
+                if (body == null && !plan.bodyArguments.isEmpty()) {
                     Map<String, Object> bodyMap = new LinkedHashMap<>();
 
-                    for (Argument bodyArgument : bodyArguments) {
-                        String argumentName = bodyArgument.getName();
+                    for (String argumentName : plan.bodyArguments) {
                         MutableArgumentValue<?> value = parameters.get(argumentName);
                         bodyMap.put(argumentName, value.getValue());
                     }
@@ -277,9 +235,8 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             }
 
             // Set the URI template used to make the request for tracing purposes
-            request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(clientAnnotation, uriTemplate.toString()));
-            String serviceId = clientAnnotation.value()[0];
-            request.setAttribute(HttpAttributes.SERVICE_ID, serviceId);
+            request.setAttribute(HttpAttributes.URI_TEMPLATE, plan.template);
+            request.setAttribute(HttpAttributes.SERVICE_ID, plan.serviceId);
 
 
             if (!headers.isEmpty()) {
@@ -292,23 +249,21 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
             HttpClient httpClient = reg.httpClient;
 
-            boolean isFuture = CompletableFuture.class.isAssignableFrom(javaReturnType);
+            ReturnType returnType = context.getReturnType();
+            Class<?> javaReturnType = plan.javaReturnType;
+            boolean isFuture = plan.isFuture;
             final Class<Object> methodDeclaringType = context.getDeclaringType();
-            if (Publishers.isConvertibleToPublisher(javaReturnType) || isFuture) {
-                boolean isSingle = Publishers.isSingle(javaReturnType) || isFuture || context.getValue(Produces.class, "single", Boolean.class).orElse(false);
-                Argument<?> publisherArgument = returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+            if (plan.isReactive) {
+                boolean isSingle = plan.isSingle;
+                Argument<?> publisherArgument = plan.publisherArgument;
 
 
                 Class<?> argumentType = publisherArgument.getType();
 
-                if (HttpResponse.class.isAssignableFrom(argumentType) || HttpStatus.class.isAssignableFrom(argumentType)) {
-                    isSingle = true;
-                }
-
 
                 Publisher<?> publisher;
 
-                MediaType[] contentTypes = context.getValue(Consumes.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
+                MediaType[] contentTypes = plan.contentTypes;
                 if (ArrayUtils.isNotEmpty(contentTypes) && HttpMethod.permitsRequestBody(request.getMethod())) {
                     request.contentType(contentTypes[0]);
                 }
@@ -316,7 +271,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 if (!isSingle && httpClient instanceof StreamingHttpClient) {
                     StreamingHttpClient streamingHttpClient = (StreamingHttpClient) httpClient;
                     if (HttpResponse.class.isAssignableFrom(argumentType)) {
-                        request.accept(context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES));
+                        request.accept(plan.acceptTypes);
                         publisher = streamingHttpClient.exchangeStream(
                                 request
                         );
@@ -325,12 +280,9 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                                 request
                         );
                     } else {
-                        MediaType[] acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
-                        request.accept(acceptTypes);
-
-                        boolean isEventStream = Arrays.stream(acceptTypes).anyMatch(mediaType -> mediaType.equals(MediaType.TEXT_EVENT_STREAM_TYPE));
+                        request.accept(plan.acceptTypes);
 
-                        if (isEventStream && streamingHttpClient instanceof SseClient) {
+                        if (plan.isEventStream && streamingHttpClient instanceof SseClient) {
                             SseClient sseClient = (SseClient) streamingHttpClient;
                             if (publisherArgument.getType() == Event.class) {
                                 publisher = sseClient.eventStream(
@@ -351,7 +303,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 } else {
 
                     if (HttpResponse.class.isAssignableFrom(argumentType)) {
-                        request.accept(context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES));
+                        request.accept(plan.acceptTypes);
                         publisher = httpClient.exchange(
                                 request, publisherArgument
                         );
@@ -360,8 +312,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                                 request
                         );
                     } else {
-                        MediaType[] acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
-                        request.accept(acceptTypes);
+                        request.accept(plan.acceptTypes);
 
                         publisher = httpClient.retrieve(
                                 request, publisherArgument
@@ -483,7 +434,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             return null;
         }
 
-        return clients.computeIfAbsent(Arrays.hashCode(clientId), integer -> {
+        return clients.computeIfAbsent(Objects.hash(Arrays.hashCode(clientId), clientAnn.path()), integer -> {
             LoadBalancer loadBalancer = loadBalancerResolver.resolve(clientId)
                 .orElseThrow(() ->
                     new HttpClientException("Invalid service reference [" + ArrayUtils.toString(clientId) + "] specified to @Client")
@@ -582,4 +533,137 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             this.contextPath = contextPath;
         }
     }
+
+    /**
+     * The parts of a client request that only depend on the invoked method and are therefore computed once per method.
+     */
+    class ClientMethodPlan {
+        final ClientRegistration registration;
+        final HttpMethod httpMethod;
+        final UriMatchTemplate uriTemplate;
+        final List<String> uriVariables;
+        final String template;
+        final String serviceId;
+        final List<String> nonNullArguments = new ArrayList<>();
+        final Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
+        final Map<String, String> headerArguments = new LinkedHashMap<>();
+        final Map<String, String> cookieArguments = new LinkedHashMap<>();
+        final Map<String, String> parameterArguments = new LinkedHashMap<>();
+        final List<String> bodyArguments = new ArrayList<>();
+        final String bodyArgument;
+        final Class<?> javaReturnType;
+        final boolean isFuture;
+        final boolean isReactive;
+        final boolean isSingle;
+        final boolean isEventStream;
+        final Argument<?> publisherArgument;
+        final MediaType[] contentTypes;
+        final MediaType[] acceptTypes;
+
+        /**
+         * Constructor for the client method plan.
+         *
+         * @param context          The first invocation of the method
+         * @param clientAnnotation The client annotation
+         * @param registration     The client registration or null if the client has no id
+         */
+        ClientMethodPlan(MethodInvocationContext<Object, Object> context, Client clientAnnotation, ClientRegistration registration) {
+            this.registration = registration;
+            Argument[] arguments = context.getArguments();
+            for (Argument argument : arguments) {
+                if (!argument.isAnnotationPresent(Nullable.class)) {
+                    nonNullArguments.add(argument.getName());
+                }
+            }
+
+            Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+            if (!httpMethodMapping.isPresent() || registration == null) {
+                this.httpMethod = null;
+                this.uriTemplate = null;
+                this.uriVariables = Collections.emptyList();
+                this.template = null;
+                this.serviceId = null;
+                this.bodyArgument = null;
+                this.javaReturnType = null;
+                this.isFuture = false;
+                this.isReactive = false;
+                this.isSingle = false;
+                this.isEventStream = false;
+                this.publisherArgument = null;
+                this.contentTypes = null;
+                this.acceptTypes = null;
+                return;
+            }
+
+            String uri = context.getValue(HttpMethodMapping.class, String.class).orElse("");
+            if (StringUtils.isEmpty(uri)) {
+                uri = "/" + context.getMethodName();
+            }
+            this.httpMethod = HttpMethod.valueOf(httpMethodMapping.get().getSimpleName().toUpperCase());
+
+            String contextPath = registration.contextPath;
+            UriMatchTemplate uriTemplate = UriMatchTemplate.of(contextPath != null ? contextPath : "/");
+            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+                uriTemplate = uriTemplate.nest(uri);
+            }
+            this.uriTemplate = uriTemplate;
+            this.uriVariables = uriTemplate.getVariables();
+            this.template = resolveTemplate(clientAnnotation, uriTemplate.toString());
+            this.serviceId = clientAnnotation.value()[0];
+
+            Headers headersAnnotation = context.getAnnotation(Headers.class);
+            if (headersAnnotation != null) {
+                for (Header header : headersAnnotation.value()) {
+                    headers.put(header.name(), header.value());
+                }
+            }
+
+            Header headerAnnotation = context.getAnnotation(Header.class);
+            if (headerAnnotation != null) {
+                headers.put(headerAnnotation.name(), headerAnnotation.value());
+            }
+
+            String bodyArgument = null;
+            for (Argument argument : arguments) {
+                String argumentName = argument.getName();
+                if (argument.isAnnotationPresent(Body.class)) {
+                    bodyArgument = argumentName;
+                    break;
+                } else if (argument.isAnnotationPresent(Header.class)) {
+                    String headerName = argument.getAnnotation(Header.class).value();
+                    if (StringUtils.isEmpty(headerName)) {
+                        headerName = NameUtils.hyphenate(argumentName);
+                    }
+                    headerArguments.put(argumentName, headerName);
+                } else if (argument.isAnnotationPresent(CookieValue.class)) {
+                    String cookieName = argument.getAnnotation(CookieValue.class).value();
+                    if (StringUtils.isEmpty(cookieName)) {
+                        cookieName = argumentName;
+                    }
+                    cookieArguments.put(argumentName, cookieName);
+                } else if (argument.isAnnotationPresent(Parameter.class)) {
+                    String parameterName = argument.getAnnotation(Parameter.class).value();
+                    if (!StringUtils.isEmpty(parameterName)) {
+                        parameterArguments.put(argumentName, parameterName);
+                    }
+                } else if (!uriVariables.contains(argumentName)) {
+                    bodyArguments.add(argumentName);
+                }
+            }
+            this.bodyArgument = bodyArgument;
+
+            ReturnType returnType = context.getReturnType();
+            this.javaReturnType = returnType.getType();
+            this.isFuture = CompletableFuture.class.isAssignableFrom(javaReturnType);
+            this.isReactive = isFuture || Publishers.isConvertibleToPublisher(javaReturnType);
+            this.publisherArgument = returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+            Class<?> argumentType = publisherArgument.getType();
+            this.isSingle = Publishers.isSingle(javaReturnType) || isFuture ||
+                context.getValue(Produces.class, "single", Boolean.class).orElse(false) ||
+                HttpResponse.class.isAssignableFrom(argumentType) || HttpStatus.class.isAssignableFrom(argumentType);
+            this.contentTypes = context.getValue(Consumes.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
+            this.acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
+            this.isEventStream = Arrays.stream(acceptTypes).anyMatch(mediaType -> mediaType.equals(MediaType.TEXT_EVENT_STREAM_TYPE));
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A {@link LatencyAwareLoadBalancer} that tracks the in-flight requests and the moving average of the response
+ * latency of each instance and selects between two randomly chosen instances the one with the lower expected cost
+ * ("power of two choices").</p>
+ *
+ * <p>Instances that fail a configurable number of consecutive requests are ejected for a period of time. If every
+ * available instance is ejected they are all considered again.</p>
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public abstract class AbstractLatencyAwareLoadBalancer implements LatencyAwareLoadBalancer {
+
+    private static final int SERVER_ERROR = 500;
+
+    private final Map<URI, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final int consecutiveFailures;
+    private final long ejectionNanos;
+    private final double decayNanos;
+
+    /**
+     * @param configuration The load balancer configuration
+     */
+    protected AbstractLatencyAwareLoadBalancer(LatencyAwareLoadBalancerConfiguration configuration) {
+        this.consecutiveFailures = configuration.getConsecutiveFailures();
+        this.ejectionNanos = configuration.getEjectionTime().toNanos();
+        this.decayNanos = configuration.getDecayTime().toNanos();
+    }
+
+    /**
+     * @return The service ID
+     */
+    public abstract String getServiceID();
+
+    @Override
+    public void requestStarted(ServiceInstance instance) {
+        statsFor(instance).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(ServiceInstance instance, long durationNanos, Throwable error) {
+        InstanceStats instanceStats = statsFor(instance);
+        instanceStats.inFlight.decrementAndGet();
+        instanceStats.record(durationNanos, decayNanos);
+        if (error != null && isFailure(error)) {
+            int failures = instanceStats.failures.incrementAndGet();
+            if (consecutiveFailures > 0 && failures >= consecutiveFailures) {
+                // start over once the ejection ends so that a single failure does not eject the instance again
+                instanceStats.failures.set(0);
+                instanceStats.ejectedUntil = System.nanoTime() + ejectionNanos;
+            }
+        } else {
+            instanceStats.failures.set(0);
+        }
+    }
+
+    @Override
+    public void requestCancelled(ServiceInstance instance) {
+        statsFor(instance).inFlight.decrementAndGet();
+    }
+
+    /**
+     * Whether the given error counts towards the ejection of the instance. By default, server errors and any errors
+     * other than a response with a status code are failures.
+     *
+     * @param error The error
+     * @return True if it is a failure of the instance
+     */
+    protected boolean isFailure(Throwable error) {
+        if (error instanceof HttpClientResponseException) {
+            return ((HttpClientResponseException) error).getStatus().getCode() >= SERVER_ERROR;
+        }
+        return true;
+    }
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @return The selected instance or a {@link NoAvailableServiceException} if none
+     */
+    protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
+        List<ServiceInstance> availableServices = serviceInstances.stream()
+            .filter(si -> si.getHealthStatus().equals(HealthStatus.UP))
+            .collect(Collectors.toList());
+        int len = availableServices.size();
+        if (len == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        if (stats.size() > len * 2) {
+            Set<URI> uris = availableServices.stream().map(ServiceInstance::getURI).collect(Collectors.toSet());
+            stats.keySet().retainAll(uris);
+        }
+        if (len == 1) {
+            return availableServices.get(0);
+        }
+
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = availableServices.stream()
+            .filter(si -> !statsFor(si).isEjected(now))
+            .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            candidates = availableServices;
+        }
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return compare(statsFor(a), statsFor(b), now) <= 0 ? a : b;
+    }
+
+    private int compare(InstanceStats a, InstanceStats b, long now) {
+        int inFlightA = Math.max(a.inFlight.get(), 0);
+        int inFlightB = Math.max(b.inFlight.get(), 0);
+        double latencyA = a.latency();
+        double latencyB = b.latency();
+        if (latencyA == 0 || latencyB == 0) {
+            // without a latency sample for both only the load can be compared
+            return Integer.compare(inFlightA, inFlightB);
+        }
+        return Double.compare(latencyA * (inFlightA + 1), latencyB * (inFlightB + 1));
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(instance.getURI(), uri -> new InstanceStats());
+    }
+
+    /**
+     * The statistics of a single instance.
+     */
+    private static final class InstanceStats {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        volatile long ejectedUntil;
+        private double latency;
+        private long lastUpdate;
+
+        boolean isEjected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        synchronized void record(long durationNanos, double decayNanos) {
+            long now = System.nanoTime();
+            long sample = Math.max(durationNanos, 1);
+            if (latency == 0) {
+                latency = sample;
+            } else {
+                // the weight of the previous average decays with the time since it was last updated
+                double weight = Math.exp(-(now - lastUpdate) / decayNanos);
+                latency = latency * weight + sample * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        synchronized double latency() {
+            return latency;
+        }
+    }
+}
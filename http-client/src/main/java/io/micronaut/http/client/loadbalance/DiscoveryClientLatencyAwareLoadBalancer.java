@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import org.reactivestreams.Publisher;
+
+/**
+ * A {@link LatencyAwareLoadBalancer} that selects between the instances of a service provided by the
+ * {@link DiscoveryClient}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class DiscoveryClientLatencyAwareLoadBalancer extends AbstractLatencyAwareLoadBalancer {
+
+    private final String serviceID;
+    private final DiscoveryClient discoveryClient;
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    public DiscoveryClientLatencyAwareLoadBalancer(String serviceID, DiscoveryClient discoveryClient, LatencyAwareLoadBalancerConfiguration configuration) {
+        super(configuration);
+        this.serviceID = serviceID;
+        this.discoveryClient = discoveryClient;
+    }
+
+    /**
+     * @return The service ID
+     */
+    @Override
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(Object discriminator) {
+        return Publishers.map(discoveryClient.getInstances(serviceID), this::getNextAvailable);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.http.client.LoadBalancer;
+
+import javax.inject.Singleton;
+
+/**
+ * Replaces the default {@link DiscoveryClientLoadBalancerFactory} with one that returns
+ * {@link DiscoveryClientLatencyAwareLoadBalancer} instances.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Singleton
+@Replaces(DiscoveryClientLoadBalancerFactory.class)
+@Requires(property = LatencyAwareLoadBalancerConfiguration.PREFIX + ".enabled", value = "true")
+public class DiscoveryClientLatencyAwareLoadBalancerFactory extends DiscoveryClientLoadBalancerFactory {
+
+    private final LatencyAwareLoadBalancerConfiguration configuration;
+
+    /**
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    public DiscoveryClientLatencyAwareLoadBalancerFactory(DiscoveryClient discoveryClient, LatencyAwareLoadBalancerConfiguration configuration) {
+        super(discoveryClient);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public LoadBalancer create(String serviceID) {
+        return new DiscoveryClientLatencyAwareLoadBalancer(serviceID, getDiscoveryClient(), configuration);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.http.client.LoadBalancer;
+
+/**
+ * A {@link LoadBalancer} that is informed about the outcome of the requests sent to the instances it selected, so
+ * that it can take their load and latency into account.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public interface LatencyAwareLoadBalancer extends LoadBalancer {
+
+    /**
+     * Called before a request is sent to the given instance.
+     *
+     * @param instance The selected instance
+     */
+    void requestStarted(ServiceInstance instance);
+
+    /**
+     * Called when a response or an error was received from the given instance.
+     *
+     * @param instance      The selected instance
+     * @param durationNanos The time taken in nanoseconds
+     * @param error         The error or null if the request succeeded
+     */
+    void requestCompleted(ServiceInstance instance, long durationNanos, Throwable error);
+
+    /**
+     * Called when a request was cancelled before a response was received.
+     *
+     * @param instance The selected instance
+     */
+    void requestCancelled(ServiceInstance instance);
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the {@link AbstractLatencyAwareLoadBalancer} implementations.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@ConfigurationProperties(LatencyAwareLoadBalancerConfiguration.PREFIX)
+public class LatencyAwareLoadBalancerConfiguration {
+
+    /**
+     * Prefix for the latency aware load balancer settings.
+     */
+    public static final String PREFIX = "micronaut.http.client.load-balancer";
+
+    /**
+     * The default number of consecutive failures before an instance is ejected.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_CONSECUTIVE_FAILURES = 5;
+
+    private boolean enabled = false;
+    private int consecutiveFailures = DEFAULT_CONSECUTIVE_FAILURES;
+    private Duration ejectionTime = Duration.ofSeconds(30);
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /**
+     * @return Whether the latency aware load balancers replace the round robin ones
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the latency aware load balancers replace the round robin ones. Default value (false).
+     *
+     * @param enabled True if they should be used
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The number of consecutive failures after which an instance is ejected
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Sets the number of consecutive failures after which an instance is ejected. A value of 0 or less disables
+     * ejection. Default value ({@value #DEFAULT_CONSECUTIVE_FAILURES}).
+     *
+     * @param consecutiveFailures The number of consecutive failures
+     */
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    /**
+     * @return How long an ejected instance is excluded from selection
+     */
+    public Duration getEjectionTime() {
+        return ejectionTime;
+    }
+
+    /**
+     * Sets how long an ejected instance is excluded from selection. Default value (30 seconds).
+     *
+     * @param ejectionTime The ejection time
+     */
+    public void setEjectionTime(Duration ejectionTime) {
+        if (ejectionTime != null) {
+            this.ejectionTime = ejectionTime;
+        }
+    }
+
+    /**
+     * @return The time over which the weight of a latency sample decays
+     */
+    public Duration getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * Sets the time over which the weight of a latency sample in the moving average decays. Shorter times react
+     * faster to changes in latency. Default value (10 seconds).
+     *
+     * @param decayTime The decay time
+     */
+    public void setDecayTime(Duration decayTime) {
+        if (decayTime != null && !decayTime.isZero() && !decayTime.isNegative()) {
+            this.decayTime = decayTime;
+        }
+    }
+}
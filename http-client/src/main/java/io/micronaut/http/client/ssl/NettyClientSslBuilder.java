@@ -17,6 +17,7 @@
 package io.micronaut.http.client.ssl;
 
 import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.http.netty.http2.AlpnSupport;
 import io.micronaut.http.ssl.*;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
@@ -65,9 +66,20 @@ public class NettyClientSslBuilder extends SslBuilder<SslContext> {
         return ssl;
     }
 
-    @SuppressWarnings("Duplicates")
     @Override
     public Optional<SslContext> build() {
+        return build(false);
+    }
+
+    /**
+     * Builds the SSL context, optionally offering HTTP/2 via ALPN. If ALPN is not supported by the runtime
+     * the context will only support HTTP/1.1.
+     *
+     * @param http2 Whether HTTP/2 should be offered
+     * @return The SSL context if SSL is enabled
+     */
+    @SuppressWarnings("Duplicates")
+    public Optional<SslContext> build(boolean http2) {
         if (!ssl.isEnabled()) {
             return Optional.empty();
         }
@@ -75,6 +87,9 @@ public class NettyClientSslBuilder extends SslBuilder<SslContext> {
             .forClient()
             .keyManager(getKeyManagerFactory())
             .trustManager(getTrustManagerFactory());
+        if (http2 && AlpnSupport.isSupported()) {
+            AlpnSupport.configure(sslBuilder);
+        }
         if (ssl.getProtocols().isPresent()) {
             sslBuilder.protocols(ssl.getProtocols().get());
         }
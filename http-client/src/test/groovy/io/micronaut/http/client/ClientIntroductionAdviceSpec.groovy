@@ -49,6 +49,17 @@ class ClientIntroductionAdviceSpec extends Specification {
         myService.index() == 'success'
     }
 
+    void "test clients that extend the same API use their own paths"() {
+        given:
+        MyClient myClient = context.getBean(MyClient)
+        OtherClient otherClient = context.getBean(OtherClient)
+
+        expect:
+        myClient.index() == 'success'
+        otherClient.index() == 'other'
+        myClient.index() == 'success'
+    }
+
     @Controller('/aop')
     static class AopController implements MyApi {
         @Override
@@ -58,6 +69,14 @@ class ClientIntroductionAdviceSpec extends Specification {
     }
 
 
+    @Controller('/other')
+    static class OtherController implements MyApi {
+        @Override
+        String index() {
+            return "other"
+        }
+    }
+
     static interface MyApi {
         @Get(value = '/',produces = MediaType.TEXT_PLAIN, consumes = MediaType.TEXT_PLAIN)
         String index()
@@ -66,4 +85,8 @@ class ClientIntroductionAdviceSpec extends Specification {
     @Client('/aop')
     static interface MyClient extends MyApi {
     }
+
+    @Client('/other')
+    static interface OtherClient extends MyApi {
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.exceptions.HttpClientException
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+/**
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+class ConnectionPoolSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run(
+            'micronaut.http.client.pool.enabled': true,
+            'micronaut.http.client.pool.max-connections': 2,
+            'micronaut.http.client.pool.acquire-timeout': '5s'
+    )
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+
+    @Shared
+    @AutoCleanup
+    HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+    void "test connection pool configuration is bound"() {
+        given:
+        HttpClientConfiguration.ConnectionPoolConfiguration poolConfiguration = context.getBean(DefaultHttpClientConfiguration).connectionPoolConfiguration
+
+        expect:
+        poolConfiguration.enabled
+        poolConfiguration.maxConnections == 2
+        poolConfiguration.acquireTimeout.get().seconds == 5
+    }
+
+    void "test pooled connections are reused"() {
+        when:
+        Set<String> ports = (1..5).collect {
+            client.toBlocking().retrieve(HttpRequest.GET('/pool/port'), String)
+        } as Set
+
+        then:
+        ports.size() == 1
+    }
+
+    void "test concurrent requests share a bounded pool"() {
+        when:
+        List<String> results = Flowable.range(1, 10)
+                .flatMap({ Integer i ->
+                    client.retrieve(HttpRequest.POST('/pool/echo', "body$i").contentType(MediaType.TEXT_PLAIN_TYPE), String)
+                })
+                .toList()
+                .blockingGet()
+
+        then:
+        results.size() == 10
+        results.toSet() == (1..10).collect { "body$it".toString() }.toSet()
+    }
+
+    void "test error responses release pooled connections"() {
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/pool/missing'), String)
+
+        then:
+        thrown(io.micronaut.http.client.exceptions.HttpClientResponseException)
+
+        when:
+        String port = client.toBlocking().retrieve(HttpRequest.GET('/pool/port'), String)
+
+        then:
+        port
+    }
+
+    void "test a connection closed by the server before responding is released"() {
+        given:
+        ServerSocket serverSocket = new ServerSocket(0)
+        Thread.start {
+            int count = 0
+            while (!serverSocket.closed) {
+                Socket socket
+                try {
+                    socket = serverSocket.accept()
+                } catch (IOException e) {
+                    break
+                }
+                socket.withCloseable {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(socket.inputStream))
+                    while (reader.readLine()) {
+                        // read the request headers
+                    }
+                    // the first connection is closed without a response
+                    if (count++ > 0) {
+                        socket.outputStream.write("HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nContent-Length: 2\r\n\r\nok".bytes)
+                        socket.outputStream.flush()
+                    }
+                }
+            }
+        }
+        ApplicationContext clientContext = ApplicationContext.run(
+                'micronaut.http.client.pool.enabled': true,
+                'micronaut.http.client.pool.max-connections': 1,
+                'micronaut.http.client.pool.acquire-timeout': '5s',
+                'micronaut.http.client.read-timeout': '30s'
+        )
+        HttpClient closingClient = clientContext.createBean(HttpClient, new URL("http://localhost:$serverSocket.localPort"))
+        long start = System.currentTimeMillis()
+
+        when:
+        closingClient.toBlocking().retrieve(HttpRequest.GET('/closed'), String)
+
+        then:
+        thrown(HttpClientException)
+        System.currentTimeMillis() - start < 10000
+
+        when: "the only connection permit was given back to the pool"
+        String body = closingClient.toBlocking().retrieve(HttpRequest.GET('/ok'), String)
+
+        then:
+        body == 'ok'
+
+        cleanup:
+        closingClient.close()
+        clientContext.close()
+        serverSocket.close()
+    }
+
+    @Controller('/pool')
+    static class PoolController {
+
+        @Get(uri = '/port', produces = MediaType.TEXT_PLAIN)
+        String port(HttpRequest<?> request) {
+            return String.valueOf(request.remoteAddress.port)
+        }
+
+        @Post(uri = '/echo', consumes = MediaType.TEXT_PLAIN, produces = MediaType.TEXT_PLAIN)
+        String echo(@Body String body) {
+            return body
+        }
+    }
+}
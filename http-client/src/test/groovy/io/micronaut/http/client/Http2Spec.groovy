@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.exceptions.HttpClientException
+import io.micronaut.http.netty.http2.AlpnSupport
+import io.micronaut.http.server.netty.NettyHttpRequest
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.handler.codec.http2.Http2StreamChannel
+import io.reactivex.Flowable
+import io.reactivex.Single
+import spock.lang.IgnoreIf
+import spock.lang.Specification
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class Http2Spec extends Specification {
+
+    void "test cleartext HTTP/2 with prior knowledge"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.http2': true,
+                'micronaut.http.client.http2': true
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'h2'
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        context.close()
+    }
+
+    void "test HTTP/1.1 clients are still served when HTTP/2 is enabled"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.http2': true
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'http/1.1'
+        client.toBlocking().retrieve(HttpRequest.POST('/http2/echo', 'foo').contentType(MediaType.TEXT_PLAIN_TYPE), String) == 'foo'
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        context.close()
+    }
+
+    void "test the client falls back to HTTP/1.1 connections"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.ssl.enabled': true,
+                'micronaut.ssl.buildSelfSigned': true,
+                'micronaut.ssl.port': -1,
+                'micronaut.http.client.http2': true
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'http/1.1'
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'http/1.1'
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        context.close()
+    }
+
+    void "test requests are multiplexed over a single cleartext connection"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.http2': true,
+                'micronaut.http.client.http2': true
+        )
+
+        expect:
+        assertMultiplexed(context, false)
+
+        cleanup:
+        context.close()
+    }
+
+    @IgnoreIf({ !AlpnSupport.isSupported() })
+    void "test requests are multiplexed over a single connection negotiated with ALPN"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.ssl.enabled': true,
+                'micronaut.ssl.buildSelfSigned': true,
+                'micronaut.ssl.port': -1,
+                'micronaut.server.netty.http2': true,
+                'micronaut.http.client.http2': true
+        )
+
+        expect:
+        assertMultiplexed(context, true)
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the server's concurrent stream limit is respected"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.http2': true,
+                'micronaut.server.netty.http2-max-concurrent-streams': 2,
+                'micronaut.http.client.http2': true
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        List<String> results = Flowable.range(1, 10)
+                .flatMap({ Integer i ->
+                    client.retrieve(HttpRequest.POST('/http2/echo', "body$i").contentType(MediaType.TEXT_PLAIN_TYPE), String)
+                })
+                .toList()
+                .blockingGet()
+
+        then:
+        results.toSet() == (1..10).collect { "body$it".toString() }.toSet()
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        context.close()
+    }
+
+    void "test a clear failure when the server does not answer the HTTP/2 connection preface"() {
+        given:
+        ServerSocket serverSocket = new ServerSocket(0)
+        Thread.start {
+            Socket socket = serverSocket.accept()
+            socket.inputStream.read(new byte[24])
+            socket.close()
+        }
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.http.client.http2': true
+        )
+        HttpClient client = context.createBean(HttpClient, new URL("http://localhost:$serverSocket.localPort"))
+
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String)
+
+        then:
+        HttpClientException e = thrown()
+        e.message.contains('HTTP/2 connection preface')
+
+        cleanup:
+        client.close()
+        serverSocket.close()
+        context.close()
+    }
+
+    void "test streamed request bodies over HTTP/2"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.server.netty.http2': true,
+                'micronaut.http.client.http2': true
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        List<String> result = client.toBlocking().retrieve(
+                HttpRequest.POST('/http2/strings', Flowable.fromArray('foo', 'bar')).contentType(MediaType.TEXT_PLAIN_TYPE),
+                List
+        )
+
+        then:
+        result.join('') == 'foobar'
+
+        when:
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/missing'), String)
+
+        then:
+        thrown(io.micronaut.http.client.exceptions.HttpClientResponseException)
+        client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'h2'
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        context.close()
+    }
+
+    private void assertMultiplexed(ApplicationContext context, boolean secure) {
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+        try {
+            List<String> results = Flowable.range(1, 20)
+                    .flatMap({ Integer i ->
+                        client.retrieve(HttpRequest.POST('/http2/echo', "body$i").contentType(MediaType.TEXT_PLAIN_TYPE), String)
+                    })
+                    .toList()
+                    .blockingGet()
+            Set<String> ports = (1..5).collect {
+                client.toBlocking().retrieve(HttpRequest.GET('/http2/port'), String)
+            } as Set
+
+            assert results.toSet() == (1..20).collect { "body$it".toString() }.toSet()
+            assert ports.size() == 1
+            assert client.toBlocking().retrieve(HttpRequest.GET('/http2/protocol'), String) == 'h2'
+            assert client.toBlocking().retrieve(HttpRequest.GET('/http2/secure'), String) == String.valueOf(secure)
+        } finally {
+            client.close()
+            embeddedServer.close()
+        }
+    }
+
+    @Controller('/http2')
+    static class Http2Controller {
+
+        @Get(uri = '/protocol', produces = MediaType.TEXT_PLAIN)
+        String protocol(HttpRequest<?> request) {
+            boolean http2 = ((NettyHttpRequest) request).channelHandlerContext.channel() instanceof Http2StreamChannel
+            return http2 ? 'h2' : 'http/1.1'
+        }
+
+        @Get(uri = '/port', produces = MediaType.TEXT_PLAIN)
+        String port(HttpRequest<?> request) {
+            return String.valueOf(request.remoteAddress.port)
+        }
+
+        @Get(uri = '/secure', produces = MediaType.TEXT_PLAIN)
+        String secure(HttpRequest<?> request) {
+            return String.valueOf(request.secure)
+        }
+
+        @Post(uri = '/echo', consumes = MediaType.TEXT_PLAIN, produces = MediaType.TEXT_PLAIN)
+        String echo(@Body String body) {
+            return body
+        }
+
+        @Post(uri = '/strings', consumes = MediaType.TEXT_PLAIN)
+        Single<List<String>> strings(@Body Flowable<String> strings) {
+            return strings.toList()
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.DefaultHttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class LatencyAwareHttpClientSpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer)
+
+    void "test the outcome of an exchange is reported to the load balancer"() {
+        given:
+        def loadBalancer = new RecordingLoadBalancer(ServiceInstance.of("test", embeddedServer.getURL()))
+        def client = new DefaultHttpClient(loadBalancer)
+
+        when:
+        def response = Flowable.fromPublisher(client.exchange(HttpRequest.GET("/latency-aware"), String)).blockingFirst()
+
+        then:
+        response.body() == "success"
+        loadBalancer.started == 1
+        loadBalancer.completed == 1
+        loadBalancer.cancelled == 0
+
+        cleanup:
+        client.close()
+    }
+
+    void "test an overridden request URI resolution is honoured"() {
+        given:
+        def loadBalancer = new RecordingLoadBalancer(ServiceInstance.of("test", "unknown", 8080))
+        def client = new DefaultHttpClient(loadBalancer) {
+            @Override
+            protected <I> Publisher<URI> resolveRequestURI(io.micronaut.http.HttpRequest<I> request) {
+                Flowable.just(embeddedServer.getURI().resolve(request.getUri()))
+            }
+        }
+
+        when:
+        def response = Flowable.fromPublisher(client.exchange(HttpRequest.GET("/latency-aware"), String)).blockingFirst()
+
+        then:
+        response.body() == "success"
+        loadBalancer.started == 0
+        loadBalancer.completed == 0
+
+        cleanup:
+        client.close()
+    }
+
+    static class RecordingLoadBalancer implements LatencyAwareLoadBalancer {
+        final ServiceInstance instance
+        int started
+        int completed
+        int cancelled
+
+        RecordingLoadBalancer(ServiceInstance instance) {
+            this.instance = instance
+        }
+
+        @Override
+        Publisher<ServiceInstance> select(Object discriminator) {
+            Flowable.just(instance)
+        }
+
+        @Override
+        synchronized void requestStarted(ServiceInstance instance) {
+            started++
+        }
+
+        @Override
+        synchronized void requestCompleted(ServiceInstance instance, long durationNanos, Throwable error) {
+            completed++
+        }
+
+        @Override
+        synchronized void requestCancelled(ServiceInstance instance) {
+            cancelled++
+        }
+    }
+
+    @Controller("/latency-aware")
+    static class LatencyAwareController {
+
+        @Get(produces = "text/plain")
+        String index() {
+            "success"
+        }
+    }
+}
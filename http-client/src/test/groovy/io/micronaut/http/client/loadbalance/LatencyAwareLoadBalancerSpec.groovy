@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.ServiceInstanceList
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class LatencyAwareLoadBalancerSpec extends Specification {
+
+    ServiceInstance fast = ServiceInstance.of("test", "fast", 8080)
+    ServiceInstance slow = ServiceInstance.of("test", "slow", 8080)
+
+    void "test the instance with the lower latency is preferred"() {
+        given:
+        def loadBalancer = createLoadBalancer()
+        loadBalancer.requestStarted(fast)
+        loadBalancer.requestCompleted(fast, TimeUnit.MILLISECONDS.toNanos(5), null)
+        loadBalancer.requestStarted(slow)
+        loadBalancer.requestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(500), null)
+
+        expect:
+        (1..20).every { select(loadBalancer) == fast }
+    }
+
+    void "test the instance with fewer requests in flight is preferred"() {
+        given:
+        def loadBalancer = createLoadBalancer()
+        3.times { loadBalancer.requestStarted(slow) }
+
+        expect:
+        (1..20).every { select(loadBalancer) == fast }
+
+        when:
+        3.times { loadBalancer.requestCancelled(slow) }
+        3.times { loadBalancer.requestStarted(fast) }
+
+        then:
+        (1..20).every { select(loadBalancer) == slow }
+    }
+
+    void "test an instance is ejected after consecutive failures"() {
+        given:
+        def loadBalancer = createLoadBalancer(consecutiveFailures: 2)
+        def error = new IOException("Connection refused")
+
+        when:
+        2.times {
+            loadBalancer.requestStarted(slow)
+            loadBalancer.requestCompleted(slow, 1000, error)
+        }
+
+        then:
+        (1..20).every { select(loadBalancer) == fast }
+
+        when: "every instance is ejected"
+        2.times {
+            loadBalancer.requestStarted(fast)
+            loadBalancer.requestCompleted(fast, 1000, error)
+        }
+
+        then: "they are all considered again"
+        (1..50).collect { select(loadBalancer) }.toSet() == [fast, slow] as Set
+    }
+
+    void "test client errors do not eject an instance"() {
+        given:
+        def loadBalancer = createLoadBalancer(consecutiveFailures: 1)
+
+        when:
+        loadBalancer.requestStarted(slow)
+        loadBalancer.requestCompleted(slow, 1000, new HttpClientResponseException("Not Found", HttpResponse.status(HttpStatus.NOT_FOUND)))
+
+        then:
+        (1..50).collect { select(loadBalancer) }.toSet() == [fast, slow] as Set
+    }
+
+    void "test the latency aware load balancer factories are used when enabled"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.http.client.load-balancer.enabled': true,
+                'micronaut.http.client.load-balancer.ejection-time': '1m'
+        )
+
+        expect:
+        context.getBean(ServiceInstanceListLoadBalancerFactory) instanceof ServiceInstanceListLatencyAwareLoadBalancerFactory
+        context.getBean(LatencyAwareLoadBalancerConfiguration).ejectionTime == Duration.ofMinutes(1)
+
+        cleanup:
+        context.close()
+    }
+
+    private ServiceInstance select(LatencyAwareLoadBalancer loadBalancer) {
+        Flowable.fromPublisher(loadBalancer.select()).blockingFirst()
+    }
+
+    private LatencyAwareLoadBalancer createLoadBalancer(Map<String, Object> settings = [:]) {
+        def configuration = new LatencyAwareLoadBalancerConfiguration()
+        settings.each { k, v -> configuration[k] = v }
+        new ServiceInstanceListLatencyAwareLoadBalancer(new ServiceInstanceList() {
+            @Override
+            String getID() {
+                "test"
+            }
+
+            @Override
+            List<ServiceInstance> getInstances() {
+                [fast, slow]
+            }
+        }, configuration)
+    }
+}
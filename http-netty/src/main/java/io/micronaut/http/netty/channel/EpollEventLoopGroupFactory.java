@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.channel;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An {@link EventLoopGroupFactory} that uses the native Linux epoll transport. Requires the
+ * {@code netty-transport-native-epoll} dependency to be on the classpath.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class EpollEventLoopGroupFactory implements EventLoopGroupFactory {
+
+    static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+
+    @Override
+    public EventLoopGroup createEventLoopGroup(int threads, @Nullable ThreadFactory threadFactory, @Nullable Integer ioRatio) {
+        EpollEventLoopGroup group = threadFactory != null ? new EpollEventLoopGroup(threads, threadFactory) : new EpollEventLoopGroup(threads);
+        if (ioRatio != null) {
+            group.setIoRatio(ioRatio);
+        }
+        return group;
+    }
+
+    @Override
+    public EventLoopGroup createEventLoopGroup(int threads, Executor executor, @Nullable Integer ioRatio) {
+        EpollEventLoopGroup group = new EpollEventLoopGroup(threads, executor);
+        if (ioRatio != null) {
+            group.setIoRatio(ioRatio);
+        }
+        return group;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> serverSocketChannelClass() {
+        return EpollServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> clientSocketChannelClass() {
+        return EpollSocketChannel.class;
+    }
+
+    @Override
+    public boolean isNative() {
+        return true;
+    }
+
+    @Override
+    public boolean isReusePortSupported() {
+        return true;
+    }
+
+    @Override
+    public void configureServerBootstrap(ServerBootstrap bootstrap, boolean reusePort, @Nullable Integer tcpFastOpen) {
+        bootstrap.option(EpollChannelOption.EPOLL_MODE, EpollMode.EDGE_TRIGGERED);
+        bootstrap.childOption(EpollChannelOption.EPOLL_MODE, EpollMode.EDGE_TRIGGERED);
+        if (reusePort) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        if (tcpFastOpen != null && tcpFastOpen > 0) {
+            bootstrap.option(EpollChannelOption.TCP_FASTOPEN, tcpFastOpen);
+        }
+    }
+
+    @Override
+    public void configureClientBootstrap(Bootstrap bootstrap, boolean tcpFastOpen) {
+        bootstrap.option(EpollChannelOption.EPOLL_MODE, EpollMode.EDGE_TRIGGERED);
+        if (tcpFastOpen) {
+            bootstrap.option(EpollChannelOption.TCP_FASTOPEN_CONNECT, true);
+        }
+    }
+
+    /**
+     * Whether the epoll transport is usable on the current platform. Should only be called once the presence of the
+     * epoll classes on the classpath has been established.
+     *
+     * @return True if epoll is available
+     */
+    static boolean isAvailable() {
+        return Epoll.isAvailable();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.channel;
+
+import io.micronaut.core.reflect.ClassUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Abstracts the Netty transport used to create {@link EventLoopGroup} instances and channels, allowing the native
+ * epoll transport to be used on Linux instead of NIO.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public interface EventLoopGroupFactory {
+
+    /**
+     * Creates an event loop group.
+     *
+     * @param threads       The number of threads, 0 for the Netty default
+     * @param threadFactory The thread factory or null to use the default
+     * @param ioRatio       The I/O ratio or null to use the default
+     * @return The event loop group
+     */
+    EventLoopGroup createEventLoopGroup(int threads, @Nullable ThreadFactory threadFactory, @Nullable Integer ioRatio);
+
+    /**
+     * Creates an event loop group backed by the given executor.
+     *
+     * @param threads  The number of threads, 0 for the Netty default
+     * @param executor The executor
+     * @param ioRatio  The I/O ratio or null to use the default
+     * @return The event loop group
+     */
+    EventLoopGroup createEventLoopGroup(int threads, Executor executor, @Nullable Integer ioRatio);
+
+    /**
+     * @return The server socket channel type for this transport
+     */
+    Class<? extends ServerSocketChannel> serverSocketChannelClass();
+
+    /**
+     * @return The client socket channel type for this transport
+     */
+    Class<? extends SocketChannel> clientSocketChannelClass();
+
+    /**
+     * @return Whether this is a native transport
+     */
+    default boolean isNative() {
+        return false;
+    }
+
+    /**
+     * Whether the transport supports binding multiple server channels to the same port with {@code SO_REUSEPORT}.
+     *
+     * @return True if {@code SO_REUSEPORT} is supported
+     */
+    default boolean isReusePortSupported() {
+        return false;
+    }
+
+    /**
+     * Applies transport specific options to a server bootstrap.
+     *
+     * @param bootstrap   The server bootstrap
+     * @param reusePort   Whether {@code SO_REUSEPORT} should be enabled
+     * @param tcpFastOpen The {@code TCP_FASTOPEN} pending request queue length or null to leave it disabled
+     */
+    default void configureServerBootstrap(ServerBootstrap bootstrap, boolean reusePort, @Nullable Integer tcpFastOpen) {
+        // no-op for NIO
+    }
+
+    /**
+     * Applies transport specific options to a client bootstrap.
+     *
+     * @param bootstrap   The client bootstrap
+     * @param tcpFastOpen Whether {@code TCP_FASTOPEN_CONNECT} should be enabled
+     */
+    default void configureClientBootstrap(Bootstrap bootstrap, boolean tcpFastOpen) {
+        // no-op for NIO
+    }
+
+    /**
+     * Resolves the factory to use. When the native transport is requested but not available (for example because the
+     * platform is not Linux or the {@code netty-transport-native-epoll} dependency is missing) NIO is used.
+     *
+     * @param useNativeTransport Whether the native transport should be used if available
+     * @return The factory
+     */
+    static EventLoopGroupFactory of(boolean useNativeTransport) {
+        if (useNativeTransport && ClassUtils.isPresent(EpollEventLoopGroupFactory.EPOLL_CLASS, EventLoopGroupFactory.class.getClassLoader())
+                && EpollEventLoopGroupFactory.isAvailable()) {
+            return new EpollEventLoopGroupFactory();
+        }
+        return NioEventLoopGroupFactory.INSTANCE;
+    }
+}
@@ -15,7 +15,7 @@
  */
 
 /**
- * Netty Thread factory.
+ * Netty thread factory and transport abstraction.
  *
  * @author Sergio del Amo
  * @since 1.0
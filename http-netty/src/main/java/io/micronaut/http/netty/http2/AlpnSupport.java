@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.http2;
+
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Utility methods for configuring ALPN (Application-Layer Protocol Negotiation) so that HTTP/2 can be negotiated
+ * over TLS.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public final class AlpnSupport {
+
+    private static final int JAVA_9 = 9;
+
+    private AlpnSupport() {
+    }
+
+    /**
+     * ALPN requires either OpenSSL (via {@code netty-tcnative}) or Java 9 and above.
+     *
+     * @return Whether ALPN is supported by the current runtime
+     */
+    public static boolean isSupported() {
+        return OpenSsl.isAlpnSupported() || PlatformDependent.javaVersion() >= JAVA_9;
+    }
+
+    /**
+     * Configures the given builder to advertise {@code h2} and {@code http/1.1} via ALPN. OpenSSL is preferred when
+     * available. The ciphers are restricted to those permitted by HTTP/2. Ciphers configured on the builder
+     * afterwards take precedence.
+     *
+     * @param builder The builder
+     * @return The builder
+     */
+    public static SslContextBuilder configure(SslContextBuilder builder) {
+        SslProvider provider = OpenSsl.isAlpnSupported() ? SslProvider.OPENSSL : SslProvider.JDK;
+        return builder
+            .sslProvider(provider)
+            .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+            .applicationProtocolConfig(new ApplicationProtocolConfig(
+                ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2,
+                ApplicationProtocolNames.HTTP_1_1
+            ));
+    }
+
+    /**
+     * @param sslContext The SSL context
+     * @return Whether the given context advertises HTTP/2 via ALPN
+     */
+    public static boolean isHttp2(SslContext sslContext) {
+        return sslContext != null && sslContext.applicationProtocolNegotiator().protocols().contains(ApplicationProtocolNames.HTTP_2);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.netty.http2;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * A handler placed at the head of an HTTP/2 stream channel pipeline that re-issues read requests made while the
+ * stream channel is delivering frames. Stream channels ignore a {@code read()} that arrives during an in-progress
+ * read, which stalls streamed request bodies when auto read is disabled and demand is signalled from within
+ * {@code channelRead}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class Http2StreamReadHandler extends ChannelDuplexHandler {
+
+    private boolean reading;
+    private boolean readPending;
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        reading = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        reading = false;
+        ctx.fireChannelReadComplete();
+        if (readPending) {
+            readPending = false;
+            ctx.read();
+        }
+    }
+
+    @Override
+    public void read(ChannelHandlerContext ctx) {
+        if (reading) {
+            readPending = true;
+        }
+        ctx.read();
+    }
+}
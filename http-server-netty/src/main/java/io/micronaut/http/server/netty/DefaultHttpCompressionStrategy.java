@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link HttpCompressionStrategy}. Compresses text based responses whose length reaches the configured
+ * threshold, with thresholds and levels optionally overridden per media type. The settings resolved for a content
+ * type are cached so that the content type is only parsed once.
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+@Singleton
+@Internal
+public class DefaultHttpCompressionStrategy implements HttpCompressionStrategy {
+
+    private static final int MAX_CACHED_CONTENT_TYPES = 256;
+    private static final Settings UNCOMPRESSIBLE = new Settings(false, 0, 0);
+
+    private final int compressionThreshold;
+    private final int compressionLevel;
+    private final Map<String, Integer> compressionThresholds;
+    private final Map<String, Integer> compressionLevels;
+    private final Map<String, Settings> settingsByContentType = new ConcurrentHashMap<>();
+
+    /**
+     * @param serverConfiguration The server configuration
+     */
+    public DefaultHttpCompressionStrategy(NettyHttpServerConfiguration serverConfiguration) {
+        this(
+            serverConfiguration.getCompressionThreshold(),
+            serverConfiguration.getCompressionLevel(),
+            serverConfiguration.getCompressionThresholds(),
+            serverConfiguration.getCompressionLevels()
+        );
+    }
+
+    /**
+     * @param compressionThreshold  The default compression threshold
+     * @param compressionLevel      The default compression level
+     * @param compressionThresholds The thresholds by media type extension
+     * @param compressionLevels     The levels by media type extension
+     */
+    DefaultHttpCompressionStrategy(
+        int compressionThreshold,
+        int compressionLevel,
+        Map<String, Integer> compressionThresholds,
+        Map<String, Integer> compressionLevels) {
+        this.compressionThreshold = compressionThreshold;
+        this.compressionLevel = compressionLevel;
+        this.compressionThresholds = compressionThresholds;
+        this.compressionLevels = compressionLevels;
+    }
+
+    @Override
+    public boolean shouldCompress(HttpResponse response) {
+        HttpHeaders headers = response.headers();
+        if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+            return false;
+        }
+        // byte ranges refer to the identity representation
+        if (response.status().code() == HttpResponseStatus.PARTIAL_CONTENT.code() || headers.contains(HttpHeaderNames.CONTENT_RANGE)) {
+            return false;
+        }
+        Settings settings = settingsFor(headers.get(HttpHeaderNames.CONTENT_TYPE));
+        if (!settings.compressible) {
+            return false;
+        }
+        Integer contentLength = headers.getInt(HttpHeaderNames.CONTENT_LENGTH);
+        return contentLength == null || contentLength < 0 || contentLength >= settings.threshold;
+    }
+
+    @Override
+    public int getCompressionLevel(HttpResponse response) {
+        Settings settings = settingsFor(response.headers().get(HttpHeaderNames.CONTENT_TYPE));
+        return settings.compressible ? settings.level : compressionLevel;
+    }
+
+    private Settings settingsFor(String contentType) {
+        if (contentType == null) {
+            return UNCOMPRESSIBLE;
+        }
+        Settings settings = settingsByContentType.get(contentType);
+        if (settings == null) {
+            settings = resolveSettings(contentType);
+            if (settingsByContentType.size() < MAX_CACHED_CONTENT_TYPES) {
+                settingsByContentType.put(contentType, settings);
+            }
+        }
+        return settings;
+    }
+
+    private Settings resolveSettings(String contentType) {
+        MediaType mediaType = new MediaType(contentType);
+        if (!mediaType.isTextBased()) {
+            return UNCOMPRESSIBLE;
+        }
+        String extension = mediaType.getExtension();
+        return new Settings(
+            true,
+            compressionThresholds.getOrDefault(extension, compressionThreshold),
+            compressionLevels.getOrDefault(extension, compressionLevel)
+        );
+    }
+
+    /**
+     * The compression settings resolved for a content type.
+     */
+    private static final class Settings {
+        final boolean compressible;
+        final int threshold;
+        final int level;
+
+        Settings(boolean compressible, int threshold, int level) {
+            this.compressible = compressible;
+            this.threshold = threshold;
+            this.level = level;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty;
+
+import io.micronaut.core.order.Ordered;
+import io.netty.channel.ChannelHandler;
+
+/**
+ * A content encoding that {@link SmartHttpContentCompressor} may use in addition to the built-in gzip and deflate
+ * support. Registering a bean of this type (for example one backed by a Brotli or Zstandard library) makes the
+ * encoding available to clients that list it in the {@code Accept-Encoding} header. Codecs are preferred over gzip
+ * and deflate and are consulted in {@link Ordered} order.
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+public interface HttpCompressionCodec extends Ordered {
+
+    /**
+     * @return The content encoding token, for example {@code br} or {@code zstd}
+     */
+    String getEncoding();
+
+    /**
+     * Creates a new encoder for a single response. The encoder receives the {@link io.netty.buffer.ByteBuf} content
+     * of the response and must produce the encoded bytes.
+     *
+     * @param compressionLevel The configured compression level on the gzip scale (0-9), which the codec may map to
+     *                         its own scale
+     * @return The encoder
+     */
+    ChannelHandler newEncoder(int compressionLevel);
+}
@@ -156,8 +156,13 @@ public class NettyHttpRequest<T> extends AbstractNettyHttpRequest<T> implements
 
     @Override
     public boolean isSecure() {
-        ChannelHandlerContext channelHandlerContext = getChannelHandlerContext();
-        return channelHandlerContext.pipeline().get(SslHandler.class) != null;
+        Channel channel = getChannelHandlerContext().channel();
+        if (channel.pipeline().get(SslHandler.class) != null) {
+            return true;
+        }
+        // HTTP/2 streams are child channels of the connection that holds the SSL handler
+        Channel parent = channel.parent();
+        return parent != null && parent.pipeline().get(SslHandler.class) != null;
     }
 
     @Override
@@ -29,7 +29,10 @@ import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.discovery.event.ServiceShutdownEvent;
 import io.micronaut.discovery.event.ServiceStartedEvent;
 import io.micronaut.http.codec.MediaTypeCodecRegistry;
+import io.micronaut.http.netty.channel.EventLoopGroupFactory;
 import io.micronaut.http.netty.channel.NettyThreadFactory;
+import io.micronaut.http.netty.http2.AlpnSupport;
+import io.micronaut.http.netty.http2.Http2StreamReadHandler;
 import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.exceptions.ServerStartupException;
 import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
@@ -50,19 +53,42 @@ import io.micronaut.web.router.resource.StaticResourceResolver;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpServerKeepAliveHandler;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.multipart.DiskFileUpload;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexCodec;
+import io.netty.handler.codec.http2.Http2MultiplexCodecBuilder;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.flow.FlowControlHandler;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AsciiString;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +102,9 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -95,6 +124,8 @@ import java.util.function.BiConsumer;
 public class NettyHttpServer implements EmbeddedServer {
     public static final String HTTP_STREAMS_CODEC = "http-streams-codec";
     public static final String HTTP_CODEC = "http-codec";
+    public static final String HTTP2_CODEC = "http2-codec";
+    public static final String HTTP2_NEGOTIATOR = "http2-negotiator";
     public static final String HTTP_COMPRESSOR = "http-compressor";
     public static final String MICRONAUT_HANDLER = "micronaut-inbound-handler";
     public static final String OUTBOUND_KEY = "-outbound-";
@@ -117,8 +148,11 @@ public class NettyHttpServer implements EmbeddedServer {
     private final ApplicationContext applicationContext;
     private final Optional<SslContext> sslContext;
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private NioEventLoopGroup workerGroup;
-    private NioEventLoopGroup parentGroup;
+    private final EventLoopGroupFactory eventLoopGroupFactory;
+    private final HttpCompressionStrategy compressionStrategy;
+    private final List<HttpCompressionCodec> compressionCodecs;
+    private EventLoopGroup workerGroup;
+    private EventLoopGroup parentGroup;
     private EmbeddedServerInstance serviceInstance;
 
     /**
@@ -169,8 +203,20 @@ public class NettyHttpServer implements EmbeddedServer {
         this.outboundHandlers = outboundHandlers;
         this.binderRegistry = binderRegistry;
         this.staticResourceResolver = resourceResolver;
-        this.sslContext = nettyServerSslBuilder.build();
+        this.sslContext = nettyServerSslBuilder.build(serverConfiguration.isHttp2());
+        if (serverConfiguration.isHttp2() && sslContext.isPresent() && !AlpnSupport.isHttp2(sslContext.get()) && LOG.isWarnEnabled()) {
+            LOG.warn("HTTP/2 over TLS requires ALPN which is not supported by the runtime. Add netty-tcnative or use Java 9+. Falling back to HTTP/1.1.");
+        }
         this.threadFactory = threadFactory;
+        this.eventLoopGroupFactory = EventLoopGroupFactory.of(serverConfiguration.isUseNativeTransport());
+        this.compressionStrategy = applicationContext.findBean(HttpCompressionStrategy.class)
+            .orElseGet(() -> new DefaultHttpCompressionStrategy(serverConfiguration));
+        List<HttpCompressionCodec> codecs = new ArrayList<>(applicationContext.getBeansOfType(HttpCompressionCodec.class));
+        OrderUtil.sort(codecs);
+        this.compressionCodecs = Collections.unmodifiableList(codecs);
+        if (serverConfiguration.isUseNativeTransport() && !eventLoopGroupFactory.isNative() && LOG.isWarnEnabled()) {
+            LOG.warn("Native transport requested but not available. Falling back to NIO.");
+        }
     }
 
     /**
@@ -192,18 +238,21 @@ public class NettyHttpServer implements EmbeddedServer {
             parentGroup = createParentEventLoopGroup();
             ServerBootstrap serverBootstrap = createServerBootstrap();
 
+            eventLoopGroupFactory.configureServerBootstrap(
+                serverBootstrap,
+                isReusePort(),
+                serverConfiguration.getTcpFastOpen().isPresent() ? serverConfiguration.getTcpFastOpen().getAsInt() : null
+            );
             processOptions(serverConfiguration.getOptions(), serverBootstrap::option);
             processOptions(serverConfiguration.getChildOptions(), serverBootstrap::childOption);
 
             serverBootstrap = serverBootstrap.group(parentGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(eventLoopGroupFactory.serverSocketChannelClass())
                 .childHandler(new ChannelInitializer() {
                     @Override
                     protected void initChannel(Channel ch) throws Exception {
                         ChannelPipeline pipeline = ch.pipeline();
 
-                        RequestBinderRegistry binderRegistry = NettyHttpServer.this.binderRegistry;
-
                         sslContext.ifPresent(ctx -> pipeline.addLast(ctx.newHandler(ch.alloc())));
 
                         serverConfiguration.getLogLevel().ifPresent(logLevel -> pipeline.addLast(new LoggingHandler(logLevel)));
@@ -212,30 +261,28 @@ public class NettyHttpServer implements EmbeddedServer {
                             (int) serverConfiguration.getWriteIdleTime().getSeconds(),
                             (int) serverConfiguration.getIdleTime().getSeconds()));
 
-                        pipeline.addLast(HTTP_CODEC, new HttpServerCodec(
-                                serverConfiguration.getMaxInitialLineLength(),
-                                serverConfiguration.getMaxHeaderSize(),
-                                serverConfiguration.getMaxChunkSize(),
-                                serverConfiguration.isValidateHeaders(),
-                                serverConfiguration.getInitialBufferSize()
-                        ));
-                        pipeline.addLast(new FlowControlHandler());
-                        pipeline.addLast(new HttpServerKeepAliveHandler());
-                        pipeline.addLast(HTTP_COMPRESSOR, new SmartHttpContentCompressor());
-                        pipeline.addLast(HTTP_STREAMS_CODEC, new HttpStreamsServerHandler());
-                        pipeline.addLast(HttpRequestDecoder.ID, new HttpRequestDecoder(NettyHttpServer.this, environment, serverConfiguration));
-                        pipeline.addLast(MICRONAUT_HANDLER, new RoutingInBoundHandler(
-                            beanLocator,
-                            router,
-                            mediaTypeCodecRegistry,
-                            customizableResponseTypeHandlerRegistry,
-                            staticResourceResolver,
-                            serverConfiguration,
-                            binderRegistry,
-                            executorSelector,
-                            ioExecutor
-                        ));
-                        registerMicronautChannelHandlers(pipeline);
+                        if (AlpnSupport.isHttp2(sslContext.orElse(null))) {
+                            pipeline.addLast(HTTP2_NEGOTIATOR, new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                                @Override
+                                protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                                    ChannelPipeline pipeline = ctx.pipeline();
+                                    if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                                        pipeline.addLast(HTTP2_CODEC, createHttp2Codec());
+                                        pipeline.addLast(new Http2ConnectionIdleHandler());
+                                    } else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
+                                        pipeline.addLast(HTTP_CODEC, createHttpServerCodec());
+                                        configureHttpPipeline(pipeline, HTTP_CODEC);
+                                    } else {
+                                        throw new IllegalStateException("Unsupported application protocol: " + protocol);
+                                    }
+                                }
+                            });
+                        } else if (serverConfiguration.isHttp2() && !sslContext.isPresent()) {
+                            configureCleartextHttp2Pipeline(pipeline);
+                        } else {
+                            pipeline.addLast(HTTP_CODEC, createHttpServerCodec());
+                            configureHttpPipeline(pipeline, HTTP_CODEC);
+                        }
                     }
                 });
 
@@ -258,10 +305,14 @@ public class NettyHttpServer implements EmbeddedServer {
             LOG.debug("Binding server to port: {}", serverPort);
         }
         try {
-            if (host.isPresent()) {
-                serverBootstrap.bind(host.get(), serverPort).sync();
-            } else {
-                serverBootstrap.bind(serverPort).sync();
+            // with SO_REUSEPORT one server channel is bound per parent thread so connections are accepted in parallel
+            int bindCount = isReusePort() ? parentGroupThreads() : 1;
+            for (int i = 0; i < bindCount; i++) {
+                if (host.isPresent()) {
+                    serverBootstrap.bind(host.get(), serverPort).sync();
+                } else {
+                    serverBootstrap.bind(serverPort).sync();
+                }
             }
 
             applicationContext.publishEvent(new ServerStartupEvent(this));
@@ -371,14 +422,14 @@ public class NettyHttpServer implements EmbeddedServer {
     /**
      * @return The parent event loop group
      */
-    protected NioEventLoopGroup createParentEventLoopGroup() {
+    protected EventLoopGroup createParentEventLoopGroup() {
         return newEventLoopGroup(serverConfiguration.getParent());
     }
 
     /**
      * @return The worker event loop group
      */
-    protected NioEventLoopGroup createWorkerEventLoopGroup() {
+    protected EventLoopGroup createWorkerEventLoopGroup() {
         return newEventLoopGroup(serverConfiguration.getWorker());
     }
 
@@ -389,30 +440,135 @@ public class NettyHttpServer implements EmbeddedServer {
         return new ServerBootstrap();
     }
 
-    private NioEventLoopGroup newEventLoopGroup(NettyHttpServerConfiguration.EventLoopConfig config) {
+    private boolean isReusePort() {
+        return serverConfiguration.isReusePort() && eventLoopGroupFactory.isReusePortSupported();
+    }
+
+    private int parentGroupThreads() {
+        // the configured number of threads is 0 unless set, in which case Netty picks the number of event loops
+        int threads = 0;
+        for (EventExecutor ignored : parentGroup) {
+            threads++;
+        }
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private EventLoopGroup newEventLoopGroup(NettyHttpServerConfiguration.EventLoopConfig config) {
         if (config != null) {
             Optional<ExecutorService> executorService = config.getExecutorName().flatMap(name -> beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name)));
-            NioEventLoopGroup group = executorService.map(service ->
-                new NioEventLoopGroup(config.getNumOfThreads(), service)
-            ).orElseGet(() -> {
-                if (threadFactory != null) {
-                    return new NioEventLoopGroup(config.getNumOfThreads(), threadFactory);
-                } else {
-                    return new NioEventLoopGroup(config.getNumOfThreads());
-                }
-            });
-            config.getIoRatio().ifPresent(group::setIoRatio);
-            return group;
+            Integer ioRatio = config.getIoRatio().isPresent() ? config.getIoRatio().getAsInt() : null;
+            return executorService.map(service ->
+                eventLoopGroupFactory.createEventLoopGroup(config.getNumOfThreads(), service, ioRatio)
+            ).orElseGet(() ->
+                eventLoopGroupFactory.createEventLoopGroup(config.getNumOfThreads(), threadFactory, ioRatio)
+            );
         } else {
-            if (threadFactory != null) {
-                return new NioEventLoopGroup(NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS, threadFactory);
-            } else {
-                return new NioEventLoopGroup();
-            }
+            return eventLoopGroupFactory.createEventLoopGroup(
+                threadFactory != null ? NettyThreadFactory.DEFAULT_EVENT_LOOP_THREADS : 0,
+                threadFactory,
+                null
+            );
         }
     }
 
-    private void registerMicronautChannelHandlers(ChannelPipeline pipeline) {
+    /**
+     * @return The HTTP/1.1 codec
+     */
+    private HttpServerCodec createHttpServerCodec() {
+        return new HttpServerCodec(
+            serverConfiguration.getMaxInitialLineLength(),
+            serverConfiguration.getMaxHeaderSize(),
+            serverConfiguration.getMaxChunkSize(),
+            serverConfiguration.isValidateHeaders(),
+            serverConfiguration.getInitialBufferSize()
+        );
+    }
+
+    /**
+     * Creates the HTTP/2 codec. Each HTTP/2 stream is mapped onto a child channel with its own request pipeline.
+     *
+     * @return The HTTP/2 codec
+     */
+    private Http2MultiplexCodec createHttp2Codec() {
+        Http2Settings settings = Http2Settings.defaultSettings();
+        serverConfiguration.getHttp2MaxConcurrentStreams().ifPresent(settings::maxConcurrentStreams);
+        Http2MultiplexCodecBuilder builder = Http2MultiplexCodecBuilder.forServer(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                ChannelPipeline pipeline = ch.pipeline();
+                pipeline.addLast(new Http2StreamReadHandler());
+                pipeline.addLast(HTTP_CODEC, new Http2ServerStreamCodec(serverConfiguration.isValidateHeaders()));
+                pipeline.addLast(new FlowControlHandler());
+                addRequestHandlers(pipeline);
+                registerMicronautChannelHandlers(pipeline, HTTP_CODEC);
+            }
+        })
+            .initialSettings(settings)
+            .validateHeaders(serverConfiguration.isValidateHeaders());
+        serverConfiguration.getLogLevel().ifPresent(logLevel -> builder.frameLogger(new Http2FrameLogger(logLevel, NettyHttpServer.class)));
+        return builder.build();
+    }
+
+    /**
+     * Configures a cleartext connection that supports HTTP/1.1, upgrading to HTTP/2 via the {@code h2c} upgrade
+     * header and HTTP/2 with prior knowledge.
+     *
+     * @param pipeline The pipeline
+     */
+    private void configureCleartextHttp2Pipeline(ChannelPipeline pipeline) {
+        HttpServerCodec sourceCodec = createHttpServerCodec();
+        HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec, protocol -> {
+            if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                return new Http2ServerUpgradeCodec(createHttp2Codec());
+            }
+            return null;
+        });
+        pipeline.addLast(new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler, createHttp2Codec()));
+        pipeline.addLast(new Http2ConnectionIdleHandler());
+        pipeline.addLast(new SimpleChannelInboundHandler<HttpMessage>() {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, HttpMessage msg) {
+                // the client did not upgrade, continue with HTTP/1.1
+                ChannelPipeline pipeline = ctx.pipeline();
+                ChannelHandlerContext codecContext = pipeline.context(sourceCodec);
+                configureHttpPipeline(pipeline, codecContext != null ? codecContext.name() : ctx.name());
+                pipeline.remove(this);
+                ctx.fireChannelRead(ReferenceCountUtil.retain(msg));
+            }
+        });
+    }
+
+    /**
+     * Adds the handlers for an HTTP/1.1 connection following the codec.
+     *
+     * @param pipeline  The pipeline
+     * @param codecName The name of the HTTP codec
+     */
+    private void configureHttpPipeline(ChannelPipeline pipeline, String codecName) {
+        pipeline.addLast(new FlowControlHandler());
+        pipeline.addLast(new HttpServerKeepAliveHandler());
+        addRequestHandlers(pipeline);
+        registerMicronautChannelHandlers(pipeline, codecName);
+    }
+
+    private void addRequestHandlers(ChannelPipeline pipeline) {
+        pipeline.addLast(HTTP_COMPRESSOR, new SmartHttpContentCompressor(compressionStrategy, compressionCodecs));
+        pipeline.addLast(HTTP_STREAMS_CODEC, new HttpStreamsServerHandler());
+        pipeline.addLast(HttpRequestDecoder.ID, new HttpRequestDecoder(this, environment, serverConfiguration));
+        pipeline.addLast(MICRONAUT_HANDLER, new RoutingInBoundHandler(
+            beanLocator,
+            router,
+            mediaTypeCodecRegistry,
+            customizableResponseTypeHandlerRegistry,
+            staticResourceResolver,
+            serverConfiguration,
+            binderRegistry,
+            executorSelector,
+            ioExecutor
+        ));
+    }
+
+    private void registerMicronautChannelHandlers(ChannelPipeline pipeline, String codecName) {
         int i = 0;
         for (ChannelHandler outboundHandlerAdapter : outboundHandlers) {
             String name;
@@ -421,7 +577,7 @@ public class NettyHttpServer implements EmbeddedServer {
             } else {
                 name = NettyHttpServer.MICRONAUT_HANDLER + NettyHttpServer.OUTBOUND_KEY + ++i;
             }
-            pipeline.addAfter(NettyHttpServer.HTTP_CODEC, name, outboundHandlerAdapter);
+            pipeline.addAfter(codecName, name, outboundHandlerAdapter);
         }
     }
 
@@ -445,4 +601,38 @@ public class NettyHttpServer implements EmbeddedServer {
             }
         }
     }
+
+    /**
+     * Closes an HTTP/2 connection once it has been idle for the configured idle time.
+     */
+    private static class Http2ConnectionIdleHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.ALL_IDLE) {
+                ctx.close();
+            } else {
+                super.userEventTriggered(ctx, evt);
+            }
+        }
+    }
+
+    /**
+     * Maps the frames of an HTTP/2 stream to HTTP/1.x messages. HTTP/2 has no chunked transfer encoding, so a
+     * request without a content length that does not end the stream is marked as chunked to signal that it has a body.
+     */
+    private static class Http2ServerStreamCodec extends Http2StreamFrameToHttpObjectCodec {
+        Http2ServerStreamCodec(boolean validateHeaders) {
+            super(true, validateHeaders);
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, Http2StreamFrame frame, List<Object> out) throws Exception {
+            super.decode(ctx, frame, out);
+            for (Object msg : out) {
+                if (msg instanceof HttpRequest && !(msg instanceof FullHttpRequest) && !HttpUtil.isContentLengthSet((HttpRequest) msg)) {
+                    HttpUtil.setTransferEncodingChunked((HttpRequest) msg, true);
+                }
+            }
+        }
+    }
 }
@@ -21,21 +21,26 @@ import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionError;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.server.binding.DefaultRequestBinderRegistry;
 import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.binding.binders.BodyArgumentBinder;
 import io.micronaut.http.server.binding.binders.NonBlockingBodyArgumentBinder;
+import io.micronaut.web.router.MethodBasedRouteMatch;
 import io.micronaut.web.router.RouteMatch;
 import io.micronaut.web.router.UnresolvedArgument;
 
 import javax.annotation.Nullable;
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class containing methods to aid in satisfying arguments of a {@link io.micronaut.web.router.Route}.
@@ -47,12 +52,15 @@ import java.util.Optional;
 class RequestArgumentSatisfier {
 
     private final RequestBinderRegistry binderRegistry;
+    private final boolean planBindings;
+    private volatile BindingPlans bindingPlans = new BindingPlans(-1);
 
     /**
      * @param requestBinderRegistry The Request binder registry
      */
     RequestArgumentSatisfier(RequestBinderRegistry requestBinderRegistry) {
         this.binderRegistry = requestBinderRegistry;
+        this.planBindings = isRequestIndependent(requestBinderRegistry) && !overridesValueLookup(getClass());
     }
 
     /**
@@ -72,10 +80,14 @@ class RequestArgumentSatisfier {
             argumentValues = Collections.emptyMap();
         } else {
             argumentValues = new LinkedHashMap<>();
+            ArgumentBinding[] bindingPlan = getBindingPlan(route, request);
             // Begin try fulfilling the argument requirements
             for (Argument argument : requiredArguments) {
-                getValueForArgument(argument, request, satisfyOptionals).ifPresent((value) ->
-                    argumentValues.put(argument.getName(), value));
+                ArgumentBinding binding = findBinding(bindingPlan, argument);
+                Optional<Object> value = binding != null ?
+                    getValueForArgument(binding, request, satisfyOptionals) :
+                    getValueForArgument(argument, request, satisfyOptionals);
+                value.ifPresent(v -> argumentValues.put(argument.getName(), v));
             }
         }
 
@@ -90,58 +102,181 @@ class RequestArgumentSatisfier {
      * @return An {@link Optional} for the value
      */
     protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
-        Object value = null;
         Optional<ArgumentBinder> registeredBinder =
             binderRegistry.findArgumentBinder(argument, request);
         if (registeredBinder.isPresent()) {
-            ArgumentBinder argumentBinder = registeredBinder.get();
-            ArgumentConversionContext conversionContext = ConversionContext.of(
-                argument,
-                request.getLocale().orElse(null),
-                request.getCharacterEncoding()
-            );
-
-            if (argumentBinder instanceof BodyArgumentBinder) {
-                if (argumentBinder instanceof NonBlockingBodyArgumentBinder) {
-                    ArgumentBinder.BindingResult bindingResult = argumentBinder
-                        .bind(conversionContext, request);
-
-                    if (bindingResult.isPresentAndSatisfied()) {
-                        value = bindingResult.get();
-                    }
+            return getValueForArgument(new ArgumentBinding(argument, registeredBinder.get()), request, satisfyOptionals);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the bindings of the arguments of the method a route invokes the first time the method is routed to.
+     * Binders are only reused across requests if the registry selects them from the argument alone, and are resolved
+     * again once binders are added to the registry.
+     *
+     * @param route   The route
+     * @param request The HTTP request
+     * @return The bindings indexed by argument position or null if the bindings must be resolved for each request
+     */
+    private ArgumentBinding[] getBindingPlan(RouteMatch<?> route, HttpRequest<?> request) {
+        if (!planBindings || !(route instanceof MethodBasedRouteMatch)) {
+            return null;
+        }
+        // read the version before looking up binders, so that plans are never older than the version they are kept for
+        long version = ((DefaultRequestBinderRegistry) binderRegistry).getVersion();
+        BindingPlans plans = bindingPlans;
+        if (plans.version != version) {
+            plans = new BindingPlans(version);
+            bindingPlans = plans;
+        }
+        MethodBasedRouteMatch<?> methodRoute = (MethodBasedRouteMatch<?>) route;
+        Method method = methodRoute.getTargetMethod();
+        ArgumentBinding[] bindingPlan = plans.plans.get(method);
+        if (bindingPlan == null) {
+            Argument[] arguments = methodRoute.getArguments();
+            bindingPlan = new ArgumentBinding[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                Argument argument = arguments[i];
+                Optional<ArgumentBinder> registeredBinder = binderRegistry.findArgumentBinder(argument, request);
+                if (registeredBinder.isPresent()) {
+                    bindingPlan[i] = new ArgumentBinding(argument, registeredBinder.get());
+                }
+            }
+            plans.plans.put(method, bindingPlan);
+        }
+        return bindingPlan;
+    }
 
-                } else {
-                    ((NettyHttpRequest) request).setBodyRequired(true);
+    /**
+     * The default registry selects binders from the argument alone, other registries may select them based on the
+     * request (for example its content type) hence their binders are resolved for each request.
+     *
+     * @param registry The registry
+     * @return Whether the binders of the registry do not depend on the request
+     */
+    private static boolean isRequestIndependent(RequestBinderRegistry registry) {
+        return registry instanceof DefaultRequestBinderRegistry &&
+            ReflectionUtils.findMethod(registry.getClass(), "findArgumentBinder", Argument.class, HttpRequest.class)
+                .map(method -> method.getDeclaringClass() == DefaultRequestBinderRegistry.class)
+                .orElse(false);
+    }
 
-                    value = (UnresolvedArgument) () -> argumentBinder.bind(conversionContext, request);
+    /**
+     * Planned bindings bypass {@link #getValueForArgument(Argument, HttpRequest, boolean)}, hence they are not used
+     * by subclasses that override it.
+     *
+     * @param type The type of the satisfier
+     * @return Whether the type overrides the lookup of argument values
+     */
+    private static boolean overridesValueLookup(Class<?> type) {
+        return ReflectionUtils.findMethod(type, "getValueForArgument", Argument.class, HttpRequest.class, boolean.class)
+            .map(method -> method.getDeclaringClass() != RequestArgumentSatisfier.class)
+            .orElse(false);
+    }
+
+    private ArgumentBinding findBinding(ArgumentBinding[] bindingPlan, Argument argument) {
+        if (bindingPlan != null) {
+            // required arguments are the argument instances of the method, so an identity scan is enough
+            for (ArgumentBinding binding : bindingPlan) {
+                if (binding != null && binding.argument == argument) {
+                    return binding;
                 }
-            } else {
+            }
+        }
+        return null;
+    }
+
+    private Optional<Object> getValueForArgument(ArgumentBinding binding, HttpRequest<?> request, boolean satisfyOptionals) {
+        Object value = null;
+        Argument argument = binding.argument;
+        ArgumentBinder argumentBinder = binding.binder;
+        ArgumentConversionContext conversionContext = ConversionContext.of(
+            argument,
+            request.getLocale().orElse(null),
+            request.getCharacterEncoding()
+        );
 
+        if (binding.isBody) {
+            if (binding.isNonBlocking) {
                 ArgumentBinder.BindingResult bindingResult = argumentBinder
                     .bind(conversionContext, request);
-                if (argument.getType() == Optional.class) {
-                    if (bindingResult.isSatisfied() || satisfyOptionals) {
-                        Optional optionalValue = bindingResult.getValue();
-                        if (optionalValue.isPresent()) {
-                            value = optionalValue.get();
-                        } else {
-                            value = optionalValue;
-                        }
-                    }
-                } else if (bindingResult.isPresentAndSatisfied()) {
+
+                if (bindingResult.isPresentAndSatisfied()) {
                     value = bindingResult.get();
-                } else if (HttpMethod.requiresRequestBody(request.getMethod()) || argument.getDeclaredAnnotation(Nullable.class) != null) {
-                    value = (UnresolvedArgument) () -> {
-                        ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
-                        Optional<ConversionError> lastError = conversionContext.getLastError();
-                        if (lastError.isPresent()) {
-                            return (ArgumentBinder.BindingResult) () -> lastError;
-                        }
-                        return result;
-                    };
                 }
+
+            } else {
+                ((NettyHttpRequest) request).setBodyRequired(true);
+
+                value = (UnresolvedArgument) () -> argumentBinder.bind(conversionContext, request);
+            }
+        } else {
+
+            ArgumentBinder.BindingResult bindingResult = argumentBinder
+                .bind(conversionContext, request);
+            if (binding.isOptional) {
+                if (bindingResult.isSatisfied() || satisfyOptionals) {
+                    Optional optionalValue = bindingResult.getValue();
+                    if (optionalValue.isPresent()) {
+                        value = optionalValue.get();
+                    } else {
+                        value = optionalValue;
+                    }
+                }
+            } else if (bindingResult.isPresentAndSatisfied()) {
+                value = bindingResult.get();
+            } else if (binding.isNullable || HttpMethod.requiresRequestBody(request.getMethod())) {
+                value = (UnresolvedArgument) () -> {
+                    ArgumentBinder.BindingResult result = argumentBinder.bind(conversionContext, request);
+                    Optional<ConversionError> lastError = conversionContext.getLastError();
+                    if (lastError.isPresent()) {
+                        return (ArgumentBinder.BindingResult) () -> lastError;
+                    }
+                    return result;
+                };
             }
         }
         return Optional.ofNullable(value);
     }
+
+    /**
+     * The binding plans of the methods routed to, resolved with the binders of the given registry version.
+     */
+    private static final class BindingPlans {
+        final long version;
+        final Map<Method, ArgumentBinding[]> plans = new ConcurrentHashMap<>();
+
+        /**
+         * @param version The version of the registry
+         */
+        BindingPlans(long version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * The binder of an argument together with the properties of the argument that determine how it is bound.
+     */
+    private static final class ArgumentBinding {
+        final Argument argument;
+        final ArgumentBinder binder;
+        final boolean isBody;
+        final boolean isNonBlocking;
+        final boolean isOptional;
+        final boolean isNullable;
+
+        /**
+         * @param argument The argument
+         * @param binder   The binder
+         */
+        ArgumentBinding(Argument argument, ArgumentBinder binder) {
+            this.argument = argument;
+            this.binder = binder;
+            this.isBody = binder instanceof BodyArgumentBinder;
+            this.isNonBlocking = binder instanceof NonBlockingBodyArgumentBinder;
+            this.isOptional = argument.getType() == Optional.class;
+            this.isNullable = argument.getDeclaredAnnotation(Nullable.class) != null;
+        }
+    }
 }
@@ -17,7 +17,12 @@
 package io.micronaut.http.server.netty;
 
 import io.micronaut.http.MediaType;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -25,11 +30,13 @@ import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * An extension of {@link HttpContentCompressor} that skips encoding if the content type is not compressible or if
- * the content is too small.
+ * the content is too small. Whether to compress and at which level is decided by a {@link HttpCompressionStrategy},
+ * and any registered {@link HttpCompressionCodec} is preferred over gzip and deflate when the client accepts it.
  *
  * @author James Kleeh
  * @since 1.0
@@ -37,8 +44,35 @@ import java.util.List;
 public class SmartHttpContentCompressor extends HttpContentCompressor {
 
     private static final int LENGTH_1KB = 1024;
+    private static final int DEFAULT_WINDOW_BITS = 15;
+    private static final int DEFAULT_MEM_LEVEL = 8;
+
+    private final HttpCompressionStrategy compressionStrategy;
+    private final List<HttpCompressionCodec> compressionCodecs;
+    private ChannelHandlerContext ctx;
     private boolean skipEncoding = false;
 
+    /**
+     * Creates a compressor with the default threshold and level.
+     */
+    public SmartHttpContentCompressor() {
+        this(new DefaultHttpCompressionStrategy(
+            NettyHttpServerConfiguration.DEFAULT_COMPRESSION_THRESHOLD,
+            NettyHttpServerConfiguration.DEFAULT_COMPRESSION_LEVEL,
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        ), Collections.emptyList());
+    }
+
+    /**
+     * @param compressionStrategy The strategy that decides whether and how strongly to compress
+     * @param compressionCodecs   Additional codecs, in order of preference
+     */
+    public SmartHttpContentCompressor(HttpCompressionStrategy compressionStrategy, List<HttpCompressionCodec> compressionCodecs) {
+        this.compressionStrategy = compressionStrategy;
+        this.compressionCodecs = compressionCodecs;
+    }
+
     /**
      * Determines if encoding should occur based on the content type and length.
      *
@@ -63,21 +97,116 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
         return shouldSkip(headers.get(HttpHeaderNames.CONTENT_TYPE), headers.getInt(HttpHeaderNames.CONTENT_LENGTH));
     }
 
+    /**
+     * @param response The response
+     * @return True if this compressor would compress the given response
+     */
+    public boolean shouldCompress(HttpResponse response) {
+        return compressionStrategy.shouldCompress(response);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
         if (msg instanceof HttpResponse) {
-            HttpResponse res = (HttpResponse) msg;
-            HttpHeaders headers = res.headers();
-            skipEncoding = shouldSkip(headers);
+            skipEncoding = !compressionStrategy.shouldCompress((HttpResponse) msg);
         }
         super.encode(ctx, msg, out);
     }
 
     @Override
-    protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
+    protected Result beginEncode(HttpResponse response, String acceptEncoding) throws Exception {
         if (skipEncoding) {
             return null;
         }
-        return super.beginEncode(headers, acceptEncoding);
+        Result result = selectEncoder(response, acceptEncoding);
+        if (result != null) {
+            // a strong entity tag identifies the identity body, which the compressed body is not byte for byte
+            String etag = response.headers().get(HttpHeaderNames.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                response.headers().set(HttpHeaderNames.ETAG, "W/" + etag);
+            }
+        }
+        return result;
+    }
+
+    private Result selectEncoder(HttpResponse response, String acceptEncoding) {
+        int compressionLevel = compressionStrategy.getCompressionLevel(response);
+        for (HttpCompressionCodec codec : compressionCodecs) {
+            String encoding = codec.getEncoding();
+            if (accepts(acceptEncoding, encoding)) {
+                return new Result(encoding, newEncoderChannel(codec.newEncoder(compressionLevel)));
+            }
+        }
+
+        ZlibWrapper wrapper = determineWrapper(acceptEncoding);
+        if (wrapper == null) {
+            return null;
+        }
+        String targetContentEncoding;
+        switch (wrapper) {
+            case GZIP:
+                targetContentEncoding = "gzip";
+                break;
+            case ZLIB:
+                targetContentEncoding = "deflate";
+                break;
+            default:
+                return null;
+        }
+        return new Result(targetContentEncoding, newEncoderChannel(
+            ZlibCodecFactory.newZlibEncoder(wrapper, compressionLevel, DEFAULT_WINDOW_BITS, DEFAULT_MEM_LEVEL)
+        ));
+    }
+
+    private EmbeddedChannel newEncoderChannel(ChannelHandler encoder) {
+        return new EmbeddedChannel(
+            ctx.channel().id(),
+            ctx.channel().metadata().hasDisconnect(),
+            ctx.channel().config(),
+            encoder
+        );
+    }
+
+    /**
+     * Whether the given {@code Accept-Encoding} header value accepts the encoding with a non-zero quality.
+     *
+     * @param acceptEncoding The header value
+     * @param encoding       The encoding
+     * @return True if it is accepted
+     */
+    public static boolean accepts(String acceptEncoding, String encoding) {
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            String token = acceptEncoding.substring(start, end);
+            int semi = token.indexOf(';');
+            String name = (semi == -1 ? token : token.substring(0, semi)).trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                if (semi == -1) {
+                    return true;
+                }
+                String param = token.substring(semi + 1).trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Float.parseFloat(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
     }
 }
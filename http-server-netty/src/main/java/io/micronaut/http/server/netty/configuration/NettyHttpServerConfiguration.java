@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * Allows configuring Netty within {@link io.micronaut.http.server.netty.NettyHttpServer}.
@@ -38,6 +39,18 @@ import java.util.OptionalInt;
 @ConfigurationProperties("netty")
 public class NettyHttpServerConfiguration extends HttpServerConfiguration {
 
+    /**
+     * The default minimum response size in bytes before compression is applied.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    /**
+     * The default compression level.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
     protected Map<ChannelOption, Object> childOptions = Collections.emptyMap();
     protected Map<ChannelOption, Object> options = Collections.emptyMap();
     protected Worker worker;
@@ -52,6 +65,16 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     protected boolean validateHeaders = true;
     protected int initialBufferSize = 128;
     protected LogLevel logLevel;
+    protected boolean useNativeTransport = false;
+    protected boolean reusePort = false;
+    protected Integer tcpFastOpen;
+    protected boolean http2 = false;
+    protected Long http2MaxConcurrentStreams;
+    @ReadableBytes
+    protected int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    protected int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    protected Map<String, Integer> compressionThresholds = Collections.emptyMap();
+    protected Map<String, Integer> compressionLevels = Collections.emptyMap();
 
     /**
      * Default empty constructor.
@@ -130,6 +153,101 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         return initialBufferSize;
     }
 
+    /**
+     * Whether to use the native epoll transport when it is available. Falls back to NIO if the platform is not Linux
+     * or the {@code netty-transport-native-epoll} dependency is not present. Defaults to false.
+     *
+     * @return True if the native transport should be used
+     */
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    /**
+     * Whether to bind the server socket with {@code SO_REUSEPORT}, which allows one server channel to be bound per
+     * parent event loop thread so that connections are accepted in parallel. Only applies to the native transport.
+     * Defaults to false.
+     *
+     * @return True if {@code SO_REUSEPORT} should be used
+     */
+    public boolean isReusePort() {
+        return reusePort;
+    }
+
+    /**
+     * The length of the pending {@code TCP_FASTOPEN} request queue. Only applies to the native transport.
+     *
+     * @return The queue length or empty if TCP fast open is disabled
+     */
+    public OptionalInt getTcpFastOpen() {
+        if (tcpFastOpen != null) {
+            return OptionalInt.of(tcpFastOpen);
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Whether to support HTTP/2. When SSL is enabled HTTP/2 is negotiated via ALPN, otherwise both cleartext
+     * upgrade and prior knowledge (h2c) are supported. HTTP/1.1 clients continue to be served. Defaults to false.
+     *
+     * @return True if HTTP/2 is enabled
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * The maximum number of concurrent streams a client may open on a single HTTP/2 connection.
+     *
+     * @return The maximum number of concurrent streams or empty if unlimited
+     */
+    public OptionalLong getHttp2MaxConcurrentStreams() {
+        if (http2MaxConcurrentStreams != null) {
+            return OptionalLong.of(http2MaxConcurrentStreams);
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * The minimum size in bytes a response must have to be compressed. Responses of unknown length are always
+     * compressed. Defaults to {@value #DEFAULT_COMPRESSION_THRESHOLD}.
+     *
+     * @return The compression threshold
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * The compression level (0-9) used for gzip and deflate. Defaults to {@value #DEFAULT_COMPRESSION_LEVEL}.
+     *
+     * @return The compression level
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Compression thresholds that override {@link #getCompressionThreshold()} for specific media types, keyed by the
+     * media type extension. For example {@code json} applies to both {@code application/json} and
+     * {@code application/hal+json}.
+     *
+     * @return The compression thresholds by media type extension
+     */
+    public Map<String, Integer> getCompressionThresholds() {
+        return compressionThresholds;
+    }
+
+    /**
+     * Compression levels that override {@link #getCompressionLevel()} for specific media types, keyed by the media
+     * type extension.
+     *
+     * @return The compression levels by media type extension
+     */
+    public Map<String, Integer> getCompressionLevels() {
+        return compressionLevels;
+    }
+
     /**
      * @return The Netty child channel options.
      * @see io.netty.bootstrap.ServerBootstrap#childOptions()
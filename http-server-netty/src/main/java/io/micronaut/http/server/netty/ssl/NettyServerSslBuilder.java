@@ -17,6 +17,7 @@
 package io.micronaut.http.server.netty.ssl;
 
 import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.http.netty.http2.AlpnSupport;
 import io.micronaut.http.ssl.*;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
@@ -54,16 +55,32 @@ public class NettyServerSslBuilder extends SslBuilder<SslContext> {
         return (ServerSslConfiguration) ssl;
     }
 
-    @SuppressWarnings("Duplicates")
     @Override
     public Optional<SslContext> build() {
+        return build(false);
+    }
+
+    /**
+     * Builds the SSL context, optionally advertising HTTP/2 via ALPN. If ALPN is not supported by the runtime
+     * the context will only support HTTP/1.1.
+     *
+     * @param http2 Whether HTTP/2 should be negotiated
+     * @return The SSL context if SSL is enabled
+     */
+    @SuppressWarnings("Duplicates")
+    public Optional<SslContext> build(boolean http2) {
         if (!ssl.isEnabled()) {
             return Optional.empty();
         }
+        boolean alpn = http2 && AlpnSupport.isSupported();
         if (ssl.buildSelfSigned()) {
             try {
                 SelfSignedCertificate ssc = new SelfSignedCertificate();
-                return Optional.of(SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey()).build());
+                SslContextBuilder sslBuilder = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey());
+                if (alpn) {
+                    AlpnSupport.configure(sslBuilder);
+                }
+                return Optional.of(sslBuilder.build());
             } catch (CertificateException | SSLException e) {
                 throw new SslConfigurationException("Encountered an error while building a self signed certificate", e);
             }
@@ -71,6 +88,9 @@ public class NettyServerSslBuilder extends SslBuilder<SslContext> {
         SslContextBuilder sslBuilder = SslContextBuilder
             .forServer(getKeyManagerFactory())
             .trustManager(getTrustManagerFactory());
+        if (alpn) {
+            AlpnSupport.configure(sslBuilder);
+        }
 
         if (ssl.getProtocols().isPresent()) {
             sslBuilder.protocols(ssl.getProtocols().get());
@@ -18,31 +18,45 @@ package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
+import io.micronaut.http.server.netty.SmartHttpContentCompressor;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
 import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
 import io.micronaut.http.server.types.CustomizableResponseTypeException;
 import io.micronaut.http.server.types.files.StreamedFile;
 import io.micronaut.http.server.types.files.SystemFileCustomizableResponseType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpResponse;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Responsible for writing files out to the response in Netty.
  *
+ * <p>Files on disk are served with an {@code ETag} and support conditional requests as well as single and multipart
+ * byte range requests. Small files are kept in memory by a {@link HotFileCache}.</p>
+ *
  * @author James Kleeh
  * @since 1.0
  */
@@ -50,18 +64,30 @@ import java.util.Optional;
 public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Object> {
 
     private static final Class<?>[] SUPPORTED_TYPES = new Class[]{File.class, SystemFileCustomizableResponseType.class, StreamedFile.class, NettyFileCustomizableResponseType.class};
+    private static final String[] PRECOMPRESSED_ENCODINGS = {"br", "gzip"};
+    private static final String[] PRECOMPRESSED_EXTENSIONS = {".br", ".gz"};
+    private static final int MAX_RANGES = 16;
     private final FileTypeHandlerConfiguration configuration;
+    private final HotFileCache cache;
 
     /**
      * @param configuration The file type handler configuration
      */
     public FileTypeHandler(FileTypeHandlerConfiguration configuration) {
         this.configuration = configuration;
+        this.cache = new HotFileCache(configuration.getCacheMaxSize(), configuration.getCacheMaxFileSize());
     }
 
     @SuppressWarnings("MagicNumber")
     @Override
     public void handle(Object obj, HttpRequest<?> request, NettyMutableHttpResponse<?> response, ChannelHandlerContext context) {
+        SystemFileCustomizableResponseType systemFile = toSystemFile(obj);
+        if (systemFile != null) {
+            handleSystemFile(systemFile, isPlainFile(obj), request, response, context);
+            context.read();
+            return;
+        }
+
         NettyFileCustomizableResponseType type;
         if (obj instanceof File) {
             type = new NettySystemFileCustomizableResponseType((File) obj);
@@ -146,10 +172,229 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         headers.date(now);
     }
 
+    /**
+     * Generates the {@code ETag} of a file from its last modified date and length.
+     *
+     * @param lastModified The last modified date of the file
+     * @param length       The length of the file
+     * @return The entity tag
+     */
+    protected String generateEtag(long lastModified, long length) {
+        String tag = '"' + Long.toHexString(lastModified) + '-' + Long.toHexString(length) + '"';
+        return configuration.isWeakEtags() ? "W/" + tag : tag;
+    }
+
+    /**
+     * Looks for a precompressed sibling of the file that the client accepts and, if found, sets the
+     * {@code Content-Encoding} and returns the sibling to be written in place of the file.
+     *
+     * @param file     The file
+     * @param request  The request
+     * @param response The response
+     * @return The file to write
+     */
+    protected File resolvePrecompressed(File file, HttpRequest<?> request, MutableHttpResponse<?> response) {
+        String acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+        boolean hasVariants = false;
+        for (int i = 0; i < PRECOMPRESSED_ENCODINGS.length; i++) {
+            File sibling = new File(file.getPath() + PRECOMPRESSED_EXTENSIONS[i]);
+            if (sibling.isFile() && sibling.lastModified() >= file.lastModified()) {
+                hasVariants = true;
+                String encoding = PRECOMPRESSED_ENCODINGS[i];
+                if (acceptEncoding != null && SmartHttpContentCompressor.accepts(acceptEncoding, encoding)) {
+                    response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+                    response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    return sibling;
+                }
+            }
+        }
+        if (hasVariants) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return file;
+    }
+
+    /**
+     * Releases the contents of cached files.
+     */
+    @PreDestroy
+    public void close() {
+        cache.clear();
+    }
+
+    private void handleSystemFile(SystemFileCustomizableResponseType systemFile, boolean plainFile, HttpRequest<?> request, NettyMutableHttpResponse<?> response, ChannelHandlerContext context) {
+        File file = systemFile.getFile();
+        if (!file.isFile() || !file.canRead()) {
+            throw new CustomizableResponseTypeException("Could not find file");
+        }
+        File source = file;
+        if (plainFile && configuration.isPrecompressed()) {
+            source = resolvePrecompressed(file, request, response);
+        }
+        long lastModified = systemFile.getLastModified();
+        long sourceLastModified = source.lastModified();
+        long length = source.length();
+        String etag = generateEtag(sourceLastModified, length);
+
+        if (isNotModified(request, etag, lastModified)) {
+            context.writeAndFlush(notModified(etag));
+            return;
+        }
+
+        if (!response.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
+            response.header(HttpHeaders.CONTENT_TYPE, getMediaType(systemFile.getName()));
+        }
+        setDateAndCacheHeaders(response, lastModified);
+        response.header(HttpHeaders.ETAG, etag);
+        response.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        systemFile.process(response);
+
+        List<ByteRange> ranges = resolveRanges(request, etag, lastModified, length);
+        if (ranges == null) {
+            response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+            ByteBuf content = cache.get(source, sourceLastModified, length, context.alloc());
+            if (content != null) {
+                response.replace(content);
+                context.writeAndFlush(response.getNativeResponse());
+            } else {
+                new NettySystemFileCustomizableResponseType(source).write(request, response, context);
+            }
+        } else if (ranges.isEmpty()) {
+            response.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.header(HttpHeaders.CONTENT_LENGTH, "0");
+            context.writeAndFlush(response.getNativeResponse());
+        } else {
+            response.status(HttpStatus.PARTIAL_CONTENT);
+            writeRanges(source, sourceLastModified, length, ranges, response, context);
+        }
+    }
+
+    private void writeRanges(File source, long lastModified, long length, List<ByteRange> ranges, NettyMutableHttpResponse<?> response, ChannelHandlerContext context) {
+        ByteBuf content = cache.get(source, lastModified, length, context.alloc());
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.header(HttpHeaders.CONTENT_RANGE, range.toContentRange(length));
+            response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(range.length()));
+            if (content != null) {
+                response.replace(content.slice((int) range.start, (int) range.length()));
+                context.writeAndFlush(response.getNativeResponse());
+            } else {
+                new NettySystemFileCustomizableResponseType(source).writeRanges(ranges, null, null, response, context);
+            }
+            return;
+        }
+
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        String contentType = response.getHeaders().get(HttpHeaders.CONTENT_TYPE);
+        List<ByteBuf> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            String partHeader = "\r\n--" + boundary + "\r\n" +
+                HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n" +
+                HttpHeaders.CONTENT_RANGE + ": " + range.toContentRange(length) + "\r\n\r\n";
+            ByteBuf header = Unpooled.copiedBuffer(partHeader, StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.readableBytes() + range.length();
+        }
+        ByteBuf closingBoundary = Unpooled.copiedBuffer("\r\n--" + boundary + "--\r\n", StandardCharsets.US_ASCII);
+        contentLength += closingBoundary.readableBytes();
+
+        MutableHttpHeaders headers = response.getHeaders();
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        headers.add(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary);
+        headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+        if (content != null) {
+            CompositeByteBuf body = context.alloc().compositeBuffer(ranges.size() * 2 + 1);
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                body.addComponent(true, partHeaders.get(i));
+                body.addComponent(true, content.retainedSlice((int) range.start, (int) range.length()));
+            }
+            body.addComponent(true, closingBoundary);
+            content.release();
+            response.replace(body);
+            context.writeAndFlush(response.getNativeResponse());
+        } else {
+            new NettySystemFileCustomizableResponseType(source).writeRanges(ranges, partHeaders, closingBoundary, response, context);
+        }
+    }
+
+    private List<ByteRange> resolveRanges(HttpRequest<?> request, String etag, long lastModified, long length) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        String range = request.getHeaders().get(HttpHeaders.RANGE);
+        if (range == null) {
+            return null;
+        }
+        String ifRange = request.getHeaders().get(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            boolean matches;
+            if (ifRange.startsWith("\"")) {
+                // If-Range requires a strong comparison
+                matches = ifRange.equals(etag);
+            } else if (ifRange.startsWith("W/")) {
+                matches = false;
+            } else {
+                ZonedDateTime date = request.getHeaders().getDate(HttpHeaders.IF_RANGE);
+                matches = date != null && date.toEpochSecond() == lastModified / 1000;
+            }
+            if (!matches) {
+                return null;
+            }
+        }
+        return ByteRange.parse(range, length, MAX_RANGES);
+    }
+
+    private boolean isNotModified(HttpRequest<?> request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match uses the weak comparison and takes precedence over If-Modified-Since
+            String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+            for (String candidate : ifNoneMatch.split(",")) {
+                candidate = candidate.trim();
+                if (candidate.equals("*") || (candidate.startsWith("W/") ? candidate.substring(2) : candidate).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != null && ifModifiedSince.toEpochSecond() == lastModified / 1000;
+    }
+
+    private SystemFileCustomizableResponseType toSystemFile(Object obj) {
+        if (obj instanceof File) {
+            return new SystemFileCustomizableResponseType((File) obj);
+        } else if (obj.getClass() == NettySystemFileCustomizableResponseType.class) {
+            NettySystemFileCustomizableResponseType type = (NettySystemFileCustomizableResponseType) obj;
+            type.discard();
+            return type.delegate.orElseGet(() -> new SystemFileCustomizableResponseType(type.getFile()));
+        } else if (obj instanceof SystemFileCustomizableResponseType && !(obj instanceof NettyFileCustomizableResponseType)) {
+            return (SystemFileCustomizableResponseType) obj;
+        }
+        return null;
+    }
+
+    private boolean isPlainFile(Object obj) {
+        if (obj instanceof File || obj.getClass() == SystemFileCustomizableResponseType.class) {
+            return true;
+        }
+        return obj.getClass() == NettySystemFileCustomizableResponseType.class &&
+            !((NettySystemFileCustomizableResponseType) obj).delegate.isPresent();
+    }
+
     private FullHttpResponse notModified() {
         NettyMutableHttpResponse response = (NettyMutableHttpResponse) HttpResponse.notModified();
         setDateHeader(response);
         return response.getNativeResponse();
     }
 
+    private FullHttpResponse notModified(String etag) {
+        FullHttpResponse response = notModified();
+        response.headers().set(HttpHeaders.ETAG, etag);
+        return response;
+    }
+
 }
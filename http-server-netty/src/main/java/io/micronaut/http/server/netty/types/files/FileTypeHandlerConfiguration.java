@@ -17,6 +17,7 @@
 package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
 
 /**
  * Allows configuration of properties for the {@link FileTypeHandler}.
@@ -28,6 +29,12 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 public class FileTypeHandlerConfiguration {
 
     protected int cacheSeconds = 60;
+    protected boolean precompressed = false;
+    protected boolean weakEtags = false;
+    @ReadableBytes
+    protected long cacheMaxSize = 1024 * 1024 * 10; // 10MB
+    @ReadableBytes
+    protected long cacheMaxFileSize = 1024 * 64; // 64KB
 
     /**
      * @return the cache seconds
@@ -35,4 +42,44 @@ public class FileTypeHandlerConfiguration {
     public int getCacheSeconds() {
         return cacheSeconds;
     }
+
+    /**
+     * Whether precompressed siblings of files ({@code .br} and {@code .gz}) are served to clients that accept the
+     * corresponding encoding, rather than compressing the file on every request. A sibling is only used if it is
+     * not older than the file itself. Defaults to false.
+     *
+     * @return True if precompressed files should be served
+     */
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
+    /**
+     * Whether the {@code ETag} generated from the last modified date and length of a file is marked as weak.
+     * Defaults to false.
+     *
+     * @return True if weak ETags should be generated
+     */
+    public boolean isWeakEtags() {
+        return weakEtags;
+    }
+
+    /**
+     * The maximum number of bytes of file contents kept in memory. Small files are served from memory instead of
+     * being read from disk on every request. Set to 0 to disable. Defaults to 10MB.
+     *
+     * @return The maximum size of the file cache
+     */
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /**
+     * The maximum size of a file that is kept in memory. Defaults to 64KB.
+     *
+     * @return The maximum size of a cached file
+     */
+    public long getCacheMaxFileSize() {
+        return cacheMaxFileSize;
+    }
 }
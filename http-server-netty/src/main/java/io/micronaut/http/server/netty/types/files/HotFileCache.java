@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.types.files;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * A memory bounded cache of the contents of small files, held in direct buffers. Entries are weighed by the length
+ * of the file, and the least valuable files are evicted by frequency and recency once the cache is full, so that the
+ * buffers of files no longer requested are handed back. Entries are validated against the last modified date and
+ * length of the file on every lookup, so changed files are reloaded.
+ *
+ * @author James Kleeh
+ * @since 1.0
+ */
+final class HotFileCache {
+
+    private final long maxSize;
+    private final long maxFileSize;
+    private final Cache<String, Entry> entries;
+
+    /**
+     * @param maxSize     The maximum number of bytes held by the cache
+     * @param maxFileSize The maximum size of a single cached file
+     */
+    HotFileCache(long maxSize, long maxFileSize) {
+        this.maxSize = maxSize;
+        this.maxFileSize = maxFileSize;
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(Math.max(maxSize, 0))
+            .weigher((String key, Entry entry) -> (int) Math.min(entry.length, Integer.MAX_VALUE))
+            // release evicted buffers on the calling thread rather than waiting for the common pool
+            .executor(Runnable::run)
+            .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    entry.release();
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Returns the contents of the file, loading them into the cache if necessary. The returned buffer is a retained
+     * duplicate that the caller must write or release.
+     *
+     * @param file         The file
+     * @param lastModified The last modified date of the file
+     * @param length       The length of the file
+     * @param allocator    The allocator used to load the file
+     * @return The contents or null if the file is not cacheable
+     */
+    ByteBuf get(File file, long lastModified, long length, ByteBufAllocator allocator) {
+        if (maxSize <= 0 || length > maxFileSize) {
+            return null;
+        }
+        String key = file.getPath();
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null) {
+            if (entry.lastModified == lastModified && entry.length == length) {
+                ByteBuf content = entry.retain();
+                if (content != null) {
+                    return content;
+                }
+            } else {
+                // the removal listener releases the stale content
+                entries.asMap().remove(key, entry);
+            }
+        }
+        ByteBuf content = load(file, length, allocator);
+        if (content == null) {
+            return null;
+        }
+        Entry loaded = new Entry(content, lastModified, length);
+        // taken before the entry is published, since it may be evicted as soon as it is added
+        ByteBuf duplicate = loaded.retain();
+        if (entries.asMap().putIfAbsent(key, loaded) != null) {
+            loaded.release();
+        }
+        return duplicate;
+    }
+
+    /**
+     * Releases all cached buffers.
+     */
+    void clear() {
+        entries.invalidateAll();
+        entries.cleanUp();
+    }
+
+    private ByteBuf load(File file, long length, ByteBufAllocator allocator) {
+        ByteBuf content = allocator.directBuffer((int) length);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            FileChannel channel = raf.getChannel();
+            long position = 0;
+            while (position < length) {
+                int read = content.writeBytes(channel, position, (int) (length - position));
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+            if (position != length) {
+                // the file changed while it was read
+                content.release();
+                return null;
+            }
+            return content;
+        } catch (IOException e) {
+            content.release();
+            return null;
+        }
+    }
+
+    /**
+     * A cached file. Retaining and releasing the content are guarded by the entry, so a duplicate is never taken from
+     * a buffer that was already handed back to the pool and possibly reused for something else.
+     */
+    private static final class Entry {
+        final ByteBuf content;
+        final long lastModified;
+        final long length;
+        private boolean released;
+
+        Entry(ByteBuf content, long lastModified, long length) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        /**
+         * @return A retained duplicate of the content or null if the entry was removed concurrently
+         */
+        synchronized ByteBuf retain() {
+            if (released) {
+                return null;
+            }
+            return content.retainedDuplicate();
+        }
+
+        /**
+         * Releases the reference held by the cache.
+         */
+        synchronized void release() {
+            if (!released) {
+                released = true;
+                content.release();
+            }
+        }
+    }
+}
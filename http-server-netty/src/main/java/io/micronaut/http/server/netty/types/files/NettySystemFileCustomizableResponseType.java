@@ -24,22 +24,30 @@ import io.micronaut.http.server.netty.SmartHttpContentCompressor;
 import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
 import io.micronaut.http.server.types.CustomizableResponseTypeException;
 import io.micronaut.http.server.types.files.SystemFileCustomizableResponseType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedInput;
 import io.netty.handler.stream.ChunkedWriteHandler;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -122,10 +130,11 @@ public class NettySystemFileCustomizableResponseType extends SystemFileCustomiza
             context.write(new DefaultHttpResponse(nettyResponse.protocolVersion(), nettyResponse.status(), headers), context.voidPromise());
 
             // Write the content.
-            if (context.pipeline().get(SslHandler.class) == null && SmartHttpContentCompressor.shouldSkip(headers)) {
+            boolean http2 = context.channel() instanceof Http2StreamChannel;
+            HttpContentCompressor compressor = context.pipeline().get(HttpContentCompressor.class);
+            if (!http2 && context.pipeline().get(SslHandler.class) == null && !shouldCompress(compressor, nettyResponse)) {
                 // SSL not enabled - can use zero-copy file transfer.
                 // Remove the content compressor to prevent incorrect behavior with zero-copy
-                HttpContentCompressor compressor = context.pipeline().get(HttpContentCompressor.class);
                 if (compressor != null) {
                     context.pipeline().remove(HttpContentCompressor.class);
                 }
@@ -133,7 +142,7 @@ public class NettySystemFileCustomizableResponseType extends SystemFileCustomiza
                 context.write(new DefaultFileRegion(raf.getChannel(), 0, getLength()), context.newProgressivePromise());
                 context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
             } else {
-                // SSL enabled - cannot use zero-copy file transfer.
+                // SSL or HTTP/2 enabled - cannot use zero-copy file transfer.
                 try {
                     // HttpChunkedInput will write the end marker (LastHttpContent) for us.
                     context.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, getLength(), LENGTH_8K)),
@@ -147,4 +156,129 @@ public class NettySystemFileCustomizableResponseType extends SystemFileCustomiza
             throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
         }
     }
+
+    /**
+     * Writes the given ranges of the file. A single range is written as is, multiple ranges are written as the parts
+     * of a {@code multipart/byteranges} body, each preceded by its part header. The status and headers of the
+     * response must already be set.
+     *
+     * @param ranges          The ranges to write
+     * @param partHeaders     The header of each part or null for a single range
+     * @param closingBoundary The closing boundary of the multipart body or null for a single range
+     * @param response        The response
+     * @param context         The channel handler context
+     */
+    void writeRanges(List<ByteRange> ranges, List<ByteBuf> partHeaders, ByteBuf closingBoundary, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        if (!(response instanceof NettyMutableHttpResponse)) {
+            throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+        }
+        FullHttpResponse nettyResponse = ((NettyMutableHttpResponse) response).getNativeResponse();
+
+        //The streams codec prevents non full responses from being written
+        Optional
+            .ofNullable(context.pipeline().get(NettyHttpServer.HTTP_STREAMS_CODEC))
+            .ifPresent(handler -> context.pipeline().replace(handler, "chunked-handler", new ChunkedWriteHandler()));
+
+        context.write(new DefaultHttpResponse(nettyResponse.protocolVersion(), nettyResponse.status(), nettyResponse.headers()), context.voidPromise());
+
+        boolean http2 = context.channel() instanceof Http2StreamChannel;
+        boolean zeroCopy = !http2 && context.pipeline().get(SslHandler.class) == null;
+        if (zeroCopy && context.pipeline().get(HttpContentCompressor.class) != null) {
+            // partial content is never compressed
+            context.pipeline().remove(HttpContentCompressor.class);
+        }
+        try {
+            if (partHeaders == null) {
+                ByteRange range = ranges.get(0);
+                if (zeroCopy) {
+                    context.write(new DefaultFileRegion(raf.getChannel(), range.start, range.length()), context.newProgressivePromise());
+                    context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+                } else {
+                    context.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, range.start, range.length(), LENGTH_8K)),
+                        context.newProgressivePromise());
+                }
+            } else {
+                // a region closes its file once written, so each part reads from its own
+                discard();
+                for (int i = 0; i < ranges.size(); i++) {
+                    ByteRange range = ranges.get(i);
+                    context.write(new DefaultHttpContent(partHeaders.get(i)));
+                    if (zeroCopy) {
+                        context.write(new DefaultFileRegion(file, range.start, range.length()));
+                    } else {
+                        RandomAccessFile part = new RandomAccessFile(file, "r");
+                        context.write(new HttpContentInput(new ChunkedFile(part, range.start, range.length(), LENGTH_8K)));
+                    }
+                }
+                context.writeAndFlush(new DefaultLastHttpContent(closingBoundary));
+            }
+        } catch (IOException e) {
+            throw new CustomizableResponseTypeException("Could not read file", e);
+        }
+    }
+
+    /**
+     * Releases the underlying file if this response type is not going to be written.
+     */
+    void discard() {
+        try {
+            raf.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private boolean shouldCompress(HttpContentCompressor compressor, FullHttpResponse nettyResponse) {
+        if (compressor == null) {
+            return false;
+        }
+        if (compressor instanceof SmartHttpContentCompressor) {
+            return ((SmartHttpContentCompressor) compressor).shouldCompress(nettyResponse);
+        }
+        return !SmartHttpContentCompressor.shouldSkip(nettyResponse.headers());
+    }
+
+    /**
+     * Adapts a {@link ChunkedInput} of bytes to one of {@link HttpContent} that does not end the message, so that
+     * several inputs can be written as parts of one response.
+     */
+    private static final class HttpContentInput implements ChunkedInput<HttpContent> {
+        private final ChunkedInput<ByteBuf> input;
+
+        HttpContentInput(ChunkedInput<ByteBuf> input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean isEndOfInput() throws Exception {
+            return input.isEndOfInput();
+        }
+
+        @Override
+        public void close() throws Exception {
+            input.close();
+        }
+
+        @Deprecated
+        @Override
+        public HttpContent readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public HttpContent readChunk(ByteBufAllocator allocator) throws Exception {
+            ByteBuf chunk = input.readChunk(allocator);
+            return chunk == null ? null : new DefaultHttpContent(chunk);
+        }
+
+        @Override
+        public long length() {
+            return input.length();
+        }
+
+        @Override
+        public long progress() {
+            return input.progress();
+        }
+    }
 }
@@ -15,6 +15,16 @@
  */
 package io.micronaut.http.server.netty
 
+import io.netty.buffer.Unpooled
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.handler.codec.http.DefaultFullHttpRequest
+import io.netty.handler.codec.http.DefaultFullHttpResponse
+import io.netty.handler.codec.http.DefaultHttpResponse
+import io.netty.handler.codec.http.HttpMethod
+import io.netty.handler.codec.http.HttpResponse
+import io.netty.handler.codec.http.HttpHeaderNames
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpVersion
 import spock.lang.Specification
 
 class SmartHttpContentCompressorSpec extends Specification {
@@ -38,4 +48,75 @@ class SmartHttpContentCompressorSpec extends Specification {
         inCompressible | 0      | true      // incompressible, always skip
         null           | null   | true      // if the content type is unknown, skip
     }
+
+    void "test accept encoding matching"() {
+        expect:
+        SmartHttpContentCompressor.accepts(acceptEncoding, "br") == expected
+
+        where:
+        acceptEncoding          | expected
+        "br"                    | true
+        "gzip, deflate, br"     | true
+        "gzip;q=1.0, br;q=0.5"  | true
+        "gzip, br;q=0"          | false
+        "gzip, deflate"         | false
+        "brotli"                | false
+    }
+
+    void "test compression thresholds and levels per media type"() {
+        given:
+        def strategy = new DefaultHttpCompressionStrategy(1024, 6, [json: 4096], [html: 9])
+
+        expect:
+        strategy.shouldCompress(response(type, length)) == compress
+        strategy.getCompressionLevel(response(type, length)) == level
+
+        where:
+        type               | length | compress | level
+        "text/html"        | 1024   | true     | 9
+        "application/json" | 2048   | false    | 6
+        "application/json" | 4096   | true     | 6
+        "text/plain"       | 1023   | false    | 6
+        "image/png"        | 5000   | false    | 6
+    }
+
+    void "test responses that are already encoded are not compressed"() {
+        given:
+        def strategy = new DefaultHttpCompressionStrategy(1024, 6, [:], [:])
+        def response = response("text/html", 5000)
+        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, "br")
+
+        expect:
+        !strategy.shouldCompress(response)
+    }
+
+    void "test the entity tag of a compressed response is weakened"() {
+        given:
+        def channel = new EmbeddedChannel(new SmartHttpContentCompressor())
+        def request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/")
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+        channel.writeInbound(request)
+        def response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(("x" * 2048).bytes))
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, compressible)
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 2048)
+        response.headers().set(HttpHeaderNames.ETAG, '"abc-800"')
+
+        when:
+        channel.writeOutbound(response)
+        HttpResponse encoded = channel.readOutbound()
+
+        then:
+        encoded.headers().get(HttpHeaderNames.CONTENT_ENCODING) == "gzip"
+        encoded.headers().get(HttpHeaderNames.ETAG) == 'W/"abc-800"'
+
+        cleanup:
+        channel.finishAndReleaseAll()
+    }
+
+    private static DefaultHttpResponse response(String type, Integer length) {
+        def response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK)
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, type)
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length)
+        response
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.binding
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.bind.ArgumentBinder
+import io.micronaut.core.convert.ArgumentConversionContext
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.server.binding.DefaultRequestBinderRegistry
+import io.micronaut.http.server.binding.binders.RequestArgumentBinder
+import io.micronaut.http.server.binding.binders.TypedRequestArgumentBinder
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+import javax.annotation.Nullable
+import javax.inject.Singleton
+import java.lang.annotation.Annotation
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+class RequestArgumentSatisfierSpec extends Specification {
+
+    void "test argument bindings are resolved once and reused across requests"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'PlannedBindingSpec'])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        CountingBinderRegistry registry = embeddedServer.applicationContext.getBean(CountingBinderRegistry)
+
+        when:
+        List<String> results = (1..3).collect {
+            client.retrieve(HttpRequest.GET('/satisfier/arguments?optional=foo').header('X-Name', 'Fred')).blockingFirst()
+        }
+        int lookups = registry.lookups.get()
+
+        then:"All the kinds of arguments are bound"
+        results.every { it == 'Fred missing:null optional:foo request:GET' }
+        lookups > 0
+
+        when:"More requests are served"
+        String withoutOptional = client.retrieve(HttpRequest.GET('/satisfier/arguments').header('X-Name', 'Fred')).blockingFirst()
+        String body = client.retrieve(HttpRequest.POST('/satisfier/body', 'text').contentType(MediaType.TEXT_PLAIN_TYPE)).blockingFirst()
+        String again = client.retrieve(HttpRequest.POST('/satisfier/body', 'more').contentType(MediaType.TEXT_PLAIN_TYPE)).blockingFirst()
+        int bodyLookups = registry.lookups.get() - lookups
+
+        then:"The binders of a method are looked up for the first request only"
+        withoutOptional == 'Fred missing:null optional:none request:GET'
+        body == 'body:text'
+        again == 'body:more'
+        bodyLookups == 1
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    void "test binders added to the registry are used by methods already routed to"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'PlannedBindingSpec'])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        CountingBinderRegistry registry = embeddedServer.applicationContext.getBean(CountingBinderRegistry)
+
+        expect:
+        client.retrieve(HttpRequest.GET('/satisfier/greeting')).blockingFirst() == 'none'
+
+        when:
+        registry.addRequestArgumentBinder(new GreetingBinder())
+
+        then:
+        client.retrieve(HttpRequest.GET('/satisfier/greeting')).blockingFirst() == 'hello'
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    void "test registries that select binders per request are consulted for every request"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'PerRequestBindingSpec'])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        PerRequestBinderRegistry registry = embeddedServer.applicationContext.getBean(PerRequestBinderRegistry)
+
+        when:
+        String first = client.retrieve(HttpRequest.GET('/satisfier/arguments').header('X-Name', 'Fred')).blockingFirst()
+        int lookups = registry.lookups.get()
+        String second = client.retrieve(HttpRequest.GET('/satisfier/arguments').header('X-Name', 'Bob')).blockingFirst()
+
+        then:
+        first == 'Fred missing:null optional:none request:GET'
+        second == 'Bob missing:null optional:none request:GET'
+        registry.lookups.get() == lookups * 2
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+    }
+
+    @Controller('/satisfier')
+    static class SatisfierController {
+
+        @Get(uri = '/arguments', produces = MediaType.TEXT_PLAIN)
+        String arguments(@Header('X-Name') String name,
+                         @Nullable @Header('X-Missing') String missing,
+                         Optional<String> optional,
+                         HttpRequest<?> request) {
+            "$name missing:$missing optional:${optional.orElse('none')} request:$request.method"
+        }
+
+        @Post(uri = '/body', consumes = MediaType.TEXT_PLAIN, produces = MediaType.TEXT_PLAIN)
+        String body(@Body String body) {
+            "body:$body"
+        }
+
+        @Get(uri = '/greeting', produces = MediaType.TEXT_PLAIN)
+        String greeting(@Nullable Greeting greeting) {
+            greeting?.text ?: 'none'
+        }
+    }
+
+    static class Greeting {
+        String text
+    }
+
+    static class GreetingBinder implements TypedRequestArgumentBinder<Greeting> {
+        @Override
+        Argument<Greeting> argumentType() {
+            Argument.of(Greeting)
+        }
+
+        @Override
+        ArgumentBinder.BindingResult<Greeting> bind(ArgumentConversionContext<Greeting> context, HttpRequest<?> source) {
+            return { -> Optional.of(new Greeting(text: 'hello')) } as ArgumentBinder.BindingResult<Greeting>
+        }
+    }
+
+    @Singleton
+    @Replaces(DefaultRequestBinderRegistry)
+    @Requires(property = 'spec.name', value = 'PlannedBindingSpec')
+    static class CountingBinderRegistry extends DefaultRequestBinderRegistry {
+        final AtomicInteger lookups = new AtomicInteger()
+
+        CountingBinderRegistry(ConversionService conversionService, RequestArgumentBinder... binders) {
+            super(conversionService, binders)
+        }
+
+        @Override
+        protected <T> RequestArgumentBinder findBinder(Argument<T> argument, Class<? extends Annotation> annotationType) {
+            // only arguments with a binding annotation are looked up here
+            lookups.incrementAndGet()
+            return super.findBinder(argument, annotationType)
+        }
+    }
+
+    @Singleton
+    @Replaces(DefaultRequestBinderRegistry)
+    @Requires(property = 'spec.name', value = 'PerRequestBindingSpec')
+    static class PerRequestBinderRegistry extends DefaultRequestBinderRegistry {
+        final AtomicInteger lookups = new AtomicInteger()
+
+        PerRequestBinderRegistry(ConversionService conversionService, RequestArgumentBinder... binders) {
+            super(conversionService, binders)
+        }
+
+        @Override
+        <T> Optional<ArgumentBinder<T, HttpRequest<?>>> findArgumentBinder(Argument<T> argument, HttpRequest<?> source) {
+            lookups.incrementAndGet()
+            return super.findArgumentBinder(argument, source)
+        }
+    }
+}
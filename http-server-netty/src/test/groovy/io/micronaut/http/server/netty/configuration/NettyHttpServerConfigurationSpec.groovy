@@ -20,8 +20,17 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.context.DefaultApplicationContext
 import io.micronaut.context.env.PropertySource
 import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.DefaultHttpClientConfiguration
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.netty.channel.EventLoopGroupFactory
+import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.http.server.cors.CorsOriginConfiguration
 import io.micronaut.http.server.netty.NettyHttpServer
+import spock.lang.IgnoreIf
 import spock.lang.Specification
 
 /**
@@ -112,4 +121,43 @@ class NettyHttpServerConfigurationSpec extends Specification {
         cleanup:
         beanContext.close()
     }
+
+    @IgnoreIf({ !EventLoopGroupFactory.of(true).isNative() })
+    void "test native transport configuration"() {
+        given:
+        ApplicationContext beanContext = ApplicationContext.run(
+                'micronaut.server.netty.useNativeTransport': true,
+                'micronaut.server.netty.reusePort': true,
+                'micronaut.server.netty.tcpFastOpen': 256,
+                'micronaut.server.netty.parent.threads': 2,
+                'micronaut.http.client.useNativeTransport': true
+        )
+        EmbeddedServer server = beanContext.getBean(EmbeddedServer).start()
+        HttpClient client = beanContext.createBean(HttpClient, server.getURL())
+
+        when:
+        NettyHttpServerConfiguration config = beanContext.getBean(NettyHttpServerConfiguration)
+
+        then:
+        config.useNativeTransport
+        config.reusePort
+        config.tcpFastOpen.asInt == 256
+        beanContext.getBean(DefaultHttpClientConfiguration).useNativeTransport
+
+        expect:
+        client.toBlocking().retrieve(HttpRequest.GET('/native-transport'), String) == 'native'
+
+        cleanup:
+        client.close()
+        beanContext.close()
+    }
+
+    @Controller('/native-transport')
+    static class NativeTransportController {
+
+        @Get(uri = '/', produces = MediaType.TEXT_PLAIN)
+        String index() {
+            'native'
+        }
+    }
 }
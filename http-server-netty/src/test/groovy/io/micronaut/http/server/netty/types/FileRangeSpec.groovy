@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+
+import static io.micronaut.http.HttpHeaders.*
+
+class FileRangeSpec extends AbstractMicronautSpec {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz"
+    private static File tempFile
+    private static File largeFile
+
+    static {
+        tempFile = File.createTempFile("fileRangeSpec", ".txt")
+        tempFile.write(CONTENT)
+        tempFile.deleteOnExit()
+        // larger than the maximum size of a cached file
+        largeFile = File.createTempFile("fileRangeSpec", ".txt")
+        largeFile.write("x" * (70 * 1024) + CONTENT)
+        largeFile.deleteOnExit()
+    }
+
+    void "test the entity tag is sent and honored"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/file'), String).blockingFirst()
+        String etag = response.header(ETAG)
+
+        then:
+        response.code() == HttpStatus.OK.code
+        etag == '"' + Long.toHexString(tempFile.lastModified()) + '-' + Long.toHexString(tempFile.length()) + '"'
+        response.header(ACCEPT_RANGES) == "bytes"
+        response.body() == CONTENT
+
+        when:
+        response = rxClient.exchange(HttpRequest.GET('/test/file').header(IF_NONE_MATCH, "W/" + etag), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.NOT_MODIFIED.code
+        response.header(ETAG) == etag
+    }
+
+    void "test a single range is returned"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/file').header(RANGE, range), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(CONTENT_RANGE) == contentRange
+        response.body() == body
+
+        where:
+        range          | contentRange    | body
+        "bytes=0-9"    | "bytes 0-9/36"  | "0123456789"
+        "bytes=30-"    | "bytes 30-35/36"| "uvwxyz"
+        "bytes=-3"     | "bytes 33-35/36"| "xyz"
+        "bytes=10-100" | "bytes 10-35/36"| "abcdefghijklmnopqrstuvwxyz"
+    }
+
+    void "test multiple ranges are returned as multipart byteranges"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/file').header(RANGE, "bytes=0-1,10-11"), String).blockingFirst()
+        String contentType = response.header(CONTENT_TYPE)
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + 9)
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        contentType.startsWith("multipart/byteranges")
+        response.body() == "\r\n--$boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-1/36\r\n\r\n01" +
+                "\r\n--$boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 10-11/36\r\n\r\nab" +
+                "\r\n--$boundary--\r\n"
+        Integer.parseInt(response.header(CONTENT_LENGTH)) == response.body().length()
+    }
+
+    void "test the range is ignored when If-Range does not match"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/file')
+                .header(RANGE, "bytes=0-9")
+                .header(IF_RANGE, '"other"'), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.body() == CONTENT
+    }
+
+    void "test an unsatisfiable range"() {
+        when:
+        rxClient.exchange(HttpRequest.GET('/test/file').header(RANGE, "bytes=100-200"), String).blockingFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.code() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code
+        e.response.header(CONTENT_RANGE) == "bytes */36"
+    }
+
+    void "test ranges are served from disk when the file is not cached"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/large').header(RANGE, "bytes=-36"), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.body() == CONTENT
+
+        when:
+        response = rxClient.exchange(HttpRequest.GET('/test/large').header(RANGE, "bytes=0-1,-2"), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.body().contains("\r\n\r\nxx\r\n")
+        response.body().contains("\r\n\r\nyz\r\n")
+    }
+
+    @Controller
+    @Requires(property = 'spec.name', value = 'FileRangeSpec')
+    static class TestController {
+
+        @Get
+        File file() {
+            tempFile
+        }
+
+        @Get
+        File large() {
+            largeFile
+        }
+    }
+}
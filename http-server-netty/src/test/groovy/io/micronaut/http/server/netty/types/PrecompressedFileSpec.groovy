@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+
+import java.util.zip.GZIPOutputStream
+
+import static io.micronaut.http.HttpHeaders.*
+
+class PrecompressedFileSpec extends AbstractMicronautSpec {
+
+    private static File tempFile
+
+    static {
+        tempFile = File.createTempFile("precompressedFileSpec", ".html")
+        tempFile.write("<html><head></head><body>HTML Page</body></html>")
+        File gzipFile = new File(tempFile.path + ".gz")
+        gzipFile.withOutputStream { out ->
+            new GZIPOutputStream(out).withStream { it.write("<html><body>Precompressed</body></html>".bytes) }
+        }
+        gzipFile.setLastModified(tempFile.lastModified())
+        tempFile.deleteOnExit()
+        gzipFile.deleteOnExit()
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() << ['netty.responses.file.precompressed': true]
+    }
+
+    void "test the precompressed sibling is served when the client accepts it"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/precompressed').header(ACCEPT_ENCODING, "gzip"), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.header(CONTENT_TYPE) == "text/html"
+        response.header(VARY) == ACCEPT_ENCODING
+        response.body() == "<html><body>Precompressed</body></html>"
+    }
+
+    void "test the file is served when the client does not accept the encoding"() {
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/test/precompressed').header(ACCEPT_ENCODING, "identity"), String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.header(CONTENT_ENCODING) == null
+        response.header(VARY) == ACCEPT_ENCODING
+        response.body() == "<html><head></head><body>HTML Page</body></html>"
+    }
+
+    @Controller
+    @Requires(property = 'spec.name', value = 'PrecompressedFileSpec')
+    static class TestController {
+
+        @Get
+        File precompressed() {
+            tempFile
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files
+
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.UnpooledByteBufAllocator
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+/**
+ * @author James Kleeh
+ * @since 1.0
+ */
+class HotFileCacheSpec extends Specification {
+
+    UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false)
+
+    void "test files are evicted to make room for files requested more often"() {
+        given:
+        HotFileCache cache = new HotFileCache(100, 60)
+        File first = tempFile('a' * 50)
+        File second = tempFile('b' * 50)
+        File hot = tempFile('c' * 50)
+
+        when:"The cache is filled with files that are requested once"
+        read(cache, first)
+        read(cache, second)
+        Map<String, HotFileCache.Entry> initial = new HashMap<>(cache.entries.asMap())
+
+        then:
+        initial.size() == 2
+
+        when:"Another file is requested repeatedly"
+        String content = null
+        10.times { content = read(cache, hot) }
+        cache.entries.cleanUp()
+
+        then:"It is cached in place of a file that was evicted and released"
+        content == 'c' * 50
+        cache.entries.getIfPresent(hot.path) != null
+        cache.entries.policy().eviction().get().weightedSize().getAsLong() <= 100
+        initial.findAll { !cache.entries.asMap().containsKey(it.key) }.every { it.value.content.refCnt() == 0 }
+        initial.any { it.value.content.refCnt() == 0 }
+
+        cleanup:
+        [first, second, hot]*.delete()
+    }
+
+    void "test changed files are reloaded and cleared entries are released"() {
+        given:
+        HotFileCache cache = new HotFileCache(100, 60)
+        File file = tempFile('old')
+
+        when:
+        read(cache, file)
+        HotFileCache.Entry stale = cache.entries.getIfPresent(file.path)
+        file.text = 'changed'
+        file.setLastModified(file.lastModified() + 2000)
+
+        then:
+        read(cache, file) == 'changed'
+        stale.content.refCnt() == 0
+
+        when:
+        HotFileCache.Entry current = cache.entries.getIfPresent(file.path)
+        cache.clear()
+
+        then:
+        current.content.refCnt() == 0
+        cache.entries.estimatedSize() == 0
+
+        cleanup:
+        file.delete()
+    }
+
+    void "test files larger than the maximum file size are not cached"() {
+        given:
+        HotFileCache cache = new HotFileCache(100, 60)
+        File file = tempFile('d' * 70)
+
+        expect:
+        cache.get(file, file.lastModified(), file.length(), allocator) == null
+
+        cleanup:
+        file.delete()
+    }
+
+    private String read(HotFileCache cache, File file) {
+        ByteBuf content = cache.get(file, file.lastModified(), file.length(), allocator)
+        try {
+            return content.toString(StandardCharsets.UTF_8)
+        } finally {
+            content.release()
+        }
+    }
+
+    private static File tempFile(String text) {
+        File file = File.createTempFile('hot-file-cache', '.txt')
+        file.text = text
+        return file
+    }
+}
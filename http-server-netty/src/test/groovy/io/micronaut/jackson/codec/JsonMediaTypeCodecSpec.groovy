@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jackson.codec
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.type.Argument
+import io.micronaut.http.codec.CodecException
+import io.micronaut.http.netty.buffer.NettyByteBufferFactory
+import io.micronaut.runtime.ApplicationConfiguration
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.ByteBufAllocator
+import io.netty.buffer.CompositeByteBuf
+import io.netty.buffer.PooledByteBufAllocator
+import io.netty.buffer.Unpooled
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class JsonMediaTypeCodecSpec extends Specification {
+
+    JsonMediaTypeCodec codec = new JsonMediaTypeCodec(new ObjectMapper(), new ApplicationConfiguration())
+
+    void "test decode from a composite buffer leaves the reader index untouched"() {
+        given:
+        CompositeByteBuf composite = Unpooled.compositeBuffer()
+        composite.addComponent(true, Unpooled.copiedBuffer('{"title":', StandardCharsets.UTF_8))
+        composite.addComponent(true, Unpooled.copiedBuffer('"The Stand"}', StandardCharsets.UTF_8))
+        int readerIndex = composite.readerIndex()
+        ByteBuffer buffer = NettyByteBufferFactory.DEFAULT.wrap(composite)
+
+        when:
+        Book first = codec.decode(Argument.of(Book), buffer)
+        Book second = codec.decode(Argument.of(Book), buffer)
+
+        then:"The same buffer can be decoded more than once"
+        first.title == 'The Stand'
+        second.title == 'The Stand'
+        composite.readerIndex() == readerIndex
+        composite.readableBytes() == '{"title":"The Stand"}'.length()
+
+        cleanup:
+        composite.release()
+    }
+
+    void "test encode into a pooled buffer"() {
+        given:
+        NettyByteBufferFactory factory = new NettyByteBufferFactory(PooledByteBufAllocator.DEFAULT)
+
+        when:
+        ByteBuffer buffer = codec.encode(new Book(title: 'The Stand'), factory)
+        ByteBuf byteBuf = (ByteBuf) buffer.asNativeBuffer()
+
+        then:
+        byteBuf.alloc() instanceof PooledByteBufAllocator
+        byteBuf.toString(StandardCharsets.UTF_8) == '{"title":"The Stand"}'
+
+        cleanup:
+        byteBuf.release()
+    }
+
+    void "test the buffer is released when serialization fails with #failure"() {
+        given:
+        RecordingByteBufferFactory factory = new RecordingByteBufferFactory(PooledByteBufAllocator.DEFAULT)
+
+        when:
+        codec.encode(new FailingBook(failure: failure), factory)
+
+        then:
+        Throwable e = thrown()
+        expected.isInstance(e)
+        factory.buffers.size() == 1
+        ((ByteBuf) factory.buffers[0].asNativeBuffer()).refCnt() == 0
+
+        where:
+        failure                                | expected
+        new IllegalStateException("Bad title") | CodecException
+        new AssertionError("Bad title")        | AssertionError
+    }
+
+    static class Book {
+        String title
+    }
+
+    static class FailingBook {
+        @JsonIgnore
+        Throwable failure
+
+        String getTitle() {
+            throw failure
+        }
+    }
+
+    static class RecordingByteBufferFactory extends NettyByteBufferFactory {
+        List<ByteBuffer> buffers = []
+
+        RecordingByteBufferFactory(ByteBufAllocator allocator) {
+            super(allocator)
+        }
+
+        @Override
+        ByteBuffer<ByteBuf> buffer() {
+            ByteBuffer<ByteBuf> buffer = super.buffer()
+            buffers.add(buffer)
+            return buffer
+        }
+    }
+}
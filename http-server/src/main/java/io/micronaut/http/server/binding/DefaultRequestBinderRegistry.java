@@ -63,6 +63,7 @@ public class DefaultRequestBinderRegistry implements RequestBinderRegistry {
     private final ConversionService<?> conversionService;
     private final Cache<TypeAndAnnotation, Optional<RequestArgumentBinder>> argumentBinderCache =
         Caffeine.newBuilder().maximumSize(CACHE_MAX_SIZE).build();
+    private volatile long version;
 
     /**
      * @param conversionService The conversion service
@@ -72,25 +73,7 @@ public class DefaultRequestBinderRegistry implements RequestBinderRegistry {
         this.conversionService = conversionService;
 
         for (RequestArgumentBinder binder : binders) {
-            if (binder instanceof AnnotatedRequestArgumentBinder) {
-                AnnotatedRequestArgumentBinder<?, ?> annotatedRequestArgumentBinder = (AnnotatedRequestArgumentBinder) binder;
-                Class<? extends Annotation> annotationType = annotatedRequestArgumentBinder.getAnnotationType();
-                if (binder instanceof TypedRequestArgumentBinder) {
-                    TypedRequestArgumentBinder typedRequestArgumentBinder = (TypedRequestArgumentBinder) binder;
-                    Argument argumentType = typedRequestArgumentBinder.argumentType();
-                    byTypeAndAnnotation.put(new TypeAndAnnotation(argumentType, annotationType), binder);
-                    Set<Class> allInterfaces = ReflectionUtils.getAllInterfaces(argumentType.getType());
-                    for (Class<?> itfce : allInterfaces) {
-                        byTypeAndAnnotation.put(new TypeAndAnnotation(Argument.of(itfce), annotationType), binder);
-                    }
-                } else {
-                    byAnnotation.put(annotationType, annotatedRequestArgumentBinder);
-                }
-
-            } else if (binder instanceof TypedRequestArgumentBinder) {
-                TypedRequestArgumentBinder typedRequestArgumentBinder = (TypedRequestArgumentBinder) binder;
-                byType.put(typedRequestArgumentBinder.argumentType().typeHashCode(), typedRequestArgumentBinder);
-            }
+            registerBinder(binder);
         }
 
         registerDefaultConverters(conversionService);
@@ -112,6 +95,25 @@ public class DefaultRequestBinderRegistry implements RequestBinderRegistry {
         });
     }
 
+    /**
+     * Adds a binder to the registry. Binders should be added on startup, before requests are served.
+     *
+     * @param binder The binder
+     */
+    public synchronized void addRequestArgumentBinder(RequestArgumentBinder binder) {
+        registerBinder(binder);
+        argumentBinderCache.invalidateAll();
+        version++;
+    }
+
+    /**
+     * @return A number that changes whenever a binder is added, so that callers which cache the binders they found
+     * can tell when to look them up again
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public <T> Optional<ArgumentBinder<T, HttpRequest<?>>> findArgumentBinder(Argument<T> argument, HttpRequest<?> source) {
         Optional<Annotation> annotation = argument.findAnnotationWithStereoType(Bindable.class);
@@ -138,6 +140,28 @@ public class DefaultRequestBinderRegistry implements RequestBinderRegistry {
         return Optional.of(new ParameterAnnotationBinder<>(conversionService));
     }
 
+    private void registerBinder(RequestArgumentBinder binder) {
+        if (binder instanceof AnnotatedRequestArgumentBinder) {
+            AnnotatedRequestArgumentBinder<?, ?> annotatedRequestArgumentBinder = (AnnotatedRequestArgumentBinder) binder;
+            Class<? extends Annotation> annotationType = annotatedRequestArgumentBinder.getAnnotationType();
+            if (binder instanceof TypedRequestArgumentBinder) {
+                TypedRequestArgumentBinder typedRequestArgumentBinder = (TypedRequestArgumentBinder) binder;
+                Argument argumentType = typedRequestArgumentBinder.argumentType();
+                byTypeAndAnnotation.put(new TypeAndAnnotation(argumentType, annotationType), binder);
+                Set<Class> allInterfaces = ReflectionUtils.getAllInterfaces(argumentType.getType());
+                for (Class<?> itfce : allInterfaces) {
+                    byTypeAndAnnotation.put(new TypeAndAnnotation(Argument.of(itfce), annotationType), binder);
+                }
+            } else {
+                byAnnotation.put(annotationType, annotatedRequestArgumentBinder);
+            }
+
+        } else if (binder instanceof TypedRequestArgumentBinder) {
+            TypedRequestArgumentBinder typedRequestArgumentBinder = (TypedRequestArgumentBinder) binder;
+            byType.put(typedRequestArgumentBinder.argumentType().typeHashCode(), typedRequestArgumentBinder);
+        }
+    }
+
     /**
      * @param argument       The argument
      * @param annotationType The class for annotation
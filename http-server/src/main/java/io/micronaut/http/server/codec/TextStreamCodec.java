@@ -18,6 +18,7 @@ package io.micronaut.http.server.codec;
 
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.CodecException;
@@ -96,7 +97,11 @@ public class TextStreamCodec implements MediaTypeCodec {
     @Override
     public <T> byte[] encode(T object) throws CodecException {
         ByteBuffer buffer = encode(object, byteBufferFactory);
-        return buffer.toByteArray();
+        try {
+            return buffer.toByteArray();
+        } finally {
+            release(buffer);
+        }
     }
 
     @SuppressWarnings("MagicNumber")
@@ -130,9 +135,17 @@ public class TextStreamCodec implements MediaTypeCodec {
             .write(body)
             .write(NEWLINE) // Write new lines for event separation
             .write(NEWLINE);
+        // the body may be a pooled buffer and has been copied into the event
+        release(body);
         return eventData;
     }
 
+    private void release(ByteBuffer buffer) {
+        if (buffer instanceof ReferenceCounted) {
+            ((ReferenceCounted) buffer).release();
+        }
+    }
+
     private MediaTypeCodecRegistry resolveMediaTypeCodecRegistry() {
         if (this.codecRegistry == null) {
             this.codecRegistry = codecRegistryProvider.get();
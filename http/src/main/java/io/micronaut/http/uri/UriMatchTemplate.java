@@ -41,6 +41,10 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
     private final Pattern matchPattern;
     private final String[] variables;
     private final boolean isRoot;
+    private StringBuilder staticPrefixBuilder;
+    private boolean staticPrefixOpen;
+    private String staticPrefix = "";
+    private boolean fullyStatic;
 
     /**
      * Construct a new URI template for the given template.
@@ -65,9 +69,14 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         String tmpl = templateString.toString();
         int len = tmpl.length();
         this.isRoot = len == 0 || (len == 1 && tmpl.charAt(0) == '/');
+        if (staticPrefixBuilder != null) {
+            this.staticPrefix = staticPrefixBuilder.toString();
+            this.fullyStatic = staticPrefixOpen;
+        }
         // cleanup / reduce memory consumption
         this.pattern = null;
         this.variableList = null;
+        this.staticPrefixBuilder = null;
     }
 
     /**
@@ -103,6 +112,17 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         return Arrays.asList(variables);
     }
 
+    /**
+     * The literal text that every path matched by this template starts with, once any query string and trailing
+     * slash have been removed. For example the prefix of {@code /books/{id}} is {@code /books/}. Routers can use the
+     * prefix to narrow down the templates that need to be matched against a given URI.
+     *
+     * @return The static prefix, or an empty string if the template starts with a variable
+     */
+    public String getStaticPrefix() {
+        return staticPrefix;
+    }
+
     /**
      * Match the given URI string.
      *
@@ -173,7 +193,13 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         pattern = null;
         variableList = null;
         String[] variables = newList.toArray(new String[newList.size()]);
-        return newUriMatchTemplate(uriTemplate, newSegments, newPattern, variables);
+        UriMatchTemplate newTemplate = newUriMatchTemplate(uriTemplate, newSegments, newPattern, variables);
+        if (staticPrefixBuilder != null) {
+            newTemplate.staticPrefix = fullyStatic ? staticPrefix + staticPrefixBuilder : staticPrefix;
+            newTemplate.fullyStatic = fullyStatic && staticPrefixOpen;
+        }
+        staticPrefixBuilder = null;
+        return newTemplate;
     }
 
     @Override
@@ -252,6 +278,10 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         protected UriMatchTemplateParser(String templateText, UriMatchTemplate matchTemplate) {
             super(templateText);
             this.matchTemplate = matchTemplate;
+            if (matchTemplate.staticPrefixBuilder == null) {
+                matchTemplate.staticPrefixBuilder = new StringBuilder();
+                matchTemplate.staticPrefixOpen = true;
+            }
         }
 
         /**
@@ -264,6 +294,9 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         @Override
         protected void addRawContentSegment(List<PathSegment> segments, String value, boolean isQuerySegment) {
             matchTemplate.pattern.append(Pattern.quote(value));
+            if (matchTemplate.staticPrefixOpen) {
+                matchTemplate.staticPrefixBuilder.append(value);
+            }
             super.addRawContentSegment(segments, value, isQuerySegment);
         }
 
@@ -280,6 +313,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
                                           String previousDelimiter, boolean isQuerySegment) {
             matchTemplate.variableList.add(variable);
             StringBuilder pattern = matchTemplate.pattern;
+            int patternLength = pattern.length();
             int modLen = modifierStr.length();
             boolean hasModifier = modifierChar == ':' && modLen > 0;
             String operatorPrefix = "";
@@ -335,6 +369,9 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             if (operator == '/' || modifierStr.equals("?")) {
                 pattern.append("?");
             }
+            if (pattern.length() > patternLength) {
+                matchTemplate.staticPrefixOpen = false;
+            }
             super.addVariableSegment(segments, variable, prefix, delimiter, encode, repeatPrefix, modifierStr, modifierChar, operator, previousDelimiter, isQuerySegment);
         }
 
@@ -171,4 +171,29 @@ class UriMatchTemplateSpec extends Specification {
         "/books{?max,offset}"            | "/books/"             | true    | [:]
         "/books{#hashtag}"               | "/books/"             | true    | [:]
     }
+
+    @Unroll
+    void "test the static prefix of #template nested with #nested is #prefix"() {
+        given:
+        UriMatchTemplate matchTemplate = new UriMatchTemplate(template)
+        if (nested != null) {
+            matchTemplate = matchTemplate.nest(nested)
+        }
+
+        expect:
+        matchTemplate.staticPrefix == prefix
+
+        where:
+        template              | nested                | prefix
+        "/"                   | null                  | "/"
+        ""                    | null                  | ""
+        "/books"              | null                  | "/books"
+        "/books/{id}"         | null                  | "/books/"
+        "/books{/id}"         | null                  | "/books"
+        "/books{?max,offset}" | null                  | "/books"
+        "{+path}"             | null                  | ""
+        "/"                   | '/authors{/authorId}' | "/authors"
+        "/books{/id}"         | '/authors{/authorId}' | "/books"
+        "/books"              | 'authors'             | "/books/authors"
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context.event
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanContext
+import io.micronaut.context.DefaultApplicationContext
+import io.micronaut.context.DefaultBeanContext
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class AsyncEventListenerSpec extends Specification {
+
+    void "test events published asynchronously are received in order"() {
+        given:
+        BeanContext context = BeanContext.run()
+        OrderedListener listener = context.getBean(OrderedListener)
+
+        when:
+        List futures = (1..100).collect { context.publishEventAsync(new NumberedEvent(number: it)) }
+        futures*.get(5, TimeUnit.SECONDS)
+
+        then:
+        listener.numbers == (1..100).toList()
+        listener.threads.every { it != Thread.currentThread() }
+        ((DefaultBeanContext) context).eventDispatcher.dispatchedEvents == 100
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the listeners of an event type are looked up once"() {
+        given:
+        BeanContext context = BeanContext.run()
+        context.getBean(OrderedListener)
+        def index = ((DefaultBeanContext) context).beanLookupIndexes.find { it.name == 'eventListeners' }
+
+        when:
+        context.publishEvent(new NumberedEvent(number: 1))
+        long misses = index.misses
+        context.publishEvent(new NumberedEvent(number: 2))
+        context.publishEvent(new NumberedEvent(number: 3))
+
+        then:
+        index.misses == misses
+        context.getBean(OrderedListener).numbers == [1, 2, 3]
+
+        cleanup:
+        context.close()
+    }
+
+    void "test an event is rejected when the queue of a listener is full"() {
+        given:
+        ApplicationContext context = ApplicationContext.run((DefaultApplicationContext.EVENT_QUEUE_CAPACITY_PROPERTY): 1)
+        BlockingListener listener = context.getBean(BlockingListener)
+
+        when:
+        def first = context.publishEventAsync(new BlockingEvent())
+        listener.started.await(5, TimeUnit.SECONDS)
+        def second = context.publishEventAsync(new BlockingEvent())
+        def third = context.publishEventAsync(new BlockingEvent())
+        third.get(5, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof RejectedExecutionException
+        ((DefaultBeanContext) context).eventDispatcher.rejectedEvents == 1
+
+        when:
+        listener.release.countDown()
+        first.get(5, TimeUnit.SECONDS)
+        second.get(5, TimeUnit.SECONDS)
+
+        then:
+        listener.count == 2
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a failing listener completes the future exceptionally"() {
+        given:
+        BeanContext context = BeanContext.run()
+
+        when:
+        context.publishEventAsync(new FailingEvent()).get(5, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof IllegalStateException
+
+        cleanup:
+        context.close()
+    }
+}
+
+class NumberedEvent {
+    int number
+}
+
+class BlockingEvent {}
+
+class FailingEvent {}
+
+@Singleton
+class OrderedListener implements ApplicationEventListener<NumberedEvent> {
+
+    List<Integer> numbers = Collections.synchronizedList([])
+    Set<Thread> threads = Collections.synchronizedSet(new HashSet<>())
+
+    @Override
+    void onApplicationEvent(NumberedEvent event) {
+        numbers.add(event.number)
+        threads.add(Thread.currentThread())
+    }
+}
+
+@Singleton
+class BlockingListener implements ApplicationEventListener<BlockingEvent> {
+
+    CountDownLatch started = new CountDownLatch(1)
+    CountDownLatch release = new CountDownLatch(1)
+    volatile int count = 0
+
+    @Override
+    void onApplicationEvent(BlockingEvent event) {
+        started.countDown()
+        release.await(5, TimeUnit.SECONDS)
+        count++
+    }
+}
+
+@Singleton
+class FailingListener implements ApplicationEventListener<FailingEvent> {
+
+    @Override
+    void onApplicationEvent(FailingEvent event) {
+        throw new IllegalStateException("Bad event")
+    }
+}
@@ -254,6 +254,7 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
 
             Optional<String> replacesType = annotationUtils.getAnnotationMetadata(beanClassElement).getValue(Replaces.class, String.class);
             replacesType.ifPresent(beanDefinitionReferenceWriter::setReplaceBeanName);
+            beanDefinitionReferenceWriter.setExposedTypeNames(resolveExposedTypeNames(beanDefinitionWriter.getProvidedType().getClassName()));
             beanDefinitionReferenceWriter.accept(classWriterOutputVisitor);
         } catch (IOException e) {
             // raise a compile error
@@ -262,6 +263,41 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
         }
     }
 
+    /**
+     * Resolves the names of the provided bean type and all of its super classes and interfaces, which are stored in the
+     * bean definition reference so the bean context can match it against a type without loading it.
+     *
+     * @param beanTypeName The name of the provided bean type
+     * @return The names or null if the type hierarchy cannot be fully resolved, for example for generated proxies
+     */
+    private Set<String> resolveExposedTypeNames(String beanTypeName) {
+        TypeElement typeElement = elementUtils.getTypeElement(beanTypeName.replace('$', '.'));
+        if (typeElement == null || !elementUtils.getBinaryName(typeElement).contentEquals(beanTypeName)) {
+            return null;
+        }
+        Set<String> names = new HashSet<>();
+        if (!collectExposedTypeNames(typeElement.asType(), names)) {
+            return null;
+        }
+        names.remove(Object.class.getName());
+        return names;
+    }
+
+    private boolean collectExposedTypeNames(TypeMirror type, Set<String> names) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (names.add(elementUtils.getBinaryName(typeElement).toString())) {
+            for (TypeMirror supertype : typeUtils.directSupertypes(type)) {
+                if (!collectExposedTypeNames(supertype, names)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private String getPropertyMetadataTypeReference(TypeMirror valueType) {
         if (modelUtils.isOptional(valueType)) {
             return genericUtils.getFirstTypeArgument(valueType)
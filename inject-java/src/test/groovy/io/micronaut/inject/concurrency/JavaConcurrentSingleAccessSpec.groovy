@@ -19,7 +19,12 @@ import io.micronaut.context.BeanContext
 import io.micronaut.context.DefaultBeanContext
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
 import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
 
 class JavaConcurrentSingleAccessSpec extends Specification {
 
@@ -44,4 +49,33 @@ class JavaConcurrentSingleAccessSpec extends Specification {
         then:
         beans.unique().size() == 1
     }
+
+    void "test a singleton being created does not block resolution of other singletons"() {
+        given:
+        BeanContext context = new DefaultBeanContext()
+        context.start()
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+        List<Future<SlowSingleton>> slow = (1..3).collect {
+            executor.submit({ context.getBean(SlowSingleton) } as Callable<SlowSingleton>)
+        }
+        SlowSingleton.STARTED.await(10, TimeUnit.SECONDS)
+        Future<ConcurrentB> other = executor.submit({ context.getBean(ConcurrentB) } as Callable<ConcurrentB>)
+
+        then:
+        other.get(5, TimeUnit.SECONDS) != null
+
+        when:
+        SlowSingleton.RELEASE.countDown()
+
+        then:
+        slow.collect { it.get(10, TimeUnit.SECONDS) }.unique().size() == 1
+        SlowSingleton.INSTANCES.get() == 1
+
+        cleanup:
+        SlowSingleton.RELEASE.countDown()
+        executor.shutdownNow()
+        context.stop()
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.concurrency
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
+import spock.lang.Specification
+
+class ParallelContextInitSpec extends Specification {
+
+    void "test context scope beans are initialized concurrently when enabled"() {
+        when:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': ParallelContextInitSpec.simpleName,
+                'micronaut.context.parallel-init.enabled': true,
+                'micronaut.context.parallel-init.parallelism': 4
+        )
+        ParallelA a = context.getBean(ParallelA)
+        ParallelB b = context.getBean(ParallelB)
+
+        then:"A waited for B on another thread"
+        a.sawB
+        a.thread.startsWith('context-initializer-')
+        b.thread.startsWith('context-initializer-')
+        a.thread != b.thread
+
+        and:"C was initialized with the same instance of A"
+        context.getBean(ParallelC).a.is(a)
+
+        cleanup:
+        context?.close()
+    }
+
+    void "test a failing context scope bean is reported when initializing concurrently"() {
+        when:
+        ApplicationContext.run(
+                'parallel.fail': true,
+                'micronaut.context.parallel-init.enabled': true
+        )
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains(ParallelFailing.name)
+    }
+}
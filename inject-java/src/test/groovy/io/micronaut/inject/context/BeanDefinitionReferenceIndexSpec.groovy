@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.context
+
+import io.micronaut.context.AbstractBeanDefinitionReference
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.AbstractTypeElementSpec
+import io.micronaut.inject.BeanDefinitionReference
+
+class BeanDefinitionReferenceIndexSpec extends AbstractTypeElementSpec {
+
+    void "test the bean definition reference knows the types the bean exposes"() {
+        when:
+        BeanDefinitionReference reference = buildBeanDefinitionReference('test.Foo', '''
+package test;
+
+@javax.inject.Singleton
+class Foo extends Base implements Runnable {
+    public void run() {}
+}
+
+abstract class Base implements java.util.function.Supplier<String> {
+    public String get() { return "foo"; }
+}
+''')
+
+        then:
+        reference.isCandidateBean(Object)
+        reference.isCandidateBean(Runnable)
+        reference.isCandidateBean(java.util.function.Supplier)
+        !reference.isCandidateBean(Closeable)
+        !reference.isCandidateBean(String)
+    }
+
+    void "test the bean definition is not loaded to check whether it is a candidate for an unrelated type"() {
+        given:
+        AbstractBeanDefinitionReference reference = (AbstractBeanDefinitionReference) Class.forName('io.micronaut.inject.context.$BDefinitionClass').newInstance()
+
+        expect:
+        reference.isPresent()
+        !reference.isCandidateBean(Runnable)
+        loadedBeanDefinition(reference) == null
+
+        and:
+        reference.isCandidateBean(B)
+        loadedBeanDefinition(reference) != null
+    }
+
+    void "test beans are resolved through the index"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        context.getBean(B).a.is(context.getBean(A))
+        context.getBeansOfType(A).size() == 1
+        !context.findBean(Runnable).isPresent()
+
+        cleanup:
+        context.close()
+    }
+
+    private static Object loadedBeanDefinition(AbstractBeanDefinitionReference reference) {
+        def field = AbstractBeanDefinitionReference.getDeclaredField('beanDefinition')
+        field.accessible = true
+        return field.get(reference)
+    }
+}
@@ -27,6 +27,8 @@ import io.micronaut.inject.BeanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * An uninitialized and unloaded component definition with basic information available regarding its requirements.
  *
@@ -39,6 +41,7 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
     private static final Logger LOG = LoggerFactory.getLogger(AbstractBeanDefinitionReference.class);
     private final String beanTypeName;
     private final String beanDefinitionTypeName;
+    private final String[] exposedTypeNames;
     private Class beanDefinition;
     private Boolean present;
     private Class beanType;
@@ -48,8 +51,19 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
      * @param beanDefinitionTypeName The bean definition type name
      */
     public AbstractBeanDefinitionReference(String beanTypeName, String beanDefinitionTypeName) {
+        this(beanTypeName, beanDefinitionTypeName, null);
+    }
+
+    /**
+     * @param beanTypeName           The bean type name
+     * @param beanDefinitionTypeName The bean definition type name
+     * @param exposedTypeNames       The sorted names of the types the bean can be injected as, computed at compile
+     *                               time, or null if they are not known
+     */
+    public AbstractBeanDefinitionReference(String beanTypeName, String beanDefinitionTypeName, String[] exposedTypeNames) {
         this.beanTypeName = beanTypeName;
         this.beanDefinitionTypeName = beanDefinitionTypeName;
+        this.exposedTypeNames = exposedTypeNames;
     }
 
     @Override
@@ -72,7 +86,8 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
             if (beanType == null) {
                 synchronized (this) { // double check
                     beanType = this.beanType;
-                    if (beanType == null) {
+                    Class beanDefinition = getBeanDefinitionClass();
+                    if (beanType == null && beanDefinition != null) {
                         beanType = GenericTypeUtils
                                 .resolveInterfaceTypeArgument(beanDefinition, BeanFactory.class)
                                 .orElse(null);
@@ -85,6 +100,15 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
         return null;
     }
 
+    @Override
+    public boolean isCandidateBean(Class beanType) {
+        if (exposedTypeNames != null && beanType != Object.class && Arrays.binarySearch(exposedTypeNames, beanType.getName()) < 0) {
+            // the bean cannot be injected as the type, so there is no need to load it
+            return false;
+        }
+        return BeanDefinitionReference.super.isCandidateBean(beanType);
+    }
+
     @Override
     public String getReplacesBeanTypeName() {
         return null; // no replacement semantics by default
@@ -95,7 +119,8 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
      */
     @Override
     public BeanDefinition load() {
-        if ((present != null && present) || isPresent()) {
+        Class beanDefinition = isPresent() ? getBeanDefinitionClass() : null;
+        if (beanDefinition != null) {
             try {
                 return (BeanDefinition) beanDefinition.newInstance();
             } catch (Throwable e) {
@@ -125,10 +150,26 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
         return beanDefinitionTypeName;
     }
 
+    /**
+     * Returns whether the bean is present on the classpath. If the types the bean exposes were computed at compile
+     * time, this first checks whether their class files exist, which avoids loading the bean definition and the bean
+     * type until the bean is needed.
+     *
+     * @return Whether the bean is present
+     */
     @Override
     public boolean isPresent() {
         if (present == null) {
-            loadType();
+            boolean classFilesPresent = exposedTypeNames != null && isClassFilePresent(beanDefinitionTypeName);
+            for (int i = 0; classFilesPresent && i < exposedTypeNames.length; i++) {
+                classFilesPresent = isClassFilePresent(exposedTypeNames[i]);
+            }
+            if (classFilesPresent) {
+                present = true;
+            } else {
+                // class loaders are not required to expose class files as resources, so fall back to loading
+                loadType();
+            }
         }
         return present;
     }
@@ -162,8 +203,21 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
         return beanDefinitionTypeName.hashCode();
     }
 
+    private Class getBeanDefinitionClass() {
+        if (beanDefinition == null) {
+            loadType();
+        }
+        return beanDefinition;
+    }
+
+    private boolean isClassFilePresent(String className) {
+        ClassLoader classLoader = getClass().getClassLoader();
+        String path = className.replace('.', '/') + ".class";
+        return classLoader != null ? classLoader.getResource(path) != null : ClassLoader.getSystemResource(path) != null;
+    }
+
     private void loadType() {
-        if (present == null && beanDefinition == null) {
+        if (beanDefinition == null && present != Boolean.FALSE) {
 
             try {
                 beanDefinition = Class.forName(beanDefinitionTypeName, false, getClass().getClassLoader());
@@ -173,6 +227,7 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Bean definition for type [" + beanTypeName + "] not loaded since it is not on the classpath", e);
                 }
+                beanDefinition = null;
                 present = false;
             }
         }
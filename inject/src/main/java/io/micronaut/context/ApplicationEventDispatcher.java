@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context;
+
+import io.micronaut.context.event.ApplicationEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>Dispatches events published with {@link io.micronaut.context.event.ApplicationEventPublisher#publishEventAsync(Object)}
+ * on an {@link Executor}.</p>
+ *
+ * <p>Every singleton listener has its own bounded queue that is drained by at most one task at a time, so a listener
+ * receives the events in the order they were published. When the queue of a listener is full the event is rejected
+ * for that listener instead of blocking the publisher. The number of dispatched and rejected events and the number
+ * of queued events are recorded so that the dispatcher can be monitored.</p>
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+public final class ApplicationEventDispatcher {
+
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final BiConsumer<ApplicationEventListener, Object> invoker;
+    private final Map<ApplicationEventListener, ListenerQueue> queues = new ConcurrentHashMap<>();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param executor      The executor that invokes the listeners
+     * @param queueCapacity The maximum number of events queued for a listener
+     * @param invoker       Invokes a listener with an event
+     */
+    ApplicationEventDispatcher(Executor executor, int queueCapacity, BiConsumer<ApplicationEventListener, Object> invoker) {
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.invoker = invoker;
+    }
+
+    /**
+     * @return The maximum number of events queued for a listener
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return The number of events that have been handed to listeners
+     */
+    public long getDispatchedEvents() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return The number of times an event was rejected because the queue of a listener was full
+     */
+    public long getRejectedEvents() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return The number of events currently waiting in the queues of all listeners
+     */
+    public int getQueuedEvents() {
+        int queued = 0;
+        for (ListenerQueue queue : queues.values()) {
+            queued += queue.size.get();
+        }
+        return queued;
+    }
+
+    /**
+     * Dispatches the event to the given listeners.
+     *
+     * @param event     The event
+     * @param listeners The listeners that support the event
+     * @param ordered   Whether the listeners are singletons whose events must be delivered in order
+     * @return A future that completes once every listener has consumed the event
+     */
+    CompletableFuture<Void> dispatch(Object event, Collection<ApplicationEventListener> listeners, boolean ordered) {
+        CompletableFuture[] futures = new CompletableFuture[listeners.size()];
+        int i = 0;
+        for (ApplicationEventListener listener : listeners) {
+            Task task = new Task(listener, event);
+            futures[i++] = task.future;
+            if (ordered) {
+                ListenerQueue queue = queues.computeIfAbsent(listener, l -> new ListenerQueue());
+                if (!queue.offer(task)) {
+                    rejected.increment();
+                    task.future.completeExceptionally(new RejectedExecutionException("Event queue of listener [" + listener + "] is full"));
+                }
+            } else {
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    rejected.increment();
+                    task.future.completeExceptionally(e);
+                }
+            }
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * The invocation of a listener with an event.
+     */
+    private final class Task implements Runnable {
+        final ApplicationEventListener listener;
+        final Object event;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Task(ApplicationEventListener listener, Object event) {
+            this.listener = listener;
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            dispatched.increment();
+            try {
+                invoker.accept(listener, event);
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The events waiting for a single listener. At most one task drains the queue at any time.
+     */
+    private final class ListenerQueue implements Runnable {
+        final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        boolean offer(Task task) {
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            tasks.add(task);
+            schedule();
+            return true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    Task task;
+                    while ((task = tasks.poll()) != null) {
+                        size.decrementAndGet();
+                        rejected.increment();
+                        task.future.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            // drain a batch at a time so that a busy listener does not monopolize a thread of the executor
+            Task task;
+            int drained = 0;
+            while (drained < DRAIN_BATCH_SIZE && (task = tasks.poll()) != null) {
+                size.decrementAndGet();
+                task.run();
+                drained++;
+            }
+            scheduled.set(false);
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>An index used by the {@link DefaultBeanContext} to remember the result of a bean lookup, such as the candidates
+ * for a bean type. Entries are computed once per key and are never evicted, since the number of keys is bounded by
+ * the bean types and qualifiers an application looks up. The index is only cleared when the set of beans changes,
+ * for example when a singleton is registered.</p>
+ *
+ * <p>The number of hits and misses is recorded so that the effectiveness of the index can be monitored.</p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+public final class BeanLookupIndex<K, V> {
+
+    private final String name;
+    private final Map<K, V> entries = new ConcurrentHashMap<>(64);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // incremented on every clear so that values computed before a clear are not stored after it
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param name The name of the index
+     */
+    BeanLookupIndex(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the index
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of lookups answered by the index
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to be computed
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries in the index
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the value for the given key, computing it with the given function if it is not present. The value is
+     * computed outside of any lock since computing it can recursively look up other beans. If the index is cleared
+     * while the value is computed, the value is returned but not stored.
+     *
+     * @param key    The key
+     * @param loader The function to compute the value
+     * @return The value
+     */
+    V get(K key, Function<K, V> loader) {
+        V value = entries.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        long generation = generation();
+        value = loader.apply(key);
+        if (this.generation.get() != generation) {
+            return value;
+        }
+        V existing = entries.putIfAbsent(key, value);
+        if (existing != null) {
+            return existing;
+        }
+        if (this.generation.get() != generation) {
+            entries.remove(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return The current generation of the index, which changes every time the index is cleared
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * @param key The key
+     * @return The value or null if it is not present
+     */
+    V getIfPresent(K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value that was computed from the state of the bean context at the given generation. The value is
+     * discarded if the index was cleared in the meantime.
+     *
+     * @param key        The key
+     * @param value      The value
+     * @param generation The {@link #generation()} captured before the value was computed
+     */
+    void put(K key, V value, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        entries.put(key, value);
+        if (this.generation.get() != generation) {
+            entries.remove(key, value);
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -45,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Creates a default implementation of the {@link ApplicationContext} interface.
@@ -54,6 +56,28 @@ import java.util.Set;
  */
 public class DefaultApplicationContext extends DefaultBeanContext implements ApplicationContext {
 
+    /**
+     * Property to enable the concurrent initialization of {@link io.micronaut.context.annotation.Context} scope beans.
+     */
+    public static final String PARALLEL_INIT_PROPERTY = "micronaut.context.parallel-init.enabled";
+
+    /**
+     * Property for the number of threads used to initialize {@link io.micronaut.context.annotation.Context} scope
+     * beans. Defaults to the number of available processors.
+     */
+    public static final String PARALLEL_INIT_PARALLELISM_PROPERTY = "micronaut.context.parallel-init.parallelism";
+
+    /**
+     * Property for the name of the {@link java.util.concurrent.ExecutorService} bean that invokes the listeners of
+     * asynchronously published events, for example {@code io}. Defaults to the common fork join pool.
+     */
+    public static final String EVENT_EXECUTOR_PROPERTY = "micronaut.context.events.executor";
+
+    /**
+     * Property for the maximum number of asynchronously published events queued for a single listener.
+     */
+    public static final String EVENT_QUEUE_CAPACITY_PROPERTY = "micronaut.context.events.queue-capacity";
+
     private final ConversionService conversionService;
     private final ClassPathResourceLoader resourceLoader;
     private Environment environment;
@@ -189,6 +213,30 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
         super.initializeContext(contextScopeBeans, processedBeans);
     }
 
+    @Override
+    protected int getContextInitializationParallelism() {
+        Environment environment = getEnvironment();
+        if (environment.getProperty(PARALLEL_INIT_PROPERTY, Boolean.class, false)) {
+            return environment.getProperty(PARALLEL_INIT_PARALLELISM_PROPERTY, Integer.class, Runtime.getRuntime().availableProcessors());
+        }
+        return 1;
+    }
+
+    @Override
+    protected Executor getEventExecutor() {
+        Optional<String> executorName = getEnvironment().getProperty(EVENT_EXECUTOR_PROPERTY, String.class);
+        if (executorName.isPresent()) {
+            return findBean(ExecutorService.class, Qualifiers.byName(executorName.get()))
+                .orElseThrow(() -> new ConfigurationException("No executor found for name: " + executorName.get()));
+        }
+        return super.getEventExecutor();
+    }
+
+    @Override
+    protected int getEventQueueCapacity() {
+        return getEnvironment().getProperty(EVENT_QUEUE_CAPACITY_PROPERTY, Integer.class, super.getEventQueueCapacity());
+    }
+
     @Override
     protected <T> Collection<BeanDefinition<T>> findBeanCandidates(Class<T> beanType, BeanDefinition<?> filter) {
         Collection<BeanDefinition<T>> candidates = super.findBeanCandidates(beanType, filter);
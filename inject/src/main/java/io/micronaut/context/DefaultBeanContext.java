@@ -16,8 +16,6 @@
 
 package io.micronaut.context;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micronaut.context.annotation.*;
 import io.micronaut.context.event.*;
 import io.micronaut.context.exceptions.BeanContextException;
@@ -74,6 +72,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -87,7 +86,13 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -109,14 +114,20 @@ public class DefaultBeanContext implements BeanContext {
     protected final AtomicBoolean running = new AtomicBoolean(false);
 
     final Map<BeanKey, BeanRegistration> singletonObjects = new ConcurrentHashMap<>(30);
+    private final Map<BeanDefinition, BeanRegistration> singletonsByDefinition = new ConcurrentHashMap<>(30);
+
+    private final Map<BeanDefinition, Object> singletonLocks = new ConcurrentHashMap<>(30);
 
     private final Collection<BeanDefinitionReference> beanDefinitionsClasses = new ConcurrentLinkedQueue<>();
     private final Map<String, BeanConfiguration> beanConfigurations = new ConcurrentHashMap<>(4);
     private final Map<BeanKey, Boolean> containsBeanCache = new ConcurrentHashMap<>(30);
 
-    private final Cache<BeanKey, Collection<Object>> initializedObjectsByType = Caffeine.newBuilder().maximumSize(30).build();
-    private final Cache<BeanKey, Optional<BeanDefinition>> beanConcreteCandidateCache = Caffeine.newBuilder().maximumSize(30).build();
-    private final Cache<Class, Collection<BeanDefinition>> beanCandidateCache = Caffeine.newBuilder().maximumSize(30).build();
+    private final BeanLookupIndex<BeanKey, Collection<Object>> initializedObjectsByType = new BeanLookupIndex<>("initializedObjectsByType");
+    private final BeanLookupIndex<BeanKey, Optional<BeanDefinition>> beanConcreteCandidateCache = new BeanLookupIndex<>("beanConcreteCandidates");
+    private final BeanLookupIndex<Class, Collection<BeanDefinition>> beanCandidateCache = new BeanLookupIndex<>("beanCandidates");
+    private final BeanLookupIndex<Class, Collection<BeanDefinition>> beanInstanceCandidateCache = new BeanLookupIndex<>("beanInstanceCandidates");
+    private final BeanLookupIndex<Class, EventListeners> eventListenersByType = new BeanLookupIndex<>("eventListeners");
+    private volatile ApplicationEventDispatcher eventDispatcher;
 
     private final ClassLoader classLoader;
     private final Set<Class> thisInterfaces = ReflectionUtils.getAllInterfaces(getClass());
@@ -389,19 +400,17 @@ public class DefaultBeanContext implements BeanContext {
             throw new IllegalArgumentException("Passed singleton cannot be null");
         }
         BeanKey<T> beanKey = new BeanKey<>(type, qualifier);
-        synchronized (singletonObjects) {
-            initializedObjectsByType.invalidateAll();
-
-            BeanDefinition<T> beanDefinition = inject ? findBeanCandidatesForInstance(singleton).stream().findFirst().orElse(null) : null;
-            if (beanDefinition != null && beanDefinition.getBeanType().isInstance(singleton)) {
-                doInject(new DefaultBeanResolutionContext(this, beanDefinition), singleton, beanDefinition);
-                singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, beanDefinition, singleton));
-            } else {
-                NoInjectionBeanDefinition<T> dynamicRegistration = new NoInjectionBeanDefinition<>(type);
-                beanDefinitionsClasses.add(dynamicRegistration);
-                singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, dynamicRegistration, singleton));
-            }
+        BeanDefinition<T> beanDefinition = inject ? findBeanCandidatesForInstance(singleton).stream().findFirst().orElse(null) : null;
+        if (beanDefinition != null && beanDefinition.getBeanType().isInstance(singleton)) {
+            doInject(new DefaultBeanResolutionContext(this, beanDefinition), singleton, beanDefinition);
+            singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, beanDefinition, singleton));
+        } else {
+            NoInjectionBeanDefinition<T> dynamicRegistration = new NoInjectionBeanDefinition<>(type);
+            beanDefinitionsClasses.add(dynamicRegistration);
+            singletonObjects.put(beanKey, new BeanRegistration<>(beanKey, dynamicRegistration, singleton));
         }
+        // invalidate after registering so that a concurrent lookup cannot cache a result without the new singleton
+        invalidateCaches();
         return this;
     }
 
@@ -611,14 +620,10 @@ public class DefaultBeanContext implements BeanContext {
         T bean = null;
         BeanKey<T> beanKey = new BeanKey<>(beanType, null);
 
-        synchronized (singletonObjects) {
-            if (singletonObjects.containsKey(beanKey)) {
-                @SuppressWarnings("unchecked") BeanRegistration<T> beanRegistration = singletonObjects.get(beanKey);
-                bean = beanRegistration.bean;
-                if (bean != null) {
-                    singletonObjects.remove(beanKey);
-                }
-            }
+        @SuppressWarnings("unchecked") BeanRegistration<T> beanRegistration = singletonObjects.remove(beanKey);
+        if (beanRegistration != null) {
+            bean = beanRegistration.bean;
+            singletonsByDefinition.remove(beanRegistration.beanDefinition);
         }
 
         if (bean != null) {
@@ -852,32 +857,122 @@ public class DefaultBeanContext implements BeanContext {
             if (EVENT_LOGGER.isDebugEnabled()) {
                 EVENT_LOGGER.debug("Publishing event: {}", event);
             }
-            Collection<ApplicationEventListener> eventListeners = getBeansOfType(ApplicationEventListener.class, Qualifiers.byTypeArguments(event.getClass()));
+            Collection<ApplicationEventListener> eventListeners = getEventListeners(event.getClass()).listeners;
             if (!eventListeners.isEmpty()) {
                 if (EVENT_LOGGER.isTraceEnabled()) {
                     EVENT_LOGGER.trace("Established event listeners {} for event: {}", eventListeners, event);
                 }
-                eventListeners
-                        .forEach(listener -> {
-                                    if (listener.supports(event)) {
-                                        try {
-                                            if (EVENT_LOGGER.isTraceEnabled()) {
-                                                EVENT_LOGGER.trace("Invoking event listener [{}] for event: {}", listener, event);
-                                            }
-                                            listener.onApplicationEvent(event);
-                                        } catch (ClassCastException ex) {
-                                            String msg = ex.getMessage();
-                                            if (msg == null || msg.startsWith(event.getClass().getName())) {
-                                                if (EVENT_LOGGER.isDebugEnabled()) {
-                                                    EVENT_LOGGER.debug("Incompatible listener for event: " + listener, ex);
-                                                }
-                                            } else {
-                                                throw ex;
-                                            }
-                                        }
-                                    }
-                                }
-                        );
+                for (ApplicationEventListener listener : eventListeners) {
+                    if (listener.supports(event)) {
+                        invokeEventListener(listener, event);
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public CompletableFuture<Void> publishEventAsync(Object event) {
+        if (event == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (EVENT_LOGGER.isDebugEnabled()) {
+            EVENT_LOGGER.debug("Publishing event asynchronously: {}", event);
+        }
+        Class<?> eventType = event.getClass();
+        EventListeners eventListeners = getEventListeners(eventType);
+        List<ApplicationEventListener> supported = new ArrayList<>(eventListeners.listeners.size());
+        for (ApplicationEventListener listener : eventListeners.listeners) {
+            if (listener.supports(event)) {
+                supported.add(listener);
+            }
+        }
+        if (supported.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // only singleton listeners can have their events delivered in order
+        return getEventDispatcher().dispatch(event, supported, eventListeners.singletons);
+    }
+
+    /**
+     * Returns the dispatcher of asynchronously published events, which can be used to monitor it.
+     *
+     * @return The event dispatcher
+     */
+    public ApplicationEventDispatcher getEventDispatcher() {
+        ApplicationEventDispatcher dispatcher = this.eventDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = this.eventDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new ApplicationEventDispatcher(getEventExecutor(), getEventQueueCapacity(), this::invokeEventListener);
+                    this.eventDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * The executor that invokes the listeners of asynchronously published events. Defaults to the common
+     * {@link ForkJoinPool}.
+     *
+     * @return The executor
+     */
+    protected Executor getEventExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * The maximum number of asynchronously published events queued for a single listener. Further events are
+     * rejected for the listener until it catches up.
+     *
+     * @return The queue capacity
+     */
+    protected int getEventQueueCapacity() {
+        return 1024;
+    }
+
+    /**
+     * Returns the listeners for the given event type. The listeners are looked up once per event type as long as they
+     * are all singletons, and looked up again after the set of beans changes.
+     *
+     * @param eventType The event type
+     * @return The listeners
+     */
+    private EventListeners getEventListeners(Class<?> eventType) {
+        EventListeners eventListeners = eventListenersByType.getIfPresent(eventType);
+        if (eventListeners == null) {
+            // a listener registered while the listeners are looked up clears the index, so the result is not stored
+            long generation = eventListenersByType.generation();
+            Qualifier<ApplicationEventListener> qualifier = Qualifiers.byTypeArguments(eventType);
+            Collection<ApplicationEventListener> listeners = getBeansOfType(ApplicationEventListener.class, qualifier);
+            // the lookup is only remembered if every listener is a singleton
+            boolean singletons = initializedObjectsByType.getIfPresent(new BeanKey<>(ApplicationEventListener.class, qualifier)) != null;
+            eventListeners = new EventListeners(listeners, singletons);
+            if (singletons) {
+                eventListenersByType.put(eventType, eventListeners, generation);
+            }
+        }
+        return eventListeners;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invokeEventListener(ApplicationEventListener listener, Object event) {
+        try {
+            if (EVENT_LOGGER.isTraceEnabled()) {
+                EVENT_LOGGER.trace("Invoking event listener [{}] for event: {}", listener, event);
+            }
+            listener.onApplicationEvent(event);
+        } catch (ClassCastException ex) {
+            String msg = ex.getMessage();
+            if (msg == null || msg.startsWith(event.getClass().getName())) {
+                if (EVENT_LOGGER.isDebugEnabled()) {
+                    EVENT_LOGGER.debug("Incompatible listener for event: " + listener, ex);
+                }
+            } else {
+                throw ex;
             }
         }
     }
@@ -886,8 +981,21 @@ public class DefaultBeanContext implements BeanContext {
      * Invalidates the bean caches.
      */
     protected void invalidateCaches() {
-        beanCandidateCache.invalidateAll();
-        initializedObjectsByType.invalidateAll();
+        beanCandidateCache.clear();
+        beanInstanceCandidateCache.clear();
+        beanConcreteCandidateCache.clear();
+        initializedObjectsByType.clear();
+        eventListenersByType.clear();
+    }
+
+    /**
+     * Returns the indexes used to look up beans by type. Each index records the number of lookups it answered and
+     * the number it had to compute, which can be used to monitor them.
+     *
+     * @return The bean lookup indexes
+     */
+    public Collection<BeanLookupIndex<?, ?>> getBeanLookupIndexes() {
+        return Arrays.asList(beanCandidateCache, beanInstanceCandidateCache, beanConcreteCandidateCache, initializedObjectsByType, eventListenersByType);
     }
 
     /**
@@ -932,6 +1040,18 @@ public class DefaultBeanContext implements BeanContext {
         return ServiceLoader.load(BeanConfiguration.class, classLoader);
     }
 
+    /**
+     * Returns the number of threads used to initialize {@link io.micronaut.context.annotation.Context} scope beans.
+     * With a value greater than {@code 1} independent beans are initialized concurrently, in an order that respects
+     * the dependencies declared by their bean definitions. By default beans are initialized sequentially on the
+     * thread that starts the context.
+     *
+     * @return The parallelism
+     */
+    protected int getContextInitializationParallelism() {
+        return 1;
+    }
+
     /**
      * Initialize the context with the given {@link io.micronaut.context.annotation.Context} scope beans.
      *
@@ -939,27 +1059,26 @@ public class DefaultBeanContext implements BeanContext {
      * @param processedBeans    The beans that require {@link ExecutableMethodProcessor} handling
      */
     protected void initializeContext(List<BeanDefinitionReference> contextScopeBeans, List<BeanDefinitionReference> processedBeans) {
-        for (BeanDefinitionReference contextScopeBean : contextScopeBeans) {
-            try {
-
-                BeanDefinition beanDefinition = contextScopeBean.load(this);
-                if (beanDefinition.isEnabled(this)) {
-
-                    if (beanDefinition.isIterable()) {
-                        Collection<BeanDefinition> beanCandidates = findBeanCandidates(beanDefinition.getBeanType(), null);
-                        for (BeanDefinition beanCandidate : beanCandidates) {
-                            createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanCandidate, beanCandidate.getBeanType(), null);
-                        }
-
-                    } else {
-
-                        createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanDefinition, beanDefinition.getBeanType(), null);
+        Map<BeanDefinition, Long> timings = LOG.isDebugEnabled() ? new ConcurrentHashMap<>(contextScopeBeans.size()) : null;
+        long start = System.nanoTime();
+        int parallelism = getContextInitializationParallelism();
+        if (parallelism > 1 && contextScopeBeans.size() > 1) {
+            initializeContextScopeBeansInParallel(contextScopeBeans, parallelism, timings);
+        } else {
+            for (BeanDefinitionReference contextScopeBean : contextScopeBeans) {
+                try {
+                    BeanDefinition beanDefinition = contextScopeBean.load(this);
+                    if (beanDefinition.isEnabled(this)) {
+                        initializeContextScopeBean(beanDefinition, timings);
                     }
+                } catch (Throwable e) {
+                    throw new BeanInstantiationException("Bean definition [" + contextScopeBean.getName() + "] could not be loaded: " + e.getMessage(), e);
                 }
-            } catch (Throwable e) {
-                throw new BeanInstantiationException("Bean definition [" + contextScopeBean.getName() + "] could not be loaded: " + e.getMessage(), e);
             }
         }
+        if (timings != null && !timings.isEmpty()) {
+            logContextScopeBeanTimings(timings, System.nanoTime() - start, parallelism);
+        }
 
         if (!processedBeans.isEmpty()) {
 
@@ -1030,10 +1149,7 @@ public class DefaultBeanContext implements BeanContext {
 
             Stream<BeanDefinition<T>> candidateStream = beanDefinitionsClasses
                 .stream()
-                .filter(reference -> {
-                    Class<?> candidateType = reference.getBeanType();
-                    return candidateType != null && (beanType.isAssignableFrom(candidateType) || beanType == candidateType);
-                })
+                .filter(reference -> reference.isCandidateBean(beanType))
                 .map(ref -> {
                     BeanDefinition<T> loadedBean;
                     try {
@@ -1093,7 +1209,7 @@ public class DefaultBeanContext implements BeanContext {
             LOG.debug("Finding candidate beans for instance: {}", instance);
         }
         Collection<BeanDefinitionReference> beanDefinitionsClasses = this.beanDefinitionsClasses;
-        return beanCandidateCache.get(instance.getClass(), aClass -> {
+        return beanInstanceCandidateCache.get(instance.getClass(), aClass -> {
             // first traverse component definition classes and load candidates
 
             if (!beanDefinitionsClasses.isEmpty()) {
@@ -1330,7 +1446,7 @@ public class DefaultBeanContext implements BeanContext {
         boolean throwNoSuchBean,
         BeanDefinition<T> definition) {
         if (definition.isSingleton()) {
-            return createAndRegisterSingleton(resolutionContext, definition, beanType, qualifier);
+            return createAndRegisterSingleton(resolutionContext, definition, beanType, qualifier, true);
         } else {
             return getScopedBeanForDefinition(resolutionContext, beanType, qualifier, throwNoSuchBean, definition);
         }
@@ -1401,10 +1517,8 @@ public class DefaultBeanContext implements BeanContext {
                             return null;
                         }
                     }
-                    synchronized (singletonObjects) {
-                        bean = (T) reg.bean;
-                        registerSingletonBean(reg.beanDefinition, beanType, bean, qualifier, true);
-                    }
+                    bean = (T) reg.bean;
+                    registerSingletonBean(reg.beanDefinition, beanType, bean, qualifier, true);
                 }
             } else if (key.qualifier == null) {
                 BeanRegistration registration = entry.getValue();
@@ -1412,10 +1526,8 @@ public class DefaultBeanContext implements BeanContext {
                 if (beanType.isInstance(existing)) {
                     Optional<BeanDefinition> candidate = qualifier.reduce(beanType, Stream.of(registration.beanDefinition)).findFirst();
                     if (candidate.isPresent()) {
-                        synchronized (singletonObjects) {
-                            bean = (T) existing;
-                            registerSingletonBean(candidate.get(), beanType, bean, qualifier, true);
-                        }
+                        bean = (T) existing;
+                        registerSingletonBean(candidate.get(), beanType, bean, qualifier, true);
                     }
                 }
             }
@@ -1557,11 +1669,170 @@ public class DefaultBeanContext implements BeanContext {
         }
     }
 
-    private <T> T createAndRegisterSingleton(BeanResolutionContext resolutionContext, BeanDefinition<T> definition, Class<T> beanType, Qualifier<T> qualifier) {
-        synchronized (singletonObjects) {
-            T createdBean = doCreateBean(resolutionContext, definition, qualifier, true, null);
-            registerSingletonBean(definition, beanType, createdBean, qualifier, true);
-            return createdBean;
+    private void initializeContextScopeBean(BeanDefinition beanDefinition, Map<BeanDefinition, Long> timings) {
+        long start = timings != null ? System.nanoTime() : 0L;
+        if (beanDefinition.isIterable()) {
+            Collection<BeanDefinition> beanCandidates = findBeanCandidates(beanDefinition.getBeanType(), null);
+            for (BeanDefinition beanCandidate : beanCandidates) {
+                createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanCandidate, beanCandidate.getBeanType(), null, true);
+            }
+        } else {
+            createAndRegisterSingleton(new DefaultBeanResolutionContext(this, beanDefinition), beanDefinition, beanDefinition.getBeanType(), null, true);
+        }
+        if (timings != null) {
+            timings.put(beanDefinition, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Initializes the given context scope beans on a bounded {@link ForkJoinPool}. A bean is scheduled once the
+     * context scope beans whose types it requires have been initialized, so independent beans run concurrently. All
+     * beans are awaited before returning. If any fail the failure of the first one in the given order is thrown, with
+     * the others added as suppressed exceptions. Beans that depend on a failed bean are skipped.
+     *
+     * @param contextScopeBeans The context scope beans
+     * @param parallelism       The number of threads
+     * @param timings           The map to record initialization times in, or null
+     */
+    private void initializeContextScopeBeansInParallel(List<BeanDefinitionReference> contextScopeBeans, int parallelism, Map<BeanDefinition, Long> timings) {
+        List<BeanDefinitionReference> references = new ArrayList<>(contextScopeBeans.size());
+        List<BeanDefinition> definitions = new ArrayList<>(contextScopeBeans.size());
+        for (BeanDefinitionReference contextScopeBean : contextScopeBeans) {
+            try {
+                BeanDefinition beanDefinition = contextScopeBean.load(this);
+                if (beanDefinition.isEnabled(this)) {
+                    references.add(contextScopeBean);
+                    definitions.add(beanDefinition);
+                }
+            } catch (Throwable e) {
+                throw new BeanInstantiationException("Bean definition [" + contextScopeBean.getName() + "] could not be loaded: " + e.getMessage(), e);
+            }
+        }
+
+        int count = definitions.size();
+        List<List<Integer>> dependencies = new ArrayList<>(count);
+        for (BeanDefinition definition : definitions) {
+            List<Integer> required = new ArrayList<>();
+            for (Object requiredType : definition.getRequiredComponents()) {
+                for (int i = 0; i < count; i++) {
+                    BeanDefinition candidate = definitions.get(i);
+                    if (candidate != definition && ((Class) requiredType).isAssignableFrom(candidate.getBeanType())) {
+                        required.add(i);
+                    }
+                }
+            }
+            dependencies.add(required);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("context-initializer-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+        CompletableFuture<?>[] futures = new CompletableFuture[count];
+        Throwable[] failures = new Throwable[count];
+        try {
+            boolean[] visiting = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                scheduleContextScopeBean(i, definitions, dependencies, futures, visiting, failures, pool, timings);
+            }
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            // reported below, in the order the beans were declared
+        } finally {
+            pool.shutdown();
+        }
+
+        BeanInstantiationException error = null;
+        for (int i = 0; i < count; i++) {
+            Throwable failure = failures[i];
+            if (failure != null) {
+                BeanInstantiationException exception = new BeanInstantiationException("Bean definition [" + references.get(i).getName() + "] could not be loaded: " + failure.getMessage(), failure);
+                if (error == null) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @SuppressWarnings("ParameterNumber")
+    private CompletableFuture<?> scheduleContextScopeBean(
+        int index,
+        List<BeanDefinition> definitions,
+        List<List<Integer>> dependencies,
+        CompletableFuture<?>[] futures,
+        boolean[] visiting,
+        Throwable[] failures,
+        ForkJoinPool pool,
+        Map<BeanDefinition, Long> timings) {
+        if (futures[index] != null || visiting[index]) {
+            // a cycle between the required types is not a real dependency cycle, which would not resolve, so the
+            // per definition creation locks are left to order those beans
+            return futures[index];
+        }
+        visiting[index] = true;
+        List<CompletableFuture<?>> required = new ArrayList<>();
+        for (Integer dependency : dependencies.get(index)) {
+            CompletableFuture<?> future = scheduleContextScopeBean(dependency, definitions, dependencies, futures, visiting, failures, pool, timings);
+            if (future != null) {
+                required.add(future);
+            }
+        }
+        BeanDefinition definition = definitions.get(index);
+        CompletableFuture<?> future = CompletableFuture
+            .allOf(required.toArray(new CompletableFuture[0]))
+            .thenRunAsync(() -> {
+                try {
+                    initializeContextScopeBean(definition, timings);
+                } catch (Throwable e) {
+                    failures[index] = e;
+                    throw new CompletionException(e);
+                }
+            }, pool);
+        futures[index] = future;
+        return future;
+    }
+
+    private void logContextScopeBeanTimings(Map<BeanDefinition, Long> timings, long total, int parallelism) {
+        StringBuilder report = new StringBuilder();
+        timings.entrySet()
+            .stream()
+            .sorted(Map.Entry.<BeanDefinition, Long>comparingByValue().reversed())
+            .forEach(entry -> report
+                .append(System.lineSeparator())
+                .append("  ")
+                .append(TimeUnit.NANOSECONDS.toMillis(entry.getValue()))
+                .append("ms ")
+                .append(entry.getKey().getName()));
+        LOG.debug("Initialized {} context scope beans in {}ms with parallelism {}:{}", timings.size(), TimeUnit.NANOSECONDS.toMillis(total), parallelism, report);
+    }
+
+    /**
+     * Creates and registers the singleton for the given definition. Creation is guarded by a lock per bean definition
+     * instead of a lock on the whole context, so lookups of existing singletons never block and unrelated singletons
+     * can be created concurrently. If another thread created the singleton while this one waited for the lock the
+     * existing instance is registered for the requested type and returned.
+     *
+     * @param resolutionContext The resolution context
+     * @param definition        The bean definition
+     * @param beanType          The requested bean type
+     * @param qualifier         The qualifier
+     * @param singleCandidate   Whether the definition is the only candidate for the bean type
+     * @param <T>               The bean generic type
+     * @return The singleton
+     */
+    private <T> T createAndRegisterSingleton(BeanResolutionContext resolutionContext, BeanDefinition<T> definition, Class<T> beanType, Qualifier<T> qualifier, boolean singleCandidate) {
+        synchronized (singletonLocks.computeIfAbsent(definition, d -> new Object())) {
+            @SuppressWarnings("unchecked") BeanRegistration<T> existing = singletonsByDefinition.get(definition);
+            T bean = existing != null ? existing.bean : doCreateBean(resolutionContext, definition, qualifier, true, null);
+            registerSingletonBean(definition, beanType, bean, qualifier, singleCandidate);
+            return bean;
         }
     }
 
@@ -1642,6 +1913,7 @@ public class DefaultBeanContext implements BeanContext {
             }
         }
         singletonObjects.put(createdBeanKey, registration);
+        singletonsByDefinition.putIfAbsent(beanDefinition, registration);
     }
 
     private void readAllBeanDefinitionClasses() {
@@ -1697,127 +1969,120 @@ public class DefaultBeanContext implements BeanContext {
             }
         }
         BeanKey<T> key = new BeanKey<>(beanType, qualifier);
+        long generation = initializedObjectsByType.generation();
         @SuppressWarnings("unchecked") Collection<T> existing = (Collection<T>) initializedObjectsByType.getIfPresent(key);
         if (existing != null) {
             logResolvedExisting(beanType, qualifier, hasQualifier, existing);
             return existing;
         }
 
-        synchronized (singletonObjects) {
-            existing = (Collection<T>) initializedObjectsByType.getIfPresent(key);
-            if (existing != null) {
-                logResolvedExisting(beanType, qualifier, hasQualifier, existing);
-                return existing;
-            }
-
-            HashSet<T> beansOfTypeList = new HashSet<>();
-            Collection<BeanDefinition<T>> processedDefinitions = new ArrayList<>();
+        HashSet<T> beansOfTypeList = new HashSet<>();
+        Collection<BeanDefinition<T>> processedDefinitions = new ArrayList<>();
 
-            boolean allCandidatesAreSingleton = false;
-            Collection<T> beans;
-            for (Map.Entry<BeanKey, BeanRegistration> entry : singletonObjects.entrySet()) {
-                BeanRegistration reg = entry.getValue();
-                Object instance = reg.bean;
-                if (beanType.isInstance(instance)) {
-                    if (!beansOfTypeList.contains(instance)) {
-                        if (!hasQualifier) {
+        boolean allCandidatesAreSingleton = false;
+        Collection<T> beans;
+        for (Map.Entry<BeanKey, BeanRegistration> entry : singletonObjects.entrySet()) {
+            BeanRegistration reg = entry.getValue();
+            Object instance = reg.bean;
+            if (beanType.isInstance(instance)) {
+                if (!beansOfTypeList.contains(instance)) {
+                    if (!hasQualifier) {
+
+                        if (LOG.isTraceEnabled()) {
+                            Qualifier registeredQualifier = entry.getKey().qualifier;
+                            if (registeredQualifier != null) {
+                                LOG.trace("Found existing bean for type {} {}: {} ", beanType.getName(), instance);
+                            } else {
+                                LOG.trace("Found existing bean for type {}: {} ", beanType.getName(), instance);
+                            }
+                        }
 
+                        beansOfTypeList.add((T) instance);
+                        processedDefinitions.add(reg.beanDefinition);
+                    } else {
+                        Optional result = qualifier.reduce(beanType, Stream.of(reg.beanDefinition)).findFirst();
+                        if (result.isPresent()) {
                             if (LOG.isTraceEnabled()) {
-                                Qualifier registeredQualifier = entry.getKey().qualifier;
-                                if (registeredQualifier != null) {
-                                    LOG.trace("Found existing bean for type {} {}: {} ", beanType.getName(), instance);
-                                } else {
-                                    LOG.trace("Found existing bean for type {}: {} ", beanType.getName(), instance);
-                                }
+                                LOG.trace("Found existing bean for type {} {}: {} ", qualifier, beanType.getName(), instance);
                             }
 
                             beansOfTypeList.add((T) instance);
                             processedDefinitions.add(reg.beanDefinition);
-                        } else {
-                            Optional result = qualifier.reduce(beanType, Stream.of(reg.beanDefinition)).findFirst();
-                            if (result.isPresent()) {
-                                if (LOG.isTraceEnabled()) {
-                                    LOG.trace("Found existing bean for type {} {}: {} ", qualifier, beanType.getName(), instance);
-                                }
-
-                                beansOfTypeList.add((T) instance);
-                                processedDefinitions.add(reg.beanDefinition);
-                            }
                         }
                     }
                 }
             }
-            Collection<BeanDefinition<T>> candidates = findBeanCandidatesInternal(beanType);
-            if (hasQualifier) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Qualifying bean [{}] for qualifier: {} ", beanType.getName(), qualifier);
-                }
-                Stream<BeanDefinition<T>> candidateStream = candidates.stream();
-                candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream);
-
-                List<BeanDefinition<T>> reduced = qualifier.reduce(beanType, candidateStream)
-                        .collect(Collectors.toList());
-                if (!reduced.isEmpty()) {
-                    for (BeanDefinition<T> definition : reduced) {
-                        if (processedDefinitions.contains(definition)) {
-                            continue;
-                        }
-                        if (definition.isSingleton()) {
-                            allCandidatesAreSingleton = true;
-                        }
-                        addCandidateToList(resolutionContext, beanType, definition, beansOfTypeList, qualifier, reduced.size() == 1);
-                    }
-                    beans = beansOfTypeList;
-                } else {
+        }
+        Collection<BeanDefinition<T>> candidates = findBeanCandidatesInternal(beanType);
+        if (hasQualifier) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Qualifying bean [{}] for qualifier: {} ", beanType.getName(), qualifier);
+            }
+            Stream<BeanDefinition<T>> candidateStream = candidates.stream();
+            candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream);
 
-                    if (LOG.isDebugEnabled() && beansOfTypeList.isEmpty()) {
-                        LOG.debug("Found no matching beans of type [{}] for qualifier: {} ", beanType.getName(), qualifier);
+            List<BeanDefinition<T>> reduced = qualifier.reduce(beanType, candidateStream)
+                    .collect(Collectors.toList());
+            if (!reduced.isEmpty()) {
+                for (BeanDefinition<T> definition : reduced) {
+                    if (processedDefinitions.contains(definition)) {
+                        continue;
                     }
-                    allCandidatesAreSingleton = true;
-                    beans = beansOfTypeList;
-                }
-            } else if (!candidates.isEmpty()) {
-                boolean hasNonSingletonCandidate = false;
-                int candidateCount = candidates.size();
-                Stream<BeanDefinition<T>> candidateStream = candidates.stream();
-                candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream)
-                        .filter(c -> !processedDefinitions.contains(c));
-
-                List<BeanDefinition<T>> candidateList = candidateStream.collect(Collectors.toList());
-                for (BeanDefinition<T> candidate : candidateList) {
-                    if (!hasNonSingletonCandidate && !candidate.isSingleton()) {
-                        hasNonSingletonCandidate = true;
+                    if (definition.isSingleton()) {
+                        allCandidatesAreSingleton = true;
                     }
-                    addCandidateToList(resolutionContext, beanType, candidate, beansOfTypeList, qualifier, candidateCount == 1);
-                }
-                if (!hasNonSingletonCandidate) {
-                    allCandidatesAreSingleton = true;
+                    addCandidateToList(resolutionContext, beanType, definition, beansOfTypeList, qualifier, reduced.size() == 1);
                 }
                 beans = beansOfTypeList;
             } else {
+
+                if (LOG.isDebugEnabled() && beansOfTypeList.isEmpty()) {
+                    LOG.debug("Found no matching beans of type [{}] for qualifier: {} ", beanType.getName(), qualifier);
+                }
                 allCandidatesAreSingleton = true;
                 beans = beansOfTypeList;
             }
-
-            if (Ordered.class.isAssignableFrom(beanType)) {
-                beans = beans.stream().sorted(OrderUtil.COMPARATOR).collect(StreamUtils.toImmutableCollection());
-            } else {
-                beans = Collections.unmodifiableCollection(beans);
-            }
-
-            if (allCandidatesAreSingleton) {
-                initializedObjectsByType.put(key, (Collection<Object>) beans);
-            }
-            if (LOG.isDebugEnabled() && !beans.isEmpty()) {
-                if (hasQualifier) {
-                    LOG.debug("Found {} beans for type [{} {}]: {} ", beans.size(), qualifier, beanType.getName(), beans);
-                } else {
-                    LOG.debug("Found {} beans for type [{}]: {} ", beans.size(), beanType.getName(), beans);
+        } else if (!candidates.isEmpty()) {
+            boolean hasNonSingletonCandidate = false;
+            int candidateCount = candidates.size();
+            Stream<BeanDefinition<T>> candidateStream = candidates.stream();
+            candidateStream = applyBeanResolutionFilters(resolutionContext, candidateStream)
+                    .filter(c -> !processedDefinitions.contains(c));
+
+            List<BeanDefinition<T>> candidateList = candidateStream.collect(Collectors.toList());
+            for (BeanDefinition<T> candidate : candidateList) {
+                if (!hasNonSingletonCandidate && !candidate.isSingleton()) {
+                    hasNonSingletonCandidate = true;
                 }
+                addCandidateToList(resolutionContext, beanType, candidate, beansOfTypeList, qualifier, candidateCount == 1);
+            }
+            if (!hasNonSingletonCandidate) {
+                allCandidatesAreSingleton = true;
             }
+            beans = beansOfTypeList;
+        } else {
+            allCandidatesAreSingleton = true;
+            beans = beansOfTypeList;
+        }
+
+        if (Ordered.class.isAssignableFrom(beanType)) {
+            beans = beans.stream().sorted(OrderUtil.COMPARATOR).collect(StreamUtils.toImmutableCollection());
+        } else {
+            beans = Collections.unmodifiableCollection(beans);
+        }
 
-            return beans;
+        if (allCandidatesAreSingleton) {
+            initializedObjectsByType.put(key, (Collection<Object>) beans, generation);
+        }
+        if (LOG.isDebugEnabled() && !beans.isEmpty()) {
+            if (hasQualifier) {
+                LOG.debug("Found {} beans for type [{} {}]: {} ", beans.size(), qualifier, beanType.getName(), beans);
+            } else {
+                LOG.debug("Found {} beans for type [{}]: {} ", beans.size(), beanType.getName(), beans);
+            }
         }
+
+        return beans;
     }
 
     private <T> void logResolvedExisting(Class<T> beanType, Qualifier<T> qualifier, boolean hasQualifier, Collection<T> existing) {
@@ -1853,10 +2118,7 @@ public class DefaultBeanContext implements BeanContext {
     private <T> void addCandidateToList(BeanResolutionContext resolutionContext, Class<T> beanType, BeanDefinition<T> candidate, Collection<T> beansOfTypeList, Qualifier<T> qualifier, boolean singleCandidate) {
         T bean;
         if (candidate.isSingleton()) {
-            synchronized (singletonObjects) {
-                bean = doCreateBean(resolutionContext, candidate, qualifier, true, null);
-                registerSingletonBean(candidate, beanType, bean, qualifier, singleCandidate);
-            }
+            bean = createAndRegisterSingleton(resolutionContext, candidate, beanType, qualifier, singleCandidate);
         } else {
             bean = getScopedBeanForDefinition(resolutionContext, beanType, qualifier, true, candidate);
         }
@@ -2261,4 +2523,23 @@ public class DefaultBeanContext implements BeanContext {
             return true;
         }
     }
+
+    /**
+     * The listeners of an event type.
+     */
+    private static final class EventListeners {
+
+        private final Collection<ApplicationEventListener> listeners;
+        private final boolean singletons;
+
+        /**
+         * @param listeners  The listeners
+         * @param singletons Whether every listener is a singleton, in which case the listeners are kept in the
+         *                   lookup index
+         */
+        EventListeners(Collection<ApplicationEventListener> listeners, boolean singletons) {
+            this.listeners = listeners;
+            this.singletons = singletons;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.StringConvention;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.MapPropertyResolver;
@@ -52,6 +53,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PropertySourcePropertyResolver implements PropertyResolver {
 
     private static final Logger LOG = LoggerFactory.getLogger(PropertySourcePropertyResolver.class);
+    private static final Object ABSENT = new Object();
 
     protected final ConversionService<?> conversionService;
     protected final PropertyPlaceholderResolver propertyPlaceholderResolver;
@@ -60,6 +62,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
     // this allows optimization of searches by prefix
     @SuppressWarnings("MagicNumber")
     protected final Map<String, Object>[] catalog = new Map[57];
+    // an immutable, flattened view of the catalog that readers use without locking. It is discarded
+    // whenever the catalog changes and lazily rebuilt on the next read
+    private volatile PropertySnapshot snapshot;
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -126,13 +131,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
             return false;
         } else {
 
-            Map<String, Object> entries = resolveEntriesForKey(name, false);
-            if (entries == null) {
-                return false;
-            } else {
-                name = trimIndex(name);
-                return entries.containsKey(name) || entries.containsKey(normalizeName(name));
-            }
+            name = trimIndex(name);
+            Map<String, Object> values = getSnapshot().values;
+            return values.containsKey(name) || values.containsKey(normalizeName(name));
         }
     }
 
@@ -141,19 +142,21 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (StringUtils.isEmpty(name)) {
             return false;
         } else {
-            Map<String, Object> entries = resolveEntriesForKey(name, false);
-            if (entries == null) {
-                return false;
+            name = trimIndex(name);
+            PropertySnapshot snapshot = getSnapshot();
+            Map<String, Object> values = snapshot.values;
+            if (values.containsKey(name) || values.containsKey(normalizeName(name))) {
+                return true;
             } else {
-                name = trimIndex(name);
-                if (entries.containsKey(name) || entries.containsKey(normalizeName(name))) {
-                    return true;
-                } else {
-                    String finalName = name + ".";
-                    return entries.keySet().stream().anyMatch(key ->
+                String finalName = name + ".";
+                Boolean contains = snapshot.prefixes.get(finalName);
+                if (contains == null) {
+                    contains = values.keySet().stream().anyMatch(key ->
                             key.startsWith(finalName)
                     );
+                    snapshot.prefixes.put(finalName, contains);
                 }
+                return contains;
             }
         }
     }
@@ -163,57 +166,33 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         if (StringUtils.isEmpty(name)) {
             return Optional.empty();
         } else {
-
-            Map<String, Object> entries = resolveEntriesForKey(name, false);
-            if (entries != null) {
-                Object value = entries.get(name);
-                if (value == null) {
-                    value = entries.get(normalizeName(name));
-                }
-                if (value == null) {
-                    int i = name.indexOf('[');
-                    if (i > -1 && name.endsWith("]")) {
-                        String newKey = name.substring(0, i);
-                        value = entries.get(newKey);
-                        if (value != null) {
-                            String index = name.substring(i + 1, name.length() - 1);
-                            if (StringUtils.isNotEmpty(index)) {
-                                if (value instanceof List) {
-                                    try {
-                                        value = ((List) value).get(Integer.valueOf(index));
-                                    } catch (NumberFormatException e) {
-                                        // ignore
-                                    }
-                                } else if (value instanceof Map) {
-                                    try {
-                                        value = ((Map) value).get(index);
-                                    } catch (NumberFormatException e) {
-                                        // ignore
-                                    }
-                                }
-                            }
-                        } else {
-                            String index = name.substring(i + 1, name.length() - 1);
-                            if (StringUtils.isNotEmpty(index)) {
-                                String subKey = newKey + '.' + index;
-                                value = entries.get(subKey);
-                            }
-                        }
+            PropertySnapshot snapshot = getSnapshot();
+            Object value = snapshot.resolve(name);
+            Class<T> requiredType = conversionContext.getArgument().getType();
+            if (value != null) {
+                ConversionKey key = isMemoizable(conversionContext) ? new ConversionKey(name, requiredType) : null;
+                if (key != null) {
+                    Object converted = snapshot.conversions.get(key);
+                    if (converted != null) {
+                        return Optional.of((T) converted);
                     }
                 }
-                Class<T> requiredType = conversionContext.getArgument().getType();
-                if (value != null) {
-                    value = resolvePlaceHoldersIfNecessary(value);
-                    Optional<T> converted = conversionService.convert(value, conversionContext);
-                    if (LOG.isTraceEnabled()) {
-                       if (converted.isPresent()) {
-                           LOG.trace("Resolved value [{}] for property: {}", converted.get(), name);
-                       } else {
-                           LOG.trace("Resolved value [{}] cannot be converted to type [{}] for property: {}", value, conversionContext.getArgument(), name);
-                       }
-                    }
-                    return converted;
-                } else if (Properties.class.isAssignableFrom(requiredType)) {
+                Optional<T> converted = conversionService.convert(value, conversionContext);
+                if (LOG.isTraceEnabled()) {
+                   if (converted.isPresent()) {
+                       LOG.trace("Resolved value [{}] for property: {}", converted.get(), name);
+                   } else {
+                       LOG.trace("Resolved value [{}] cannot be converted to type [{}] for property: {}", value, conversionContext.getArgument(), name);
+                   }
+                }
+                if (key != null && converted.isPresent()) {
+                    snapshot.conversions.put(key, converted.get());
+                }
+                return converted;
+            }
+            Map<String, Object> entries = resolveEntriesForKey(name, false);
+            if (entries != null) {
+                if (Properties.class.isAssignableFrom(requiredType)) {
                     Properties properties = resolveSubProperties(name, entries, conversionContext);
                     return Optional.of((T) properties);
                 } else if (Map.class.isAssignableFrom(requiredType)) {
@@ -388,6 +367,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     }
                 }
             }
+            this.snapshot = null;
         }
     }
 
@@ -416,6 +396,82 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return entries;
     }
 
+    /**
+     * Discards the snapshot of resolved properties. Subclasses that modify the {@link #catalog} directly
+     * should call this method, while holding the lock on the catalog, once they are done.
+     */
+    protected void resetSnapshot() {
+        this.snapshot = null;
+    }
+
+    private PropertySnapshot getSnapshot() {
+        PropertySnapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (catalog) {
+                current = this.snapshot;
+                if (current == null) {
+                    Map<String, Object> values = new HashMap<>();
+                    for (Map<String, Object> entries : catalog) {
+                        if (entries != null) {
+                            values.putAll(entries);
+                        }
+                    }
+                    current = new PropertySnapshot(values);
+                    this.snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Object findValue(Map<String, Object> values, String name) {
+        Object value = values.get(name);
+        if (value == null) {
+            value = values.get(normalizeName(name));
+        }
+        if (value == null) {
+            int i = name.indexOf('[');
+            if (i > -1 && name.endsWith("]")) {
+                String newKey = name.substring(0, i);
+                value = values.get(newKey);
+                if (value != null) {
+                    String index = name.substring(i + 1, name.length() - 1);
+                    if (StringUtils.isNotEmpty(index)) {
+                        if (value instanceof List) {
+                            try {
+                                value = ((List) value).get(Integer.valueOf(index));
+                            } catch (NumberFormatException e) {
+                                // ignore
+                            }
+                        } else if (value instanceof Map) {
+                            try {
+                                value = ((Map) value).get(index);
+                            } catch (NumberFormatException e) {
+                                // ignore
+                            }
+                        }
+                    }
+                } else {
+                    String index = name.substring(i + 1, name.length() - 1);
+                    if (StringUtils.isNotEmpty(index)) {
+                        String subKey = newKey + '.' + index;
+                        value = values.get(subKey);
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Only conversions to immutable types that cannot be influenced by formatting annotations are memoized.
+     */
+    private boolean isMemoizable(ArgumentConversionContext<?> conversionContext) {
+        Class<?> type = conversionContext.getArgument().getType();
+        return (type.isEnum() || (ClassUtils.isJavaLangType(type) && !type.isArray())) &&
+                conversionContext.getAnnotations().length == 0;
+    }
+
     private String normalizeName(String name) {
         return name.replace('-', '.');
     }
@@ -447,4 +503,65 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         }
         return name;
     }
+
+    /**
+     * An immutable, flattened copy of the catalog together with the placeholder resolved values and typed
+     * conversions computed from it. Since the memoized results are only valid for the catalog they were
+     * computed from, they are discarded along with the snapshot.
+     */
+    private final class PropertySnapshot {
+        private final Map<String, Object> values;
+        private final Map<String, Object> resolved = new ConcurrentHashMap<>();
+        private final Map<ConversionKey, Object> conversions = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> prefixes = new ConcurrentHashMap<>();
+
+        PropertySnapshot(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        /**
+         * @param name The property name
+         * @return The value with placeholders resolved or null if there is no value for the name
+         */
+        Object resolve(String name) {
+            Object value = resolved.get(name);
+            if (value == null) {
+                // placeholders may refer to other properties, so computeIfAbsent cannot be used here
+                Object raw = findValue(values, name);
+                value = raw != null ? resolvePlaceHoldersIfNecessary(raw) : ABSENT;
+                resolved.put(name, value);
+            }
+            return value != ABSENT ? value : null;
+        }
+    }
+
+    /**
+     * The key of a memoized conversion.
+     */
+    private static final class ConversionKey {
+        private final String name;
+        private final Class<?> type;
+
+        ConversionKey(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ConversionKey that = (ConversionKey) o;
+            return name.equals(that.name) && type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type);
+        }
+    }
 }
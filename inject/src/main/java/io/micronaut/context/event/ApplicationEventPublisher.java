@@ -16,6 +16,8 @@
 
 package io.micronaut.context.event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * <p>Interface for classes that publish events received by {@link ApplicationEventListener} instances.</p>
  * <p>
@@ -33,4 +35,23 @@ public interface ApplicationEventPublisher {
      * @param event The event to publish
      */
     void publishEvent(Object event);
+
+    /**
+     * Publish the given event asynchronously. The method returns without waiting for the listeners, which receive the
+     * events of a publisher in the order they were published. By default the event is published synchronously.
+     *
+     * @param event The event to publish
+     * @return A future that completes once all listeners have consumed the event, or completes exceptionally if a
+     * listener failed or could not accept the event
+     */
+    default CompletableFuture<Void> publishEventAsync(Object event) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            publishEvent(event);
+            future.complete(null);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
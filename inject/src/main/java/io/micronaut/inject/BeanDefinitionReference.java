@@ -72,4 +72,16 @@ public interface BeanDefinitionReference<T> extends BeanType<T> {
      * @return Is the underlying bean type present on the classpath
      */
     boolean isPresent();
+
+    /**
+     * Returns whether the bean could be injected as the given type. Implementations that know the types the bean
+     * exposes can answer without loading the bean definition or the bean type.
+     *
+     * @param beanType The bean type
+     * @return True if the bean is a candidate for the given type
+     */
+    default boolean isCandidateBean(Class<?> beanType) {
+        Class<T> candidateType = getBeanType();
+        return candidateType != null && beanType.isAssignableFrom(candidateType);
+    }
 }
@@ -28,6 +28,8 @@ import org.objectweb.asm.commons.GeneratorAdapter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.TreeSet;
 
 /**
  * Writes the bean definition class file to disk.
@@ -51,6 +53,7 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
     private String replaceBeanName;
     private boolean contextScope = false;
     private boolean requiresMethodProcessing;
+    private TreeSet<String> exposedTypeNames;
 
     /**
      * @param beanTypeName       The bean type name
@@ -113,6 +116,16 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
         this.requiresMethodProcessing = shouldPreProcess;
     }
 
+    /**
+     * Sets the names of the types the bean can be injected as, which allows the bean context to find candidates for
+     * a type without loading the bean definition. The names are those returned by {@link Class#getName()}.
+     *
+     * @param exposedTypeNames The exposed type names
+     */
+    public void setExposedTypeNames(Collection<String> exposedTypeNames) {
+        this.exposedTypeNames = exposedTypeNames != null ? new TreeSet<>(exposedTypeNames) : null;
+    }
+
     /**
      * Obtains the class name of the bean definition to be written. Java Annotation Processors need
      * this information to create a JavaFileObject using a Filer.
@@ -143,8 +156,21 @@ public class BeanDefinitionReferenceWriter extends AbstractAnnotationMetadataWri
         cv.push(beanTypeName);
         cv.push(beanDefinitionName);
 
-        // INVOKESPECIAL AbstractBeanDefinitionReference.<init> (Ljava/lang/String;)V
-        invokeConstructor(cv, AbstractBeanDefinitionReference.class, String.class, String.class);
+        if (exposedTypeNames != null) {
+            // the sorted exposed type names
+            int size = exposedTypeNames.size();
+            pushNewArray(cv, String.class, size);
+            int i = 0;
+            for (String exposedTypeName : exposedTypeNames) {
+                pushStoreStringInArray(cv, i++, size, exposedTypeName);
+            }
+
+            // INVOKESPECIAL AbstractBeanDefinitionReference.<init> (Ljava/lang/String;Ljava/lang/String;[Ljava/lang/String;)V
+            invokeConstructor(cv, AbstractBeanDefinitionReference.class, String.class, String.class, String[].class);
+        } else {
+            // INVOKESPECIAL AbstractBeanDefinitionReference.<init> (Ljava/lang/String;Ljava/lang/String;)V
+            invokeConstructor(cv, AbstractBeanDefinitionReference.class, String.class, String.class);
+        }
 
         // RETURN
         cv.visitInsn(RETURN);
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context
+
+import spock.lang.Specification
+
+class BeanLookupIndexSpec extends Specification {
+
+    void "test a value computed while the index is cleared is not stored"() {
+        given:
+        BeanLookupIndex<String, String> index = new BeanLookupIndex<>("test")
+
+        when:
+        String value = index.get("foo", { String key ->
+            index.clear()
+            return "stale"
+        })
+
+        then:
+        value == "stale"
+        !index.containsKey("foo")
+
+        when:
+        value = index.get("foo", { String key -> "fresh" })
+
+        then:
+        value == "fresh"
+        index.containsKey("foo")
+    }
+
+    void "test a value is not put after a clear"() {
+        given:
+        BeanLookupIndex<String, String> index = new BeanLookupIndex<>("test")
+        long generation = index.generation()
+
+        when:
+        index.clear()
+        index.put("foo", "stale", generation)
+
+        then:
+        !index.containsKey("foo")
+
+        when:
+        index.put("foo", "fresh", index.generation())
+
+        then:
+        index.getIfPresent("foo") == "fresh"
+    }
+}
@@ -146,4 +146,42 @@ class PropertySourcePropertyResolverSpec extends Specification {
         resolver.getProperty('my.property', Properties).isPresent()
         resolver.getProperty('my.property', Properties).get() == properties
     }
+
+    void "test resolved values are refreshed when a property source is added"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("one", ['foo.bar': '10', 'foo.baz': '${foo.bar}'])
+        )
+
+        expect:
+        resolver.getProperty('foo.baz', Integer).get() == 10
+        resolver.getProperty('foo.baz', Integer).get() == 10
+        resolver.getProperty('foo.baz', String).get() == '10'
+        !resolver.containsProperty('foo.qux')
+        !resolver.containsProperties('bar')
+
+        when:
+        resolver.addPropertySource(PropertySource.of("two", ['foo.bar': '20', 'foo.qux': 'test', 'bar.baz': true]))
+
+        then:
+        resolver.getProperty('foo.baz', Integer).get() == 20
+        resolver.getProperty('foo.baz', String).get() == '20'
+        resolver.getProperty('foo.qux', String).get() == 'test'
+        resolver.containsProperty('foo.qux')
+        resolver.containsProperties('bar')
+        resolver.getProperty('bar.baz', Boolean).get()
+    }
+
+    void "test resolve indexed properties from the snapshot"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['foo.bar[0]': '10', 'foo.bar[1]': '${foo.baz}', 'foo.baz': 20])
+        )
+
+        expect:
+        resolver.containsProperty('foo.bar[1]')
+        resolver.getProperty('foo.bar[0]', Integer).get() == 10
+        resolver.getProperty('foo.bar[1]', Integer).get() == 20
+        resolver.getProperty('foo.bar', List).get() == ['10', '${foo.baz}']
+    }
 }
@@ -17,9 +17,7 @@
 package io.micronaut.web.router;
 
 import io.micronaut.core.annotation.AnnotationMetadata;
-import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.bind.ArgumentBinder;
-import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionError;
@@ -27,7 +25,6 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
@@ -36,7 +33,6 @@ import io.micronaut.inject.MethodExecutionHandle;
 import io.micronaut.web.router.exceptions.UnsatisfiedRouteException;
 
 import javax.annotation.Nullable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -74,29 +70,11 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
         this.abstractRoute = abstractRoute;
         this.executableMethod = abstractRoute.targetMethod;
         this.conversionService = conversionService;
-        Argument[] requiredArguments = executableMethod.getArguments();
-        this.requiredInputs = new LinkedHashMap<>(requiredArguments.length);
-        for (Argument requiredArgument : requiredArguments) {
-            String inputName = resolveInputName(requiredArgument);
-            requiredInputs.put(inputName, requiredArgument);
-        }
+        this.requiredInputs = abstractRoute.requiredInputs;
 
         this.acceptedMediaTypes = abstractRoute.getConsumes();
     }
 
-    private String resolveInputName(Argument requiredArgument) {
-        Optional<Annotation> ann = requiredArgument.findAnnotationWithStereoType(Bindable.class);
-        return ann.map(annotation -> {
-            Optional<String> value = AnnotationUtil.findValueOfType(annotation, String.class);
-            return value.map(s -> {
-                if (StringUtils.isEmpty(s)) {
-                    return requiredArgument.getName();
-                }
-                return s;
-            }).orElse(requiredArgument.getName());
-        }).orElse(requiredArgument.getName());
-    }
-
     @Override
     public List<MediaType> getProduces() {
         Optional<Argument<?>> firstTypeVariable = executableMethod.getReturnType().getFirstTypeVariable();
@@ -301,10 +279,12 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
     public RouteMatch<R> fulfill(Map<String, Object> argumentValues) {
         Map<String, Object> oldVariables = getVariables();
         Map<String, Object> newVariables = new LinkedHashMap<>(oldVariables);
-        for (Argument requiredArgument : getArguments()) {
+        Argument[] arguments = getArguments();
+        for (int i = 0; i < arguments.length; i++) {
+            Argument requiredArgument = arguments[i];
             Object value = argumentValues.get(requiredArgument.getName());
             if (value != null) {
-                String name = resolveInputName(requiredArgument);
+                String name = abstractRoute.inputNames[i];
                 if (value instanceof UnresolvedArgument) {
                     newVariables.put(name, value);
                 } else {
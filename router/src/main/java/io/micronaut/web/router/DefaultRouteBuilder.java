@@ -19,9 +19,12 @@ package io.micronaut.web.router;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.ExecutionHandleLocator;
 import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.TypeConvention;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
@@ -36,6 +39,7 @@ import io.micronaut.web.router.exceptions.RoutingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -353,6 +357,8 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         protected List<MediaType> acceptedMediaTypes;
         protected List<MediaType> producesMediaTypes;
         protected String bodyArgument;
+        protected final Map<String, Argument> requiredInputs;
+        protected final String[] inputNames;
 
         /**
          * @param targetMethod The target method execution handle
@@ -363,6 +369,17 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
             this.targetMethod = targetMethod;
             this.conversionService = conversionService;
             this.acceptedMediaTypes = mediaTypes;
+            // resolve the input names once so route matches do not look up the binding annotations per request
+            Argument[] arguments = targetMethod.getArguments();
+            Map<String, Argument> requiredInputs = new LinkedHashMap<>(arguments.length);
+            this.inputNames = new String[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                Argument argument = arguments[i];
+                String inputName = resolveInputName(argument);
+                inputNames[i] = inputName;
+                requiredInputs.put(inputName, argument);
+            }
+            this.requiredInputs = Collections.unmodifiableMap(requiredInputs);
             Produces produces = targetMethod.getAnnotation(Produces.class);
             if (produces != null) {
                 this.producesMediaTypes = Arrays.stream(produces.value())
@@ -425,6 +442,19 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         public MethodExecutionHandle getTargetMethod() {
             return this.targetMethod;
         }
+
+        private String resolveInputName(Argument requiredArgument) {
+            Optional<Annotation> ann = requiredArgument.findAnnotationWithStereoType(Bindable.class);
+            return ann.map(annotation -> {
+                Optional<String> value = AnnotationUtil.findValueOfType(annotation, String.class);
+                return value.map(s -> {
+                    if (StringUtils.isEmpty(s)) {
+                        return requiredArgument.getName();
+                    }
+                    return s;
+                }).orElse(requiredArgument.getName());
+            }).orElse(requiredArgument.getName());
+        }
     }
 
     /**
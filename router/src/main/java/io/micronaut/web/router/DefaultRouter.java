@@ -30,8 +30,8 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
- * <p>The default {@link Router} implementation. This implementation does not perform any additional caching of
- * route discovery.</p>
+ * <p>The default {@link Router} implementation. The URI routes for each HTTP method are indexed by the static prefix
+ * of their templates so that only the routes that could match a given URI are evaluated.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -40,6 +40,7 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router {
 
     private final UriRoute[][] routesByMethod = new UriRoute[HttpMethod.values().length][];
+    private final UriRouteTree[] treesByMethod = new UriRouteTree[HttpMethod.values().length];
     private final SortedSet<StatusRoute> routesByStatus = new TreeSet<>();
     private final Collection<FilterRoute> filterRoutes = new ArrayList<>();
     private final SortedSet<ErrorRoute> errorRoutes = new TreeSet<>();
@@ -133,16 +134,21 @@ public class DefaultRouter implements Router {
                 default:
                     // no-op
             }
+            UriRoute[] routes = routesByMethod[method.ordinal()];
+            if (routes != null) {
+                treesByMethod[method.ordinal()] = new UriRouteTree(routes);
+            }
         }
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<UriRouteMatch<T>> find(HttpMethod httpMethod, CharSequence uri) {
-        UriRoute[] routes = routesByMethod[httpMethod.ordinal()];
+        String uriString = uri.toString();
+        UriRoute[] routes = treesByMethod[httpMethod.ordinal()].find(uriString);
         return Arrays
             .stream(routes)
-            .map((route -> route.match(uri.toString())))
+            .map((route -> route.match(uriString)))
             .filter(Optional::isPresent)
             .map(Optional::get);
     }
@@ -156,16 +162,15 @@ public class DefaultRouter implements Router {
 
     @Override
     public <T> Optional<UriRouteMatch<T>> route(HttpMethod httpMethod, CharSequence uri) {
-        UriRoute[] routes = routesByMethod[httpMethod.ordinal()];
-        Optional<UriRouteMatch> result = Arrays
-            .stream(routes)
-            .map((route -> route.match(uri.toString())))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .findFirst();
-
-        UriRouteMatch match = result.orElse(null);
-        return Optional.ofNullable(match);
+        String uriString = uri.toString();
+        UriRoute[] routes = treesByMethod[httpMethod.ordinal()].find(uriString);
+        for (UriRoute route : routes) {
+            Optional<UriRouteMatch> match = route.match(uriString);
+            if (match.isPresent()) {
+                return Optional.of(match.get());
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -239,11 +244,12 @@ public class DefaultRouter implements Router {
     @SuppressWarnings("unchecked")
     @Override
     public <T> Stream<UriRouteMatch<T>> findAny(CharSequence uri) {
+        String uriString = uri.toString();
         return Arrays
-            .stream(routesByMethod)
+            .stream(treesByMethod)
             .filter(Objects::nonNull)
-            .flatMap(Arrays::stream)
-            .map(route -> route.match(uri.toString()))
+            .flatMap(tree -> Arrays.stream(tree.find(uriString)))
+            .map(route -> route.match(uriString))
             .filter(Optional::isPresent)
             .map(Optional::get);
     }
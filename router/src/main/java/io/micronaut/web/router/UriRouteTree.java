@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.web.router;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>A radix tree over the static prefixes of a set of {@link UriRoute} instances. Looking up a URI walks the tree
+ * once, in time proportional to the length of the URI, and returns the routes whose static prefix the URI starts
+ * with. Only those candidates need to be matched against the full {@link io.micronaut.http.uri.UriMatchTemplate}.</p>
+ *
+ * <p>The candidates for every node are computed when the tree is built, and are returned in the order of the
+ * routes passed to the constructor. That preserves the precedence of the sorted routes.</p>
+ *
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+final class UriRouteTree {
+
+    private static final UriRoute[] NO_ROUTES = new UriRoute[0];
+
+    private final Node root = new Node("");
+
+    /**
+     * @param routes The routes, in order of precedence
+     */
+    UriRouteTree(UriRoute[] routes) {
+        for (int i = 0; i < routes.length; i++) {
+            insert(staticPrefix(routes[i]), i);
+        }
+        root.freeze(routes, new int[0], NO_ROUTES);
+    }
+
+    /**
+     * Finds the routes that could match the given URI.
+     *
+     * @param uri The URI
+     * @return The candidate routes, in order of precedence. The returned array must not be modified.
+     */
+    UriRoute[] find(String uri) {
+        int end = uri.indexOf('?');
+        if (end < 0) {
+            end = uri.length();
+        }
+        Node node = root;
+        int pos = 0;
+        while (pos < end) {
+            Node child = node.child(uri.charAt(pos));
+            if (child == null) {
+                break;
+            }
+            String label = child.label;
+            int labelLength = label.length();
+            if (end - pos < labelLength || !uri.regionMatches(pos, label, 0, labelLength)) {
+                break;
+            }
+            pos += labelLength;
+            node = child;
+        }
+        return node.candidates;
+    }
+
+    private static String staticPrefix(UriRoute route) {
+        if (route instanceof DefaultRouteBuilder.DefaultUriRoute) {
+            String prefix = route.getUriMatchTemplate().getStaticPrefix();
+            // the root template also matches an empty URI
+            return "/".equals(prefix) ? "" : prefix;
+        }
+        // other implementations may match arbitrary URIs, so they are always candidates
+        return "";
+    }
+
+    private void insert(String prefix, int index) {
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            char c = prefix.charAt(pos);
+            Node child = node.child(c);
+            if (child == null) {
+                child = new Node(prefix.substring(pos));
+                node.addChild(child);
+                node = child;
+                break;
+            }
+            String label = child.label;
+            int common = 0;
+            int max = Math.min(label.length(), prefix.length() - pos);
+            while (common < max && label.charAt(common) == prefix.charAt(pos + common)) {
+                common++;
+            }
+            if (common < label.length()) {
+                child = node.split(child, common);
+            }
+            pos += common;
+            node = child;
+        }
+        node.indices.add(index);
+    }
+
+    /**
+     * A node in the tree. The label is the part of the prefix that leads from the parent node to this node.
+     */
+    private static final class Node {
+        private String label;
+        private char[] firstChars = new char[0];
+        private Node[] children = new Node[0];
+        private List<Integer> indices = new ArrayList<>(1);
+        private UriRoute[] candidates = NO_ROUTES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(firstChars, c);
+            return i < 0 ? null : children[i];
+        }
+
+        void addChild(Node child) {
+            char c = child.label.charAt(0);
+            int insertion = -(Arrays.binarySearch(firstChars, c) + 1);
+            char[] newChars = new char[firstChars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, newChars, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newChars[insertion] = c;
+            newChildren[insertion] = child;
+            System.arraycopy(firstChars, insertion, newChars, insertion + 1, firstChars.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            firstChars = newChars;
+            children = newChildren;
+        }
+
+        /**
+         * Splits the given child so that its first {@code length} characters form a new intermediate node.
+         */
+        Node split(Node child, int length) {
+            Node intermediate = new Node(child.label.substring(0, length));
+            child.label = child.label.substring(length);
+            intermediate.addChild(child);
+            children[Arrays.binarySearch(firstChars, intermediate.label.charAt(0))] = intermediate;
+            return intermediate;
+        }
+
+        void freeze(UriRoute[] routes, int[] inherited, UriRoute[] inheritedCandidates) {
+            int[] merged = inherited;
+            candidates = inheritedCandidates;
+            if (!indices.isEmpty()) {
+                merged = Arrays.copyOf(inherited, inherited.length + indices.size());
+                for (int i = 0; i < indices.size(); i++) {
+                    merged[inherited.length + i] = indices.get(i);
+                }
+                Arrays.sort(merged);
+                candidates = new UriRoute[merged.length];
+                for (int i = 0; i < merged.length; i++) {
+                    candidates[i] = routes[merged[i]];
+                }
+            }
+            indices = null;
+            for (Node child : children) {
+                child.freeze(routes, merged, candidates);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.stream.Collectors
+
+/**
+ * @author Graeme Rocher
+ * @since 1.0
+ */
+class DefaultRouterSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run('spec.name': DefaultRouterSpec.simpleName)
+
+    @Shared
+    Router router = context.getBean(Router)
+
+    @Unroll
+    void "test #method #uri finds the same routes as matching every route"() {
+        given:
+        List<UriRoute> expected = router.uriRoutes()
+                .filter({ UriRoute route -> route.httpMethod == method })
+                .filter({ UriRoute route -> route.match(uri).isPresent() })
+                .collect(Collectors.toList())
+
+        expect:
+        router.find(method, uri).map({ UriRouteMatch match -> match.route }).collect(Collectors.toList()) == expected
+        router.route(method, uri).map({ UriRouteMatch match -> match.route }).orElse(null) == (expected ? expected[0] : null)
+
+        where:
+        method          | uri
+        HttpMethod.GET  | '/'
+        HttpMethod.GET  | ''
+        HttpMethod.GET  | '/tree'
+        HttpMethod.GET  | '/tree/'
+        HttpMethod.GET  | '/tree/static'
+        HttpMethod.GET  | '/tree/static?foo=bar'
+        HttpMethod.GET  | '/tree/other'
+        HttpMethod.GET  | '/tree/1/children'
+        HttpMethod.GET  | '/tree/1/children/'
+        HttpMethod.GET  | '/treehouse'
+        HttpMethod.GET  | '/trees/1'
+        HttpMethod.GET  | '/t'
+        HttpMethod.GET  | '/missing/path'
+        HttpMethod.POST | '/tree'
+        HttpMethod.POST | '/tree/1'
+    }
+
+    void "test static routes take precedence over variables"() {
+        expect:
+        router.route(HttpMethod.GET, '/tree/static').get().execute() == 'static'
+        router.route(HttpMethod.GET, '/tree/other').get().execute() == 'show other'
+        router.route(HttpMethod.GET, '/tree/1/children').get().execute() == 'children 1'
+        router.route(HttpMethod.GET, '/trees/1').get().execute() == 'trees 1'
+        router.route(HttpMethod.GET, '/treehouse').get().execute() == 'path treehouse'
+        router.route(HttpMethod.POST, '/tree').get().execute() == 'save'
+        !router.route(HttpMethod.POST, '/tree/1/children').isPresent()
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterSpec')
+    @Controller('/tree')
+    static class TreeController {
+
+        @Get('/')
+        String index() {
+            'index'
+        }
+
+        @Get('/static')
+        String staticPath() {
+            'static'
+        }
+
+        @Get('/{name}')
+        String show(String name) {
+            "show $name"
+        }
+
+        @Get('/{id}/children')
+        String children(String id) {
+            "children $id"
+        }
+
+        @Post('/')
+        String save() {
+            'save'
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'DefaultRouterSpec')
+    @Controller('/')
+    static class CatchAllController {
+
+        @Get('/trees{/id}')
+        String trees(String id) {
+            "trees $id"
+        }
+
+        @Get('/{path}')
+        String path(String path) {
+            "path $path"
+        }
+    }
+}
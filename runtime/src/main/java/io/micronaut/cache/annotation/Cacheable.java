@@ -87,4 +87,16 @@ public @interface Cacheable {
      * @return True if an atomic operation should be attempted
      */
     boolean atomic() default false;
+
+    /**
+     * <p>Whether concurrent cache misses for the same key should share a single invocation of the method. Only
+     * applies to methods that return a {@link java.util.concurrent.CompletableFuture} or a reactive type, for
+     * blocking methods use {@link #atomic()} instead.</p>
+     * <p>
+     * <p>When set to <tt>true</tt> callers that miss the cache while the value is already being loaded wait for
+     * that load instead of invoking the method again.</p>
+     *
+     * @return True if concurrent loads of the same value should be coalesced
+     */
+    boolean coalesce() default false;
 }
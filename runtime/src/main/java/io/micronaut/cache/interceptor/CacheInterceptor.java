@@ -57,7 +57,9 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * <p>An AOP {@link MethodInterceptor} implementation for the Cache annotations {@link Cacheable},
@@ -82,6 +84,8 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private final ExecutorService ioExecutor;
     private final CacheErrorHandler errorHandler;
     private final AsyncCacheErrorHandler asyncCacheErrorHandler;
+    private final Map<ParametersKey, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder coalescedLoads = new LongAdder();
 
     /**
      * Create Cache Interceptor with given arguments.
@@ -109,6 +113,21 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return POSITION;
     }
 
+    /**
+     * @return The number of invocations of {@link Cacheable#coalesce()} methods that waited for a load in progress
+     * instead of invoking the method
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    /**
+     * @return The number of values of {@link Cacheable#coalesce()} methods currently being loaded
+     */
+    public int getInFlightLoads() {
+        return inFlightLoads.size();
+    }
+
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
         if (context.hasStereotype(CacheConfig.class)) {
@@ -272,26 +291,16 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                 return;
                             }
                         }
-                        CompletableFuture<?> completableFuture = (CompletableFuture) context.proceed();
-                        if (completableFuture == null) {
-                            thisFuture.complete(null);
-                        } else {
-                            completableFuture.whenComplete((BiConsumer<Object, Throwable>) (o1, t2) -> {
-                                if (t2 != null) {
-                                    thisFuture.completeExceptionally(t2);
-                                } else {
-                                    // new cacheable result, cache it
-                                    asyncCache.put(key, o1).whenComplete((aBoolean, throwable1) -> {
-                                        if (throwable1 == null) {
-                                            thisFuture.complete(o1);
-                                        } else {
-                                            thisFuture.completeExceptionally(throwable1);
-                                        }
-                                    });
-
-                                }
-                            });
-                        }
+                        CompletableFuture<Object> loadFuture = cacheable.coalesce() ?
+                            coalesce(asyncCache.getName(), key, () -> proceedAndPut(context, asyncCache, key)) :
+                            proceedAndPut(context, asyncCache, key);
+                        loadFuture.whenComplete((o1, t2) -> {
+                            if (t2 != null) {
+                                thisFuture.completeExceptionally(t2);
+                            } else {
+                                thisFuture.complete(o1);
+                            }
+                        });
                     } catch (RuntimeException e) {
                         thisFuture.completeExceptionally(e);
                     }
@@ -388,6 +397,20 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                         }
                                     }
 
+                                    if (cacheable.coalesce()) {
+                                        coalesce(asyncCache.getName(), key, () -> subscribeAndPut(context, asyncCache, key)).whenComplete((value, t) -> {
+                                            if (t != null) {
+                                                subscriber.onError(t);
+                                            } else {
+                                                if (value != null) {
+                                                    subscriber.onNext(value);
+                                                }
+                                                subscriber.onComplete();
+                                            }
+                                        });
+                                        return;
+                                    }
+
                                     Publisher<?> actualPublisher = (Publisher) context.proceed();
                                     if (actualPublisher == null) {
                                         // no publisher, simply complete
@@ -512,6 +535,115 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return returnFuture;
     }
 
+    /**
+     * Shares a single load of a value between all callers that miss the cache for the same key while it is loading.
+     *
+     * @param cacheName The cache name
+     * @param key       The key
+     * @param loader    Loads the value and puts it in the cache
+     * @return A future completed once the value is loaded and cached
+     */
+    private CompletableFuture<Object> coalesce(String cacheName, Object key, Supplier<CompletableFuture<Object>> loader) {
+        ParametersKey inFlightKey = new ParametersKey(cacheName, key);
+        CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(inFlightKey, inFlight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for value being loaded into cache [" + cacheName + "] for key: " + key);
+            }
+            return existing;
+        }
+        CompletableFuture<Object> loadFuture;
+        try {
+            loadFuture = loader.get();
+        } catch (RuntimeException e) {
+            loadFuture = new CompletableFuture<>();
+            loadFuture.completeExceptionally(e);
+        }
+        loadFuture.whenComplete((value, throwable) -> {
+            inFlightLoads.remove(inFlightKey, inFlight);
+            if (throwable != null) {
+                inFlight.completeExceptionally(throwable);
+            } else {
+                inFlight.complete(value);
+            }
+        });
+        return inFlight;
+    }
+
+    private CompletableFuture<Object> proceedAndPut(MethodInvocationContext<Object, Object> context, AsyncCache<?> asyncCache, Object key) {
+        CompletableFuture<Object> resultFuture = new CompletableFuture<>();
+        try {
+            CompletableFuture<?> completableFuture = (CompletableFuture) context.proceed();
+            if (completableFuture == null) {
+                resultFuture.complete(null);
+            } else {
+                completableFuture.whenComplete((BiConsumer<Object, Throwable>) (o1, t2) -> {
+                    if (t2 != null) {
+                        resultFuture.completeExceptionally(t2);
+                    } else {
+                        // new cacheable result, cache it
+                        asyncCache.put(key, o1).whenComplete((aBoolean, throwable1) -> {
+                            if (throwable1 == null) {
+                                resultFuture.complete(o1);
+                            } else {
+                                resultFuture.completeExceptionally(throwable1);
+                            }
+                        });
+
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            resultFuture.completeExceptionally(e);
+        }
+        return resultFuture;
+    }
+
+    private CompletableFuture<Object> subscribeAndPut(MethodInvocationContext<Object, Object> context, AsyncCache<?> asyncCache, Object key) {
+        CompletableFuture<Object> resultFuture = new CompletableFuture<>();
+        Publisher<?> actualPublisher = (Publisher) context.proceed();
+        if (actualPublisher == null) {
+            resultFuture.complete(null);
+        } else {
+            actualPublisher.subscribe(new Subscriber<Object>() {
+                Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription = s;
+                    s.request(1);
+                }
+
+                @Override
+                public void onNext(Object o) {
+                    subscription.cancel();
+                    // got result, cache it
+                    asyncCache.put(key, o).whenComplete((aBoolean, throwable1) -> {
+                        if (throwable1 == null) {
+                            resultFuture.complete(o);
+                        } else {
+                            resultFuture.completeExceptionally(throwable1);
+                        }
+                    });
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    resultFuture.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    // completes with null if there was no data
+                    resultFuture.complete(null);
+                }
+            });
+        }
+        return resultFuture;
+    }
+
     /**
      * Resolve the cache key generator from the give type.
      *
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.CodecException;
@@ -112,11 +113,15 @@ public class JsonMediaTypeCodec implements MediaTypeCodec {
         try {
             if (CharSequence.class.isAssignableFrom(type.getType())) {
                 return (T) buffer.toString(applicationConfiguration.getDefaultCharset());
-            } else if (type.hasTypeVariables()) {
-                JavaType javaType = constructJavaType(type);
-                return objectMapper.readValue(buffer.toByteArray(), javaType);
             } else {
-                return objectMapper.readValue(buffer.toByteArray(), type.getType());
+                // read from a slice so the buffer is not copied and its reader index is left untouched
+                InputStream inputStream = buffer.slice(buffer.readerIndex(), buffer.readableBytes()).toInputStream();
+                if (type.hasTypeVariables()) {
+                    JavaType javaType = constructJavaType(type);
+                    return objectMapper.readValue(inputStream, javaType);
+                } else {
+                    return objectMapper.readValue(inputStream, type.getType());
+                }
             }
         } catch (IOException e) {
             throw new CodecException("Error decoding JSON stream for type [" + type.getType() + "]: " + e.getMessage());
@@ -162,8 +167,24 @@ public class JsonMediaTypeCodec implements MediaTypeCodec {
 
     @Override
     public <T> ByteBuffer encode(T object, ByteBufferFactory allocator) throws CodecException {
-        byte[] bytes = encode(object);
-        return allocator.copiedBuffer(bytes);
+        if (object instanceof byte[]) {
+            return allocator.copiedBuffer((byte[]) object);
+        }
+        // serialize straight into a buffer from the allocator rather than an intermediate byte array
+        ByteBuffer buffer = allocator.buffer();
+        boolean encoded = false;
+        try {
+            objectMapper.writeValue(buffer.toOutputStream(), object);
+            encoded = true;
+            return buffer;
+        } catch (IOException e) {
+            throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage());
+        } finally {
+            if (!encoded && buffer instanceof ReferenceCounted) {
+                // the buffer never reaches the caller, so it is released on any failure
+                ((ReferenceCounted) buffer).release();
+            }
+        }
     }
 
     private <T> JavaType constructJavaType(Argument<T> type) {
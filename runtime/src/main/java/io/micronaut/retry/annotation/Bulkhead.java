@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import javax.validation.constraints.Digits;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * AOP Advice that limits the number of concurrent executions of a method. Executions beyond the limit wait for a
+ * permit if {@link #maxWaiting()} is greater than zero and are otherwise rejected with a
+ * {@link io.micronaut.retry.exception.BulkheadFullException}.
+ *
+ * <p>Methods that return a {@link java.util.concurrent.CompletionStage} or a reactive type hold the permit until the
+ * result completes and never block waiting for a permit.</p>
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    /**
+     * @return The maximum number of concurrent executions
+     */
+    @Digits(integer = 4, fraction = 0)
+    String value() default "10";
+
+    /**
+     * @return The maximum number of executions waiting for a permit. Defaults to rejecting executions immediately
+     */
+    @Digits(integer = 4, fraction = 0)
+    String maxWaiting() default "0";
+
+    /**
+     * @return The maximum time a blocking execution waits for a permit. Defaults to waiting until a permit is released
+     */
+    String maxWait() default "0ms";
+}
@@ -86,6 +86,19 @@ public @interface CircuitBreaker {
     @AliasFor(annotation = Retryable.class, member = "maxDelay")
     String maxDelay() default "5s";
 
+    /**
+     * @return Whether the delay grows exponentially instead of linearly
+     */
+    @AliasFor(annotation = Retryable.class, member = "exponential")
+    boolean exponential() default false;
+
+    /**
+     * @return The fraction of each delay that is randomized, between 0 and 1
+     */
+    @Digits(integer = 1, fraction = 2)
+    @AliasFor(annotation = Retryable.class, member = "jitter")
+    String jitter() default "0";
+
     /**
      * Sets the {@link java.time.Duration} of time before resetting the circuit to
      * {@link io.micronaut.retry.CircuitState#HALF_OPEN} allowing a single retry.
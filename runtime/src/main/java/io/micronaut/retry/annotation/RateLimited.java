@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.intercept.RateLimiterInterceptor;
+
+import javax.validation.constraints.Digits;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * AOP Advice that limits the rate of executions of a method using a token bucket that allows bursts of up to
+ * {@link #value()} executions and refills at {@link #value()} executions per {@link #period()}. Executions beyond the
+ * limit are rejected with a {@link io.micronaut.retry.exception.RateLimitExceededException}.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(RateLimiterInterceptor.class)
+public @interface RateLimited {
+
+    /**
+     * @return The maximum number of executions per period
+     */
+    @Digits(integer = 6, fraction = 0)
+    String value() default "10";
+
+    /**
+     * @return The period over which the limit applies
+     */
+    String period() default "1s";
+
+    /**
+     * @return The maximum time a blocking execution waits for the limit to allow it. Executions of methods that
+     * return a {@link java.util.concurrent.CompletionStage} or a reactive type never wait
+     */
+    String timeout() default "0ms";
+}
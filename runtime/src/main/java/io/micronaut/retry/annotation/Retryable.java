@@ -81,4 +81,24 @@ public @interface Retryable {
      */
     @Digits(integer = 2, fraction = 2)
     String multiplier() default "1.0";
+
+    /**
+     * @return Whether the delay grows exponentially, by the multiplier (or 2 if the multiplier is not greater than 1)
+     * for each attempt, instead of linearly
+     */
+    boolean exponential() default false;
+
+    /**
+     * @return The fraction of each delay that is randomized, between 0 (no jitter) and 1 (a delay between zero and
+     * the calculated delay)
+     */
+    @Digits(integer = 1, fraction = 2)
+    String jitter() default "0";
+
+    /**
+     * @return The maximum ratio of retries to calls of the method over a sliding window of 10 seconds, for example
+     * 0.2 to allow at most one retry for every five calls. Defaults to no limit
+     */
+    @Digits(integer = 2, fraction = 2)
+    String maxRetryRatio() default "";
 }
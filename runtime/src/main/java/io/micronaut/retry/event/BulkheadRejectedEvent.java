@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.event;
+
+import io.micronaut.context.event.ApplicationEvent;
+import io.micronaut.inject.ExecutableMethod;
+
+/**
+ * An event fired when an execution of a {@link io.micronaut.retry.annotation.Bulkhead} method is rejected because
+ * the maximum number of concurrent and waiting executions is reached.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class BulkheadRejectedEvent extends ApplicationEvent {
+
+    private final int maxConcurrency;
+    private final int maxWaiting;
+
+    /**
+     * @param source         The method whose execution was rejected
+     * @param maxConcurrency The maximum number of concurrent executions
+     * @param maxWaiting     The maximum number of waiting executions
+     */
+    public BulkheadRejectedEvent(ExecutableMethod<?, ?> source, int maxConcurrency, int maxWaiting) {
+        super(source);
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+    }
+
+    /**
+     * @return The maximum number of concurrent executions
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return The maximum number of waiting executions
+     */
+    public int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+    /**
+     * @return The method whose execution was rejected
+     */
+    @Override
+    public ExecutableMethod<?, ?> getSource() {
+        return (ExecutableMethod<?, ?>) super.getSource();
+    }
+}
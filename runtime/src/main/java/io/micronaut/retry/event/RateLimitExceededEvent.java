@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.event;
+
+import io.micronaut.context.event.ApplicationEvent;
+import io.micronaut.inject.ExecutableMethod;
+
+import java.time.Duration;
+
+/**
+ * An event fired when an execution of a {@link io.micronaut.retry.annotation.RateLimited} method is rejected because
+ * its rate limit is exceeded.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+public class RateLimitExceededEvent extends ApplicationEvent {
+
+    private final int limit;
+    private final Duration period;
+
+    /**
+     * @param source The method whose execution was rejected
+     * @param limit  The maximum number of executions per period
+     * @param period The period
+     */
+    public RateLimitExceededEvent(ExecutableMethod<?, ?> source, int limit, Duration period) {
+        super(source);
+        this.limit = limit;
+        this.period = period;
+    }
+
+    /**
+     * @return The maximum number of executions per period
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The period
+     */
+    public Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return The method whose execution was rejected
+     */
+    @Override
+    public ExecutableMethod<?, ?> getSource() {
+        return (ExecutableMethod<?, ?>) super.getSource();
+    }
+}
@@ -41,6 +41,8 @@ class AnnotationRetryStateBuilder implements RetryStateBuilder {
     private static final String MAX_DELAY = "maxDelay";
     private static final String INCLUDES = "value";
     private static final String EXCLUDES = "excludes";
+    private static final String EXPONENTIAL = "exponential";
+    private static final String JITTER = "jitter";
     private static final int DEFAULT_RETRY_ATTEMPTS = 3;
 
     private final AnnotationMetadata annotationMetadata;
@@ -68,7 +70,9 @@ class AnnotationRetryStateBuilder implements RetryStateBuilder {
             delay,
             retry.get(MAX_DELAY, Duration.class).orElse(null),
             includes,
-            excludes
+            excludes,
+            retry.get(EXPONENTIAL, Boolean.class).orElse(false),
+            retry.get(JITTER, Double.class).orElse(0d)
         );
     }
 
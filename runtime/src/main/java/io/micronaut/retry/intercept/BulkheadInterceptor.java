@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.event.BulkheadRejectedEvent;
+import io.micronaut.retry.exception.BulkheadFullException;
+import io.micronaut.scheduling.TaskExecutors;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent executions of a method according to the
+ * {@link Bulkhead} annotation.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * Positioned after the {@link RecoveryInterceptor}, so that rejected executions can fall back, and before the
+     * {@link DefaultRetryInterceptor}, so that retries hold the permit of the original execution.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() - 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkheadInterceptor.class);
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+    private static final String MAX_WAITING = "maxWaiting";
+    private static final String MAX_WAIT = "maxWait";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final Map<Method, BulkheadState> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * @param eventPublisher The event publisher to publish rejection events
+     */
+    public BulkheadInterceptor(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, null);
+    }
+
+    /**
+     * Constructs a bulkhead interceptor with the executor that runs the methods that return a
+     * {@link CompletionStage} once they are handed a released permit.
+     *
+     * @param eventPublisher The event publisher to publish rejection events
+     * @param ioExecutor     The executor, or null to run the methods on the common {@link ForkJoinPool}
+     */
+    @Inject
+    public BulkheadInterceptor(ApplicationEventPublisher eventPublisher,
+                               @Nullable @Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this.eventPublisher = eventPublisher;
+        this.executor = ioExecutor != null ? ioExecutor : ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasStereotype(Bulkhead.class)) {
+            return context.proceed();
+        }
+        BulkheadState bulkhead = bulkheads.computeIfAbsent(context.getTargetMethod(), method -> new BulkheadState(
+            context.getValue(Bulkhead.class, Integer.class).orElse(DEFAULT_MAX_CONCURRENCY),
+            context.getValue(Bulkhead.class, MAX_WAITING, Integer.class).orElse(0),
+            context.getValue(Bulkhead.class, MAX_WAIT, Duration.class).map(Duration::toMillis).orElse(0L)
+        ));
+
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        // a CompletableFuture cannot stand in for other completion stage types, which hold the permit during the call only
+        if (CompletionStage.class.isAssignableFrom(javaReturnType) && javaReturnType.isAssignableFrom(CompletableFuture.class)) {
+            CompletableFuture<Object> returnFuture = new CompletableFuture<>();
+            CompletableFuture<Boolean> permit = bulkhead.acquire();
+            if (permit == null) {
+                returnFuture.completeExceptionally(reject(context, bulkhead));
+            } else if (permit.isDone()) {
+                proceedAsync(context, bulkhead, returnFuture);
+            } else {
+                // a waiting permit is granted by the thread that releases one, which must not run the next execution
+                // itself, or a chain of executions that complete immediately would recurse through release()
+                permit.thenRunAsync(() -> proceedAsync(context, bulkhead, returnFuture), executor);
+            }
+            return returnFuture;
+        } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            ConversionService<?> conversionService = ConversionService.SHARED;
+            Object result = context.proceed();
+            if (result == null) {
+                return result;
+            }
+            Flowable<Object> flowable = conversionService
+                .convert(result, Flowable.class)
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+            Flowable<Object> bulkheadFlowable = Flowable.defer(() -> {
+                CompletableFuture<Boolean> permit = bulkhead.acquire();
+                if (permit == null) {
+                    return Flowable.error(reject(context, bulkhead));
+                }
+                return Flowable.fromPublisher(Publishers.fromCompletableFuture(permit))
+                    .flatMap(granted -> flowable)
+                    .doFinally(() -> bulkhead.releaseOrCancel(permit));
+            });
+            return conversionService
+                .convert(bulkheadFlowable, returnType.asArgument())
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+        } else {
+            if (!bulkhead.acquireBlocking()) {
+                throw reject(context, bulkhead);
+            }
+            try {
+                return context.proceed();
+            } finally {
+                bulkhead.release();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void proceedAsync(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead, CompletableFuture<Object> returnFuture) {
+        CompletionStage<Object> result;
+        try {
+            result = (CompletionStage<Object>) context.proceed();
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            returnFuture.completeExceptionally(e);
+            return;
+        }
+        if (result == null) {
+            bulkhead.release();
+            returnFuture.complete(null);
+        } else {
+            result.whenComplete((value, throwable) -> {
+                bulkhead.release();
+                if (throwable == null) {
+                    returnFuture.complete(value);
+                } else {
+                    returnFuture.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    private BulkheadFullException reject(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Bulkhead full. Rejecting execution of method: {}", context);
+        }
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new BulkheadRejectedEvent(context, bulkhead.getMaxConcurrency(), bulkhead.getMaxWaiting()));
+            } catch (Exception e) {
+                LOG.error("Error occurred publishing BulkheadRejectedEvent: " + e.getMessage(), e);
+            }
+        }
+        return new BulkheadFullException("Bulkhead full for method [" + context + "]: " + bulkhead.getMaxConcurrency() + " concurrent and " + bulkhead.getMaxWaiting() + " waiting executions");
+    }
+}
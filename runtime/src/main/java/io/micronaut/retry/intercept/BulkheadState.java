@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The permits of a {@link io.micronaut.retry.annotation.Bulkhead} method. Permits are handed to waiting executions
+ * in the order they arrived as they are released.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+class BulkheadState {
+
+    private final int maxConcurrency;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+    private final Deque<CompletableFuture<Boolean>> waiting = new ArrayDeque<>();
+    private int available;
+
+    /**
+     * @param maxConcurrency The maximum number of concurrent executions
+     * @param maxWaiting     The maximum number of waiting executions
+     * @param maxWaitMillis  The maximum time a blocking execution waits for a permit, zero or less to wait without a timeout
+     */
+    BulkheadState(int maxConcurrency, int maxWaiting, long maxWaitMillis) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMillis = maxWaitMillis;
+        this.available = maxConcurrency;
+    }
+
+    /**
+     * @return The maximum number of concurrent executions
+     */
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return The maximum number of waiting executions
+     */
+    int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+    /**
+     * @return The number of permits currently available
+     */
+    synchronized int getAvailable() {
+        return available;
+    }
+
+    /**
+     * Acquires a permit without blocking.
+     *
+     * @return A future completed when the permit is granted, or null if the execution is rejected
+     */
+    synchronized CompletableFuture<Boolean> acquire() {
+        if (available > 0) {
+            available--;
+            return CompletableFuture.completedFuture(true);
+        } else if (waiting.size() < maxWaiting) {
+            CompletableFuture<Boolean> permit = new CompletableFuture<>();
+            waiting.add(permit);
+            return permit;
+        }
+        return null;
+    }
+
+    /**
+     * Acquires a permit, blocking for up to the maximum wait time if the execution has to wait. Without a maximum wait
+     * time the execution waits until a permit is released.
+     *
+     * @return True if the permit was granted
+     */
+    boolean acquireBlocking() {
+        CompletableFuture<Boolean> permit = acquire();
+        if (permit == null) {
+            return false;
+        }
+        if (!permit.isDone()) {
+            try {
+                if (maxWaitMillis > 0) {
+                    permit.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    permit.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return !cancel(permit);
+            } catch (ExecutionException | TimeoutException e) {
+                return !cancel(permit);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Releases a permit previously granted, handing it to the next waiting execution if there is one.
+     */
+    void release() {
+        while (true) {
+            CompletableFuture<Boolean> next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            // completed outside the lock since the waiting execution continues on this thread
+            if (next.complete(true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Releases the given permit if it was granted, or withdraws it from the waiting executions if it was not.
+     *
+     * @param permit The permit returned by {@link #acquire()}
+     */
+    void releaseOrCancel(CompletableFuture<Boolean> permit) {
+        if (!cancel(permit)) {
+            release();
+        }
+    }
+
+    /**
+     * @param permit The permit
+     * @return True if the permit was not granted and has been withdrawn
+     */
+    private boolean cancel(CompletableFuture<Boolean> permit) {
+        if (permit.cancel(false) || permit.isCancelled()) {
+            synchronized (this) {
+                waiting.remove(permit);
+            }
+            return true;
+        }
+        return false;
+    }
+}
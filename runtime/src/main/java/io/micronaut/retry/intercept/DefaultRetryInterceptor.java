@@ -29,16 +29,28 @@ import io.micronaut.retry.RetryState;
 import io.micronaut.retry.annotation.CircuitBreaker;
 import io.micronaut.retry.annotation.Retryable;
 import io.micronaut.retry.event.RetryEvent;
+import io.micronaut.scheduling.TaskExecutors;
 import io.reactivex.Flowable;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,9 +65,12 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
     private static final int DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS = 20;
+    private static final String MAX_RETRY_RATIO = "maxRetryRatio";
 
     private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService scheduler;
     private final Map<Method, CircuitBreakerRetry> circuitContexts = new ConcurrentHashMap<>();
+    private final Map<Method, Optional<RetryBudget>> retryBudgets = new ConcurrentHashMap<>();
 
     /**
      * Construct a default retry method interceptor with the event publisher.
@@ -63,7 +78,21 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
      * @param eventPublisher The event publisher to publish retry events
      */
     public DefaultRetryInterceptor(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, null);
+    }
+
+    /**
+     * Construct a default retry method interceptor with the event publisher and the executor used to schedule
+     * retries of methods that return a {@link CompletionStage}.
+     *
+     * @param eventPublisher    The event publisher to publish retry events
+     * @param scheduledExecutor The scheduled executor, or null to schedule retries on the computation scheduler
+     */
+    @Inject
+    public DefaultRetryInterceptor(ApplicationEventPublisher eventPublisher,
+                                   @Nullable @Named(TaskExecutors.SCHEDULED) ExecutorService scheduledExecutor) {
         this.eventPublisher = eventPublisher;
+        this.scheduler = scheduledExecutor instanceof ScheduledExecutorService ? (ScheduledExecutorService) scheduledExecutor : null;
     }
 
     @Override
@@ -94,13 +123,27 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
             }
 
             retryState.open();
+            RetryBudget budget = retryBudgets.computeIfAbsent(
+                context.getTargetMethod(),
+                method -> retry.get(MAX_RETRY_RATIO, String.class)
+                    .filter(ratio -> ratio.length() > 0)
+                    .map(ratio -> new RetryBudget(Double.parseDouble(ratio)))
+            ).orElse(null);
+            if (budget != null) {
+                budget.recordCall();
+            }
 
             MutableConvertibleValues<Object> attrs = context.getAttributes();
             attrs.put(RetryState.class.getName(), retry);
 
             ReturnType<Object> returnType = context.getReturnType();
             Class<Object> javaReturnType = returnType.getType();
-            if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            // other completion stage types cannot be returned in place of the original result and are retried synchronously
+            if (CompletionStage.class.isAssignableFrom(javaReturnType) && javaReturnType.isAssignableFrom(CompletableFuture.class)) {
+                CompletableFuture<Object> returnFuture = new CompletableFuture<>();
+                proceedAsync(context, retryState, budget, returnFuture);
+                return returnFuture;
+            } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
                 ConversionService<?> conversionService = ConversionService.SHARED;
                 Object result = context.proceed();
                 if (result == null) {
@@ -109,7 +152,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                     Flowable observable = conversionService
                         .convert(result, Flowable.class)
                         .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
-                    Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, observable))
+                    Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, budget, observable))
                         .map(o -> {
                             retryState.close(null);
                             return o;
@@ -127,7 +170,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                         retryState.close(null);
                         return result;
                     } catch (RuntimeException e) {
-                        if (!retryState.canRetry(e)) {
+                        if (!canRetry(retryState, budget, e)) {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                             }
@@ -136,13 +179,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                         } else {
                             long delayMillis = retryState.nextDelay();
                             try {
-                                if (eventPublisher != null) {
-                                    try {
-                                        eventPublisher.publishEvent(new RetryEvent(context, retryState, e));
-                                    } catch (Exception e1) {
-                                        LOG.error("Error occurred publishing RetryEvent: " + e1.getMessage(), e1);
-                                    }
-                                }
+                                publishRetryEvent(context, retryState, e);
                                 if (LOG.isDebugEnabled()) {
                                     LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}", context, delayMillis, e.getMessage());
                                 }
@@ -160,19 +197,98 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
     }
 
     @SuppressWarnings("unchecked")
-    private Function retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Flowable observable) {
+    private void proceedAsync(MethodInvocationContext<Object, Object> context,
+                              MutableRetryState retryState,
+                              RetryBudget budget,
+                              CompletableFuture<Object> returnFuture) {
+        CompletionStage<Object> result;
+        try {
+            result = (CompletionStage<Object>) context.proceed(this);
+        } catch (RuntimeException e) {
+            retryAsync(context, retryState, budget, returnFuture, e);
+            return;
+        }
+        if (result == null) {
+            retryState.close(null);
+            returnFuture.complete(null);
+        } else {
+            result.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    retryState.close(null);
+                    returnFuture.complete(value);
+                } else {
+                    retryAsync(context, retryState, budget, returnFuture, throwable);
+                }
+            });
+        }
+    }
+
+    private void retryAsync(MethodInvocationContext<Object, Object> context,
+                            MutableRetryState retryState,
+                            RetryBudget budget,
+                            CompletableFuture<Object> returnFuture,
+                            Throwable throwable) {
+        Throwable exception = throwable;
+        if ((exception instanceof CompletionException || exception instanceof ExecutionException) && exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        if (returnFuture.isDone() || !canRetry(retryState, budget, exception)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
+            }
+            retryState.close(exception);
+            returnFuture.completeExceptionally(exception);
+            return;
+        }
+        long delayMillis = retryState.nextDelay();
+        publishRetryEvent(context, retryState, exception);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}", context, delayMillis, exception.getMessage());
+        }
+        Runnable retry = () -> proceedAsync(context, retryState, budget, returnFuture);
+        try {
+            if (scheduler != null) {
+                scheduler.schedule(retry, delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                Schedulers.computation().scheduleDirect(retry, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            retryState.close(e);
+            returnFuture.completeExceptionally(e);
+        }
+    }
+
+    private boolean canRetry(MutableRetryState retryState, RetryBudget budget, Throwable exception) {
+        if (!retryState.canRetry(exception)) {
+            return false;
+        }
+        if (budget != null && !budget.tryAcquireRetry()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Retry budget exhausted. Not retrying exception: {}", exception.getMessage());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void publishRetryEvent(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Throwable exception) {
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new RetryEvent(context, retryState, exception));
+            } catch (Exception e1) {
+                LOG.error("Error occurred publishing RetryEvent: " + e1.getMessage(), e1);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, RetryBudget budget, Flowable observable) {
         return throwable -> {
             Throwable exception = (Throwable) throwable;
-            if (retryState.canRetry(exception)) {
-                Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, observable));
+            if (canRetry(retryState, budget, exception)) {
+                Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, budget, observable));
                 long delay = retryState.nextDelay();
-                if (eventPublisher != null) {
-                    try {
-                        eventPublisher.publishEvent(new RetryEvent(context, retryState, exception));
-                    } catch (Exception e1) {
-                        LOG.error("Error occurred publishing RetryEvent: " + e1.getMessage(), e1);
-                    }
-                }
+                publishRetryEvent(context, retryState, exception);
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Retrying execution for method [{}] after delay of {}ms for exception: {}",
                         context,
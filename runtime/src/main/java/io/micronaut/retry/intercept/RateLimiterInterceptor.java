@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.retry.annotation.RateLimited;
+import io.micronaut.retry.event.RateLimitExceededEvent;
+import io.micronaut.retry.exception.RateLimitExceededException;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MethodInterceptor} that limits the rate of executions of a method according to the {@link RateLimited}
+ * annotation.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+@Singleton
+public class RateLimiterInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * Positioned after the {@link RecoveryInterceptor}, so that rejected executions can fall back, and before the
+     * {@link BulkheadInterceptor}, so that rejected executions never wait for a permit.
+     */
+    public static final int POSITION = InterceptPhase.RETRY.getPosition() - 6;
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimiterInterceptor.class);
+    private static final int DEFAULT_LIMIT = 10;
+    private static final String PERIOD = "period";
+    private static final String TIMEOUT = "timeout";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Method, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param eventPublisher The event publisher to publish rejection events
+     */
+    public RateLimiterInterceptor(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasStereotype(RateLimited.class)) {
+            return context.proceed();
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(context.getTargetMethod(), method -> new TokenBucket(
+            context.getValue(RateLimited.class, Integer.class).orElse(DEFAULT_LIMIT),
+            context.getValue(RateLimited.class, PERIOD, Duration.class).orElse(Duration.ofSeconds(1)),
+            context.getValue(RateLimited.class, TIMEOUT, Duration.class).orElse(Duration.ZERO)
+        ));
+
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        // other completion stage types cannot be returned in place of the original result and are rejected by throwing
+        if (CompletionStage.class.isAssignableFrom(javaReturnType) && javaReturnType.isAssignableFrom(CompletableFuture.class)) {
+            if (bucket.tryAcquire(0) < 0) {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                future.completeExceptionally(reject(context, bucket));
+                return future;
+            }
+            return context.proceed();
+        } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            ConversionService<?> conversionService = ConversionService.SHARED;
+            Object result = context.proceed();
+            if (result == null) {
+                return result;
+            }
+            Flowable<Object> flowable = conversionService
+                .convert(result, Flowable.class)
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+            Flowable<Object> rateLimitedFlowable = Flowable.defer(() ->
+                bucket.tryAcquire(0) < 0 ? Flowable.error(reject(context, bucket)) : flowable
+            );
+            return conversionService
+                .convert(rateLimitedFlowable, returnType.asArgument())
+                .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+        } else {
+            long waitNanos = bucket.tryAcquire(bucket.getTimeoutNanos());
+            if (waitNanos < 0) {
+                throw reject(context, bucket);
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw reject(context, bucket);
+                }
+            }
+            return context.proceed();
+        }
+    }
+
+    private RateLimitExceededException reject(MethodInvocationContext<Object, Object> context, TokenBucket bucket) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rate limit exceeded. Rejecting execution of method: {}", context);
+        }
+        if (eventPublisher != null) {
+            try {
+                eventPublisher.publishEvent(new RateLimitExceededEvent(context, bucket.getLimit(), bucket.getPeriod()));
+            } catch (Exception e) {
+                LOG.error("Error occurred publishing RateLimitExceededEvent: " + e.getMessage(), e);
+            }
+        }
+        return new RateLimitExceededException("Rate limit exceeded for method [" + context + "]: " + bucket.getLimit() + " executions per " + bucket.getPeriod());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+/**
+ * Limits the ratio of retries to calls of a method over a sliding window, so that a failing target does not
+ * receive a multiple of its normal load from retries (a retry storm).
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+class RetryBudget {
+
+    private static final int BUCKETS = 10;
+    private static final long BUCKET_MILLIS = 1000;
+    private static final int MIN_RETRIES_PER_WINDOW = 10;
+
+    private final double maxRetryRatio;
+    private final int[] calls = new int[BUCKETS];
+    private final int[] retries = new int[BUCKETS];
+    private long currentBucket;
+
+    /**
+     * @param maxRetryRatio The maximum ratio of retries to calls within the window
+     */
+    RetryBudget(double maxRetryRatio) {
+        this.maxRetryRatio = maxRetryRatio;
+    }
+
+    /**
+     * Records a call to the method.
+     */
+    synchronized void recordCall() {
+        calls[advance()]++;
+    }
+
+    /**
+     * Attempts to acquire a retry from the budget.
+     *
+     * @return True if the retry is within the budget and has been recorded
+     */
+    synchronized boolean tryAcquireRetry() {
+        int index = advance();
+        int totalCalls = 0;
+        int totalRetries = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            totalCalls += calls[i];
+            totalRetries += retries[i];
+        }
+        if (totalRetries >= MIN_RETRIES_PER_WINDOW && totalRetries + 1 > maxRetryRatio * totalCalls) {
+            return false;
+        }
+        retries[index]++;
+        return true;
+    }
+
+    private int advance() {
+        long bucket = System.currentTimeMillis() / BUCKET_MILLIS;
+        if (bucket != currentBucket) {
+            long elapsed = Math.min(bucket - currentBucket, BUCKETS);
+            for (long i = 1; i <= elapsed; i++) {
+                int index = (int) ((currentBucket + i) % BUCKETS);
+                calls[index] = 0;
+                retries[index] = 0;
+            }
+            currentBucket = bucket;
+        }
+        return (int) (bucket % BUCKETS);
+    }
+}
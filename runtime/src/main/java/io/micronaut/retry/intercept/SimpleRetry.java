@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -41,6 +42,8 @@ class SimpleRetry implements RetryState, MutableRetryState {
     private final Duration maxDelay;
     private final boolean hasIncludes;
     private final boolean hasExcludes;
+    private final boolean exponential;
+    private final double jitter;
     private AtomicInteger attemptNumber = new AtomicInteger(0);
     private AtomicLong overallDelay = new AtomicLong(0);
     private final Set<Class<? extends Throwable>> includes;
@@ -61,7 +64,31 @@ class SimpleRetry implements RetryState, MutableRetryState {
         Duration maxDelay,
         Set<Class<? extends Throwable>> includes,
         Set<Class<? extends Throwable>> excludes) {
+        this(maxAttempts, multiplier, delay, maxDelay, includes, excludes, false, 0);
+    }
 
+    /**
+     * @param maxAttempts The maximum number of attemps
+     * @param multiplier The multiplier to use between delays
+     * @param delay The overall delay so far
+     * @param maxDelay The maximum overall delay
+     * @param includes Classes to include for retry
+     * @param excludes Classes to exclude for retry
+     * @param exponential Whether the delay grows exponentially
+     * @param jitter The fraction of each delay that is randomized
+     */
+    SimpleRetry(
+        int maxAttempts,
+        double multiplier,
+        Duration delay,
+        Duration maxDelay,
+        Set<Class<? extends Throwable>> includes,
+        Set<Class<? extends Throwable>> excludes,
+        boolean exponential,
+        double jitter) {
+
+        this.exponential = exponential;
+        this.jitter = Math.min(Math.max(jitter, 0), 1);
         this.maxAttempts = maxAttempts;
         this.multiplier = multiplier;
         this.delay = delay;
@@ -168,7 +195,16 @@ class SimpleRetry implements RetryState, MutableRetryState {
     public long nextDelay() {
         double multiplier = getMultiplier().orElse(1.0);
         int current = attemptNumber.get() + 1;
-        long delay = (long) (getDelay().toMillis() * multiplier) * current;
+        long delay;
+        if (exponential) {
+            double base = multiplier > 1 ? multiplier : 2;
+            delay = (long) Math.min(getDelay().toMillis() * Math.pow(base, Math.max(attemptNumber.get() - 1, 0)), Long.MAX_VALUE);
+        } else {
+            delay = (long) (getDelay().toMillis() * multiplier) * current;
+        }
+        if (jitter > 0 && delay > 0) {
+            delay -= (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+        }
         overallDelay.addAndGet(delay);
         return delay;
     }
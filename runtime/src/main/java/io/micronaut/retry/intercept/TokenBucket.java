@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket for a {@link io.micronaut.retry.annotation.RateLimited} method. Rather than counting
+ * tokens the bucket tracks the time at which it will be full again, which is updated with a single compare and set.
+ *
+ * @author graemerocher
+ * @since 1.0
+ */
+class TokenBucket {
+
+    private final int limit;
+    private final Duration period;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final long timeoutNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param limit   The maximum number of executions per period, which is also the size of the bucket
+     * @param period  The period
+     * @param timeout The maximum time a blocking execution waits for a token
+     */
+    TokenBucket(int limit, Duration period, Duration timeout) {
+        this.limit = limit;
+        this.timeoutNanos = timeout.toNanos();
+        this.period = period;
+        this.periodNanos = period.toNanos();
+        this.intervalNanos = Math.max(periodNanos / limit, 1);
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return The maximum number of executions per period
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The period
+     */
+    Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return The maximum time in nanoseconds a blocking execution waits for a token
+     */
+    long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * Takes a token from the bucket, reserving one that becomes available within the given time if the bucket is
+     * empty.
+     *
+     * @param maxWaitNanos The maximum time the caller is prepared to wait for a token
+     * @return The time in nanoseconds to wait before proceeding, or -1 if no token is available in time
+     */
+    long tryAcquire(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            long wait = next - now - periodNanos;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(wait, 0);
+            }
+        }
+    }
+}
@@ -20,7 +20,12 @@ import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.core.reflect.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.*;
 
 /**
@@ -32,6 +37,10 @@ import java.util.concurrent.*;
 @Factory
 public class ExecutorFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorFactory.class);
+    private static final Optional<Method> NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+        ReflectionUtils.getMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
     private final ThreadFactory threadFactory;
 
     /**
@@ -77,6 +86,15 @@ public class ExecutorFactory {
             case WORK_STEALING:
                 return Executors.newWorkStealingPool(executorConfiguration.getParallelism());
 
+            case VIRTUAL:
+                if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.isPresent()) {
+                    return ReflectionUtils.invokeMethod(null, NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.get());
+                }
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Virtual threads are not supported by the current JDK. Falling back to a cached thread pool.");
+                }
+                return Executors.newCachedThreadPool(threadFactory);
+
             default:
                 throw new IllegalStateException("Could not create Executor service for enum value: " + executorType);
         }
@@ -43,5 +43,11 @@ public enum ExecutorType {
     /**
      * @see java.util.concurrent.Executors#newWorkStealingPool()
      */
-    WORK_STEALING
+    WORK_STEALING,
+
+    /**
+     * An executor that starts a new virtual thread for each task. Requires a JDK that supports virtual threads (21 or
+     * above), otherwise a {@link #CACHED} thread pool is used instead.
+     */
+    VIRTUAL
 }
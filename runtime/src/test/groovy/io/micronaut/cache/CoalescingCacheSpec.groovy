@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CacheConfig
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.CacheInterceptor
+import io.micronaut.context.ApplicationContext
+import io.reactivex.Single
+import io.reactivex.SingleOnSubscribe
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class CoalescingCacheSpec extends Specification {
+
+    void "test concurrent misses of a future returning method share a single invocation"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('micronaut.caches.slow.maximumSize': 20)
+        SlowService service = context.getBean(SlowService)
+        CacheInterceptor interceptor = context.getBean(CacheInterceptor)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        when:
+        List<CompletableFuture<Integer>> futures = (1..5).collect { service.futureValue("test") }
+
+        then:
+        conditions.eventually {
+            assert interceptor.coalescedLoads == 4
+        }
+
+        when:
+        service.pending.complete(10)
+
+        then:
+        futures*.get() == [10] * 5
+        service.invocations.get() == 1
+        interceptor.inFlightLoads == 0
+
+        when:
+        service.pending = new CompletableFuture<>()
+
+        then:
+        service.futureValue("test").get() == 10
+        service.invocations.get() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test concurrent misses of a reactive method share a single invocation"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('micronaut.caches.slow.maximumSize': 20)
+        SlowService service = context.getBean(SlowService)
+        CacheInterceptor interceptor = context.getBean(CacheInterceptor)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        when:
+        List<CompletableFuture<Integer>> futures = (1..3).collect {
+            CompletableFuture<Integer> future = new CompletableFuture<>()
+            service.singleValue("test").subscribe({ v -> future.complete(v) }, { t -> future.completeExceptionally(t) })
+            future
+        }
+
+        then:
+        conditions.eventually {
+            assert interceptor.coalescedLoads == 2
+        }
+
+        when:
+        service.pending.complete(20)
+
+        then:
+        futures*.get() == [20] * 3
+        service.invocations.get() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    @CacheConfig('slow')
+    static class SlowService {
+        AtomicInteger invocations = new AtomicInteger()
+        CompletableFuture<Integer> pending = new CompletableFuture<>()
+
+        @Cacheable(coalesce = true)
+        CompletableFuture<Integer> futureValue(String name) {
+            invocations.incrementAndGet()
+            return pending
+        }
+
+        @Cacheable(coalesce = true)
+        Single<Integer> singleValue(String name) {
+            invocations.incrementAndGet()
+            return Single.create({ emitter -> pending.thenAccept { v -> emitter.onSuccess(v) } } as SingleOnSubscribe<Integer>)
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Retryable
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class AsyncRetrySpec extends Specification {
+
+    void "test completable future retry"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        AsyncCounterService counterService = context.getBean(AsyncCounterService)
+
+        when:"A method returning a future is annotated retry"
+        Integer result = counterService.getCount().toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:"It executes until successful"
+        result == 3
+        counterService.calls == 3
+
+        when:"The threshold can never be met"
+        counterService.countThreshold = 10
+        counterService.count = 0
+        counterService.getCount().toCompletableFuture().get(5, TimeUnit.SECONDS)
+
+        then:"The future completes with the original exception"
+        def e = thrown(ExecutionException)
+        e.cause instanceof IllegalStateException
+        e.cause.message == "Bad count"
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test completable future retry when the method throws"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        AsyncCounterService counterService = context.getBean(AsyncCounterService)
+
+        when:
+        Integer result = counterService.getCountThrowing().get(5, TimeUnit.SECONDS)
+
+        then:
+        result == 3
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test completable future is returned before the retry delay elapses"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        AsyncCounterService counterService = context.getBean(AsyncCounterService)
+
+        when:"The first execution fails and the retry is delayed"
+        long start = System.nanoTime()
+        CompletableFuture<Integer> future = counterService.getCountSlowly()
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+
+        then:"The future is returned without waiting for the delay"
+        elapsedMillis < 500
+        !future.isDone()
+        future.get(5, TimeUnit.SECONDS) == 2
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test other completion stage types are retried synchronously"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        AsyncCounterService counterService = context.getBean(AsyncCounterService)
+
+        when:
+        CustomFuture<Integer> future = counterService.getCustomCount()
+
+        then:
+        future instanceof CustomFuture
+        future.get(5, TimeUnit.SECONDS) == 3
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test exponential delay with jitter"() {
+        given:
+        SimpleRetry retry = new SimpleRetry(
+                5,
+                0,
+                Duration.ofMillis(100),
+                null,
+                Collections.emptySet(),
+                Collections.emptySet(),
+                true,
+                0.5
+        )
+        RuntimeException e = new RuntimeException("bad")
+
+        expect:
+        retry.canRetry(e)
+        retry.nextDelay() in (50L..100L)
+        retry.canRetry(e)
+        retry.nextDelay() in (100L..200L)
+        retry.canRetry(e)
+        retry.nextDelay() in (200L..400L)
+    }
+
+    void "test exponential delay without jitter uses the multiplier"() {
+        given:
+        SimpleRetry retry = new SimpleRetry(
+                5,
+                3,
+                Duration.ofMillis(100),
+                null,
+                Collections.emptySet(),
+                Collections.emptySet(),
+                true,
+                0
+        )
+        RuntimeException e = new RuntimeException("bad")
+
+        expect:
+        retry.canRetry(e)
+        retry.nextDelay() == 100
+        retry.canRetry(e)
+        retry.nextDelay() == 300
+        retry.canRetry(e)
+        retry.nextDelay() == 900
+    }
+
+    void "test retry budget limits retries to a ratio of calls"() {
+        given:
+        RetryBudget budget = new RetryBudget(0.5)
+
+        when:"Calls are recorded"
+        20.times { budget.recordCall() }
+        int acquired = 0
+        20.times {
+            if (budget.tryAcquireRetry()) {
+                acquired++
+            }
+        }
+
+        then:"Only half the calls may be retried"
+        acquired == 10
+    }
+
+    void "test retry budget allows a minimum number of retries"() {
+        given:
+        RetryBudget budget = new RetryBudget(0.1)
+        budget.recordCall()
+
+        expect:
+        (1..10).every { budget.tryAcquireRetry() }
+        !budget.tryAcquireRetry()
+    }
+
+    void "test blocking retry stops when the budget is exhausted"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BudgetedService service = context.getBean(BudgetedService)
+
+        when:"A failing method is called repeatedly"
+        15.times {
+            try {
+                service.fail()
+            } catch (IllegalStateException ignored) {
+            }
+        }
+
+        then:"Retries are capped by the budget"
+        service.calls < 15 * 3
+
+        cleanup:
+        context.stop()
+    }
+
+    @Singleton
+    static class AsyncCounterService {
+        int count = 0
+        int calls = 0
+        int countThreshold = 3
+
+        @Retryable(attempts = "5", delay = "5ms", jitter = "0.5")
+        CompletionStage<Integer> getCount() {
+            calls++
+            CompletableFuture.supplyAsync({ ->
+                count++
+                if (count < countThreshold) {
+                    throw new IllegalStateException("Bad count")
+                }
+                return count
+            })
+        }
+
+        int throwingCount = 0
+
+        @Retryable(attempts = "5", delay = "5ms", exponential = true)
+        CompletableFuture<Integer> getCountThrowing() {
+            throwingCount++
+            if (throwingCount < 3) {
+                throw new IllegalStateException("Bad count")
+            }
+            return CompletableFuture.completedFuture(throwingCount)
+        }
+
+        int slowCount = 0
+
+        @Retryable(attempts = "2", delay = "1s")
+        CompletableFuture<Integer> getCountSlowly() {
+            slowCount++
+            if (slowCount < 2) {
+                throw new IllegalStateException("Bad count")
+            }
+            return CompletableFuture.completedFuture(slowCount)
+        }
+
+        int customCount = 0
+
+        @Retryable(attempts = "5", delay = "5ms")
+        CustomFuture<Integer> getCustomCount() {
+            customCount++
+            if (customCount < 3) {
+                throw new IllegalStateException("Bad count")
+            }
+            CustomFuture<Integer> future = new CustomFuture<>()
+            future.complete(customCount)
+            return future
+        }
+    }
+
+    static class CustomFuture<T> extends CompletableFuture<T> {
+    }
+
+    @Singleton
+    static class BudgetedService {
+        int calls = 0
+
+        @Retryable(attempts = "2", delay = "1ms", maxRetryRatio = "0.1")
+        void fail() {
+            calls++
+            throw new IllegalStateException("Always fails")
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.annotation.Fallback
+import io.micronaut.retry.annotation.Recoverable
+import io.micronaut.retry.event.BulkheadRejectedEvent
+import io.micronaut.retry.exception.BulkheadFullException
+import io.reactivex.Flowable
+import io.reactivex.Single
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class BulkheadSpec extends Specification {
+
+    void "test bulkhead state hands permits to waiting executions"() {
+        given:
+        BulkheadState state = new BulkheadState(1, 1, 0)
+
+        when:
+        CompletableFuture<Boolean> first = state.acquire()
+        CompletableFuture<Boolean> second = state.acquire()
+        CompletableFuture<Boolean> third = state.acquire()
+
+        then:"The first is granted, the second waits and the third is rejected"
+        first.isDone()
+        !second.isDone()
+        third == null
+
+        when:"The first permit is released"
+        state.release()
+
+        then:"It is handed to the waiting execution"
+        second.isDone()
+        state.available == 0
+
+        when:"A permit is withdrawn before it is granted"
+        CompletableFuture<Boolean> fourth = state.acquire()
+        state.releaseOrCancel(fourth)
+        state.release()
+
+        then:"The permit becomes available again"
+        fourth.isCancelled()
+        state.available == 1
+    }
+
+    void "test blocking executions wait without a timeout by default"() {
+        given:
+        BulkheadState state = new BulkheadState(1, 1, 0)
+        state.acquire()
+        CompletableFuture<Boolean> granted = new CompletableFuture<>()
+
+        when:"A blocking execution waits for the only permit"
+        Thread thread = Thread.start { granted.complete(state.acquireBlocking()) }
+        Thread.sleep(100)
+
+        then:"It is still waiting"
+        !granted.isDone()
+
+        when:"The permit is released"
+        state.release()
+        thread.join(5000)
+
+        then:"The waiting execution is granted the permit"
+        granted.get(5, TimeUnit.SECONDS)
+        state.available == 0
+    }
+
+    void "test blocking bulkhead rejects executions beyond the limit"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+        RejectionListener listener = context.getBean(RejectionListener)
+
+        when:"An execution holds the only permit"
+        Thread thread = Thread.start { service.block() }
+        service.started.await(5, TimeUnit.SECONDS)
+        service.block()
+
+        then:"Further executions are rejected"
+        thrown(BulkheadFullException)
+        listener.events.size() == 1
+
+        when:"The permit is released"
+        service.release.countDown()
+        thread.join()
+
+        then:"Executions are allowed again"
+        service.block() == "done"
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test completable future bulkhead queues executions without blocking"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+
+        when:
+        CompletableFuture<String> first = new CompletableFuture<>()
+        service.pending.add(first)
+        CompletableFuture<String> r1 = service.async("one")
+        CompletableFuture<String> r2 = service.async("two")
+        CompletableFuture<String> r3 = service.async("three")
+
+        then:"The second execution waits and the third is rejected"
+        service.invocations == ["one"]
+        r3.isCompletedExceptionally()
+
+        when:
+        r3.get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof BulkheadFullException
+
+        when:"The first execution completes"
+        first.complete("one")
+
+        then:"The waiting execution proceeds"
+        r1.get(5, TimeUnit.SECONDS) == "one"
+        r2.get(5, TimeUnit.SECONDS) == "two"
+        service.invocations == ["one", "two"]
+
+        and:"It is not run by the thread that released the permit"
+        service.threads["one"] == Thread.currentThread()
+        service.threads["two"] != Thread.currentThread()
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test reactive bulkhead holds the permit until completion"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        BulkheadService service = context.getBean(BulkheadService)
+
+        when:
+        Single<String> single = service.reactive()
+
+        then:
+        single.blockingGet() == "reactive"
+        single.blockingGet() == "reactive"
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test rejected executions fall back"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        RecoverableBulkheadService service = context.getBean(RecoverableBulkheadService)
+
+        when:
+        Thread thread = Thread.start { service.block() }
+        service.started.await(5, TimeUnit.SECONDS)
+        String result = service.block()
+
+        then:
+        result == "fallback"
+
+        cleanup:
+        service.release.countDown()
+        thread.join()
+        context.stop()
+    }
+
+    @Singleton
+    static class BulkheadService {
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        List<CompletableFuture<String>> pending = []
+        List<String> invocations = []
+        Map<String, Thread> threads = [:]
+
+        @Bulkhead("1")
+        String block() {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return "done"
+        }
+
+        @Bulkhead(value = "1", maxWaiting = "1")
+        CompletableFuture<String> async(String name) {
+            invocations.add(name)
+            threads.put(name, Thread.currentThread())
+            pending ? pending.remove(0) : CompletableFuture.completedFuture(name)
+        }
+
+        @Bulkhead("1")
+        Single<String> reactive() {
+            Flowable.just("reactive").singleOrError()
+        }
+    }
+
+    static interface BlockingOperations {
+        String block()
+    }
+
+    @Recoverable
+    @Singleton
+    static class RecoverableBulkheadService implements BlockingOperations {
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        @Override
+        @Bulkhead("1")
+        String block() {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return "done"
+        }
+    }
+
+    @Fallback
+    static class BlockingFallback implements BlockingOperations {
+        @Override
+        String block() {
+            return "fallback"
+        }
+    }
+
+    @Singleton
+    static class RejectionListener implements ApplicationEventListener<BulkheadRejectedEvent> {
+        List<BulkheadRejectedEvent> events = []
+
+        @Override
+        void onApplicationEvent(BulkheadRejectedEvent event) {
+            events.add(event)
+        }
+    }
+}
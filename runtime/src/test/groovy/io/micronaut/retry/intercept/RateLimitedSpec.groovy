@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.retry.annotation.RateLimited
+import io.micronaut.retry.event.RateLimitExceededEvent
+import io.micronaut.retry.exception.RateLimitExceededException
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author graemerocher
+ * @since 1.0
+ */
+class RateLimitedSpec extends Specification {
+
+    void "test token bucket allows a burst up to the limit"() {
+        given:
+        TokenBucket bucket = new TokenBucket(5, Duration.ofHours(1), Duration.ZERO)
+
+        expect:
+        (1..5).every { bucket.tryAcquire(0) == 0 }
+        bucket.tryAcquire(0) == -1
+    }
+
+    void "test token bucket reserves tokens within the timeout"() {
+        given:
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), Duration.ZERO)
+        bucket.tryAcquire(0)
+        bucket.tryAcquire(0)
+
+        when:
+        long wait = bucket.tryAcquire(TimeUnit.SECONDS.toNanos(1))
+
+        then:"The next token is available within one interval"
+        wait > 0
+        wait <= TimeUnit.MILLISECONDS.toNanos(500)
+    }
+
+    void "test rate limited methods reject executions beyond the limit"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        RateLimitedService service = context.getBean(RateLimitedService)
+        RateLimitListener listener = context.getBean(RateLimitListener)
+
+        when:
+        3.times { service.call() }
+        service.call()
+
+        then:
+        thrown(RateLimitExceededException)
+        service.calls == 3
+        listener.events.size() == 1
+        listener.events[0].limit == 3
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test rate limited completable future methods complete exceptionally"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        RateLimitedService service = context.getBean(RateLimitedService)
+
+        when:
+        service.async().get()
+        service.async().get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof RateLimitExceededException
+
+        cleanup:
+        context.stop()
+    }
+
+    void "test rate limited reactive methods limit subscriptions"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        RateLimitedService service = context.getBean(RateLimitedService)
+
+        when:
+        Flowable<String> flowable = service.reactive()
+
+        then:
+        flowable.blockingFirst() == "reactive"
+
+        when:
+        flowable.blockingFirst()
+
+        then:
+        thrown(RateLimitExceededException)
+
+        cleanup:
+        context.stop()
+    }
+
+    @Singleton
+    static class RateLimitedService {
+        int calls = 0
+
+        @RateLimited(value = "3", period = "1h")
+        void call() {
+            calls++
+        }
+
+        @RateLimited(value = "1", period = "1h")
+        CompletableFuture<String> async() {
+            CompletableFuture.completedFuture("async")
+        }
+
+        @RateLimited(value = "1", period = "1h")
+        Flowable<String> reactive() {
+            Flowable.just("reactive")
+        }
+    }
+
+    @Singleton
+    static class RateLimitListener implements ApplicationEventListener<RateLimitExceededEvent> {
+        List<RateLimitExceededEvent> events = []
+
+        @Override
+        void onApplicationEvent(RateLimitExceededEvent event) {
+            events.add(event)
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.scheduling.executor
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+
+class ExecutorFactorySpec extends Specification {
+
+    void "test configuring a virtual I/O executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'micronaut.executors.io.type': 'virtual'
+        )
+        ExecutorService executorService = ctx.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO))
+
+        expect:
+        ctx.getBean(ExecutorConfiguration, Qualifiers.byName(TaskExecutors.IO)).type == ExecutorType.VIRTUAL
+        executorService.submit({ -> 'done' } as Callable).get(5, TimeUnit.SECONDS) == 'done'
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -13,9 +13,11 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package io.micronaut.security.token.jwt.validator;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.EncryptionMethod;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWEAlgorithm;
@@ -36,13 +38,29 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
+ * Validates JSON Web Tokens. The configurations able to verify a token are looked up once per signature algorithm
+ * (or encryption algorithm and method) and successfully validated tokens are kept in a bounded cache until they
+ * expire, so that a token reused for many requests is only verified once. Once the cache is full, the tokens used
+ * least are evicted to make room.
+ *
  * @see <a href="https://connect2id.com/products/nimbus-jose-jwt/examples/validating-jwt-access-tokens">Validating JWT Access Tokens</a>
  *
  * @author Sergio del Amo
@@ -56,6 +74,13 @@ public class JwtTokenValidator implements TokenValidator {
     protected final List<SignatureConfiguration> signatureConfigurations = new ArrayList<>();
     protected final List<EncryptionConfiguration> encryptionConfigurations = new ArrayList<>();
 
+    // the algorithms come from the unverified token header, so only algorithms that a configuration supports are kept
+    private final Map<JWSAlgorithm, List<SignatureConfiguration>> signatureConfigurationsByAlgorithm = new ConcurrentHashMap<>();
+    private final Map<String, List<EncryptionConfiguration>> encryptionConfigurationsByAlgorithm = new ConcurrentHashMap<>();
+    private final Cache<ByteBuffer, ValidatedToken> validatedTokens;
+    private final int cacheMaxSize;
+    private final long cacheExpiration;
+
     /**
      *
      * @param signatureConfigurations List of Signature configurations which are used to attempt validation.
@@ -63,11 +88,30 @@ public class JwtTokenValidator implements TokenValidator {
      */
     public JwtTokenValidator(Collection<SignatureConfiguration> signatureConfigurations,
                              Collection<EncryptionConfiguration> encryptionConfigurations) {
+        this(signatureConfigurations, encryptionConfigurations, new JwtTokenValidatorConfigurationProperties());
+    }
+
+    /**
+     *
+     * @param signatureConfigurations List of Signature configurations which are used to attempt validation.
+     * @param encryptionConfigurations List of Encryption configurations which are used to attempt validation.
+     * @param configuration The configuration of the cache of validated tokens.
+     */
+    @Inject
+    public JwtTokenValidator(Collection<SignatureConfiguration> signatureConfigurations,
+                             Collection<EncryptionConfiguration> encryptionConfigurations,
+                             JwtTokenValidatorConfiguration configuration) {
         this.signatureConfigurations.addAll(signatureConfigurations);
         this.encryptionConfigurations.addAll(encryptionConfigurations);
+        this.cacheMaxSize = configuration.getCacheMaxSize();
+        this.cacheExpiration = configuration.getCacheExpiration().toMillis();
+        this.validatedTokens = Caffeine.newBuilder()
+            .maximumSize(Math.max(cacheMaxSize, 0))
+            .expireAfter(new ValidatedTokenExpiry())
+            .build();
     }
 
-    private Publisher<Authentication> validatePlainJWT(JWT jwt) throws ParseException {
+    private Optional<JWTClaimsSet> validatePlainJWT(JWT jwt) throws ParseException {
         if (signatureConfigurations.isEmpty()) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("JWT is not signed and no signature configurations -> verified");
@@ -76,48 +120,54 @@ public class JwtTokenValidator implements TokenValidator {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("A non-signed JWT cannot be accepted as signature configurations have been defined");
             }
-            return Flowable.empty();
+            return Optional.empty();
         }
-        return createAuthentication(jwt);
+        return verifiedClaims(jwt);
     }
 
-    private Publisher<Authentication> validateSignedJWT(SignedJWT signedJWT) throws ParseException {
+    private Optional<JWTClaimsSet> validateSignedJWT(SignedJWT signedJWT) throws ParseException {
         if (LOG.isDebugEnabled()) {
             LOG.debug("JWT is signed");
         }
 
         final JWSAlgorithm algorithm = signedJWT.getHeader().getAlgorithm();
-        for (final SignatureConfiguration config : signatureConfigurations) {
-            if (config.supports(algorithm)) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Using signature configuration: {}", config.toString());
-                }
-                try {
-                    if (config.verify(signedJWT)) {
-                        return createAuthentication(signedJWT);
-                    } else {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("JWT verification failed: {}", signedJWT.getParsedString());
-                        }
-                    }
-                } catch (final JOSEException e) {
+        List<SignatureConfiguration> configurations = signatureConfigurationsByAlgorithm.get(algorithm);
+        if (configurations == null) {
+            configurations = signatureConfigurations.stream().filter(config -> config.supports(algorithm)).collect(Collectors.toList());
+            if (!configurations.isEmpty()) {
+                signatureConfigurationsByAlgorithm.put(algorithm, configurations);
+            }
+        }
+        if (configurations.isEmpty() && LOG.isDebugEnabled()) {
+            for (final SignatureConfiguration config : signatureConfigurations) {
+                LOG.debug("{}", config.supportedAlgorithmsMessage());
+            }
+        }
+        for (final SignatureConfiguration config : configurations) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Using signature configuration: {}", config.toString());
+            }
+            try {
+                if (config.verify(signedJWT)) {
+                    return verifiedClaims(signedJWT);
+                } else {
                     if (LOG.isDebugEnabled()) {
-                        LOG.debug("Verification fails with signature configuration: {}, passing to the next one", config);
+                        LOG.debug("JWT verification failed: {}", signedJWT.getParsedString());
                     }
                 }
-            } else {
+            } catch (final JOSEException e) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("{}", config.supportedAlgorithmsMessage());
+                    LOG.debug("Verification fails with signature configuration: {}, passing to the next one", config);
                 }
             }
         }
         if (LOG.isDebugEnabled()) {
             LOG.debug("No signature algorithm found for JWT: {}", signedJWT.getParsedString());
         }
-        return Flowable.empty();
+        return Optional.empty();
     }
 
-    private Publisher<Authentication> validateEncryptedJWT(JWT jwt, EncryptedJWT encryptedJWT, String token) throws ParseException  {
+    private Optional<JWTClaimsSet> validateEncryptedJWT(EncryptedJWT encryptedJWT, String token) throws ParseException  {
         if (LOG.isDebugEnabled()) {
             LOG.debug("JWT is encrypted");
         }
@@ -125,37 +175,67 @@ public class JwtTokenValidator implements TokenValidator {
         final JWEHeader header = encryptedJWT.getHeader();
         final JWEAlgorithm algorithm = header.getAlgorithm();
         final EncryptionMethod method = header.getEncryptionMethod();
-        for (final EncryptionConfiguration config : encryptionConfigurations) {
-            if (config.supports(algorithm, method)) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Using encryption configuration: {}", config.toString());
-                }
-                try {
-                    config.decrypt(encryptedJWT);
-                    SignedJWT signedJWT = encryptedJWT.getPayload().toSignedJWT();
-                    if (signedJWT == null) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("encrypted JWT could couldn't be converted to a signed JWT.");
-                        }
-                        return Flowable.empty();
-                    }
-                    return validateSignedJWT(signedJWT);
-
-                } catch (final JOSEException e) {
+        final String key = algorithm.getName() + '+' + method.getName();
+        List<EncryptionConfiguration> configurations = encryptionConfigurationsByAlgorithm.get(key);
+        if (configurations == null) {
+            configurations = encryptionConfigurations.stream().filter(config -> config.supports(algorithm, method)).collect(Collectors.toList());
+            if (!configurations.isEmpty()) {
+                encryptionConfigurationsByAlgorithm.put(key, configurations);
+            }
+        }
+        for (final EncryptionConfiguration config : configurations) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Using encryption configuration: {}", config.toString());
+            }
+            try {
+                config.decrypt(encryptedJWT);
+                SignedJWT signedJWT = encryptedJWT.getPayload().toSignedJWT();
+                if (signedJWT == null) {
                     if (LOG.isDebugEnabled()) {
-                        LOG.debug("Decryption fails with encryption configuration: {}, passing to the next one", config.toString());
+                        LOG.debug("encrypted JWT could couldn't be converted to a signed JWT.");
                     }
+                    return Optional.empty();
+                }
+                return validateSignedJWT(signedJWT);
+
+            } catch (final JOSEException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Decryption fails with encryption configuration: {}, passing to the next one", config.toString());
                 }
             }
         }
         if (LOG.isDebugEnabled()) {
             LOG.debug("No encryption algorithm found for JWT: {}", token);
         }
-        return Flowable.empty();
+        return Optional.empty();
     }
 
     @Override
     public Publisher<Authentication> validateToken(String token) {
+        ByteBuffer key = null;
+        if (cacheMaxSize > 0) {
+            key = hash(token);
+            ValidatedToken validatedToken = validatedTokens.getIfPresent(key);
+            if (validatedToken != null) {
+                if (validatedToken.expiresAt > System.currentTimeMillis()) {
+                    return Flowable.just(validatedToken.authentication);
+                }
+                validatedTokens.asMap().remove(key, validatedToken);
+            }
+        }
+
+        Optional<JWTClaimsSet> claimSet = validate(token);
+        if (!claimSet.isPresent()) {
+            return Flowable.empty();
+        }
+        Authentication authentication = new AuthenticationJWTClaimsSetAdapter(claimSet.get());
+        if (key != null) {
+            cache(key, claimSet.get(), authentication);
+        }
+        return Flowable.just(authentication);
+    }
+
+    private Optional<JWTClaimsSet> validate(String token) {
         try {
             // Parse the token
             JWT jwt = JWTParser.parse(token);
@@ -164,34 +244,88 @@ public class JwtTokenValidator implements TokenValidator {
                 return validatePlainJWT(jwt);
 
             } else if (jwt instanceof EncryptedJWT) {
-                final EncryptedJWT encryptedJWT = (EncryptedJWT) jwt;
-                return validateEncryptedJWT(jwt, encryptedJWT, token);
+                return validateEncryptedJWT((EncryptedJWT) jwt, token);
 
             } else if (jwt instanceof SignedJWT) {
-                final SignedJWT signedJWT = (SignedJWT) jwt;
-                return validateSignedJWT(signedJWT);
+                return validateSignedJWT((SignedJWT) jwt);
             }
 
-            return Flowable.empty();
+            return Optional.empty();
 
         } catch (final ParseException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Cannot decrypt / verify JWT: {}", e.getMessage());
             }
-            return Flowable.empty();
+            return Optional.empty();
         }
     }
 
-    private Publisher<Authentication> createAuthentication(final JWT jwt) throws ParseException {
+    private Optional<JWTClaimsSet> verifiedClaims(final JWT jwt) throws ParseException {
         final JWTClaimsSet claimSet = jwt.getJWTClaimsSet();
         final String subject = claimSet.getSubject();
         if (subject == null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("JWT must contain a subject ('sub' claim)");
             }
-            return Flowable.empty();
+            return Optional.empty();
         }
 
-        return Flowable.just(new AuthenticationJWTClaimsSetAdapter(claimSet));
+        return Optional.of(claimSet);
+    }
+
+    private void cache(ByteBuffer key, JWTClaimsSet claimSet, Authentication authentication) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + cacheExpiration;
+        Date expirationTime = claimSet.getExpirationTime();
+        if (expirationTime != null) {
+            expiresAt = Math.min(expiresAt, expirationTime.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        validatedTokens.put(key, new ValidatedToken(authentication, expiresAt));
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires each validated token at its own expiration time.
+     */
+    private static final class ValidatedTokenExpiry implements Expiry<ByteBuffer, ValidatedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, ValidatedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(value.expiresAt - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, ValidatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * A successfully validated token.
+     */
+    private static final class ValidatedToken {
+        final Authentication authentication;
+        final long expiresAt;
+
+        ValidatedToken(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.security.token.jwt.validator;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the {@link JwtTokenValidator}.
+ *
+ * @author Sergio del Amo
+ * @since 1.0
+ */
+public interface JwtTokenValidatorConfiguration {
+
+    /**
+     *
+     * @return the maximum number of validated tokens kept in memory. 0 disables the cache.
+     */
+    int getCacheMaxSize();
+
+    /**
+     *
+     * @return the maximum time a validated token is kept in memory. Tokens are never kept past their expiration time.
+     */
+    Duration getCacheExpiration();
+}
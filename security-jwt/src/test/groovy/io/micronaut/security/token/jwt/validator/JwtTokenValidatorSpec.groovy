@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.security.token.jwt.validator
+
+import com.nimbusds.jose.JOSEException
+import com.nimbusds.jose.JWSAlgorithm
+import com.nimbusds.jwt.JWTClaimsSet
+import com.nimbusds.jwt.SignedJWT
+import io.micronaut.security.authentication.Authentication
+import io.micronaut.security.token.jwt.signature.SignatureConfiguration
+import io.micronaut.security.token.jwt.signature.secret.SecretSignature
+import io.micronaut.security.token.jwt.signature.secret.SecretSignatureConfiguration
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+class JwtTokenValidatorSpec extends Specification {
+
+    CountingSignature signature = new CountingSignature()
+
+    void "test a validated token is not verified again"() {
+        given:
+        JwtTokenValidator validator = new JwtTokenValidator([signature], [])
+        String token = signature.sign(claims(new Date(System.currentTimeMillis() + 60000))).serialize()
+
+        when:
+        Authentication first = validate(validator, token)
+        Authentication second = validate(validator, token)
+
+        then:
+        first.name == 'sherlock'
+        second.is(first)
+        signature.verifications == 1
+    }
+
+    void "test a token is not kept past its expiration time"() {
+        given:
+        JwtTokenValidator validator = new JwtTokenValidator([signature], [])
+        String token = signature.sign(claims(new Date(System.currentTimeMillis() - 1000))).serialize()
+
+        when:
+        validate(validator, token)
+        validate(validator, token)
+
+        then:
+        signature.verifications == 2
+    }
+
+    void "test new tokens are cached once the cache is full"() {
+        given:
+        def configuration = new JwtTokenValidatorConfigurationProperties(cacheMaxSize: 2)
+        JwtTokenValidator validator = new JwtTokenValidator([signature], [], configuration)
+        Date expiration = new Date(System.currentTimeMillis() + 60000)
+        List<String> tokens = ['sherlock', 'watson', 'hudson'].collect {
+            signature.sign(new JWTClaimsSet.Builder().subject(it).expirationTime(expiration).build()).serialize()
+        }
+
+        when:"The cache is filled"
+        validate(validator, tokens[0])
+        validate(validator, tokens[1])
+        int verifications = signature.verifications
+
+        and:"Another token is used repeatedly"
+        List<Authentication> authentications = (1..10).collect { validate(validator, tokens[2]) }
+        validator.validatedTokens.cleanUp()
+
+        then:"It is cached in place of a token used less"
+        verifications == 2
+        authentications*.name.every { it == 'hudson' }
+        signature.verifications - verifications < 10
+        validator.validatedTokens.getIfPresent(JwtTokenValidator.hash(tokens[2])) != null
+        validator.validatedTokens.estimatedSize() <= 2
+    }
+
+    void "test the cache can be disabled"() {
+        given:
+        def configuration = new JwtTokenValidatorConfigurationProperties(cacheMaxSize: 0)
+        JwtTokenValidator validator = new JwtTokenValidator([signature], [], configuration)
+        String token = signature.sign(claims(null)).serialize()
+
+        when:
+        validate(validator, token)
+        validate(validator, token)
+
+        then:
+        signature.verifications == 2
+    }
+
+    void "test only configurations supporting the algorithm verify the token"() {
+        given:
+        CountingSignature other = new CountingSignature(JWSAlgorithm.HS512)
+        JwtTokenValidator validator = new JwtTokenValidator([other, signature], [], new JwtTokenValidatorConfigurationProperties(cacheMaxSize: 0))
+
+        when:
+        Authentication authentication = validate(validator, signature.sign(claims(null)).serialize())
+
+        then:
+        authentication.name == 'sherlock'
+        other.verifications == 0
+        signature.verifications == 1
+    }
+
+    void "test an invalid token is rejected"() {
+        given:
+        JwtTokenValidator validator = new JwtTokenValidator([signature], [])
+        String token = new CountingSignature(JWSAlgorithm.HS256, 'otherSecretOtherSecretOtherSecret').sign(claims(null)).serialize()
+
+        expect:
+        validate(validator, token) == null
+        validate(validator, token) == null
+        signature.verifications == 2
+    }
+
+    private Authentication validate(JwtTokenValidator validator, String token) {
+        Flowable.fromPublisher(validator.validateToken(token)).blockingFirst(null)
+    }
+
+    private JWTClaimsSet claims(Date expirationTime) {
+        new JWTClaimsSet.Builder().subject('sherlock').expirationTime(expirationTime).build()
+    }
+
+    static class CountingSignature implements SignatureConfiguration {
+        @Delegate(excludes = ['verify', 'supports'])
+        SecretSignature secretSignature
+        JWSAlgorithm algorithm
+        int verifications
+
+        CountingSignature(JWSAlgorithm algorithm = JWSAlgorithm.HS256, String secret = 'pleaseChangeThisSecretForANewOne') {
+            SecretSignatureConfiguration configuration = new SecretSignatureConfiguration('test')
+            configuration.secret = secret
+            configuration.jwsAlgorithm = algorithm
+            secretSignature = new SecretSignature(configuration)
+            this.algorithm = algorithm
+        }
+
+        @Override
+        boolean supports(JWSAlgorithm algorithm) {
+            this.algorithm == algorithm
+        }
+
+        @Override
+        boolean verify(SignedJWT jwt) throws JOSEException {
+            verifications++
+            secretSignature.verify(jwt)
+        }
+    }
+}
@@ -28,7 +28,9 @@ import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
 import zipkin2.Span;
 import zipkin2.reporter.AsyncReporter;
+import zipkin2.reporter.InMemoryReporterMetrics;
 import zipkin2.reporter.Reporter;
+import zipkin2.reporter.ReporterMetrics;
 
 import javax.annotation.Nullable;
 import javax.inject.Singleton;
@@ -116,4 +118,18 @@ public class BraveTracerFactory {
     AsyncReporter<Span> asyncReporter(AsyncReporterConfiguration configuration) {
         return configuration.getBuilder().build();
     }
+
+    /**
+     * A {@link ReporterMetrics} that keeps counts of the spans and messages reported, queued and dropped by the
+     * {@link AsyncReporter}. Spans are dropped rather than buffered once the reporter queue is full, for example while
+     * the collector is unavailable, so these counts are the way to observe that.
+     *
+     * @return The {@link InMemoryReporterMetrics} bean
+     */
+    @Singleton
+    @Requires(classes = InMemoryReporterMetrics.class)
+    @Requires(missingBeans = ReporterMetrics.class)
+    ReporterMetrics reporterMetrics() {
+        return new InMemoryReporterMetrics();
+    }
 }
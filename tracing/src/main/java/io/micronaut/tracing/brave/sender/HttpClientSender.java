@@ -19,14 +19,14 @@ package io.micronaut.tracing.brave.sender;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.*;
 import io.micronaut.tracing.brave.ZipkinServiceInstanceList;
-import io.reactivex.BackpressureStrategy;
-import io.reactivex.Flowable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -34,19 +34,26 @@ import zipkin2.Call;
 import zipkin2.Callback;
 import zipkin2.CheckResult;
 import zipkin2.codec.Encoding;
+import zipkin2.reporter.BytesMessageEncoder;
 import zipkin2.reporter.Sender;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * An {@link Sender} implementation that uses Micronaut's {@link io.micronaut.http.client.HttpClient}.
  *
+ * <p>Each batch of spans handed over by the {@link zipkin2.reporter.AsyncReporter} is encoded into a single message
+ * and, if compression is enabled, gzipped before being posted in one request.</p>
+ *
  * @author graemerocher
  * @since 1.0
  */
@@ -54,6 +61,8 @@ public final class HttpClientSender extends Sender {
 
     private final HttpClient httpClient ;
     private final Encoding encoding;
+    private final BytesMessageEncoder messageEncoder;
+    private final MediaType mediaType;
     private final int messageMaxBytes;
     private final boolean compressionEnabled;
     private final URI endpoint;
@@ -65,6 +74,8 @@ public final class HttpClientSender extends Sender {
                 clientConfiguration
         )).orElse(null);
         this.encoding = encoding;
+        this.messageEncoder = BytesMessageEncoder.forEncoding(encoding);
+        this.mediaType = encoding == Encoding.PROTO3 ? new MediaType("application/x-protobuf") : MediaType.APPLICATION_JSON_TYPE;
         this.messageMaxBytes = messageMaxBytes;
         this.compressionEnabled = compressionEnabled;
         this.endpoint = path != null ? URI.create(path) : URI.create(Builder.DEFAULT_PATH);
@@ -88,7 +99,7 @@ public final class HttpClientSender extends Sender {
     @Override
     public Call<Void> sendSpans(List<byte[]> encodedSpans) {
         if (httpClient != null && httpClient.isRunning()) {
-            return new HttpCall(httpClient, endpoint, compressionEnabled, encodedSpans);
+            return new HttpCall(httpClient, endpoint, mediaType, compressionEnabled, encodeMessage(encodedSpans));
         } else {
             throw new IllegalStateException("HTTP Client Closed");
         }
@@ -119,23 +130,39 @@ public final class HttpClientSender extends Sender {
         }
     }
 
+    private byte[] encodeMessage(List<byte[]> encodedSpans) {
+        byte[] message = messageEncoder.encode(encodedSpans);
+        if (!compressionEnabled) {
+            return message;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(message.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * The HTTP call.
      */
     private static class HttpCall extends Call<Void> {
         private final HttpClient httpClient;
         private final URI endpoint;
+        private final MediaType mediaType;
         private final boolean compressionEnabled;
-        private final List<byte[]> encodedSpans;
+        private final byte[] message;
 
         private AtomicReference<Subscription> subscription = new AtomicReference<>();
         private AtomicBoolean cancelled = new AtomicBoolean(false);
 
-        HttpCall(HttpClient httpClient, URI endpoint, boolean compressionEnabled, List<byte[]> encodedSpans) {
+        HttpCall(HttpClient httpClient, URI endpoint, MediaType mediaType, boolean compressionEnabled, byte[] message) {
             this.httpClient = httpClient;
             this.endpoint = endpoint;
+            this.mediaType = mediaType;
             this.compressionEnabled = compressionEnabled;
-            this.encodedSpans = encodedSpans;
+            this.message = message;
         }
 
         @Override
@@ -200,20 +227,15 @@ public final class HttpClientSender extends Sender {
         @Override
         public Call<Void> clone() {
             // stateless. no need to clone
-            return new HttpCall(httpClient, endpoint, compressionEnabled, encodedSpans);
+            return new HttpCall(httpClient, endpoint, mediaType, compressionEnabled, message);
         }
 
-        protected MutableHttpRequest<Flowable<Object>> prepareRequest() {
-            return HttpRequest.POST(endpoint, spanFlowable());
-        }
-
-        private Flowable<Object> spanFlowable() {
-            return Flowable.create(emitter -> {
-                for (byte[] encodedSpan : encodedSpans) {
-                    emitter.onNext(encodedSpan);
-                }
-                emitter.onComplete();
-            }, BackpressureStrategy.BUFFER);
+        protected MutableHttpRequest<byte[]> prepareRequest() {
+            MutableHttpRequest<byte[]> request = HttpRequest.POST(endpoint, message).contentType(mediaType);
+            if (compressionEnabled) {
+                request.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return request;
         }
     }
 
@@ -223,9 +245,10 @@ public final class HttpClientSender extends Sender {
     public static class Builder {
         public static final String DEFAULT_PATH = "/api/v2/spans";
         public static final String DEFAULT_SERVER_URL = "http://localhost:9411";
+        public static final int DEFAULT_MESSAGE_MAX_BYTES = 512 * 1024;
 
         private Encoding encoding = Encoding.JSON;
-        private int messageMaxBytes = 5 * 1024;
+        private int messageMaxBytes = DEFAULT_MESSAGE_MAX_BYTES;
         private String path = DEFAULT_PATH;
         private boolean compressionEnabled = true;
         private List<URI> servers = Collections.singletonList(URI.create(DEFAULT_SERVER_URL));
@@ -261,7 +284,9 @@ public final class HttpClientSender extends Sender {
         }
 
         /**
-         * The message max bytes.
+         * The maximum size of a single message (batch of spans) before compression. Defaults to
+         * {@link #DEFAULT_MESSAGE_MAX_BYTES}. The {@link zipkin2.reporter.AsyncReporter} also flushes a batch once
+         * its {@code messageTimeout} has elapsed, so this bounds the size rather than the frequency of requests.
          *
          * @param messageMaxBytes The max bytes
          * @return This builder
@@ -282,6 +307,19 @@ public final class HttpClientSender extends Sender {
             return this;
         }
 
+        /**
+         * The path of the Zipkin span endpoint. Defaults to {@link #DEFAULT_PATH}.
+         *
+         * @param path The path
+         * @return This builder
+         */
+        public Builder path(String path) {
+            if (path != null) {
+                this.path = path;
+            }
+            return this;
+        }
+
         /**
          * The endpoint to use.
          *
@@ -15,12 +15,14 @@
  */
 package io.micronaut.tracing.brave
 
+import groovy.json.JsonSlurper
 import io.micronaut.context.ApplicationContext
 import io.micronaut.core.io.socket.SocketUtils
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Body
 import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Header
 import io.micronaut.http.annotation.Post
 import io.micronaut.http.client.HttpClient
 import io.micronaut.runtime.server.EmbeddedServer
@@ -31,6 +33,8 @@ import spock.lang.Specification
 import spock.util.concurrent.PollingConditions
 import zipkin2.Span
 
+import java.util.zip.GZIPInputStream
+
 /**
  * @author graemerocher
  * @since 1.0
@@ -42,7 +46,8 @@ class HttpClientSenderSpec extends Specification {
         ApplicationContext context = ApplicationContext.run(
                 'tracing.zipkin.enabled':true,
                 'tracing.zipkin.sampler.probability':1,
-                'tracing.zipkin.http.url':HttpClientSender.Builder.DEFAULT_SERVER_URL
+                'tracing.zipkin.http.url':HttpClientSender.Builder.DEFAULT_SERVER_URL,
+                'tracing.zipkin.http.compressionEnabled':false
         )
         EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
         HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
@@ -93,6 +98,60 @@ class HttpClientSenderSpec extends Specification {
 
     }
 
+    void "test http client sender sends gzipped batches"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'tracing.zipkin.enabled':true,
+                'tracing.zipkin.sampler.probability':1,
+                'tracing.zipkin.http.url':HttpClientSender.Builder.DEFAULT_SERVER_URL,
+                'tracing.zipkin.http.path':'/api/v2/gzipped-spans'
+        )
+        EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+        HttpClient client = context.createBean(HttpClient, embeddedServer.getURL())
+
+        when:
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+        EmbeddedServer zipkinServer = ApplicationContext.run(
+                EmbeddedServer,
+                ['micronaut.server.port':9411]
+        )
+        GzipSpanController spanController = zipkinServer.applicationContext.getBean(GzipSpanController)
+
+        then:
+        conditions.eventually {
+            !SocketUtils.isTcpPortAvailable(9411)
+        }
+
+        when:"Requests are executed"
+        HttpResponse<String> response = client.toBlocking().exchange('/traced/nested/John', String)
+
+        then:"spans are received in batches"
+        conditions.eventually {
+            response.status() == HttpStatus.OK
+            spanController.receivedSpans.size() == 4
+            spanController.requests < 4
+        }
+
+        cleanup:
+        client.close()
+        context.close()
+        zipkinServer.close()
+    }
+
+    @Controller('/api/v2')
+    static class GzipSpanController {
+        List<Map> receivedSpans = []
+        int requests = 0
+
+        @Post('/gzipped-spans')
+        HttpResponse spans(@Header('Content-Encoding') String contentEncoding, @Body byte[] body) {
+            assert contentEncoding == 'gzip'
+            requests++
+            receivedSpans.addAll((List<Map>) new JsonSlurper().parse(new GZIPInputStream(new ByteArrayInputStream(body))))
+            HttpResponse.ok()
+        }
+    }
+
     @Controller('/api/v2')
     static class SpanController {
         List<Map> receivedSpans = []